@@ -0,0 +1,114 @@
+package benchmarks;
+
+import spinbox.containers.lists.TaskList;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.entities.Pair;
+import spinbox.entities.items.tasks.Task;
+import spinbox.exceptions.SpinBoxException;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the data the benchmarks run on. The data is generated from a fixed seed, so that every run of a
+ * benchmark works on the same tasks and results can be compared between versions.
+ * Tasks are a mix of all task types with realistic names, a third of them done and a quarter of them tagged,
+ * scheduled over the first half of 2030.
+ */
+public class BenchmarkData {
+    public static final String FIRST_MONTH = "01/15/2030";
+
+    private static final long SEED = 2113;
+    private static final String TASKS_FILE = "SpinBoxData/%s/tasks.txt";
+    private static final String STORE_DELIMITER = " | ";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm");
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2030, 1, 1, 8, 0);
+    private static final int SCHEDULED_HOURS = 24 * 181;
+    private static final String[] EVENT_TYPES = {"E", "EXAM", "LAB", "LEC", "TUT"};
+    private static final String[] VERBS = {"Prepare", "Submit", "Review", "Read", "Attend", "Revise", "Draft"};
+    private static final String[] SUBJECTS = {"lecture notes", "tutorial sheet", "lab report", "project demo",
+        "reading assignment", "weekly quiz", "group meeting", "design document"};
+    private static final String[] TAGS = {"urgent", "graded", "group", "optional"};
+
+    /**
+     * Generates the storage lines of a number of tasks, in the format of the tasks file of a module.
+     * @param count The number of tasks.
+     * @return The storage lines of the tasks.
+     */
+    public static List<String> taskLines(int count) {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add(taskLine(random, i));
+        }
+        return lines;
+    }
+
+    private static String taskLine(Random random, int number) {
+        String name = VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)]
+                + " " + number;
+        String done = (random.nextInt(3) == 0) ? "1" : "0";
+        LocalDateTime start = FIRST_DATE.plusHours(random.nextInt(SCHEDULED_HOURS));
+        String line;
+        int kind = random.nextInt(20);
+        if (kind < 6) {
+            line = "T" + STORE_DELIMITER + done + STORE_DELIMITER + name;
+        } else if (kind < 11) {
+            line = "D" + STORE_DELIMITER + done + STORE_DELIMITER + name + STORE_DELIMITER
+                    + DATE_FORMAT.format(start);
+        } else {
+            LocalDateTime end = start.plusHours(1 + random.nextInt(3));
+            line = EVENT_TYPES[random.nextInt(EVENT_TYPES.length)] + STORE_DELIMITER + done + STORE_DELIMITER
+                    + name + STORE_DELIMITER + DATE_FORMAT.format(start) + STORE_DELIMITER + DATE_FORMAT.format(end);
+        }
+        if (random.nextInt(4) == 0) {
+            line += STORE_DELIMITER + "#" + TAGS[random.nextInt(TAGS.length)];
+        }
+        return line;
+    }
+
+    /**
+     * Saves a number of generated tasks as the tasks of a module, to be loaded when the module or its task
+     * list is next created. Any tasks saved for the module before are replaced.
+     * @param moduleCode The module code.
+     * @param count The number of tasks.
+     * @throws SpinBoxException If the tasks file cannot be written.
+     */
+    public static void saveTasks(String moduleCode, int count) throws SpinBoxException {
+        File tasksFile = new File(String.format(TASKS_FILE, moduleCode));
+        tasksFile.getParentFile().mkdirs();
+        new Storage(tasksFile.getPath()).writeData(taskLines(count));
+    }
+
+    /**
+     * Creates the task list of a module holding a number of generated tasks.
+     * @param moduleCode The module code.
+     * @param count The number of tasks.
+     * @return The task list.
+     * @throws SpinBoxException If the tasks cannot be saved or loaded.
+     */
+    public static TaskList taskList(String moduleCode, int count) throws SpinBoxException {
+        saveTasks(moduleCode, count);
+        TaskList taskList = new TaskList(moduleCode);
+        taskList.loadData();
+        return taskList;
+    }
+
+    /**
+     * Pairs each task of a task list with the module code of the list, as the calendar takes them.
+     * @param moduleCode The module code.
+     * @param taskList The task list.
+     * @return The tasks paired with the module code.
+     */
+    public static List<Pair<String, Task>> calendarTasks(String moduleCode, TaskList taskList) {
+        List<Pair<String, Task>> tasks = new ArrayList<>();
+        for (Task task : taskList.getList()) {
+            tasks.add(new Pair<>(moduleCode, task));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spinbox.entities.Calendar;
+import spinbox.entities.Pair;
+import spinbox.entities.items.tasks.Task;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures allocating generated tasks to the days of a month, as the calendar view of the GUI does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CalendarBenchmark {
+    private static final String MODULE_CODE = "BENCHCALENDAR";
+
+    @Param({"100", "1000", "5000"})
+    public int size;
+
+    private Calendar calendar;
+    private List<Pair<String, Task>> tasks;
+
+    /**
+     * Generates the tasks and the calendar of the first month they are scheduled in.
+     * @throws SpinBoxException If the tasks cannot be saved or loaded.
+     */
+    @Setup
+    public void setUp() throws SpinBoxException {
+        tasks = BenchmarkData.calendarTasks(MODULE_CODE, BenchmarkData.taskList(MODULE_CODE, size));
+        calendar = new Calendar(BenchmarkData.FIRST_MONTH);
+    }
+
+    @Benchmark
+    public List<Pair<Integer, List<Pair<String, Task>>>> taskInCalendarByDayInMonth() {
+        return calendar.taskInCalendarByDayInMonth(tasks);
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spinbox.DateTime;
+import spinbox.exceptions.DateFormatException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating dates from strings. A single date in the stored format, as read when loading items, is parsed
+ * directly with {@code LocalDateTime.parse}, while natural language dates and both dates of a range go through
+ * natty, so the stored-format cases show the fast path against the natty baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DateTimeBenchmark {
+    /**
+     * A stored-format date, taking the {@code LocalDateTime.parse} path, and natural language dates taking natty.
+     */
+    @State(Scope.Benchmark)
+    public static class Dates {
+        @Param({"12/15/2030 16:00", "next friday 2pm", "tomorrow"})
+        public String date;
+    }
+
+    /**
+     * Ranges, whose dates always go through natty, even when both are in the stored format.
+     */
+    @State(Scope.Benchmark)
+    public static class Ranges {
+        @Param({"12/15/2030 16:00 to 12/15/2030 18:00", "next monday 10am to next monday 1pm"})
+        public String range;
+    }
+
+    @Benchmark
+    public DateTime parseDate(Dates dates) throws DateFormatException {
+        return new DateTime(dates.date);
+    }
+
+    @Benchmark
+    public DateTime parseRangeEnd(Ranges ranges) throws DateFormatException {
+        return new DateTime(ranges.range, 1);
+    }
+}
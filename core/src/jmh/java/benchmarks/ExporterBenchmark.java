@@ -0,0 +1,66 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spinbox.containers.lists.TaskList;
+import spinbox.datapersistors.exporter.ExportConverter;
+import spinbox.datapersistors.exporter.Exporter;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures exporting generated tasks, both writing lines already converted for export and converting the
+ * tasks as well, as the export command does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExporterBenchmark {
+    private static final String MODULE_CODE = "BENCHEXPORT";
+    private static final String EXPORT_FILE = "SpinBoxData/exports/" + MODULE_CODE + "-tasks.txt";
+    private static final String TITLE = "Tasks for " + MODULE_CODE;
+
+    @Param({"100", "1000", "5000"})
+    public int size;
+
+    private TaskList taskList;
+    private List<String> exportLines;
+    private Exporter exporter;
+
+    /**
+     * Generates the tasks, converts them for export and creates the exporter.
+     * @throws SpinBoxException If the tasks cannot be saved or loaded, or the export file cannot be created.
+     */
+    @Setup
+    public void setUp() throws SpinBoxException {
+        taskList = BenchmarkData.taskList(MODULE_CODE, size);
+        exportLines = ExportConverter.convertForExport(taskList.getList());
+        exporter = new Exporter(EXPORT_FILE, TITLE);
+    }
+
+    @Benchmark
+    public Exporter writeData() throws SpinBoxException {
+        exporter.writeData(exportLines);
+        return exporter;
+    }
+
+    @Benchmark
+    public Exporter exportTasks() throws SpinBoxException {
+        exporter.writeData(ExportConverter.convertForExport(taskList.getList()));
+        return exporter;
+    }
+}
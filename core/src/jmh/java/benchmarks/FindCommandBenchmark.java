@@ -0,0 +1,69 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spinbox.Parser;
+import spinbox.Ui;
+import spinbox.commands.Command;
+import spinbox.containers.ModuleContainer;
+import spinbox.entities.Module;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding tasks in a module of generated tasks, both by keyword and by query.
+ * The command is parsed once, so that only its execution is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FindCommandBenchmark {
+    private static final String MODULE_CODE = "BENCHFIND";
+    private static final String MODULE_NAME = "Find Benchmark";
+    private static final String FIND = "find " + MODULE_CODE + " / task ";
+
+    @Param({"100", "1000", "5000"})
+    public int size;
+
+    @Param({"Review", "missing", "where done=false order name limit 20"})
+    public String search;
+
+    private ModuleContainer moduleContainer;
+    private ArrayDeque<String> pageTrace;
+    private Ui ui;
+    private Command command;
+
+    /**
+     * Adds a module of generated tasks and parses the find command.
+     * @throws SpinBoxException If the module cannot be added or the command cannot be parsed.
+     */
+    @Setup
+    public void setUp() throws SpinBoxException {
+        BenchmarkData.saveTasks(MODULE_CODE, size);
+        moduleContainer = new ModuleContainer();
+        moduleContainer.addModule(new Module(MODULE_CODE, MODULE_NAME));
+        pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        ui = new Ui(false);
+        command = Parser.parse(FIND + search, pageTrace);
+    }
+
+    @Benchmark
+    public String execute() throws SpinBoxException {
+        return command.execute(moduleContainer, pageTrace, ui, false);
+    }
+}
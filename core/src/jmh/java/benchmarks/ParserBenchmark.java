@@ -0,0 +1,53 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spinbox.Parser;
+import spinbox.commands.Command;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing an input into a command, from the main page, for the commonest kinds of input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParserBenchmark {
+    @Param({"add CS2113T / todo Prepare for PE",
+        "add CS2113T / deadline Submit lab report by: 12/15/2030 16:00",
+        "add CS2113T / lecture Week 10 at: 12/15/2030 16:00 to 12/15/2030 18:00",
+        "view / modules",
+        "view CS2113T / tasks page 2 size 50",
+        "find CS2113T / task Review",
+        "find / task where module=CS2113T done=false order name limit 20",
+        "update CS2113T / task 3 done"})
+    public String input;
+
+    private ArrayDeque<String> pageTrace;
+
+    @Setup
+    public void setUp() {
+        pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+    }
+
+    @Benchmark
+    public Command parse() throws SpinBoxException {
+        return Parser.parse(input, pageTrace);
+    }
+}
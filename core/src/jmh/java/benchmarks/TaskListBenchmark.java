@@ -0,0 +1,81 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spinbox.containers.lists.TaskList;
+import spinbox.entities.items.tasks.Task;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading, saving and sorting a task list of generated tasks at several sizes.
+ * Sorting is measured both for the list as kept, which is already sorted as whenever a task is added,
+ * and for the same tasks in a random order, which includes copying them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskListBenchmark {
+    private static final String MODULE_CODE = "BENCHTASKLIST";
+    private static final long SHUFFLE_SEED = 42;
+
+    @Param({"100", "1000", "5000"})
+    public int size;
+
+    private TaskList taskList;
+    private List<Task> shuffledTasks;
+
+    /**
+     * Saves and loads the generated tasks, and shuffles a copy of them.
+     * @throws SpinBoxException If the tasks cannot be saved or loaded.
+     */
+    @Setup
+    public void setUp() throws SpinBoxException {
+        taskList = BenchmarkData.taskList(MODULE_CODE, size);
+        shuffledTasks = new ArrayList<>(taskList.getList());
+        Collections.shuffle(shuffledTasks, new Random(SHUFFLE_SEED));
+    }
+
+    @Benchmark
+    public TaskList loadData() throws SpinBoxException {
+        taskList.clear();
+        taskList.loadData();
+        return taskList;
+    }
+
+    @Benchmark
+    public TaskList saveData() throws SpinBoxException {
+        taskList.saveData();
+        return taskList;
+    }
+
+    @Benchmark
+    public TaskList sort() {
+        taskList.sort();
+        return taskList;
+    }
+
+    @Benchmark
+    public List<Task> sortShuffled() {
+        List<Task> tasks = new ArrayList<>(shuffledTasks);
+        tasks.sort(new TaskList.TaskComparator());
+        return tasks;
+    }
+}
@@ -0,0 +1,192 @@
+package spinbox;
+
+import spinbox.datapersistors.storage.Storage;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.exceptions.StorageException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Runs the commands of a file, one per line, through SpinBox without user interaction.
+ * Writes to storage are deferred for the whole run and flushed once at the end, or also at every checkpoint
+ * if one is given, instead of after every command. Blank lines and lines starting with '#' are skipped.
+ */
+public class BatchRunner {
+    static final String BATCH_FLAG = "--batch";
+    private static final Logger LOGGER = Logger.getLogger(BatchRunner.class.getName());
+    private static final String CONTINUE_ON_ERROR_FLAG = "--continue-on-error";
+    private static final String CHECKPOINT_FLAG = "--checkpoint";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String USAGE = "Usage: " + BATCH_FLAG + " <command file> [" + CONTINUE_ON_ERROR_FLAG
+            + "] [" + CHECKPOINT_FLAG + " <number of commands between flushes>]";
+    private static final String UNREADABLE_FILE = "The command file could not be read: ";
+    private static final String COMMAND_FAILED = "Line %d failed: %s%n%s";
+    private static final String STOPPED = "Stopped at line %d. Use " + CONTINUE_ON_ERROR_FLAG
+            + " to run the remaining commands after an error.";
+    private static final String LOG_CHECKPOINT = "Checkpoint flushed after commands: ";
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_COMMAND_FAILED = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private SpinBox spinBox;
+    private boolean isContinuingOnError;
+    private int checkpointInterval;
+
+    /**
+     * Constructor for a runner of batches of commands.
+     * @param spinBox The SpinBox the commands are run on.
+     * @param isContinuingOnError Whether to run the remaining commands after a command fails.
+     * @param checkpointInterval The number of commands between flushes to storage, or 0 to flush only at the end.
+     */
+    public BatchRunner(SpinBox spinBox, boolean isContinuingOnError, int checkpointInterval) {
+        this.spinBox = spinBox;
+        this.isContinuingOnError = isContinuingOnError;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs the commands given by '--batch' arguments and prints the errors and a summary.
+     * @param args The program arguments, starting with '--batch'.
+     * @return The exit status: 0 if every command succeeded, 1 if a command failed, 2 for invalid arguments.
+     * @throws StorageException If the stored data cannot be loaded or the commands cannot be saved.
+     */
+    static int runFromArguments(String[] args) throws StorageException {
+        String commandFile = null;
+        boolean isContinuingOnError = false;
+        int checkpointInterval = 0;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(BATCH_FLAG)) {
+                    commandFile = args[++i];
+                } else if (args[i].equals(CONTINUE_ON_ERROR_FLAG)) {
+                    isContinuingOnError = true;
+                } else if (args[i].equals(CHECKPOINT_FLAG)) {
+                    checkpointInterval = Integer.parseInt(args[++i]);
+                } else {
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        if (commandFile == null || checkpointInterval < 0) {
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(commandFile), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println(UNREADABLE_FILE + commandFile);
+            return EXIT_USAGE;
+        }
+        Summary summary = new BatchRunner(new SpinBox(), isContinuingOnError, checkpointInterval)
+                .run(lines, System.err::println);
+        System.out.println(summary);
+        return (summary.getFailed() == 0) ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Runs the commands in order, stopping at the first failed command unless continuing on errors, or at
+     * the exit command. Whatever was changed by the commands run is flushed to storage even when stopping early.
+     * @param lines The lines of commands.
+     * @param errorOutput Receives a message for every failed command.
+     * @return The summary of the run.
+     * @throws DataReadWriteException If a flush to storage fails.
+     */
+    public Summary run(List<String> lines, Consumer<String> errorOutput) throws DataReadWriteException {
+        int commandsRun = 0;
+        int commandsFailed = 0;
+        int flushes = 0;
+        int filesWritten = 0;
+        long startTime = System.nanoTime();
+        boolean isDeferring = Storage.deferWrites();
+        try {
+            for (int i = 0; i < lines.size() && !spinBox.isShutdown(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                commandsRun++;
+                try {
+                    spinBox.execute(line, false);
+                } catch (SpinBoxException e) {
+                    commandsFailed++;
+                    errorOutput.accept(String.format(COMMAND_FAILED, i + 1, line, e.getMessage()));
+                    if (!isContinuingOnError) {
+                        errorOutput.accept(String.format(STOPPED, i + 1));
+                        break;
+                    }
+                }
+                if (checkpointInterval > 0 && commandsRun % checkpointInterval == 0) {
+                    filesWritten += Storage.flushDeferredWrites();
+                    flushes++;
+                    LOGGER.fine(LOG_CHECKPOINT + commandsRun);
+                }
+            }
+        } finally {
+            filesWritten += isDeferring ? Storage.stopDeferringWrites() : Storage.flushDeferredWrites();
+            flushes++;
+        }
+        return new Summary(commandsRun, commandsFailed, System.nanoTime() - startTime, flushes, filesWritten);
+    }
+
+    /**
+     * The number of commands run and failed in a batch, how long they took and how often storage was written.
+     */
+    public static class Summary {
+        private static final String SUMMARY = "Ran %d commands (%d failed) in %d ms, %.1f commands/s. "
+                + "Storage flushed %d times, writing %d files.";
+        private static final long NANOSECONDS_PER_MILLISECOND = 1_000_000;
+        private static final double NANOSECONDS_PER_SECOND = 1e9;
+
+        private int commandsRun;
+        private int failed;
+        private long elapsedNanos;
+        private int flushes;
+        private int filesWritten;
+
+        Summary(int commandsRun, int failed, long elapsedNanos, int flushes, int filesWritten) {
+            this.commandsRun = commandsRun;
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+            this.flushes = flushes;
+            this.filesWritten = filesWritten;
+        }
+
+        public int getCommandsRun() {
+            return commandsRun;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public int getFlushes() {
+            return flushes;
+        }
+
+        public int getFilesWritten() {
+            return filesWritten;
+        }
+
+        public double getThroughput() {
+            return (elapsedNanos == 0) ? 0 : commandsRun / (elapsedNanos / NANOSECONDS_PER_SECOND);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(SUMMARY, commandsRun, failed, elapsedNanos / NANOSECONDS_PER_MILLISECOND,
+                    getThroughput(), flushes, filesWritten);
+        }
+    }
+}
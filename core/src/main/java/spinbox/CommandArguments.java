@@ -0,0 +1,190 @@
+package spinbox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The typed arguments of a command, found in a single pass over the content of its input: the words before the
+ * first keyword, such as the type and index of an item, and the text after each keyword the command accepts,
+ * such as "to:" in 'task 1 to: new name'. Keywords are only recognised at the start of a word, and the text of a
+ * keyword runs until the next keyword. Missing arguments throw {@link IndexOutOfBoundsException} and malformed
+ * numbers {@link NumberFormatException}, which commands turn into their own input errors.
+ */
+public class CommandArguments {
+    private static final String PERCENT = "%";
+    private static final char FRACTION_SEPARATOR = '/';
+
+    private final List<String> words;
+    private final Map<String, String> clauses;
+
+    private CommandArguments(List<String> words, Map<String, String> clauses) {
+        this.words = Collections.unmodifiableList(words);
+        this.clauses = clauses;
+    }
+
+    /**
+     * Splits the content of an input into its words, for commands that accept no keywords.
+     * @param content The content of the input, after the ' / '.
+     * @return The arguments.
+     */
+    public static CommandArguments parse(String content) {
+        return parse(content, Collections.emptyList());
+    }
+
+    /**
+     * Splits the content of an input into its words and the text after each keyword. If a keyword is given more
+     * than once, its first text is kept.
+     * @param content The content of the input, after the ' / '.
+     * @param keywords The keywords the command accepts.
+     * @return The arguments.
+     */
+    public static CommandArguments parse(String content, List<String> keywords) {
+        List<String> words = new ArrayList<>();
+        Map<String, String> clauses = new HashMap<>();
+        String keyword = null;
+        int clauseStart = 0;
+        int wordStart = -1;
+        int length = content.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(content.charAt(i))) {
+                if (wordStart >= 0 && keyword == null) {
+                    words.add(content.substring(wordStart, i));
+                }
+                wordStart = -1;
+            } else if (wordStart < 0) {
+                wordStart = i;
+                String found = findKeyword(content, i, keywords);
+                if (found != null) {
+                    if (keyword != null) {
+                        clauses.putIfAbsent(keyword, content.substring(clauseStart, i).trim());
+                    }
+                    keyword = found;
+                    clauseStart = i + found.length();
+                    i = clauseStart - 1;
+                }
+            }
+        }
+        if (keyword != null) {
+            clauses.putIfAbsent(keyword, content.substring(clauseStart).trim());
+        } else if (wordStart >= 0) {
+            words.add(content.substring(wordStart));
+        }
+        return new CommandArguments(words, clauses);
+    }
+
+    private static String findKeyword(String content, int start, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (content.startsWith(keyword, start)) {
+                return keyword;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the type of item the command is for, which is its first word lowercased.
+     * @return The type, or an empty string if there are no words.
+     */
+    public String getType() {
+        return words.isEmpty() ? "" : words.get(0).toLowerCase();
+    }
+
+    /**
+     * Gets a word before the first keyword.
+     * @param position The position of the word, starting from 0.
+     * @return The word.
+     * @throws IndexOutOfBoundsException If there is no word at the position.
+     */
+    public String getWord(int position) {
+        return words.get(position);
+    }
+
+    /**
+     * Gets an index entered from 1 as a word before the first keyword, as an index from 0.
+     * @param position The position of the word, starting from 0.
+     * @return The index from 0.
+     * @throws IndexOutOfBoundsException If there is no word at the position.
+     * @throws NumberFormatException If the word is not a whole number.
+     */
+    public int getIndex(int position) {
+        return Integer.parseInt(words.get(position)) - 1;
+    }
+
+    /**
+     * Checks whether a keyword was given.
+     * @param keyword The keyword.
+     * @return True if the keyword was given.
+     */
+    public boolean hasClause(String keyword) {
+        return clauses.containsKey(keyword);
+    }
+
+    /**
+     * Gets the text after a keyword, trimmed.
+     * @param keyword The keyword.
+     * @return The text.
+     * @throws IndexOutOfBoundsException If the keyword was not given.
+     */
+    public String getClause(String keyword) {
+        String clause = clauses.get(keyword);
+        if (clause == null) {
+            throw new IndexOutOfBoundsException(keyword);
+        }
+        return clause;
+    }
+
+    /**
+     * Gets the number starting the text after a keyword, which may end with a percent sign.
+     * @param keyword The keyword.
+     * @return The number.
+     * @throws IndexOutOfBoundsException If the keyword was not given.
+     * @throws NumberFormatException If the text does not start with a number.
+     */
+    public double getNumber(String keyword) {
+        String number = getFirstWord(keyword);
+        if (number.endsWith(PERCENT)) {
+            number = number.substring(0, number.length() - PERCENT.length());
+        }
+        return Double.parseDouble(number);
+    }
+
+    /**
+     * Gets the whole number starting the text after a keyword.
+     * @param keyword The keyword.
+     * @return The whole number.
+     * @throws IndexOutOfBoundsException If the keyword was not given.
+     * @throws NumberFormatException If the text does not start with a whole number.
+     */
+    public long getWholeNumber(String keyword) {
+        return Long.parseLong(getFirstWord(keyword));
+    }
+
+    /**
+     * Gets the text after a keyword as a fraction such as "40/50".
+     * @param keyword The keyword.
+     * @return The numerator and the denominator.
+     * @throws IndexOutOfBoundsException If the keyword was not given.
+     * @throws NumberFormatException If the text is not a fraction of two numbers.
+     */
+    public double[] getFraction(String keyword) {
+        String fraction = getClause(keyword);
+        int separator = fraction.indexOf(FRACTION_SEPARATOR);
+        if (separator < 0) {
+            throw new NumberFormatException(fraction);
+        }
+        return new double[]{Double.parseDouble(fraction.substring(0, separator)),
+            Double.parseDouble(fraction.substring(separator + 1))};
+    }
+
+    private String getFirstWord(String keyword) {
+        String clause = getClause(keyword);
+        int end = 0;
+        while (end < clause.length() && !Character.isWhitespace(clause.charAt(end))) {
+            end++;
+        }
+        return clause.substring(0, end);
+    }
+}
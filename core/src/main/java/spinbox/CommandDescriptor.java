@@ -0,0 +1,96 @@
+package spinbox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The parts of a user input of the form '<action> <page> / <content>', found in a single pass over the input.
+ * The action and page are lowercased, while the content is kept as entered.
+ */
+public class CommandDescriptor {
+    private static final char SEPARATOR = '/';
+
+    private final String action;
+    private final List<String> pageComponents;
+    private final String content;
+    private final boolean hasSeparator;
+
+    private CommandDescriptor(List<String> frontTokens, String content, boolean hasSeparator) {
+        this.action = frontTokens.isEmpty() ? "" : frontTokens.get(0);
+        this.pageComponents = frontTokens.isEmpty() ? Collections.emptyList()
+                : Collections.unmodifiableList(frontTokens.subList(1, frontTokens.size()));
+        this.content = content;
+        this.hasSeparator = hasSeparator;
+    }
+
+    /**
+     * Splits an input into its action, page components and content. Words before the first ' / ' are separated
+     * by whitespace, the first being the action and the rest the page, and everything after it is the content.
+     * @param input The user input.
+     * @return The parts of the input.
+     */
+    public static CommandDescriptor lex(String input) {
+        List<String> frontTokens = new ArrayList<>();
+        int length = input.length();
+        int tokenStart = -1;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == SEPARATOR && i > 0 && input.charAt(i - 1) == ' ' && i + 1 < length
+                    && input.charAt(i + 1) == ' ') {
+                addToken(frontTokens, input, tokenStart, i);
+                return new CommandDescriptor(frontTokens, input.substring(i + 2).trim(), true);
+            } else if (Character.isWhitespace(c)) {
+                addToken(frontTokens, input, tokenStart, i);
+                tokenStart = -1;
+            } else if (tokenStart < 0) {
+                tokenStart = i;
+            }
+        }
+        addToken(frontTokens, input, tokenStart, length);
+        return new CommandDescriptor(frontTokens, "", false);
+    }
+
+    private static void addToken(List<String> tokens, String input, int start, int end) {
+        if (start >= 0) {
+            tokens.add(input.substring(start, end).toLowerCase());
+        }
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public List<String> getPageComponents() {
+        return pageComponents;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Parses the content into the typed arguments of a command that accepts no keywords.
+     * @return The arguments.
+     */
+    public CommandArguments getArguments() {
+        return CommandArguments.parse(content);
+    }
+
+    /**
+     * Parses the content into the typed arguments of a command.
+     * @param keywords The keywords the command accepts.
+     * @return The arguments.
+     */
+    public CommandArguments getArguments(List<String> keywords) {
+        return CommandArguments.parse(content, keywords);
+    }
+
+    /**
+     * Checks whether the input has a ' / ' separating the action and page from the content.
+     * @return True if the input has a separator.
+     */
+    public boolean hasSeparator() {
+        return hasSeparator;
+    }
+}
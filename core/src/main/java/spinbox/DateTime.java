@@ -2,15 +2,22 @@ package spinbox;
 
 import com.joestelmach.natty.Parser;
 import spinbox.exceptions.DateFormatException;
+import spinbox.stats.events.DateParseEvent;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.regex.Pattern;
 
 public class DateTime implements Comparable<DateTime> {
     private static final String[] NATURAL_LANGUAGE_WORDS = {"today", "tomorrow", "next", "yesterday", "day", "after"};
+    private static final Pattern STORED_FORMAT = Pattern.compile("\\d{2}/\\d{2}/\\d{4} \\d{2}:\\d{2}");
+    private static final DateTimeFormatter STORED_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm");
     private Date dateTime;
 
     /**
@@ -28,8 +35,11 @@ public class DateTime implements Comparable<DateTime> {
      */
     public DateTime(String dateTime) throws DateFormatException {
         validateDateTime(dateTime);
-        Parser parser = new Parser();
-        this.dateTime = parser.parse(dateTime).get(0).getDates().get(0);
+        if (STORED_FORMAT.matcher(dateTime).matches()) {
+            this.dateTime = parseStoredFormat(dateTime);
+        } else {
+            this.dateTime = parseNaturally(dateTime, 0);
+        }
     }
 
     /**
@@ -41,8 +51,37 @@ public class DateTime implements Comparable<DateTime> {
      */
     public DateTime(String dateTime, int index) throws DateFormatException {
         validateDateTime(extractDateTimeFromIndex(dateTime, index));
-        Parser parser = new Parser();
-        this.dateTime = parser.parse(dateTime).get(0).getDates().get(index);
+        this.dateTime = parseNaturally(dateTime, index);
+    }
+
+    /**
+     * Parses dates and times in natural language with natty, recorded as a {@link DateParseEvent} when a flight
+     * recording enables those.
+     * @param dateTime The validated date and time string.
+     * @param index The index of the date and time wanted among those in the string.
+     * @return The date and time.
+     */
+    private static Date parseNaturally(String dateTime, int index) {
+        DateParseEvent event = new DateParseEvent();
+        event.begin();
+        Date date = new Parser().parse(dateTime).get(0).getDates().get(index);
+        event.end();
+        if (event.shouldCommit()) {
+            event.inputLength = dateTime.length();
+            event.commit();
+        }
+        return date;
+    }
+
+    /**
+     * Parses a date and time in the exact format they are stored in, as written by toString, without going
+     * through natty, since loading stored items parses every date they have.
+     * @param dateTime The validated date and time string.
+     * @return The date and time.
+     */
+    private static Date parseStoredFormat(String dateTime) {
+        LocalDateTime localDateTime = LocalDateTime.parse(dateTime, STORED_FORMATTER);
+        return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
     }
 
     public Date getDateTime() {
@@ -193,8 +232,7 @@ public class DateTime implements Comparable<DateTime> {
      * @return String equivalent of Date object.
      */
     public String toString() {
-        DateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy HH:mm");
-        return dateFormat.format(dateTime);
+        return STORED_FORMATTER.format(LocalDateTime.ofInstant(dateTime.toInstant(), ZoneId.systemDefault()));
     }
 
     public boolean before(DateTime dateTime) {
@@ -0,0 +1,197 @@
+package spinbox;
+
+import spinbox.commands.AddCommand;
+import spinbox.commands.Command;
+import spinbox.commands.ExitCommand;
+import spinbox.commands.FindCommand;
+import spinbox.commands.HelpCommand;
+import spinbox.commands.RemoveCommand;
+import spinbox.commands.RemoveMultipleCommand;
+import spinbox.commands.SetDateCommand;
+import spinbox.commands.ScoreCommand;
+import spinbox.commands.SetNameCommand;
+import spinbox.commands.TagCommand;
+import spinbox.commands.UpdateCommand;
+import spinbox.commands.UpdateMultipleCommand;
+import spinbox.commands.ViewCommand;
+import spinbox.commands.PopulateCommand;
+import spinbox.commands.RedoCommand;
+import spinbox.commands.UndoCommand;
+import spinbox.commands.ExportCommand;
+import spinbox.commands.StatsCommand;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.exceptions.InputException;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+public class Parser {
+    private static final String INVALID_COMMAND = "Please provide a valid command:\n"
+            + "'<action> <page> / <content>' or 'bye'";
+    private static final String PARSING_INPUT = "Parsing input into command: ";
+    private static final String LOGGER_INVALID_COMMAND = "Invalid command entered, error propagated upwards.";
+    private static final String EXITING_COMMAND_BUILDER = "Exiting static method commandBuilder with pageData: ";
+    private static final String ENTERING_COMMAND_BUILDER = "Entering static method commandBuilder";
+    private static final String PAGE_TRACE_SET = "Page trace set";
+    private static final int PAGEDATA_COMPONENT_MAX = 10;
+
+    private static final Set<String> STANDALONE_ACTIONS = Set.of("bye", "help", "populate", "undo", "redo", "stats");
+    /**
+     * Commands addressing an item by index and keywords, such as update, remove, score, set-date and set-name, take
+     * typed arguments. Commands taking free-form text, such as the name of an item to add or the words to find,
+     * parse their own content.
+     */
+    private static final Map<String, CommandFactory> COMMAND_FACTORIES = Map.ofEntries(
+            Map.entry("bye", (pageDataComponents, descriptor) -> new ExitCommand()),
+            Map.entry("populate", (pageDataComponents, descriptor) ->
+                    new PopulateCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("stats", (pageDataComponents, descriptor) ->
+                    new StatsCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("undo", (pageDataComponents, descriptor) -> new UndoCommand()),
+            Map.entry("redo", (pageDataComponents, descriptor) -> new RedoCommand()),
+            Map.entry("help", (pageDataComponents, descriptor) -> new HelpCommand(descriptor.getContent())),
+            Map.entry("view", (pageDataComponents, descriptor) ->
+                    new ViewCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("add", (pageDataComponents, descriptor) ->
+                    new AddCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("remove", (pageDataComponents, descriptor) ->
+                    new RemoveCommand(pageDataComponents, descriptor.getArguments())),
+            Map.entry("update", (pageDataComponents, descriptor) ->
+                    new UpdateCommand(pageDataComponents, descriptor.getArguments())),
+            Map.entry("export", (pageDataComponents, descriptor) ->
+                    new ExportCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("remove-*", (pageDataComponents, descriptor) ->
+                    new RemoveMultipleCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("update-*", (pageDataComponents, descriptor) ->
+                    new UpdateMultipleCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("score", (pageDataComponents, descriptor) ->
+                    new ScoreCommand(pageDataComponents, descriptor.getArguments(ScoreCommand.KEYWORDS))),
+            Map.entry("find", (pageDataComponents, descriptor) ->
+                    new FindCommand(pageDataComponents, descriptor.getContent())),
+            Map.entry("set-date", (pageDataComponents, descriptor) ->
+                    new SetDateCommand(pageDataComponents, descriptor.getArguments(SetDateCommand.KEYWORDS))),
+            Map.entry("set-name", (pageDataComponents, descriptor) ->
+                    new SetNameCommand(pageDataComponents, descriptor.getArguments(SetNameCommand.KEYWORDS))),
+            Map.entry("tag", (pageDataComponents, descriptor) ->
+                    new TagCommand(pageDataComponents, descriptor.getContent(), true)),
+            Map.entry("untag", (pageDataComponents, descriptor) ->
+                    new TagCommand(pageDataComponents, descriptor.getContent(), false)));
+
+    private static ArrayDeque<String> pageTrace;
+    private static final Logger LOGGER = Logger.getLogger(Parser.class.getName());
+
+    /**
+     * Static function to update the current page trace to determine context.
+     * @param pageTraceNew An arraydeque of strings to overwrite the page trace with.
+     */
+    public static void setPageTrace(ArrayDeque<String> pageTraceNew) {
+        LOGGER.info(PAGE_TRACE_SET);
+        for (String string : pageTraceNew) {
+            LOGGER.fine(string);
+        }
+        pageTrace = pageTraceNew;
+    }
+
+    /**
+     * Appends the module code of the current page from pageTrace, where the module code is the page before
+     * the last page, without copying pageTrace.
+     * @param page The page to which the module code is appended.
+     * @param pageTrace The trace of pages visited.
+     * @return The page followed by the module code if there is one.
+     */
+    private static String appendModuleFromTrace(String page, ArrayDeque<String> pageTrace) {
+        LOGGER.entering(Parser.class.getName(), "appendModuleFromTrace");
+        Iterator<String> fromLast = pageTrace.descendingIterator();
+        fromLast.next();
+        String fullPageData = fromLast.hasNext() ? page + " " + fromLast.next().toUpperCase() : page;
+        LOGGER.exiting(Parser.class.getName(), "appendModuleFromTrace");
+        return fullPageData;
+    }
+
+    /**
+     * Builds the required page data for command input. Return page and maybe moduleCode.
+     * @param pageComponents The lowercased page components of the input.
+     * @param pageTrace The trace of pages visited, giving the page when none is entered.
+     * @return The full page data.
+     * @throws InputException If the input is invalid.
+     */
+    private static String commandBuilder(List<String> pageComponents, ArrayDeque<String> pageTrace)
+            throws InputException {
+        LOGGER.info(ENTERING_COMMAND_BUILDER);
+        String pageData;
+        if (pageComponents.isEmpty()) {
+            pageData = appendModuleFromTrace(pageTrace.getLast(), pageTrace);
+        } else if (pageComponents.size() == 1) {
+            String page = pageComponents.get(0);
+            switch (page) {
+            case "main":
+            case "calendar":
+                pageData = page;
+                break;
+            case "modules":
+                pageData = appendModuleFromTrace(page, pageTrace);
+                break;
+            default:
+                // page is a module code
+                pageData = "modules " + page.toUpperCase();
+            }
+        } else if (pageComponents.size() == 2 && pageComponents.get(0).equals("modules")) {
+            pageData = "modules " + pageComponents.get(1).toUpperCase();
+        } else {
+            LOGGER.warning(LOGGER_INVALID_COMMAND);
+            throw new InputException(INVALID_COMMAND);
+        }
+        assert !pageData.isEmpty();
+        LOGGER.info(() -> EXITING_COMMAND_BUILDER + pageData);
+        return pageData;
+    }
+
+    /**
+     * Parses an input string into a workable command.
+     * @param input The user input.
+     * @return A full command that can be executed.
+     * @throws SpinBoxException If there are storage errors or input errors.
+     */
+    public static Command parse(String input) throws SpinBoxException {
+        return parse(input, pageTrace);
+    }
+
+    /**
+     * Parses an input string into a workable command, in the context of the given page trace rather than the
+     * one last set, so that inputs from several sessions can be parsed at the same time.
+     * @param input The user input.
+     * @param pageTrace The trace of pages visited by the session entering the input.
+     * @return A full command that can be executed.
+     * @throws SpinBoxException If there are storage errors or input errors.
+     */
+    public static Command parse(String input, ArrayDeque<String> pageTrace) throws SpinBoxException {
+        LOGGER.info(() -> PARSING_INPUT + input);
+        CommandDescriptor descriptor = CommandDescriptor.lex(input);
+        String action = descriptor.getAction();
+        CommandFactory factory = COMMAND_FACTORIES.get(action);
+        boolean isStandalone = STANDALONE_ACTIONS.contains(action) && descriptor.getPageComponents().isEmpty();
+        if (factory == null || (!descriptor.hasSeparator() && !isStandalone)) {
+            LOGGER.warning(LOGGER_INVALID_COMMAND);
+            throw new InputException(INVALID_COMMAND);
+        }
+
+        String[] pageDataComponents = new String[PAGEDATA_COMPONENT_MAX];
+        if (descriptor.hasSeparator() && !action.equals("help")) {
+            pageDataComponents = commandBuilder(descriptor.getPageComponents(), pageTrace).split(" ");
+        }
+        LOGGER.info(() -> "Input: " + input + " associated with action: " + action);
+        return factory.create(pageDataComponents, descriptor);
+    }
+
+    /**
+     * Creates a command from the page data components and the lexed input.
+     */
+    @FunctionalInterface
+    private interface CommandFactory {
+        Command create(String[] pageDataComponents, CommandDescriptor descriptor) throws SpinBoxException;
+    }
+}
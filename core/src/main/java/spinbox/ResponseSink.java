@@ -0,0 +1,152 @@
+package spinbox;
+
+import spinbox.stats.CommandStats;
+import spinbox.stats.CommandStats.Phase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Receives the response of a command as it is rendered and passes it straight on to an {@link Appendable},
+ * such as a StringBuilder or the standard output, so that long responses are neither concatenated repeatedly
+ * nor held in memory before being printed.
+ * At most a given number of lines are passed on. The lines after those are only counted, and a note of how
+ * many were left out is written when the sink is finished.
+ */
+public class ResponseSink implements Appendable {
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+    private static final String TRUNCATED = "... %d more line%s not shown.";
+
+    private final Appendable target;
+    private final int maxLines;
+    private int lineCount = 0;
+    private int droppedLineCount = 0;
+    private boolean isDroppingLine = false;
+    private boolean isEmpty = true;
+
+    /**
+     * Constructor for a sink passing on at most a number of lines.
+     * @param target Receives the response.
+     * @param maxLines The number of lines passed on before the rest is left out.
+     */
+    public ResponseSink(Appendable target, int maxLines) {
+        assert maxLines > 0 : "A sink must pass on at least one line";
+        this.target = target;
+        this.maxLines = maxLines;
+    }
+
+    /**
+     * Constructor for a sink passing on the whole response.
+     * @param target Receives the response.
+     */
+    public ResponseSink(Appendable target) {
+        this(target, UNLIMITED);
+    }
+
+    @Override
+    public ResponseSink append(CharSequence text) {
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public ResponseSink append(CharSequence text, int start, int end) {
+        int passedEnd = start;
+        while (passedEnd < end && lineCount < maxLines) {
+            if (text.charAt(passedEnd++) == '\n') {
+                lineCount++;
+            }
+        }
+        if (passedEnd > start) {
+            write(text, start, passedEnd);
+        }
+        for (int i = passedEnd; i < end; i++) {
+            drop(text.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public ResponseSink append(char c) {
+        if (lineCount >= maxLines) {
+            drop(c);
+            return this;
+        }
+        if (c == '\n') {
+            lineCount++;
+        }
+        Phase previous = CommandStats.enter(Phase.RENDER);
+        try {
+            target.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            CommandStats.exit(previous);
+        }
+        isEmpty = false;
+        return this;
+    }
+
+    /**
+     * Appends a line, separated from anything appended before it by a line break, so that a response written
+     * line by line ends without one, just like the responses joined from a list of lines.
+     * @param line The line to be appended.
+     * @return This sink.
+     */
+    public ResponseSink line(CharSequence line) {
+        if (!isEmpty) {
+            append('\n');
+        }
+        return append(line);
+    }
+
+    /**
+     * Appends each of the lines, see {@link #line(CharSequence)}.
+     * @param lines The lines to be appended.
+     * @return This sink.
+     */
+    public ResponseSink lines(Iterable<? extends CharSequence> lines) {
+        for (CharSequence line : lines) {
+            line(line);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the note of the lines left out, if any. Nothing should be appended afterwards.
+     */
+    public void finish() {
+        if (isDroppingLine) {
+            droppedLineCount++;
+            isDroppingLine = false;
+        }
+        if (droppedLineCount > 0) {
+            String note = String.format(TRUNCATED, droppedLineCount, (droppedLineCount == 1) ? "" : "s") + "\n";
+            write(note, 0, note.length());
+        }
+    }
+
+    public boolean isTruncated() {
+        return droppedLineCount > 0 || isDroppingLine;
+    }
+
+    private void drop(char c) {
+        if (c == '\n') {
+            droppedLineCount++;
+            isDroppingLine = false;
+        } else {
+            isDroppingLine = true;
+        }
+    }
+
+    private void write(CharSequence text, int start, int end) {
+        Phase previous = CommandStats.enter(Phase.RENDER);
+        try {
+            target.append(text, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            CommandStats.exit(previous);
+        }
+        isEmpty = false;
+    }
+}
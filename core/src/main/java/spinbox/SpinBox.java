@@ -0,0 +1,245 @@
+package spinbox;
+
+import spinbox.api.ApiServer;
+import spinbox.commands.Command;
+import spinbox.daemon.Daemon;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.exceptions.StorageException;
+import spinbox.containers.ModuleAccess;
+import spinbox.containers.ModuleContainer;
+import spinbox.logging.LogConfig;
+import spinbox.soak.SoakRunner;
+import spinbox.stats.CommandStats;
+import spinbox.stats.CommandStats.Phase;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StorageStats;
+import spinbox.stats.events.CommandEvent;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.logging.Logger;
+
+public class SpinBox {
+    private Ui userInterface;
+    private ModuleContainer modules;
+    private ArrayDeque<String> pageTrace;
+    private volatile boolean shutdown = false;
+    private static final Logger LOGGER = Logger.getLogger(SpinBox.class.getName());
+    private static final int CLI_MAX_LINES = 1000;
+    private static final String STATS_FILE = "SpinBoxData/command-latencies.txt";
+    private static final String STARTUP_PROFILE_DIRECTORY = "SpinBoxData";
+    private static final String NO_MODULES = "none";
+    private static final String ALL_MODULES = "all";
+
+    /**
+     * Full Constructor for CLI/GUI version of SpinBox.
+     */
+    public SpinBox(boolean cliMode) throws StorageException {
+        LogConfig.configure();
+        LOGGER.entering(getClass().getName(), "full constructor");
+        userInterface = new Ui(cliMode);
+        pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        modules = new ModuleContainer();
+        CommandStats.dumpOnExit(STATS_FILE);
+
+        if (cliMode) {
+            LOGGER.info("Using CLI mode");
+            if (StartupProfiler.isEnabled()) {
+                userInterface.print(userInterface.showFormatted(StartupProfiler.finish(STARTUP_PROFILE_DIRECTORY)));
+            }
+            this.startSpinBoxCli();
+        }
+        LOGGER.exiting(getClass().getName(), "full constructor");
+    }
+
+    /**
+     * Default Constructor, Entry point into this java program, for CLI version.
+     */
+    public SpinBox() throws StorageException {
+        this(false);
+    }
+
+    /**
+     * Entry point into this java program, for CLI version.
+     * With '--batch <file>', runs the commands in the file instead, see {@link BatchRunner}.
+     * With '--serve [port]', serves the modules to local tools over HTTP instead, see {@link ApiServer}.
+     * With '--daemon [port]', keeps the modules loaded for thin clients instead, see {@link Daemon}.
+     * With '--soak <command file|generated>', soak tests the modules with the commands instead, see {@link SoakRunner}.
+     * With '--profile-startup' anywhere, prints and saves a breakdown of starting up, see {@link StartupProfiler}.
+     */
+    public static void main(String[] args) throws StorageException, InterruptedException {
+        args = StartupProfiler.enableIfFlagged(args);
+        LogConfig.configure();
+        if (args.length > 0 && args[0].equals(BatchRunner.BATCH_FLAG)) {
+            System.exit(BatchRunner.runFromArguments(args));
+        } else if (args.length > 0 && args[0].equals(ApiServer.SERVE_FLAG)) {
+            System.exit(ApiServer.runFromArguments(args));
+        } else if (args.length > 0 && args[0].equals(Daemon.DAEMON_FLAG)) {
+            System.exit(Daemon.runFromArguments(args));
+        } else if (args.length > 0 && args[0].equals(SoakRunner.SOAK_FLAG)) {
+            System.exit(SoakRunner.runFromArguments(args));
+        }
+        new SpinBox(true);
+    }
+
+    /**
+     * CLI mode - the String returned by getResponse is to be printed to the console.
+     */
+    private void startSpinBoxCli() {
+        LOGGER.entering(getClass().getName(), "startSpinBoxCli");
+        userInterface.print(userInterface.showWelcome());
+
+        while (!this.isShutdown()) {
+            userInterface.print(userInterface.showPage(pageTrace));
+            String input = userInterface.readInput();
+            ResponseSink sink = new ResponseSink(System.out, CLI_MAX_LINES);
+            respond(input, sink);
+            sink.append('\n');
+            sink.finish();
+        }
+        LOGGER.exiting(getClass().getName(), "startSpinBoxCli");
+    }
+
+    /**
+     * Method to interact with SpinBox.
+     * @param input String input from GUI/CLI layer.
+     * @param guiMode boolean to check if it is running gui.
+     * @return output response String to be returned to GUI/CLI.
+     */
+    public String getResponse(String input, boolean guiMode) {
+        LOGGER.entering(getClass().getName(), "getResponse");
+        LOGGER.info(() -> "User input: " + input + ", from GUI: " + guiMode);
+        try {
+            String response = this.execute(input, guiMode);
+            LOGGER.info(() -> "Response from SpinBox:\n" + response);
+            LOGGER.exiting(getClass().getName(), "getResponse");
+            return response;
+        } catch (SpinBoxException e) {
+            LOGGER.warning(e.getMessage());
+            LOGGER.exiting(getClass().getName(), "getResponse");
+            return userInterface.showFormatted(e.getMessage());
+        }
+    }
+
+    /**
+     * Method to interact with SpinBox, writing the response to a sink as it is rendered instead of returning it.
+     * @param input String input from CLI layer.
+     * @param sink The sink the response or the error is written to.
+     */
+    public void respond(String input, ResponseSink sink) {
+        LOGGER.entering(getClass().getName(), "respond");
+        LOGGER.info(() -> "User input: " + input);
+        try {
+            Parser.setPageTrace(pageTrace);
+            this.execute(input, pageTrace, false, sink);
+        } catch (SpinBoxException e) {
+            LOGGER.warning(e.getMessage());
+            sink.append(userInterface.showFormatted(e.getMessage()));
+        }
+        LOGGER.exiting(getClass().getName(), "respond");
+    }
+
+    /**
+     * Parses and executes an input as a single undoable step, leaving errors to the caller.
+     * @param input String input from GUI/CLI layer or a batch file.
+     * @param guiMode boolean to check if it is running gui.
+     * @return output response String of the command.
+     * @throws SpinBoxException If there are storage errors or input errors.
+     */
+    public String execute(String input, boolean guiMode) throws SpinBoxException {
+        Parser.setPageTrace(pageTrace);
+        return this.execute(input, pageTrace, guiMode);
+    }
+
+    /**
+     * Parses and executes an input as a single undoable step from a session with its own page trace.
+     * Only the modules the command declares are locked while it runs, and read-only commands run on a snapshot,
+     * so that this may be called from several threads at once, each with its own page trace.
+     * @param input String input from GUI/CLI layer or a batch file.
+     * @param pageTrace The trace of pages visited by the session entering the input, updated by the command.
+     * @param guiMode boolean to check if it is running gui.
+     * @return output response String of the command.
+     * @throws SpinBoxException If there are storage errors or input errors.
+     */
+    public String execute(String input, ArrayDeque<String> pageTrace, boolean guiMode) throws SpinBoxException {
+        StringBuilder response = new StringBuilder();
+        this.execute(input, pageTrace, guiMode, new ResponseSink(response));
+        return response.toString();
+    }
+
+    /**
+     * Parses and executes an input as a single undoable step from a session with its own page trace, writing the
+     * response to a sink as it is rendered. A command that fails writes nothing.
+     * The command is timed in phases, see {@link CommandStats}, and its file operations may be logged, see
+     * {@link StorageStats}. It is also recorded as a {@link CommandEvent} when a flight recording enables those.
+     * @param input String input from GUI/CLI layer or a batch file.
+     * @param pageTrace The trace of pages visited by the session entering the input, updated by the command.
+     * @param guiMode boolean to check if it is running gui.
+     * @param sink The sink the response is written to.
+     * @throws SpinBoxException If there are storage errors or input errors.
+     */
+    public void execute(String input, ArrayDeque<String> pageTrace, boolean guiMode, ResponseSink sink)
+            throws SpinBoxException {
+        boolean isTiming = CommandStats.begin();
+        if (isTiming) {
+            StorageStats.beginCommand();
+        }
+        String commandType = CommandStats.UNPARSED;
+        ModuleAccess moduleAccess = null;
+        boolean isFailed = true;
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        try {
+            Command command = Parser.parse(input, pageTrace);
+            commandType = command.getClass().getSimpleName();
+            moduleAccess = command.getModuleAccess();
+            CommandStats.enter(Phase.EXECUTE);
+            modules.runWithAccess(moduleAccess, accessedModules -> {
+                modules.getHistory().begin();
+                try {
+                    command.execute(accessedModules, pageTrace, userInterface, guiMode, sink);
+                    this.setShutdown(command.isExit());
+                    return null;
+                } finally {
+                    modules.getHistory().commit();
+                }
+            });
+            isFailed = false;
+        } finally {
+            if (isTiming) {
+                CommandStats.end(commandType);
+                StorageStats.endCommand(commandType);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.commandType = commandType;
+                event.modules = describeModules(moduleAccess);
+                event.isFailed = isFailed;
+                event.commit();
+            }
+        }
+    }
+
+    private static String describeModules(ModuleAccess moduleAccess) {
+        if (moduleAccess == null || moduleAccess.getKind() == ModuleAccess.Kind.NONE) {
+            return NO_MODULES;
+        }
+        List<String> moduleCodes = moduleAccess.getModuleCodes();
+        return (moduleCodes == null) ? ALL_MODULES : String.join(",", moduleCodes);
+    }
+
+    private void setShutdown(boolean shutdown) {
+        LOGGER.entering(getClass().getName(), "setShutdown");
+        this.shutdown = shutdown;
+        LOGGER.exiting(getClass().getName(), "setShutdown");
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public ModuleContainer getModuleContainer() {
+        return modules;
+    }
+}
\ No newline at end of file
@@ -53,14 +53,26 @@ public class Ui {
      * @return the formatted String.
      */
     public String showFormatted(List<String> output) {
-        String formattedOutput = "";
-        for (String outputItem : output) {
-            formattedOutput = formattedOutput.concat(outputItem + "\n");
+        return showFormatted(String.join("\n", output));
+    }
+
+    /**
+     * This is to add the opening of the SpinBox UI wrapper to a response written line by line.
+     * @param sink The sink the response is written to.
+     */
+    public void beginFormatted(ResponseSink sink) {
+        if (gui) {
+            sink.line(HORIZONTAL_LINE);
         }
-        if (formattedOutput.length() > 0) {
-            return showFormatted(formattedOutput.substring(0, formattedOutput.length() - 1));
-        } else {
-            return showFormatted("");
+    }
+
+    /**
+     * This is to add the closing of the SpinBox UI wrapper to a response written line by line.
+     * @param sink The sink the response is written to.
+     */
+    public void endFormatted(ResponseSink sink) {
+        if (gui) {
+            sink.line(HORIZONTAL_LINE);
         }
     }
 
@@ -0,0 +1,325 @@
+package spinbox.api;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import spinbox.SpinBox;
+import spinbox.containers.ModuleAccess;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.SpinBoxList;
+import spinbox.daemon.AddressFile;
+import spinbox.entities.Module;
+import spinbox.entities.Query;
+import spinbox.entities.items.Item;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.exceptions.StorageException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves SpinBox to other local tools over HTTP on the loopback address, returning JSON.
+ * <ul>
+ *     <li>POST /command runs the command in the request body, as if entered from the main page.</li>
+ *     <li>GET /query?type=task&amp;where=... runs a query, as in 'find / task where ...', over all modules
+ *     unless the query names some, and returns each match as an object.</li>
+ *     <li>GET /stats returns the latency percentiles of the requests served so far, per path.</li>
+ * </ul>
+ * Each request runs on its own thread against the shared modules, locking only the modules it writes, while
+ * queries run on a snapshot of the modules they read, so queries never wait for the commands being run.
+ * As with the daemon, the port and a random token are written to an address file readable only by its owner, and
+ * every request must carry the token as 'Authorization: Bearer &lt;token&gt;'. Requests naming a host other than
+ * the loopback address, as after DNS rebinding, and requests with an Origin, as sent by web pages, are refused.
+ */
+public class ApiServer {
+    public static final String SERVE_FLAG = "--serve";
+    public static final String COMMAND_PATH = "/command";
+    public static final String QUERY_PATH = "/query";
+    public static final String STATS_PATH = "/stats";
+    public static final String ADDRESS_FILE = "SpinBoxData/api.address";
+    public static final String AUTHORIZATION = "Authorization";
+    public static final String BEARER = "Bearer ";
+    private static final Logger LOGGER = Logger.getLogger(ApiServer.class.getName());
+    private static final int DEFAULT_PORT = 0;
+    private static final int BACKLOG = 64;
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_USAGE = 2;
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_SERVER_ERROR = 500;
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    private static final String USAGE = "Usage: " + SERVE_FLAG + " [port]";
+    private static final String SERVING = "Serving SpinBox on http://%s:%d, with the token in %s";
+    private static final String HOST = "Host";
+    private static final String ORIGIN = "Origin";
+    private static final String LOCALHOST = "localhost";
+    private static final String FORBIDDEN = "Only requests to the loopback address and not from web pages are served.";
+    private static final String INVALID_TOKEN = "Please provide the token in the address file as '" + AUTHORIZATION
+            + ": " + BEARER + "<token>'.";
+    private static final String METHOD_NOT_ALLOWED = "Use %s for %s.";
+    private static final String INVALID_QUERY_TYPE = "Please provide a type of 'file', 'grade' or 'task'.";
+    private static final String LOG_REQUEST_FAILED = "Request failed: ";
+    private static final String TYPE_PARAMETER = "type";
+    private static final String WHERE_PARAMETER = "where";
+    private static final String MAIN_PAGE = "main";
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final SpinBox spinBox;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Path addressFile;
+    private final String token;
+    private final Set<String> allowedHosts;
+    private final Map<String, LatencyRecorder> latencies = new TreeMap<>();
+
+    /**
+     * Constructor for a server of a SpinBox, bound to the loopback address and advertised by an address file, but
+     * not yet started.
+     * @param spinBox The SpinBox whose modules are served.
+     * @param port The port to listen on, or 0 for any free port.
+     * @param addressFile The file the port and token are written to.
+     * @throws IOException If the port cannot be bound or the address file cannot be written.
+     */
+    public ApiServer(SpinBox spinBox, int port, Path addressFile) throws IOException {
+        this.spinBox = spinBox;
+        // Small responses are otherwise held back waiting for the acknowledgement of their headers.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.addressFile = addressFile;
+        this.token = AddressFile.makeToken();
+        this.allowedHosts = Set.of(InetAddress.getLoopbackAddress().getHostAddress() + ":" + getPort(),
+                LOCALHOST + ":" + getPort());
+        AddressFile.write(addressFile, getPort(), token);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        addEndpoint(COMMAND_PATH, POST, this::runCommand);
+        addEndpoint(QUERY_PATH, GET, this::runQuery);
+        addEndpoint(STATS_PATH, GET, exchange -> getStats());
+    }
+
+    /**
+     * Serves the stored modules until the process is stopped.
+     * @param args The program arguments, starting with '--serve' and optionally followed by a port.
+     * @return The exit status, 2 for invalid arguments.
+     * @throws StorageException If the stored data cannot be loaded.
+     * @throws InterruptedException If interrupted while serving.
+     */
+    public static int runFromArguments(String[] args) throws StorageException, InterruptedException {
+        int port = DEFAULT_PORT;
+        try {
+            if (args.length > 2) {
+                throw new IllegalArgumentException(args[2]);
+            } else if (args.length == 2) {
+                port = Integer.parseInt(args[1]);
+            }
+            ApiServer apiServer = new ApiServer(new SpinBox(), port, Paths.get(ADDRESS_FILE));
+            apiServer.start();
+            System.out.println(String.format(SERVING, InetAddress.getLoopbackAddress().getHostAddress(),
+                    apiServer.getPort(), ADDRESS_FILE));
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        new CountDownLatch(1).await();
+        return EXIT_SUCCESS;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests, waiting at most a second for those being served to finish, and removes the
+     * address file.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            Files.deleteIfExists(addressFile);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, e.getMessage(), e);
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    private void addEndpoint(String path, String method, Endpoint endpoint) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        latencies.put(path, recorder);
+        server.createContext(path, exchange -> {
+            long startTime = System.nanoTime();
+            try {
+                if (!isAllowed(exchange)) {
+                    return;
+                }
+                if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+                    respond(exchange, STATUS_METHOD_NOT_ALLOWED, error(String.format(METHOD_NOT_ALLOWED, method,
+                            path)));
+                    return;
+                }
+                respond(exchange, STATUS_OK, endpoint.respond(exchange));
+            } catch (SpinBoxException e) {
+                respond(exchange, STATUS_BAD_REQUEST, error(e.getMessage()));
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, LOG_REQUEST_FAILED + path, e);
+                respond(exchange, STATUS_SERVER_ERROR, error(String.valueOf(e.getMessage())));
+            } finally {
+                exchange.close();
+                recorder.record(System.nanoTime() - startTime);
+            }
+        });
+    }
+
+    /**
+     * Checks that a request is for the loopback address, is not from a web page, and carries the token, responding
+     * with an error otherwise.
+     * @param exchange The request.
+     * @return True if the request may be served.
+     * @throws IOException If the error cannot be sent.
+     */
+    private boolean isAllowed(HttpExchange exchange) throws IOException {
+        Headers headers = exchange.getRequestHeaders();
+        String host = headers.getFirst(HOST);
+        if (host == null || !allowedHosts.contains(host.toLowerCase()) || headers.containsKey(ORIGIN)) {
+            respond(exchange, STATUS_FORBIDDEN, error(FORBIDDEN));
+            return false;
+        }
+        String authorization = headers.getFirst(AUTHORIZATION);
+        String presented = (authorization != null && authorization.startsWith(BEARER))
+                ? authorization.substring(BEARER.length()) : null;
+        if (!AddressFile.isValidToken(token, presented)) {
+            respond(exchange, STATUS_UNAUTHORIZED, error(INVALID_TOKEN));
+            return false;
+        }
+        return true;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(CONTENT_TYPE, JSON_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static String error(String message) {
+        return "{\"error\":" + Json.quote(message) + "}";
+    }
+
+    private String runCommand(HttpExchange exchange) throws SpinBoxException, IOException {
+        String input;
+        try (InputStream body = exchange.getRequestBody()) {
+            input = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add(MAIN_PAGE);
+        String response = spinBox.execute(input, pageTrace, false);
+        return "{\"response\":" + Json.quote(response) + "}";
+    }
+
+    private String runQuery(HttpExchange exchange) throws SpinBoxException {
+        Map<String, String> parameters = parseParameters(exchange.getRequestURI().getRawQuery());
+        String type = parameters.getOrDefault(TYPE_PARAMETER, "").toLowerCase();
+        Function<Module, ? extends SpinBoxList<? extends Item>> listOfModule;
+        switch (type) {
+        case "file":
+            listOfModule = Module::getFiles;
+            break;
+        case "grade":
+            listOfModule = Module::getGrades;
+            break;
+        case "task":
+            listOfModule = Module::getTasks;
+            break;
+        default:
+            throw new InputException(INVALID_QUERY_TYPE);
+        }
+
+        Query query = new Query(parameters.getOrDefault(WHERE_PARAMETER, ""), type.equals("task"));
+        ModuleContainer moduleContainer = spinBox.getModuleContainer();
+        return moduleContainer.runWithAccess(ModuleAccess.readModules(query.getModuleCodes()), snapshot -> {
+            List<String> matches = new ArrayList<>();
+            for (Query.Match match : query.match(query.getModules(snapshot, null), listOfModule)) {
+                Item item = match.getItem();
+                List<String> tags = new ArrayList<>();
+                item.getTags().forEach(tag -> tags.add(Json.quote(tag)));
+                matches.add("{\"module\":" + Json.quote(match.getModuleCode())
+                        + ",\"index\":" + (match.getIndex() + 1)
+                        + ",\"name\":" + Json.quote(item.getName())
+                        + ",\"done\":" + item.getDone()
+                        + ",\"tags\":" + Json.array(tags)
+                        + ",\"text\":" + Json.quote(item.toString()) + "}");
+            }
+            return "{\"type\":" + Json.quote(type) + ",\"matches\":" + Json.array(matches) + "}";
+        });
+    }
+
+    private static Map<String, String> parseParameters(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = (equals < 0) ? pair : pair.substring(0, equals);
+            String value = (equals < 0) ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private String getStats() {
+        List<String> entries = new ArrayList<>();
+        for (Map.Entry<String, LatencyRecorder> entry : latencies.entrySet()) {
+            entries.add(Json.quote(entry.getKey()) + ":" + entry.getValue().toJson());
+        }
+        return "{" + String.join(",", entries) + "}";
+    }
+
+    /**
+     * Responds to a request with a JSON body.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        String respond(HttpExchange exchange) throws SpinBoxException, IOException;
+    }
+}
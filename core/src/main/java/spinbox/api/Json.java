@@ -0,0 +1,71 @@
+package spinbox.api;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the few JSON values returned by the API, without depending on a JSON library.
+ */
+public class Json {
+    private static final String HEX_ESCAPE = "\\u%04x";
+
+    private Json() {
+    }
+
+    /**
+     * Quotes a string as a JSON string, escaping quotes, backslashes and control characters.
+     * @param value The string to be quoted.
+     * @return The JSON string, or null if the value is null.
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                quoted.append("\\\"");
+                break;
+            case '\\':
+                quoted.append("\\\\");
+                break;
+            case '\n':
+                quoted.append("\\n");
+                break;
+            case '\r':
+                quoted.append("\\r");
+                break;
+            case '\t':
+                quoted.append("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    quoted.append(String.format(HEX_ESCAPE, (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Joins JSON values into a JSON array.
+     * @param values The JSON values, already quoted where needed.
+     * @return The JSON array.
+     */
+    public static String array(List<String> values) {
+        return "[" + String.join(",", values) + "]";
+    }
+
+    /**
+     * Formats a number of milliseconds with a fixed number of decimals, independent of the default locale.
+     * @param millis The number of milliseconds.
+     * @return The JSON number.
+     */
+    public static String millis(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis);
+    }
+}
@@ -0,0 +1,63 @@
+package spinbox.api;
+
+import java.util.Arrays;
+
+/**
+ * Records the latencies of requests and reports their percentiles. Only the most recent samples are kept,
+ * so that a long running server uses a fixed amount of memory.
+ */
+public class LatencyRecorder {
+    private static final int MAX_SAMPLES = 10_000;
+    private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+    private static final String SUMMARY = "count=%d p50=%sms p90=%sms p99=%sms max=%sms";
+    private static final String SUMMARY_JSON = "{\"count\":%d,\"p50Ms\":%s,\"p90Ms\":%s,\"p99Ms\":%s,\"maxMs\":%s}";
+
+    private final long[] samples = new long[MAX_SAMPLES];
+    private long count;
+
+    /**
+     * Records the latency of a request.
+     * @param nanos The latency in nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        samples[(int) (count % MAX_SAMPLES)] = nanos;
+        count++;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets a percentile of the latencies kept, using the nearest rank.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The latency in milliseconds, or 0 if nothing has been recorded.
+     */
+    public synchronized double getPercentileMillis(double percentile) {
+        int kept = (int) Math.min(count, MAX_SAMPLES);
+        if (kept == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, kept);
+        Arrays.sort(sorted);
+        int rank = Math.max((int) Math.ceil(percentile / 100 * kept) - 1, 0);
+        return sorted[rank] / NANOSECONDS_PER_MILLISECOND;
+    }
+
+    /**
+     * Summarises the latencies as a JSON object of the count and the 50th, 90th, 99th and 100th percentiles.
+     * @return The JSON object.
+     */
+    public String toJson() {
+        return String.format(SUMMARY_JSON, getCount(), Json.millis(getPercentileMillis(50)),
+                Json.millis(getPercentileMillis(90)), Json.millis(getPercentileMillis(99)),
+                Json.millis(getPercentileMillis(100)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(SUMMARY, getCount(), Json.millis(getPercentileMillis(50)),
+                Json.millis(getPercentileMillis(90)), Json.millis(getPercentileMillis(99)),
+                Json.millis(getPercentileMillis(100)));
+    }
+}
@@ -1,6 +1,7 @@
 package spinbox.commands;
 
 import spinbox.DateTime;
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.Notepad;
@@ -23,8 +24,8 @@ import spinbox.entities.items.tasks.Schedulable;
 import spinbox.containers.lists.TaskList;
 
 import java.util.ArrayDeque;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class AddCommand extends Command {
     private static final String MODULE_ADDED = "The following module has been added to SpinBox: ";
@@ -94,7 +95,7 @@ public class AddCommand extends Command {
             try {
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
                     String fileName = content.replaceFirst(type, "").trim();
@@ -114,7 +115,7 @@ public class AddCommand extends Command {
             try {
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
                     String noteContent = content.replaceFirst(type, "").trim();
@@ -131,7 +132,7 @@ public class AddCommand extends Command {
             try {
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     GradeList gradeList = module.getGrades();
                     String gradedComponentDetails = content.replaceFirst(type, "").trim();
@@ -163,7 +164,7 @@ public class AddCommand extends Command {
             try {
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
                     String taskDescription = content.replaceFirst(type, "").trim();
@@ -187,7 +188,7 @@ public class AddCommand extends Command {
             try {
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
                     String taskDescription = content.replaceFirst(type, "").trim();
@@ -216,7 +217,7 @@ public class AddCommand extends Command {
             try {
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     String taskDescription = content.replaceFirst(type, "").trim();
                     if (taskDescription.split(" ")[0].equals("at:")) {
@@ -293,4 +294,9 @@ public class AddCommand extends Command {
             throw new InputException(UNKNOWN_ITEM_TYPE);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return type.equals("module") ? ModuleAccess.changeModules() : ModuleAccess.writeModule(moduleCode);
+    }
+}
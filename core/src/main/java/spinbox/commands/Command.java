@@ -1,8 +1,10 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.exceptions.InputException;
 import spinbox.exceptions.SpinBoxException;
+import spinbox.ResponseSink;
 import spinbox.Ui;
 
 import java.util.ArrayDeque;
@@ -16,6 +18,30 @@ public abstract class Command {
     public abstract String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui,
            boolean guiMode) throws SpinBoxException;
 
+    /**
+     * Executes the command, writing its response to a sink rather than returning it.
+     * Commands with long responses override this to write them line by line as they are rendered.
+     * @param moduleContainer The container of all modules.
+     * @param pageTrace The current pageTrace.
+     * @param ui The Ui instance.
+     * @param guiMode Boolean to check if in gui mode.
+     * @param sink The sink the response is written to.
+     * @throws SpinBoxException If there are storage errors or input errors.
+     */
+    public void execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode,
+                        ResponseSink sink) throws SpinBoxException {
+        sink.append(execute(moduleContainer, pageTrace, ui, guiMode));
+    }
+
+    /**
+     * Declares the modules this command reads or writes, so that only those are locked while it runs.
+     * Commands run alone unless they declare narrower access.
+     * @return The access of this command to the modules.
+     */
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.changeModules();
+    }
+
     public boolean isExit() {
         return isExit;
     }
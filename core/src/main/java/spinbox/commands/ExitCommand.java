@@ -1,5 +1,6 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.Ui;
 
@@ -11,4 +12,9 @@ public class ExitCommand extends Command {
         this.setExit(true);
         return ui.showGoodbye();
     }
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.none();
+    }
 }
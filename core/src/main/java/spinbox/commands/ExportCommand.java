@@ -1,6 +1,7 @@
 package spinbox.commands;
 
 import spinbox.Ui;
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.GradeList;
@@ -17,9 +18,9 @@ import spinbox.datapersistors.exporter.Exporter;
 import java.util.ArrayDeque;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class ExportCommand extends Command {
     private static final String EXPORT_LOCATION = "SpinBoxData/exports/";
@@ -91,7 +92,7 @@ public class ExportCommand extends Command {
             exporter = new Exporter(EXPORT_LOCATION + COMMON_DEADLINES, DEADLINES_HEADER);
             SortedSet<Deadline> deadlinesList = new TreeSet<>(new TaskList.TaskComparator());
 
-            for (HashMap.Entry<String, Module> entry : moduleContainer.getModules().entrySet()) {
+            for (Map.Entry<String, Module> entry : moduleContainer.getModules().entrySet()) {
                 Module currentModule = entry.getValue();
                 TaskList currentTasks = currentModule.getTasks();
                 List<Task> tasks = currentTasks.getList();
@@ -111,4 +112,9 @@ public class ExportCommand extends Command {
         }
         return ACKNOWLEDGEMENT;
     }
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return type.equals("deadlines") ? ModuleAccess.readModule(null) : ModuleAccess.readModule(moduleCode);
+    }
 }
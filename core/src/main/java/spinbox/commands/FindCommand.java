@@ -1,19 +1,22 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.GradeList;
+import spinbox.entities.ItemFilter;
 import spinbox.entities.Module;
+import spinbox.entities.Query;
 import spinbox.exceptions.InputException;
 import spinbox.containers.lists.TaskList;
 import spinbox.Ui;
 import spinbox.exceptions.SpinBoxException;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.ArrayDeque;
-import java.util.HashMap;
+import java.util.Map;
 
 public class FindCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(FindCommand.class.getName());
@@ -25,6 +28,7 @@ public class FindCommand extends Command {
     private static final String LOG_FILE_LIST = "Get file list.";
     private static final String LOG_TASK_LIST = "Get task list.";
     private static final String LOG_GRADE_LIST = "Get grade list.";
+    private static final String LOG_QUERY = "Run query: ";
 
     private static final String UNKNOWN_ITEM_TYPE = "Sorry, unknown item type to add.";
     private static final String FIND_ERROR_MESSAGE = "Please ensure that you enter "
@@ -32,11 +36,14 @@ public class FindCommand extends Command {
     private static final String FIND_FORMAT = "find <moduleCode> / <type> <keyword>\n";
     private static final String NO_MODULE_CODE = "No module code indicated.";
     private static final String NON_EXISTENT_MODULE = "This module does not exist.";
+    private static final String QUERY_MATCHES = "Here are the %ss matching your query:";
+    private static final String NO_QUERY_MATCHES = "There are no %ss matching your query.";
 
     private String type;
     private String moduleCode;
     private String content;
     private String keyword;
+    private String queryClause;
 
     /**
      * Constructor for finding tasks using a keyword.
@@ -45,26 +52,62 @@ public class FindCommand extends Command {
      * @throws InputException missing keyword
      */
     public FindCommand(String[] pageDataComponents, String content) throws InputException {
-        LOGGER.setLevel(Level.INFO);
-        LOGGER.setUseParentHandlers(true);
         LOGGER.entering(getClass().getName(), "Constructor");
 
+        String[] contentComponents = content.split(" ", 3);
+        if (contentComponents.length > 1 && contentComponents[1].equalsIgnoreCase(ItemFilter.WHERE)) {
+            this.queryClause = (contentComponents.length > 2) ? contentComponents[2] : "";
+        }
+
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
-            LOGGER.fine(LOG_MODULE_CODE + moduleCode);
-        } else {
+            LOGGER.fine(() -> LOG_MODULE_CODE + moduleCode);
+            assert !moduleCode.isEmpty();
+        } else if (queryClause == null) {
             LOGGER.severe(LOG_NO_MODULE_CODE);
             throw new InputException(FIND_ERROR_MESSAGE + FIND_FORMAT);
         }
 
-        assert !moduleCode.isEmpty();
-
         this.content = content;
         this.type = content.split(" ")[0].toLowerCase();
 
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
 
+    /**
+     * Finds the items matching a query, in the modules named by the query, the module of the current page,
+     * or all modules, in that order of preference.
+     * @param moduleContainer Container of all the modules.
+     * @param ui Instance of UI.
+     * @return The matching items, numbered by their index in their list.
+     * @throws SpinBoxException If the item type is unknown or the query is invalid.
+     */
+    private String findWhere(ModuleContainer moduleContainer, Ui ui) throws SpinBoxException {
+        LOGGER.fine(() -> LOG_QUERY + queryClause);
+        Query query = new Query(queryClause, type.equals("task"));
+        List<Module> modules = query.getModules(moduleContainer, moduleCode);
+        List<String> matches;
+        switch (type) {
+        case "file":
+            matches = query.run(modules, Module::getFiles);
+            break;
+        case "task":
+            matches = query.run(modules, Module::getTasks);
+            break;
+        case "grade":
+            matches = query.run(modules, Module::getGrades);
+            break;
+        default:
+            LOGGER.severe(LOG_UNKNOWN_ITEM_TYPE);
+            throw new InputException(UNKNOWN_ITEM_TYPE);
+        }
+
+        List<String> output = new ArrayList<>();
+        output.add(String.format(matches.isEmpty() ? NO_QUERY_MATCHES : QUERY_MATCHES, type));
+        output.addAll(matches);
+        return ui.showFormatted(output);
+    }
+
     /**
      * Finds the items in the list containing keyword in the name.
      * @param moduleContainer Container of all the modules.
@@ -79,6 +122,11 @@ public class FindCommand extends Command {
             SpinBoxException {
         LOGGER.entering(getClass().getName(), "execute");
 
+        if (queryClause != null) {
+            LOGGER.exiting(getClass().getName(), "execute");
+            return findWhere(moduleContainer, ui);
+        }
+
         String[] contentComponents = content.split(" ", 2);
         try {
             keyword = contentComponents[1].trim();
@@ -93,7 +141,7 @@ public class FindCommand extends Command {
 
         List<String> contains;
         Module module;
-        HashMap<String, Module> modules;
+        Map<String, Module> modules;
 
         if (moduleContainer.checkModuleExists(moduleCode)) {
             modules = moduleContainer.getModules();
@@ -126,4 +174,9 @@ public class FindCommand extends Command {
         LOGGER.exiting(getClass().getName(), "execute");
         return ui.showFormatted(contains);
     }
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return (queryClause == null) ? ModuleAccess.readModule(moduleCode) : ModuleAccess.readModule(null);
+    }
 }
@@ -1,5 +1,6 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.HelpList;
 import spinbox.exceptions.InputException;
@@ -62,10 +63,28 @@ public class HelpCommand extends Command {
             case "find":
                 helpOutput = helpText.find;
                 break;
+            case "undo":
+                helpOutput = helpText.undo;
+                break;
+            case "redo":
+                helpOutput = helpText.redo;
+                break;
+            case "stats":
+                helpOutput = helpText.stats;
+                break;
+            case "tag":
+            case "untag":
+                helpOutput = helpText.tag;
+                break;
             default:
                 throw new InputException(COMMAND_NOT_FOUND);
             }
         }
         return helpOutput;
     }
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.none();
+    }
 }
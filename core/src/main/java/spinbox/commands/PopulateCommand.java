@@ -0,0 +1,237 @@
+package spinbox.commands;
+
+import spinbox.CommandArguments;
+import spinbox.DateTime;
+import spinbox.Ui;
+import spinbox.containers.DataGenerator;
+import spinbox.containers.ModuleContainer;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.entities.Module;
+import spinbox.entities.items.tasks.TaskType;
+import spinbox.exceptions.DateFormatException;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+public class PopulateCommand extends Command {
+    private static final String POPULATED = HORIZONTAL_LINE + "\n"
+            + "Sample data successfully populated. Hope you enjoy testing out SpinBox!!\n"
+            + HORIZONTAL_LINE;
+    private static final String NOT_POPULATED = HORIZONTAL_LINE + "\n"
+            + "Sample data not populated. Please delete your current SpinBoxData folder and restart the application "
+            + "if you wish to use sample data instead.\n"
+            + HORIZONTAL_LINE;
+
+    private static final String GENERATED = HORIZONTAL_LINE + "\n"
+            + "Generated %d modules of %d items each, %d items in total, in %d ms.\n"
+            + HORIZONTAL_LINE;
+    private static final String GENERATE_FORMAT = "Please generate data in the format:\n"
+            + "populate / [modules <n>] [tasks <n>] [files <n>] [grades <n>] [notes <n>] [seed <n>] "
+            + "[prefix <module code prefix>] [from <MM/dd/yyyy>] [days <n>] [mix <type>:<weight>,...] "
+            + "[words <word>,...]";
+    private static final String MIDNIGHT = " 00:00";
+    private static final String LIST_SEPARATOR = ",";
+    private static final String WEIGHT_SEPARATOR = ":";
+    private static final Pattern VALID_WORD = Pattern.compile("[A-Za-z0-9-]+");
+    private static final long DEFAULT_SEED = 42;
+
+    private static final String[] EMPTY_CONTEXT = {};
+    private static final String[] CG2271_CONTEXT = {"modules", "CG2271"};
+    private static final String[] CS3216_CONTEXT = {"modules", "CS3216"};
+    private static final String[] ST2334_CONTEXT = {"modules", "ST2334"};
+    private static final String[] CS2101_CONTEXT = {"modules", "CS2101"};
+    private static final String[] CS2113T_CONTEXT = {"modules", "CS2113T"};
+
+    private DataGenerator generator;
+
+    /**
+     * Constructor for populating SpinBox with the sample data if there is no content, or otherwise with data
+     * generated from a seed according to the options in the content.
+     * @param pageDataComponents pageDataComponents.
+     * @param content The options of the generated data as pairs of an option and its value, if any.
+     * @throws InputException If an option is unknown or its value is invalid.
+     * @throws DateFormatException If the first date is invalid.
+     */
+    public PopulateCommand(String[] pageDataComponents, String content) throws InputException, DateFormatException {
+        if (!content.isEmpty()) {
+            generator = createGenerator(content.split("\\s+"));
+        }
+    }
+
+    private static DataGenerator createGenerator(String[] options) throws InputException, DateFormatException {
+        if (options.length % 2 != 0) {
+            throw new InputException(GENERATE_FORMAT);
+        }
+        DataGenerator generator;
+        try {
+            String seed = findOption(options, "seed");
+            generator = new DataGenerator((seed == null) ? DEFAULT_SEED : Long.parseLong(seed));
+        } catch (NumberFormatException e) {
+            throw new InputException(GENERATE_FORMAT);
+        }
+        try {
+            for (int i = 0; i < options.length; i += 2) {
+                String value = options[i + 1];
+                switch (options[i].toLowerCase()) {
+                case "seed":
+                    break;
+                case "modules":
+                    generator.setModuleCount(parseCount(value));
+                    break;
+                case "tasks":
+                    generator.setTaskCount(parseCount(value));
+                    break;
+                case "files":
+                    generator.setFileCount(parseCount(value));
+                    break;
+                case "grades":
+                    generator.setGradeCount(parseCount(value));
+                    break;
+                case "notes":
+                    generator.setNoteCount(parseCount(value));
+                    break;
+                case "prefix":
+                    generator.setModuleCodePrefix(parseWords(value).get(0));
+                    break;
+                case "from":
+                    generator.setFirstDate(new DateTime(value + MIDNIGHT));
+                    break;
+                case "days":
+                    int dayCount = parseCount(value);
+                    if (dayCount == 0) {
+                        throw new InputException(GENERATE_FORMAT);
+                    }
+                    generator.setDayCount(dayCount);
+                    break;
+                case "mix":
+                    Map<TaskType, Integer> weights = new EnumMap<>(TaskType.class);
+                    for (String typeWeight : value.split(LIST_SEPARATOR)) {
+                        String[] parts = typeWeight.split(WEIGHT_SEPARATOR);
+                        weights.put(TaskType.valueOf(parts[0].toUpperCase()), parseCount(parts[1]));
+                    }
+                    generator.setTaskTypeWeights(weights);
+                    break;
+                case "words":
+                    generator.setVocabulary(parseWords(value));
+                    break;
+                default:
+                    throw new InputException(GENERATE_FORMAT);
+                }
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InputException(GENERATE_FORMAT);
+        }
+        return generator;
+    }
+
+    private static String findOption(String[] options, String option) {
+        for (int i = 0; i < options.length; i += 2) {
+            if (options[i].equalsIgnoreCase(option)) {
+                return options[i + 1];
+            }
+        }
+        return null;
+    }
+
+    private static int parseCount(String value) throws InputException {
+        try {
+            int count = Integer.parseInt(value);
+            if (count < 0) {
+                throw new InputException(GENERATE_FORMAT);
+            }
+            return count;
+        } catch (NumberFormatException e) {
+            throw new InputException(GENERATE_FORMAT);
+        }
+    }
+
+    private static List<String> parseWords(String value) throws InputException {
+        List<String> words = Arrays.asList(value.split(LIST_SEPARATOR));
+        for (String word : words) {
+            if (!VALID_WORD.matcher(word).matches()) {
+                throw new InputException(GENERATE_FORMAT);
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
+            throws SpinBoxException {
+        if (generator != null) {
+            long start = System.nanoTime();
+            List<Module> modules = generator.generate(moduleContainer);
+            long elapsedMilliseconds = (System.nanoTime() - start) / 1_000_000;
+            int itemCount = generator.getItemCountPerModule();
+            return String.format(GENERATED, modules.size(), itemCount, (long) modules.size() * itemCount,
+                    elapsedMilliseconds);
+        }
+
+        if (moduleContainer.getModules().isEmpty()) {
+            Queue<Command> commandsToExecute = new LinkedList<>();
+
+            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CS2113T Software Engineering & OOP"));
+            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "todo prepare for PE"));
+            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "note Complete the grades section"));
+            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "grade exam weightage: 40%"));
+            commandsToExecute.add(new AddCommand(CS2113T_CONTEXT, "grade project weightage: 50%"));
+
+
+            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CS2101 Communication for "
+                    + "Computing Professionals"));
+            commandsToExecute.add(new AddCommand(CS2101_CONTEXT, "file conflict-resolution.pptx"));
+            commandsToExecute.add(new AddCommand(CS2101_CONTEXT, "file team-meeting.docx"));
+            commandsToExecute.add(new AddCommand(CS2101_CONTEXT, "file feedback.xlsx"));
+            commandsToExecute.add(new UpdateCommand(CS2101_CONTEXT, CommandArguments.parse("file 1 done")));
+
+
+            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CG2271 Real-Time Operating Systems"));
+            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "deadline Accumulate 300 impress points "
+                    + "by: next friday"));
+            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "todo Start attending tutorials"));
+            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "lecture 2271 at: next tuesday 2pm to next "
+                    + "tuesday 4pm"));
+            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "grade midterms weightage: 20%"));
+            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "file slides"));
+            commandsToExecute.add(new AddCommand(CG2271_CONTEXT, "note I love in-class quizzes"));
+            commandsToExecute.add(new UpdateCommand(CG2271_CONTEXT, CommandArguments.parse("task 2 done")));
+
+
+            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module ST2334 Probability & Statistics"));
+            commandsToExecute.add(new AddCommand(ST2334_CONTEXT, "lab 2334 at: next wednesday 2pm to next "
+                    + "wednesday 8pm"));
+            commandsToExecute.add(new AddCommand(ST2334_CONTEXT, "tutorial 2334 at: next monday 10am to next "
+                    + "monday 1pm"));
+
+
+            commandsToExecute.add(new AddCommand(EMPTY_CONTEXT, "module CS3216 Software Product Engineering"
+                    + " for Digital Markets"));
+            commandsToExecute.add(new AddCommand(CS3216_CONTEXT, "lecture 3216 at: next monday 6:30pm to next "
+                    + "monday 8:30pm"));
+            commandsToExecute.add(new AddCommand(CS3216_CONTEXT, "note weird flex but ok"));
+
+            boolean isDeferring = Storage.deferWrites();
+            try {
+                while (!commandsToExecute.isEmpty()) {
+                    Command command = commandsToExecute.remove();
+                    command.execute(moduleContainer, pageTrace, ui, guiMode);
+                }
+            } finally {
+                if (isDeferring) {
+                    Storage.stopDeferringWrites();
+                }
+            }
+            return POPULATED;
+        } else {
+            return NOT_POPULATED;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package spinbox.commands;
+
+import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.Ui;
+
+import java.util.ArrayDeque;
+import java.util.logging.Logger;
+
+public class RedoCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(RedoCommand.class.getName());
+    private static final String CHANGES_REAPPLIED = "Number of changes re-applied: ";
+    private static final String SUCCESS = "Redo successful. ";
+
+    /**
+     * Redoes the changes of the most recently undone command, restoring both the data in memory and the saved files.
+     * @param moduleContainer The container holding the modules that were changed.
+     * @param pageTrace The current page trace.
+     * @param ui The user interface.
+     * @param guiMode Whether the GUI is in use.
+     * @return A message stating how many changes were re-applied.
+     * @throws SpinBoxException If there is nothing to redo, or the changes cannot be saved.
+     */
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) throws
+            SpinBoxException {
+        LOGGER.entering(getClass().getName(), "execute");
+        int changes = moduleContainer.getHistory().redo();
+        LOGGER.exiting(getClass().getName(), "execute");
+        return HORIZONTAL_LINE + "\n" + SUCCESS + CHANGES_REAPPLIED + changes + "\n" + HORIZONTAL_LINE;
+    }
+}
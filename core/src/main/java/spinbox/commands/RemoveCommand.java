@@ -1,5 +1,6 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.GradeList;
@@ -11,10 +12,11 @@ import spinbox.entities.items.GradedComponent;
 import spinbox.entities.items.tasks.Task;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.exceptions.InputException;
+import spinbox.CommandArguments;
 import spinbox.Ui;
 
 import java.util.ArrayDeque;
-import java.util.HashMap;
+import java.util.Map;
 
 public class RemoveCommand extends Command {
     private static final String NON_EXISTENT_MODULE = "This module does not exist.";
@@ -30,19 +32,19 @@ public class RemoveCommand extends Command {
     private String type;
 
     private String moduleCode;
-    private String content;
+    private CommandArguments arguments;
 
     /**
      * Constructor for initialization of variables to support removal of entities.
      * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param arguments The arguments of the processed user input.
      */
-    public RemoveCommand(String[] pageDataComponents, String content) {
+    public RemoveCommand(String[] pageDataComponents, CommandArguments arguments) {
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.arguments = arguments;
+        this.type = arguments.getType();
     }
 
     @Override
@@ -53,10 +55,10 @@ public class RemoveCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     File fileRemoved = files.get(index);
                     files.remove(index);
                     return HORIZONTAL_LINE + "\nRemoved file: " + fileRemoved.toString() + "\n"
@@ -76,10 +78,10 @@ public class RemoveCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     notepad.removeLine(index);
                     return HORIZONTAL_LINE + "\n" + NOTE_REMOVED + moduleCode + "\n" + HORIZONTAL_LINE;
                 } catch (NumberFormatException e) {
@@ -95,10 +97,10 @@ public class RemoveCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     GradeList gradeList = module.getGrades();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     GradedComponent removedComponent = gradeList.get(index);
                     gradeList.remove(index);
 
@@ -120,10 +122,10 @@ public class RemoveCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     Task taskRemoved = tasks.get(index);
                     tasks.remove(index);
                     return HORIZONTAL_LINE + "\nRemoved task: " + taskRemoved.toString() + "\n"
@@ -141,8 +143,7 @@ public class RemoveCommand extends Command {
 
         case "module":
             try {
-                String[] contentComponents = content.split(" ", 3);
-                moduleCode = contentComponents[1].toUpperCase();
+                moduleCode = arguments.getWord(1).toUpperCase();
                 Module moduleToBeRemoved = moduleContainer.getModule(moduleCode);
                 String toBeRemovedModuleName = moduleToBeRemoved.getModuleName();
                 if (moduleContainer.checkModuleExists(moduleCode)) {
@@ -163,4 +164,9 @@ public class RemoveCommand extends Command {
             throw new InputException(INVALID_REMOVE_FORMAT);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return type.equals("module") ? ModuleAccess.changeModules() : ModuleAccess.writeModule(moduleCode);
+    }
+}
@@ -1,10 +1,13 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.Notepad;
+import spinbox.entities.ItemFilter;
 import spinbox.entities.items.File;
 import spinbox.entities.Module;
+import spinbox.entities.items.Item;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.InvalidIndexException;
 import spinbox.exceptions.SpinBoxException;
@@ -15,9 +18,10 @@ import spinbox.containers.lists.TaskList;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class RemoveMultipleCommand extends Command {
     private static final String NON_EXISTENT_MODULE = "This module does not exist.";
@@ -34,12 +38,19 @@ public class RemoveMultipleCommand extends Command {
             + "Note: remove-* is only available for the file/note/task tab.";
     private static final String REMOVED_MULTIPLE_FILES = "Noted. I've removed these files:";
     private static final String REMOVED_MULTIPLE_TASKS = "Noted. I've removed these tasks:";
+    private static final String INVALID_REMOVE_WHERE_FORMAT = "Please use valid conditional removal format:\n"
+            + "remove-* <pageContent> / <type> where <conditions>\n"
+            + "E.g. remove-* CG1111 / task where type=LAB done=true\n"
+            + "Note: omit the module code to remove from all modules. "
+            + "Conditional removal is only available for the file/task tab.";
+    private static final String NO_MATCHES = "There are no %ss matching the given conditions.";
+    private static final String NUMBER_REMOVED = "Number of %ss removed: ";
+    private static final String MODULE_SEPARATOR = ": ";
 
     private String type;
 
     private String moduleCode;
     private String content;
-    private String outputMessage = "";
 
     /**
      * Constructor for initialization of variables to support removal of entities.
@@ -58,47 +69,91 @@ public class RemoveMultipleCommand extends Command {
      * Method to remove multiple files from the file list.
      * @param finalIndexes Indexes of the files to be removed.
      * @param files The list of files in the storage.
-     * @param outputMessage The message to be output to the screen.
-     * @return outputMessage to be printed to the screen.
+     * @param outputMessage The message to be output to the screen, appended to.
      * @throws InvalidIndexException If an invalid index is accessed.
      * @throws DataReadWriteException If there is an error reading/writing to the file.
      */
-    private String removeMultipleFile(List<Integer> finalIndexes, FileList files, String outputMessage)
+    private void removeMultipleFile(List<Integer> finalIndexes, FileList files, StringBuilder outputMessage)
             throws InvalidIndexException, DataReadWriteException {
         for (int i = 0; i < finalIndexes.size(); i++) {
             File fileRemoved = files.remove(finalIndexes.get(i));
             if (i == 0) {
-                outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_FILES + "\n");
+                outputMessage.append(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_FILES + "\n");
             }
-            outputMessage = outputMessage.concat(fileRemoved.toString() + "\n");
+            outputMessage.append(fileRemoved).append("\n");
         }
-        return outputMessage;
     }
 
     /**
      * Method to remove multiple tasks from the task list.
      * @param finalIndexes Indexes of the tasks to be removed.
      * @param tasks The list of tasks in the storage.
-     * @param outputMessage The message to be output to the screen.
-     * @return outputMessage to be printed to the screen.
+     * @param outputMessage The message to be output to the screen, appended to.
      * @throws InvalidIndexException If an invalid index is accessed.
      * @throws DataReadWriteException If there is an error reading/writing to the file.
      */
-    private String removeMultipleTask(List<Integer> finalIndexes, TaskList tasks, String outputMessage)
+    private void removeMultipleTask(List<Integer> finalIndexes, TaskList tasks, StringBuilder outputMessage)
             throws InvalidIndexException, DataReadWriteException {
         for (int i = 0; i < finalIndexes.size(); i++) {
             Task taskRemoved = tasks.remove(finalIndexes.get(i));
             if (i == 0) {
-                outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_TASKS + "\n");
+                outputMessage.append(HORIZONTAL_LINE + "\n" + REMOVED_MULTIPLE_TASKS + "\n");
+            }
+            outputMessage.append(taskRemoved).append("\n");
+        }
+    }
+
+    /**
+     * Method to remove the files or tasks that satisfy the conditions, from the module given or from all modules
+     * if no module is given. Each list is traversed once and saved at most once.
+     * @param moduleContainer The container of all modules.
+     * @param conditions The conditions following the 'where' keyword.
+     * @return outputMessage to be printed to the screen.
+     * @throws SpinBoxException If the conditions are invalid or there is an error reading/writing to the file.
+     */
+    private String removeWhere(ModuleContainer moduleContainer, String conditions) throws SpinBoxException {
+        if (!type.equals("file") && !type.equals("task")) {
+            throw new InputException(INVALID_REMOVE_WHERE_FORMAT);
+        }
+        ItemFilter filter = new ItemFilter(conditions, type.equals("task"));
+        Collection<Module> modules;
+        if (moduleCode == null) {
+            modules = moduleContainer.getModules().values();
+        } else if (moduleContainer.checkModuleExists(moduleCode)) {
+            modules = Collections.singletonList(moduleContainer.getModule(moduleCode));
+        } else {
+            return NON_EXISTENT_MODULE;
+        }
+
+        StringBuilder removedItems = new StringBuilder();
+        int removedCount = 0;
+        for (Module module : modules) {
+            List<? extends Item> removed = type.equals("file") ? module.getFiles().removeIf(filter)
+                    : module.getTasks().removeIf(filter);
+            for (Item item : removed) {
+                if (moduleCode == null) {
+                    removedItems.append(module.getModuleCode()).append(MODULE_SEPARATOR);
+                }
+                removedItems.append(item.toString()).append("\n");
             }
-            outputMessage = outputMessage.concat(taskRemoved.toString() + "\n");
+            removedCount += removed.size();
+        }
+
+        if (removedCount == 0) {
+            return HORIZONTAL_LINE + "\n" + String.format(NO_MATCHES, type) + "\n" + HORIZONTAL_LINE;
         }
-        return outputMessage;
+        return HORIZONTAL_LINE + "\n" + (type.equals("file") ? REMOVED_MULTIPLE_FILES : REMOVED_MULTIPLE_TASKS) + "\n"
+                + removedItems + String.format(NUMBER_REMOVED, type) + removedCount + "\n" + HORIZONTAL_LINE;
     }
 
     @Override
     public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) throws
             SpinBoxException {
+        String[] contentComponents = content.split(" ", 3);
+        if (contentComponents.length > 1 && contentComponents[1].equalsIgnoreCase(ItemFilter.WHERE)) {
+            return removeWhere(moduleContainer, (contentComponents.length > 2) ? contentComponents[2] : "");
+        }
+
         int inputSize = content.split(" ").length;
 
         if (inputSize > 2) {
@@ -124,17 +179,18 @@ public class RemoveMultipleCommand extends Command {
             case "file":
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
                     if (inputSize == 1) {
                         throw new InputException(PROVIDE_INDEX);
                     }
-                    outputMessage = removeMultipleFile(finalIndexes, files, outputMessage).concat(
+                    StringBuilder outputMessage = new StringBuilder();
+                    removeMultipleFile(finalIndexes, files, outputMessage);
+                    return outputMessage.append(
                             "You currently have " + files.size()
                             + ((files.size() == 1) ? " file in the list." : " files in the list.") + "\n"
-                                    + HORIZONTAL_LINE);
-                    return outputMessage;
+                                    + HORIZONTAL_LINE).toString();
                 } else {
                     return NON_EXISTENT_MODULE;
                 }
@@ -142,7 +198,7 @@ public class RemoveMultipleCommand extends Command {
             case "note":
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
                     if (inputSize == 1) {
@@ -159,17 +215,18 @@ public class RemoveMultipleCommand extends Command {
             case "task":
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
                     if (inputSize == 1) {
                         throw new InputException(PROVIDE_INDEX);
                     }
-                    outputMessage = removeMultipleTask(finalIndexes, tasks, outputMessage).concat(
+                    StringBuilder outputMessage = new StringBuilder();
+                    removeMultipleTask(finalIndexes, tasks, outputMessage);
+                    return outputMessage.append(
                             "You currently have " + tasks.size()
                             + ((tasks.size() == 1) ? " task in the list." : " tasks in the list.") + "\n"
-                                    + HORIZONTAL_LINE);
-                    return outputMessage;
+                                    + HORIZONTAL_LINE).toString();
                 } else {
                     return NON_EXISTENT_MODULE;
                 }
@@ -181,4 +238,9 @@ public class RemoveMultipleCommand extends Command {
             throw new InputException(INVALID_INDEX);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.writeModule(moduleCode);
+    }
+}
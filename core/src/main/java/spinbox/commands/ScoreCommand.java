@@ -0,0 +1,162 @@
+package spinbox.commands;
+
+import spinbox.CommandArguments;
+import spinbox.Ui;
+import spinbox.containers.ModuleAccess;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.GradeList;
+import spinbox.entities.GradeProjection;
+import spinbox.entities.Module;
+import spinbox.entities.items.GradedComponent;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.InvalidIndexException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.text.DecimalFormat;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScoreCommand extends Command {
+    public static final String MARKS = "marks:";
+    public static final String TARGET = "target:";
+    public static final String TRIALS = "trials:";
+    public static final String DISTRIBUTION = "dist:";
+    public static final List<String> KEYWORDS = List.of(MARKS, TARGET, TRIALS, DISTRIBUTION);
+
+    private static final String NON_EXISTENT_MODULE = "This module does not exist.";
+    private static final String INVALID_FORMAT = "Please use the valid score format:\n"
+            + "Absolute percentage: [score <moduleCode> / <index> marks:<attained>%]" + "\n"
+            + "Relative percentage: [score <moduleCode> / <index> marks: <attained>/<maximum>";
+    private static final String INVALID_VALUE = "PLease enter valid numerical value(s).";
+    private static final String PROVIDE_INDEX = "Please provide a valid index of the graded component to be scored.";
+    private static final String COMPONENT_SCORED = "The following component has been scored: ";
+    private static final String INVALID_PROJECTION_FORMAT = "Please use the valid projection format:\n"
+            + "score <moduleCode> / projection target: <target>% [trials: <number of trials>] "
+            + "[dist: <index> <mean>% <spread>%, <index> <mean>% <spread>%, ...]";
+    private static final String INVALID_TRIALS = "Please enter a number of trials between 1 and 100000000.";
+    private static final String PROJECTION_HEADER = "Projected final score from ";
+    private static final String PROJECTION = "projection";
+    private static final String PERCENT = "%";
+    private static final String TWO_DP = "#.##";
+    private static final long DEFAULT_TRIALS = 1_000_000;
+    private static final long MAX_TRIALS = 100_000_000;
+
+    private String moduleCode;
+    private CommandArguments arguments;
+
+    /**
+     * Constructor for initialization of variables to support scoring of graded components.
+     * @param pageDataComponents page data components to provide context based input completion.
+     * @param arguments The arguments of the processed user input, parsed with {@link #KEYWORDS}.
+     */
+    public ScoreCommand(String[] pageDataComponents, CommandArguments arguments) {
+        if (pageDataComponents.length > 1) {
+            this.moduleCode = pageDataComponents[1];
+        }
+        this.arguments = arguments;
+    }
+
+
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
+            throws SpinBoxException {
+        checkIfOnModulePage(moduleCode);
+        if (moduleContainer.checkModuleExists(moduleCode)) {
+            try {
+                Map<String, Module> modules = moduleContainer.getModules();
+                Module module = modules.get(moduleCode);
+                GradeList gradeList = module.getGrades();
+
+                if (arguments.getType().equals(PROJECTION)) {
+                    return project(gradeList);
+                }
+
+                int index = arguments.getIndex(0);
+                String marks = arguments.getClause(MARKS);
+
+                if (marks.contains(PERCENT)) {
+                    double attainedPercentage = arguments.getNumber(MARKS);
+                    gradeList.updateGradeWeightedScore(index, attainedPercentage);
+                } else if (marks.contains("/")) {
+                    double[] scores = arguments.getFraction(MARKS);
+                    gradeList.updateGradeWeightedScore(index, scores[0], scores[1]);
+                } else {
+                    throw new InputException(INVALID_FORMAT);
+                }
+                return HORIZONTAL_LINE + "\n" + COMPONENT_SCORED + "\n"
+                        + gradeList.get(index).toString() + "\n" + HORIZONTAL_LINE;
+            } catch (NumberFormatException e) {
+                throw new InputException(INVALID_VALUE);
+            } catch (IndexOutOfBoundsException e) {
+                throw new InputException(INVALID_FORMAT);
+            }
+        } else {
+            return NON_EXISTENT_MODULE;
+        }
+    }
+
+    /**
+     * Simulates the final score of the module from the score distributions of its unscored components.
+     * @param gradeList The graded components of the module.
+     * @return The projected distribution of the final score and the probability of reaching the target.
+     * @throws InputException If the projection parameters are invalid.
+     */
+    private String project(GradeList gradeList) throws InputException {
+        if (!arguments.hasClause(TARGET)) {
+            throw new InputException(INVALID_PROJECTION_FORMAT);
+        }
+
+        double target;
+        long trials = DEFAULT_TRIALS;
+        Map<Integer, double[]> distributions = new HashMap<>();
+        try {
+            target = arguments.getNumber(TARGET);
+            if (arguments.hasClause(TRIALS)) {
+                trials = arguments.getWholeNumber(TRIALS);
+            }
+            String distributionInput = arguments.hasClause(DISTRIBUTION) ? arguments.getClause(DISTRIBUTION) : "";
+            for (String distribution : distributionInput.split(",")) {
+                if (distribution.isBlank()) {
+                    continue;
+                }
+                String[] values = distribution.trim().replace(PERCENT, "").split(" +");
+                int index = Integer.parseInt(values[0]) - 1;
+                if (index < 0 || index >= gradeList.size()) {
+                    throw new InvalidIndexException();
+                }
+                distributions.put(index, new double[]{Double.parseDouble(values[1]), Double.parseDouble(values[2])});
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new InputException(INVALID_PROJECTION_FORMAT);
+        }
+        if (trials < 1 || trials > MAX_TRIALS) {
+            throw new InputException(INVALID_TRIALS);
+        }
+
+        GradeProjection projection = new GradeProjection(gradeList.getList(), distributions);
+        GradeProjection.Result result = projection.simulate(trials, target, System.nanoTime());
+        DecimalFormat decimalFormat = new DecimalFormat(TWO_DP);
+        return HORIZONTAL_LINE + "\n" + PROJECTION_HEADER + result.getTrials() + " simulated outcomes:\n"
+                + "Mean: " + decimalFormat.format(result.getMean()) + "\n"
+                + "Range: " + decimalFormat.format(result.getMin()) + " to " + decimalFormat.format(result.getMax())
+                + "\n"
+                + "5th/50th/95th percentile: " + decimalFormat.format(result.getPercentile(5)) + " / "
+                + decimalFormat.format(result.getPercentile(50)) + " / "
+                + decimalFormat.format(result.getPercentile(95)) + "\n"
+                + "Chance of reaching " + decimalFormat.format(target) + ": "
+                + decimalFormat.format(result.getProbabilityOfTarget() * 100) + "%\n" + HORIZONTAL_LINE;
+    }
+
+    /**
+     * Gets the access of the command, where a projection only reads a snapshot of the module so that a long
+     * simulation holds no locks, while setting a score writes the module.
+     * @return The module access.
+     */
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return arguments.getType().equals(PROJECTION) ? ModuleAccess.readModule(moduleCode)
+                : ModuleAccess.writeModule(moduleCode);
+    }
+}
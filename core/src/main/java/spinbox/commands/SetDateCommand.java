@@ -1,6 +1,8 @@
 package spinbox.commands;
 
+import spinbox.CommandArguments;
 import spinbox.DateTime;
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.TaskList;
 import spinbox.entities.Module;
@@ -17,11 +19,14 @@ import spinbox.exceptions.InputException;
 import spinbox.Ui;
 
 import java.util.ArrayDeque;
-import java.util.HashMap;
-import java.util.logging.Level;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 public class SetDateCommand extends Command {
+    public static final String DATE_KEYWORD = "to:";
+    public static final List<String> KEYWORDS = List.of(DATE_KEYWORD);
+
     private static final Logger LOGGER = Logger.getLogger(SetDateCommand.class.getName());
     private static final String LOG_MODULE_CODE = "Module code is ";
     private static final String LOG_NO_MODULE_CODE = "No module code indicated.";
@@ -52,21 +57,20 @@ public class SetDateCommand extends Command {
 
     private String type;
     private String moduleCode;
-    private String content;
+    private CommandArguments arguments;
 
     /**
      * Constructor for initialization of variables to support the set date command.
      * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param arguments The arguments of the processed user input, parsed with {@link #KEYWORDS}.
+     * @throws InputException If there is no module code.
      */
-    public SetDateCommand(String[] pageDataComponents, String content) throws InputException {
-        LOGGER.setLevel(Level.INFO);
-        LOGGER.setUseParentHandlers(true);
+    public SetDateCommand(String[] pageDataComponents, CommandArguments arguments) throws InputException {
         LOGGER.entering(getClass().getName(), "Constructor");
 
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
-            LOGGER.fine(LOG_MODULE_CODE + moduleCode);
+            LOGGER.fine(() -> LOG_MODULE_CODE + moduleCode);
         } else {
             LOGGER.severe(LOG_NO_MODULE_CODE);
             throw new InputException(INVALID_SET_DATE_FORMAT);
@@ -74,8 +78,8 @@ public class SetDateCommand extends Command {
 
         assert !moduleCode.isEmpty();
 
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.arguments = arguments;
+        this.type = arguments.getType();
 
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
@@ -89,7 +93,7 @@ public class SetDateCommand extends Command {
         assert checkIfOnModulePage(moduleCode) : NO_MODULE_CODE;
 
         Module module;
-        HashMap<String, Module> modules;
+        Map<String, Module> modules;
 
         if (moduleContainer.checkModuleExists(moduleCode)) {
             modules = moduleContainer.getModules();
@@ -101,7 +105,7 @@ public class SetDateCommand extends Command {
                     DateTime replaceStart;
                     DateTime replaceEnd;
 
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     TaskList tasks = module.getTasks();
                     Task taskSelected = tasks.get(index);
 
@@ -109,7 +113,7 @@ public class SetDateCommand extends Command {
                     TaskType taskType = taskSelected.getTaskType();
                     String taskTypeString = taskType.name();
 
-                    String replaceDateTime = content.split("to: ")[1].trim();
+                    String replaceDateTime = arguments.getClause(DATE_KEYWORD);
                     int dateTimeLength = replaceDateTime.split(" ").length;
 
                     if ((taskSelected.isSchedulable() && !taskTypeString.equals("DEADLINE")) && (dateTimeLength >= 3)) {
@@ -153,6 +157,7 @@ public class SetDateCommand extends Command {
                         break;
                     }
 
+                    taskSelected.getTags().forEach(taskChanged::addTag);
                     tasks.remove(index);
                     taskChanged = tasks.add(taskChanged);
                     LOGGER.fine(LOG_TASK_CHANGED);
@@ -182,4 +187,9 @@ public class SetDateCommand extends Command {
             return NON_EXISTENT_MODULE;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.writeModule(moduleCode);
+    }
+}
@@ -1,6 +1,8 @@
 package spinbox.commands;
 
+import spinbox.CommandArguments;
 import spinbox.DateTime;
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.TaskList;
@@ -20,9 +22,13 @@ import spinbox.exceptions.InputException;
 import spinbox.Ui;
 
 import java.util.ArrayDeque;
-import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class SetNameCommand extends Command {
+    public static final String NAME_KEYWORD = "to:";
+    public static final List<String> KEYWORDS = List.of(NAME_KEYWORD);
+
     private static final String FILE_SET = "File name successfully changed.\n";
     private static final String NOTE_SET = "Note name successfully changed.\n";
     private static final String TASK_SET = "Task name successfully changed.\n";
@@ -37,19 +43,19 @@ public class SetNameCommand extends Command {
     private String type;
 
     private String moduleCode;
-    private String content;
+    private CommandArguments arguments;
 
     /**
      * Constructor for initialization of variables to support the set name command.
      * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param arguments The arguments of the processed user input, parsed with {@link #KEYWORDS}.
      */
-    public SetNameCommand(String[] pageDataComponents, String content) {
+    public SetNameCommand(String[] pageDataComponents, CommandArguments arguments) {
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.arguments = arguments;
+        this.type = arguments.getType();
     }
 
     @Override
@@ -63,7 +69,7 @@ public class SetNameCommand extends Command {
         DateTime start;
         DateTime end;
 
-        if (!content.contains("to: ")) {
+        if (!arguments.hasClause(NAME_KEYWORD)) {
             throw new InputException(INVALID_SET_NAME_FORMAT);
         }
         switch (type) {
@@ -71,20 +77,21 @@ public class SetNameCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    String[] contentComponents = content.split(" ");
-                    int index = Integer.parseInt(contentComponents[1]) - 1;
+                    int index = arguments.getIndex(1);
                     File fileSelected = files.get(index);
-                    replaceName = content.split("to: ")[1].trim();
+                    replaceName = arguments.getClause(NAME_KEYWORD);
                     if (fileSelected.getDone()) {
                         doneStatus = 1;
                     } else {
                         doneStatus = 0;
                     }
                     files.remove(index);
-                    fileChanged = files.add(new File(doneStatus, replaceName));
+                    fileChanged = new File(doneStatus, replaceName);
+                    fileSelected.getTags().forEach(fileChanged::addTag);
+                    fileChanged = files.add(fileChanged);
                     return HORIZONTAL_LINE + "\n" + FILE_SET + "File " + (index + 1) + CHANGE_FROM
                             + fileSelected.toString() + TO + fileChanged.toString() + "\n" + HORIZONTAL_LINE;
                 } catch (NumberFormatException e) {
@@ -100,11 +107,11 @@ public class SetNameCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     Notepad notepad = module.getNotepad();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
-                    replaceName = content.split("to: ")[1].trim();
+                    int index = arguments.getIndex(1);
+                    replaceName = arguments.getClause(NAME_KEYWORD);
                     noteSelected = notepad.getLine(index);
                     notepad.removeLine(index);
                     notepad.addLine(replaceName);
@@ -123,14 +130,14 @@ public class SetNameCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     Task taskSelected = tasks.get(index);
                     String taskDescription = taskSelected.toString();
                     String taskType = taskSelected.getTaskType().name();
-                    replaceName = content.split("to: ")[1].trim();
+                    replaceName = arguments.getClause(NAME_KEYWORD);
                     if (taskSelected.getDone()) {
                         doneStatus = 1;
                     } else {
@@ -152,27 +159,29 @@ public class SetNameCommand extends Command {
                     tasks.remove(index);
                     switch (taskType) {
                     case "TODO":
-                        taskChanged = tasks.add(new Todo(doneStatus, replaceName));
+                        taskChanged = new Todo(doneStatus, replaceName);
                         break;
                     case "DEADLINE":
-                        taskChanged = tasks.add(new Deadline(doneStatus, replaceName, start));
+                        taskChanged = new Deadline(doneStatus, replaceName, start);
                         break;
                     case "EVENT":
-                        taskChanged = tasks.add(new Event(doneStatus, replaceName, start, end));
+                        taskChanged = new Event(doneStatus, replaceName, start, end);
                         break;
                     case "EXAM":
-                        taskChanged = tasks.add(new Exam(doneStatus, replaceName, start, end));
+                        taskChanged = new Exam(doneStatus, replaceName, start, end);
                         break;
                     case "LAB":
-                        taskChanged = tasks.add(new Lab(doneStatus, replaceName, start, end));
+                        taskChanged = new Lab(doneStatus, replaceName, start, end);
                         break;
                     case "LECTURE":
-                        taskChanged = tasks.add(new Lecture(doneStatus, replaceName, start, end));
+                        taskChanged = new Lecture(doneStatus, replaceName, start, end);
                         break;
                     default:
-                        taskChanged = tasks.add(new Tutorial(doneStatus, replaceName, start, end));
+                        taskChanged = new Tutorial(doneStatus, replaceName, start, end);
                         break;
                     }
+                    taskSelected.getTags().forEach(taskChanged::addTag);
+                    taskChanged = tasks.add(taskChanged);
                     return HORIZONTAL_LINE + "\n" + TASK_SET + "Task " + (index + 1) + CHANGE_FROM
                             + taskSelected.toString() + TO + taskChanged.toString() + "\n" + HORIZONTAL_LINE;
                 } catch (NumberFormatException e) {
@@ -186,4 +195,9 @@ public class SetNameCommand extends Command {
             throw new InputException(INVALID_SET_NAME_FORMAT);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.writeModule(moduleCode);
+    }
+}
@@ -0,0 +1,67 @@
+package spinbox.commands;
+
+import spinbox.Ui;
+import spinbox.containers.ModuleAccess;
+import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.InputException;
+import spinbox.stats.CommandStats;
+import spinbox.stats.MemoryStats;
+import spinbox.stats.StorageStats;
+
+import java.util.ArrayDeque;
+
+public class StatsCommand extends Command {
+    private static final String STATS_FORMAT = "Please enter the stats command in the format:\n"
+            + "stats [/ io [log on|off] | memory]";
+    private static final String IO = "io";
+    private static final String LOG_ON = "io log on";
+    private static final String LOG_OFF = "io log off";
+    private static final String MEMORY = "memory";
+    private static final String LOGGING_ON = "The file operations of each command will now be logged "
+            + "to the log file.";
+    private static final String LOGGING_OFF = "The file operations of each command will no longer be logged.";
+
+    private final String report;
+
+    /**
+     * Constructor for reporting the latencies of the commands run so far, or the file operations done so far
+     * when the content is "io", or the memory retained by each module when the content is "memory". The content may
+     * also switch logging the file operations of each command on or off.
+     * @param pageDataComponents pageDataComponents.
+     * @param content The content of the command, which is empty, "io", "io log on", "io log off" or "memory".
+     * @throws InputException If the content is anything else.
+     */
+    public StatsCommand(String[] pageDataComponents, String content) throws InputException {
+        String report = content.trim().replaceAll("\\s+", " ").toLowerCase();
+        if (!report.isEmpty() && !report.equals(IO) && !report.equals(LOG_ON) && !report.equals(LOG_OFF)
+                && !report.equals(MEMORY)) {
+            throw new InputException(STATS_FORMAT);
+        }
+        this.report = report;
+    }
+
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) {
+        switch (report) {
+        case IO:
+            return ui.showFormatted(StorageStats.report());
+        case LOG_ON:
+            StorageStats.setLoggingCommands(true);
+            return ui.showFormatted(LOGGING_ON);
+        case LOG_OFF:
+            StorageStats.setLoggingCommands(false);
+            return ui.showFormatted(LOGGING_OFF);
+        case MEMORY:
+            return ui.showFormatted(MemoryStats.report(moduleContainer.getModules()));
+        default:
+            return ui.showFormatted(CommandStats.report());
+        }
+    }
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        // Memory is measured on the modules themselves, with their caches and snapshots, rather than on a snapshot,
+        // so every module is locked against changes while it is measured.
+        return report.equals(MEMORY) ? ModuleAccess.writeModule(null) : ModuleAccess.none();
+    }
+}
@@ -0,0 +1,98 @@
+package spinbox.commands;
+
+import spinbox.containers.ModuleAccess;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.SpinBoxList;
+import spinbox.entities.Module;
+import spinbox.entities.items.Item;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.Ui;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TagCommand extends Command {
+    private static final String NON_EXISTENT_MODULE = "This module does not exist.";
+    private static final String TAGGED = "Updated tags of %s: ";
+    private static final String INVALID_INDEX = "Please enter a valid index.";
+    private static final String INVALID_TAG_FORMAT = "Please use the valid tag format:\n"
+            + "tag <pageContent> / <type> <index> <tags separated by spaces>\n"
+            + "untag <pageContent> / <type> <index> <tags separated by spaces>\n"
+            + "Note: tags are only available for the file/grade/task tab.";
+    private static final String INVALID_TAG = "Tags may only contain letters, digits, '-' and '_': ";
+    private static final String TAG_PREFIX = "#";
+
+    private String type;
+    private String moduleCode;
+    private String content;
+    private boolean isAdding;
+
+    /**
+     * Constructor for initialization of variables to support adding and removing tags of items.
+     * @param pageDataComponents page data components.
+     * @param content A string containing the content of the processed user input.
+     * @param isAdding Whether tags are to be added rather than removed.
+     */
+    public TagCommand(String[] pageDataComponents, String content, boolean isAdding) {
+        if (pageDataComponents.length > 1) {
+            this.moduleCode = pageDataComponents[1];
+        }
+        this.content = content;
+        this.type = content.split(" ")[0].toLowerCase();
+        this.isAdding = isAdding;
+    }
+
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
+            throws SpinBoxException {
+        checkIfOnModulePage(moduleCode);
+        if (!moduleContainer.checkModuleExists(moduleCode)) {
+            return NON_EXISTENT_MODULE;
+        }
+        Module module = moduleContainer.getModule(moduleCode);
+        String[] contentComponents = content.split("\\s+");
+        if (contentComponents.length < 3) {
+            throw new InputException(INVALID_TAG_FORMAT);
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(contentComponents[1]) - 1;
+        } catch (NumberFormatException e) {
+            throw new InputException(INVALID_INDEX);
+        }
+        List<String> tags = new ArrayList<>();
+        for (int i = 2; i < contentComponents.length; i++) {
+            String tag = contentComponents[i].toLowerCase();
+            tag = tag.startsWith(TAG_PREFIX) ? tag.substring(TAG_PREFIX.length()) : tag;
+            if (!Item.isValidTag(tag)) {
+                throw new InputException(INVALID_TAG + contentComponents[i]);
+            }
+            tags.add(tag);
+        }
+
+        switch (type) {
+        case "file":
+            return tagItem(module.getFiles(), index, tags);
+        case "grade":
+            return tagItem(module.getGrades(), index, tags);
+        case "task":
+            return tagItem(module.getTasks(), index, tags);
+        default:
+            throw new InputException(INVALID_TAG_FORMAT);
+        }
+    }
+
+    private String tagItem(SpinBoxList<? extends Item> list, int index, List<String> tags) throws SpinBoxException {
+        Item taggedItem = list.tag(index, tags, isAdding);
+        return HORIZONTAL_LINE + "\n" + String.format(TAGGED, type) + taggedItem.toString()
+                + taggedItem.getTagsString() + "\n" + HORIZONTAL_LINE;
+    }
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.writeModule(moduleCode);
+    }
+}
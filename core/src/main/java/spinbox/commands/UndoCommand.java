@@ -0,0 +1,32 @@
+package spinbox.commands;
+
+import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.Ui;
+
+import java.util.ArrayDeque;
+import java.util.logging.Logger;
+
+public class UndoCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(UndoCommand.class.getName());
+    private static final String CHANGES_REVERTED = "Number of changes reverted: ";
+    private static final String SUCCESS = "Undo successful. ";
+
+    /**
+     * Undoes the changes made by the most recent command, restoring both the data in memory and the saved files.
+     * @param moduleContainer The container holding the modules that were changed.
+     * @param pageTrace The current page trace.
+     * @param ui The user interface.
+     * @param guiMode Whether the GUI is in use.
+     * @return A message stating how many changes were reverted.
+     * @throws SpinBoxException If there is nothing to undo, or the changes cannot be saved.
+     */
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) throws
+            SpinBoxException {
+        LOGGER.entering(getClass().getName(), "execute");
+        int changes = moduleContainer.getHistory().undo();
+        LOGGER.exiting(getClass().getName(), "execute");
+        return HORIZONTAL_LINE + "\n" + SUCCESS + CHANGES_REVERTED + changes + "\n" + HORIZONTAL_LINE;
+    }
+}
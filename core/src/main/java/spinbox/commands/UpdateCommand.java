@@ -1,5 +1,6 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.GradeList;
@@ -10,10 +11,11 @@ import spinbox.entities.items.GradedComponent;
 import spinbox.entities.items.tasks.Task;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.exceptions.InputException;
+import spinbox.CommandArguments;
 import spinbox.Ui;
 
 import java.util.ArrayDeque;
-import java.util.HashMap;
+import java.util.Map;
 
 public class UpdateCommand extends Command {
     private static final String NON_EXISTENT_MODULE = "This module does not exist.";
@@ -28,19 +30,19 @@ public class UpdateCommand extends Command {
     private String type;
 
     private String moduleCode;
-    private String content;
+    private CommandArguments arguments;
 
     /**
      * Constructor for initialization of variables to support marking of entities.
      * @param pageDataComponents page data components.
-     * @param content A string containing the content of the processed user input.
+     * @param arguments The arguments of the processed user input.
      */
-    public UpdateCommand(String[] pageDataComponents, String content) {
+    public UpdateCommand(String[] pageDataComponents, CommandArguments arguments) {
         if (pageDataComponents.length > 1) {
             this.moduleCode = pageDataComponents[1];
         }
-        this.content = content;
-        this.type = content.split(" ")[0].toLowerCase();
+        this.arguments = arguments;
+        this.type = arguments.getType();
     }
 
     @Override
@@ -52,15 +54,15 @@ public class UpdateCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    String[] contentComponents = content.split(" ");
-                    int index = Integer.parseInt(contentComponents[1]) - 1;
+                    int index = arguments.getIndex(1);
                     File fileMarked = files.get(index);
-                    if (contentComponents[2].toLowerCase().equals("done")) {
+                    String status = arguments.getWord(2).toLowerCase();
+                    if (status.equals("done")) {
                         files.update(index, true);
-                    } else if (contentComponents[2].toLowerCase().equals("notdone")) {
+                    } else if (status.equals("notdone")) {
                         files.update(index, false);
                     } else {
                         throw new InputException(INVALID_VALUE);
@@ -79,16 +81,16 @@ public class UpdateCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     GradeList gradeList = module.getGrades();
 
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     GradedComponent gradeMarked = gradeList.get(index);
-                    String[] contentComponents = content.split(" ");
-                    if (contentComponents[2].toLowerCase().equals("done")) {
+                    String status = arguments.getWord(2).toLowerCase();
+                    if (status.equals("done")) {
                         gradeList.update(index, true);
-                    } else if (contentComponents[2].toLowerCase().equals("notdone")) {
+                    } else if (status.equals("notdone")) {
                         gradeList.update(index, false);
                     } else {
                         throw new InputException(INVALID_VALUE);
@@ -107,15 +109,15 @@ public class UpdateCommand extends Command {
             checkIfOnModulePage(moduleCode);
             if (moduleContainer.checkModuleExists(moduleCode)) {
                 try {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    int index = Integer.parseInt(content.split(" ")[1]) - 1;
+                    int index = arguments.getIndex(1);
                     Task taskMarked = tasks.get(index);
-                    String[] contentComponents = content.split(" ");
-                    if (contentComponents[2].toLowerCase().equals("done")) {
+                    String status = arguments.getWord(2).toLowerCase();
+                    if (status.equals("done")) {
                         tasks.update(index, true);
-                    } else if (contentComponents[2].toLowerCase().equals("notdone")) {
+                    } else if (status.equals("notdone")) {
                         tasks.update(index, false);
                     } else {
                         throw new InputException(INVALID_VALUE);
@@ -135,4 +137,9 @@ public class UpdateCommand extends Command {
             throw new InputException(INVALID_MARK_FORMAT);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.writeModule(moduleCode);
+    }
+}
@@ -1,9 +1,12 @@
 package spinbox.commands;
 
+import spinbox.containers.ModuleAccess;
 import spinbox.containers.ModuleContainer;
 import spinbox.containers.lists.FileList;
+import spinbox.entities.ItemFilter;
 import spinbox.entities.items.File;
 import spinbox.entities.Module;
+import spinbox.entities.items.Item;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.SpinBoxException;
 import spinbox.exceptions.InputException;
@@ -13,9 +16,10 @@ import spinbox.containers.lists.TaskList;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class UpdateMultipleCommand extends Command {
     private static final String NON_EXISTENT_MODULE = "This module does not exist.";
@@ -32,12 +36,20 @@ public class UpdateMultipleCommand extends Command {
     private static final String UPDATED_MULTIPLE_FILES = "Noted. I've updated these files:";
     private static final String UPDATED_MULTIPLE_TASKS = "Noted. I've updated these tasks:";
     private static final String INVALID_DONE_VALUE = "Please provide a valid done status to be updated to.";
+    private static final String INVALID_UPDATE_WHERE_FORMAT = "Please use valid conditional update format:\n"
+            + "update-* <pageContent> / <type> where <conditions> set <done status>\n"
+            + "E.g. update-* CG1111 / task where done=false before: 12/01/2019 00:00 set done\n"
+            + "Note: omit the module code to update all modules. "
+            + "Conditional update is only available for the file/task tab.";
+    private static final String SET_KEYWORD = " set ";
+    private static final String NO_MATCHES = "There are no %ss matching the given conditions to be updated.";
+    private static final String NUMBER_UPDATED = "Number of %ss updated: ";
+    private static final String MODULE_SEPARATOR = ": ";
 
     private String type;
 
     private String moduleCode;
     private String content;
-    private String outputMessage = "";
 
     /**
      * Constructor for initialization of variables to support update of multiple entities.
@@ -57,12 +69,11 @@ public class UpdateMultipleCommand extends Command {
      * @param finalIndexes Indexes of the files to be updated.
      * @param updateValue done status of the value to be updated to.
      * @param files The list of files in the storage.
-     * @param outputMessage The message to be output to the screen.
-     * @return outputMessage to be printed to the screen.
+     * @param outputMessage The message to be output to the screen, appended to.
      * @throws InputException If done status is not either done or notdone.
      * @throws DataReadWriteException If there is an error reading/writing to the file.
      */
-    private String updateMultipleFile(List<Integer> finalIndexes, String updateValue, FileList files, String
+    private void updateMultipleFile(List<Integer> finalIndexes, String updateValue, FileList files, StringBuilder
             outputMessage) throws InputException, DataReadWriteException {
         for (int i = 0; i < finalIndexes.size(); i++) {
             File fileUpdated = files.get(finalIndexes.get(i));
@@ -74,11 +85,10 @@ public class UpdateMultipleCommand extends Command {
                 throw new InputException(INVALID_DONE_VALUE);
             }
             if (i == 0) {
-                outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_FILES + "\n");
+                outputMessage.append(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_FILES + "\n");
             }
-            outputMessage = outputMessage.concat(fileUpdated.toString() + "\n");
+            outputMessage.append(fileUpdated).append("\n");
         }
-        return outputMessage;
     }
 
     /**
@@ -86,40 +96,98 @@ public class UpdateMultipleCommand extends Command {
      * @param finalIndexes Indexes of the tasks to be updated.
      * @param updateValue Done status of the tasks to be updated to.
      * @param tasks The list of tasks in the storage.
-     * @param outputMessage The message to be output to the screen.
-     * @return outputMessage to be printed to the screen.
+     * @param outputMessage The message to be output to the screen, appended to.
      * @throws InputException If the done status is not either done or notdone.
      * @throws DataReadWriteException If there is an error reading/writing to the file.
      */
-    private String updateMultipleTask(List<Integer> finalIndexes, String updateValue, TaskList tasks, String
+    private void updateMultipleTask(List<Integer> finalIndexes, String updateValue, TaskList tasks, StringBuilder
             outputMessage) throws InputException, DataReadWriteException {
         if (updateValue.equals("notdone")) {
             for (int i = finalIndexes.size() - 1; i >= 0; i--) {
                 tasks.update(finalIndexes.get(i), false);
                 if (i == finalIndexes.size() - 1) {
-                    outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
+                    outputMessage.append(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
                 }
                 Task taskUpdated = tasks.get(finalIndexes.get(i));
-                outputMessage = outputMessage.concat(taskUpdated.toString() + "\n");
+                outputMessage.append(taskUpdated).append("\n");
             }
         } else if (updateValue.equals("done")) {
             for (int i = 0; i < finalIndexes.size(); i++) {
                 tasks.update(finalIndexes.get(i), true);
                 if (i == 0) {
-                    outputMessage = outputMessage.concat(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
+                    outputMessage.append(HORIZONTAL_LINE + "\n" + UPDATED_MULTIPLE_TASKS + "\n");
                 }
                 Task taskUpdated = tasks.get(finalIndexes.get(i));
-                outputMessage = outputMessage.concat(taskUpdated.toString() + "\n");
+                outputMessage.append(taskUpdated).append("\n");
             }
         } else {
             throw new InputException(INVALID_DONE_VALUE);
         }
-        return outputMessage;
+    }
+
+    /**
+     * Method to update the files or tasks that satisfy the conditions, in the module given or in all modules
+     * if no module is given. Each list is traversed once, then sorted and saved at most once.
+     * @param moduleContainer The container of all modules.
+     * @param clause The conditions following the 'where' keyword, followed by 'set' and the done status.
+     * @return outputMessage to be printed to the screen.
+     * @throws SpinBoxException If the clause is invalid or there is an error reading/writing to the file.
+     */
+    private String updateWhere(ModuleContainer moduleContainer, String clause) throws SpinBoxException {
+        int setIndex = clause.toLowerCase().lastIndexOf(SET_KEYWORD);
+        if ((!type.equals("file") && !type.equals("task")) || setIndex < 0) {
+            throw new InputException(INVALID_UPDATE_WHERE_FORMAT);
+        }
+        boolean value;
+        switch (clause.substring(setIndex + SET_KEYWORD.length()).trim().toLowerCase()) {
+        case "done":
+            value = true;
+            break;
+        case "notdone":
+            value = false;
+            break;
+        default:
+            throw new InputException(INVALID_DONE_VALUE);
+        }
+        ItemFilter filter = new ItemFilter(clause.substring(0, setIndex), type.equals("task"));
+        Collection<Module> modules;
+        if (moduleCode == null) {
+            modules = moduleContainer.getModules().values();
+        } else if (moduleContainer.checkModuleExists(moduleCode)) {
+            modules = Collections.singletonList(moduleContainer.getModule(moduleCode));
+        } else {
+            return NON_EXISTENT_MODULE;
+        }
+
+        StringBuilder updatedItems = new StringBuilder();
+        int updatedCount = 0;
+        for (Module module : modules) {
+            List<? extends Item> updated = type.equals("file") ? module.getFiles().updateIf(filter, value)
+                    : module.getTasks().updateIf(filter, value);
+            for (Item item : updated) {
+                if (moduleCode == null) {
+                    updatedItems.append(module.getModuleCode()).append(MODULE_SEPARATOR);
+                }
+                updatedItems.append(item.toString()).append("\n");
+            }
+            updatedCount += updated.size();
+        }
+
+        if (updatedCount == 0) {
+            return HORIZONTAL_LINE + "\n" + String.format(NO_MATCHES, type) + "\n" + HORIZONTAL_LINE;
+        }
+        return HORIZONTAL_LINE + "\n" + (type.equals("file") ? UPDATED_MULTIPLE_FILES : UPDATED_MULTIPLE_TASKS) + "\n"
+                + updatedItems + String.format(NUMBER_UPDATED, type) + updatedCount + "\n" + HORIZONTAL_LINE;
     }
 
     @Override
     public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode) throws
             SpinBoxException {
+        String[] contentComponents = content.split(" ", 3);
+        if (contentComponents.length > 1 && contentComponents[1].equalsIgnoreCase(ItemFilter.WHERE)) {
+            return updateWhere(moduleContainer, (contentComponents.length > 2) ? " " + contentComponents[2] : "");
+        }
+
         int inputSize = content.split(" ").length;
 
         if (inputSize != 3) {
@@ -146,12 +214,12 @@ public class UpdateMultipleCommand extends Command {
             case "file":
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     FileList files = module.getFiles();
-                    outputMessage = updateMultipleFile(finalIndexes, updateValue, files, outputMessage).concat(
-                                    HORIZONTAL_LINE);
-                    return outputMessage;
+                    StringBuilder outputMessage = new StringBuilder();
+                    updateMultipleFile(finalIndexes, updateValue, files, outputMessage);
+                    return outputMessage.append(HORIZONTAL_LINE).toString();
                 } else {
                     return NON_EXISTENT_MODULE;
                 }
@@ -159,12 +227,12 @@ public class UpdateMultipleCommand extends Command {
             case "task":
                 checkIfOnModulePage(moduleCode);
                 if (moduleContainer.checkModuleExists(moduleCode)) {
-                    HashMap<String, Module> modules = moduleContainer.getModules();
+                    Map<String, Module> modules = moduleContainer.getModules();
                     Module module = modules.get(moduleCode);
                     TaskList tasks = module.getTasks();
-                    outputMessage = updateMultipleTask(finalIndexes, updateValue, tasks, outputMessage).concat(
-                                    HORIZONTAL_LINE);
-                    return outputMessage;
+                    StringBuilder outputMessage = new StringBuilder();
+                    updateMultipleTask(finalIndexes, updateValue, tasks, outputMessage);
+                    return outputMessage.append(HORIZONTAL_LINE).toString();
                 } else {
                     return NON_EXISTENT_MODULE;
                 }
@@ -176,4 +244,9 @@ public class UpdateMultipleCommand extends Command {
             throw new InputException(INVALID_INDEX);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return ModuleAccess.writeModule(moduleCode);
+    }
+}
@@ -0,0 +1,496 @@
+package spinbox.commands;
+
+import spinbox.DateTime;
+import spinbox.ResponseSink;
+import spinbox.containers.ModuleAccess;
+import spinbox.containers.ModuleContainer;
+import spinbox.entities.Module;
+import spinbox.entities.Query;
+import spinbox.Ui;
+import spinbox.exceptions.DateFormatException;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+public class ViewCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(ViewCommand.class.getName());
+    private static final String LOG_INVALID_VIEW_COMMAND = "Invalid format for view command";
+    private static final String LOG_PAGE = "Page is ";
+    private static final String LOG_MODULE = "Module is ";
+    private static final String LOG_TAB = "Tab is ";
+    private static final String LOG_NON_EXISTENT_PAGE = "Page does not exist.";
+    private static final String LOG_NON_EXISTENT_MODULE = "Module does not exist.";
+    private static final String LOG_NON_EXISTENT_TAB = "Tab does not exist.";
+    private static final String LOG_INVALID_MONTH = "Month format is invalid.";
+    private static final String LOG_ADDED_PAGE = "Added page to page trace.";
+    private static final String LOG_ADDED_MODULE_CODE = "Added module code to page trace.";
+    private static final String LOG_ADDED_TAB = "Added tab to page trace.";
+    private static final String LOG_ADDED_MONTH = "Added month tab to page trace.";
+
+    private static final String MISSING_PAGE_INPUT = "Please input the page you want to change to.";
+    private static final String SPECIFY_PAGE = "Please specify module before tab.\n"
+            + "E.g. 'view / <moduleCode> <tab>'";
+    private static final String INCORRECT_VIEW_FORMAT = "Please input correct format for view command.";
+    private static final String NON_EXISTENT_PAGE = "Sorry, that page does not exist."
+            + " Please choose 'main', 'calendar', or 'modules'.";
+    private static final String NON_EXISTENT_MODULE = "Sorry, that module or module tab does not exist. "
+            + "These are the current modules:";
+    private static final String NON_EXISTENT_TAB = "Sorry, that tab does not exist."
+            + " Please choose 'tasks', 'files', 'notes' or 'grades'.";
+
+    private static final int NO_PAGE_INPUT = 0;
+    private static final int ONE_PAGE_INPUT = 1;
+    private static final int TWO_PAGE_INPUTS = 2;
+    private static final int THREE_PAGE_INPUTS = 3;
+
+    private static final String INVALID_MONTH_YEAR = "Sorry, please input valid month and year in the format of"
+            + " MM/yyyy.\n"
+            + "E.g. 'view / calendar 12/2019'";
+    private static final String MONTH_YEAR_REGEX = "\\d{2}/\\d{4}";
+    private static final String QUERY_SEPARATOR = " where ";
+    private static final String QUERY_UNAVAILABLE = "Sorry, queries are only available for the tasks, files "
+            + "and grades tabs of a module.\n"
+            + "E.g. 'view / <moduleCode> tasks where done=false limit 10'";
+    private static final String QUERY_MODULE_UNAVAILABLE = "Please specify the module in the page to be viewed "
+            + "instead of using 'module='.";
+    private static final String QUERY_MATCHES = "Here are the %s in your module matching your query:";
+    private static final String NO_QUERY_MATCHES = "There are no %s in your module matching your query.";
+    private static final String PAGE_KEYWORD = "page";
+    private static final String SIZE_KEYWORD = "size";
+    private static final String NEXT_KEYWORD = "next";
+    private static final String PREV_KEYWORD = "prev";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MODULE_TAB_TRACE_SIZE = 3;
+    private static final int PAGED_TAB_WORDS = 5;
+    private static final String INVALID_PAGING = "Please give the page and the page size as positive numbers.\n"
+            + "E.g. 'view / CS2113T tasks page 3 size 50'";
+    private static final String PAGING_UNAVAILABLE = "Sorry, paging is only available for the tasks, files, grades "
+            + "and notes tabs of a module, without a query.\n"
+            + "E.g. 'view / CS2113T tasks page 3 size 50', then 'view / next' or 'view / prev'";
+    private static final String FIRST_PAGE = "You are already on the first page.";
+    private static final String NON_EXISTENT_WINDOW = "Sorry, that page does not exist. There %s %d page%s of %s "
+            + "with %d per page.";
+    private static final String WINDOW = "Showing %s %d to %d of %d, page %d of %d. "
+            + "Enter 'view / next' or 'view / prev' for the other pages.";
+
+    private String page;
+    private String moduleCode;
+    private String tab;
+    private String queryClause;
+    private boolean isPaged;
+    private Integer pageNumber;
+    private Integer pageSize;
+    private String cursor;
+
+    /**
+     * Constructs by splitting the input and pageTrace and storing it in private variables.
+     * @param pageDataComponents The page trace from parser.
+     * @param content The content of input.
+     * @throws InputException if invalid view command.
+     */
+    public ViewCommand(String[] pageDataComponents, String content) throws InputException {
+        LOGGER.entering(getClass().getName(), "Constructor");
+
+        int queryIndex = content.toLowerCase().indexOf(QUERY_SEPARATOR);
+        if (queryIndex >= 0) {
+            queryClause = content.substring(queryIndex + QUERY_SEPARATOR.length());
+            content = content.substring(0, queryIndex);
+        }
+
+        content = stripPaging(content).trim();
+        if (content.equalsIgnoreCase(NEXT_KEYWORD) || content.equalsIgnoreCase(PREV_KEYWORD)
+                || (content.isEmpty() && isPaged)) {
+            page = "modules";
+            cursor = content.isEmpty() ? PAGE_KEYWORD : content.toLowerCase();
+            isPaged = true;
+            if (pageDataComponents.length > 1 && pageDataComponents[1] != null) {
+                moduleCode = pageDataComponents[1].toUpperCase();
+            }
+            LOGGER.exiting(getClass().getName(), "Constructor");
+            return;
+        }
+
+        String[] contentComponents = content.toLowerCase().split(" ");
+
+        if (contentComponents.length == NO_PAGE_INPUT) {
+            LOGGER.severe(MISSING_PAGE_INPUT);
+            throw new InputException(MISSING_PAGE_INPUT);
+        } else if (contentComponents.length == ONE_PAGE_INPUT) {
+            switch (contentComponents[0]) {
+            case "main":
+                page = "main";
+                break;
+            case "calendar":
+                page = "calendar";
+                break;
+            case "modules":
+                page = "modules";
+                break;
+            case "tasks":
+            case "files":
+            case "grades":
+                try {
+                    moduleCode = pageDataComponents[1];
+                } catch (ArrayIndexOutOfBoundsException e) {
+                    LOGGER.severe(SPECIFY_PAGE);
+                    throw new InputException(SPECIFY_PAGE);
+                }
+
+                assert moduleCode.length() > 0 : SPECIFY_PAGE;
+
+                page = "modules";
+                moduleCode = pageDataComponents[1];
+                tab = contentComponents[0];
+                break;
+            default:
+                page = "modules";
+                moduleCode = contentComponents[0];
+                tab = "tasks";
+            }
+        } else if (contentComponents.length == TWO_PAGE_INPUTS) {
+            boolean isValidTab = contentComponents[1].equals("tasks") || contentComponents[1].equals("files")
+                    || contentComponents[1].equals("grades");
+            if (contentComponents[0].equals("modules")) {
+                page = "modules";
+                moduleCode = contentComponents[1];
+                tab = "tasks";
+            } else if (contentComponents[0].equals("calendar")) {
+                page = "calendar";
+                tab = contentComponents[1];
+            } else if (isValidTab) {
+                page = "modules";
+                moduleCode = contentComponents[0];
+                tab = contentComponents[1];
+            } else {
+                LOGGER.severe(LOG_INVALID_VIEW_COMMAND);
+                throw new InputException(INCORRECT_VIEW_FORMAT);
+            }
+        } else if (contentComponents.length == THREE_PAGE_INPUTS) {
+            if (contentComponents[0].equals("modules")) {
+                page = "modules";
+                moduleCode = contentComponents[1];
+                tab = contentComponents[2];
+            }
+        } else {
+            LOGGER.severe(LOG_INVALID_VIEW_COMMAND);
+            throw new InputException(INCORRECT_VIEW_FORMAT);
+        }
+
+        if (moduleCode != null) {
+            moduleCode = moduleCode.toUpperCase();
+        }
+
+        LOGGER.fine(() -> LOG_PAGE + page);
+        LOGGER.fine(() -> LOG_MODULE + moduleCode);
+        LOGGER.fine(() -> LOG_TAB + tab);
+
+        LOGGER.exiting(getClass().getName(), "Constructor");
+    }
+
+    /**
+     * Removes the 'page <number>' and 'size <number>' options from the end of the content, keeping their values.
+     * @param content The content of input, without any query.
+     * @return The content without the paging options.
+     * @throws InputException If the page or the page size is not a positive number.
+     */
+    private String stripPaging(String content) throws InputException {
+        String[] words = content.trim().split(" ");
+        int end = words.length;
+        while (end >= 2) {
+            String keyword = words[end - 2].toLowerCase();
+            if (keyword.equals(PAGE_KEYWORD) && pageNumber == null) {
+                pageNumber = parsePositive(words[end - 1]);
+            } else if (keyword.equals(SIZE_KEYWORD) && pageSize == null) {
+                pageSize = parsePositive(words[end - 1]);
+            } else {
+                break;
+            }
+            isPaged = true;
+            end -= 2;
+        }
+        return String.join(" ", Arrays.copyOf(words, end));
+    }
+
+    private static int parsePositive(String number) throws InputException {
+        try {
+            int value = Integer.parseInt(number);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            LOGGER.fine(INVALID_PAGING);
+        }
+        throw new InputException(INVALID_PAGING);
+    }
+
+    /**
+     * Moves from the page of the tab being viewed, which is the first page if the tab is not paged yet, to the
+     * next or previous page, or to the page and size given with no page to change to.
+     * @param pageTrace The current pageTrace, ending with the tab being viewed.
+     * @throws InputException If no tab of a module is being viewed or there is no previous page.
+     */
+    private void moveCursor(ArrayDeque<String> pageTrace) throws InputException {
+        boolean isOnModuleTab = pageTrace.size() == MODULE_TAB_TRACE_SIZE && pageTrace.getLast().equals("modules");
+        if (!isOnModuleTab || moduleCode == null) {
+            throw new InputException(PAGING_UNAVAILABLE);
+        }
+        String[] current = pageTrace.getFirst().split(" ");
+        tab = current[0];
+        int currentPage = 1;
+        int currentSize = DEFAULT_PAGE_SIZE;
+        if (current.length == PAGED_TAB_WORDS) {
+            currentPage = Integer.parseInt(current[2]);
+            currentSize = Integer.parseInt(current[4]);
+        }
+
+        switch (cursor) {
+        case NEXT_KEYWORD:
+            pageNumber = currentPage + 1;
+            break;
+        case PREV_KEYWORD:
+            if (currentPage == 1) {
+                throw new InputException(FIRST_PAGE);
+            }
+            pageNumber = currentPage - 1;
+            break;
+        default:
+            pageNumber = (pageNumber == null) ? 1 : pageNumber;
+        }
+        pageSize = (pageSize == null) ? currentSize : pageSize;
+    }
+
+    private int getTabSize(Module module) {
+        switch (tab) {
+        case "tasks":
+            return module.getTasks().size();
+        case "files":
+            return module.getFiles().size();
+        case "grades":
+            return module.getGrades().size();
+        default:
+            return module.getNotepad().getNotes().size();
+        }
+    }
+
+    /**
+     * Runs the query over the list of the tab being viewed.
+     * @param module The module being viewed.
+     * @return The lines of the output after the page change message, the matching items numbered by their index
+     *     in the full list.
+     * @throws SpinBoxException If the query is invalid.
+     */
+    private List<String> viewWhere(Module module) throws SpinBoxException {
+        Query query = new Query(queryClause, tab.equals("tasks"));
+        if (query.hasModuleScope()) {
+            throw new InputException(QUERY_MODULE_UNAVAILABLE);
+        }
+        List<Module> modules = Collections.singletonList(module);
+        List<String> matches;
+        switch (tab) {
+        case "tasks":
+            matches = query.run(modules, Module::getTasks);
+            break;
+        case "files":
+            matches = query.run(modules, Module::getFiles);
+            break;
+        default:
+            matches = query.run(modules, Module::getGrades);
+        }
+
+        List<String> outputList = new ArrayList<>();
+        outputList.add(String.format(matches.isEmpty() ? NO_QUERY_MATCHES : QUERY_MATCHES, tab));
+        outputList.addAll(matches);
+        return outputList;
+    }
+
+    /**
+     * Replace pageTrace with the new pageTrace.
+     * @param moduleContainer The container where the modules stored.
+     * @param pageTrace The current pageTrace.
+     * @param ui The Ui instance.
+     * @param guiMode Boolean to check if in gui mode.
+     * @return The display once it has been changed.
+     * @throws SpinBoxException if page, module, or tab does not exist.
+     */
+    @Override
+    public String execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode)
+            throws SpinBoxException {
+        StringBuilder response = new StringBuilder();
+        execute(moduleContainer, pageTrace, ui, guiMode, new ResponseSink(response));
+        return response.toString();
+    }
+
+    /**
+     * Replace pageTrace with the new pageTrace, and write the display once it has been changed line by line.
+     * Nothing is written unless the page, module and tab all exist, so an error never follows a partial display.
+     * @param moduleContainer The container where the modules stored.
+     * @param pageTrace The current pageTrace.
+     * @param ui The Ui instance.
+     * @param guiMode Boolean to check if in gui mode.
+     * @param sink The sink the display is written to.
+     * @throws SpinBoxException if page, module, or tab does not exist.
+     */
+    @Override
+    public void execute(ModuleContainer moduleContainer, ArrayDeque<String> pageTrace, Ui ui, boolean guiMode,
+                        ResponseSink sink) throws SpinBoxException {
+        LOGGER.entering(getClass().getName(), "execute");
+        if (cursor != null) {
+            moveCursor(pageTrace);
+        }
+
+        ArrayDeque<String> tempPageTrace = pageTrace.clone();
+        StringBuilder oldTrace = new StringBuilder();
+        while (tempPageTrace.size() > 0) {
+            oldTrace.append("/").append(tempPageTrace.getLast());
+            tempPageTrace.removeLast();
+        }
+
+        ArrayDeque<String> newPageTrace = new ArrayDeque<>();
+        boolean isValidPage = page.equals("main") || page.equals("calendar") || page.equals("modules");
+        if (isValidPage) {
+            newPageTrace.addFirst(page);
+            LOGGER.fine(LOG_ADDED_PAGE);
+        } else {
+            LOGGER.severe(LOG_NON_EXISTENT_PAGE);
+            throw new InputException(NON_EXISTENT_PAGE);
+        }
+
+        if (page.equals("modules") && moduleCode != null) {
+            if (moduleContainer.checkModuleExists(moduleCode)) {
+                newPageTrace.addFirst(moduleCode);
+                LOGGER.fine(LOG_ADDED_MODULE_CODE);
+            } else {
+                StringBuilder currentModules = new StringBuilder();
+                for (String currentModuleCode : moduleContainer.getModules().keySet()) {
+                    currentModules.append(currentModuleCode).append("\n");
+                }
+                LOGGER.severe(LOG_NON_EXISTENT_MODULE);
+                throw new InputException(NON_EXISTENT_MODULE + "\n" + currentModules);
+            }
+        }
+
+        boolean isQueryableTab = page.equals("modules") && tab != null
+                && (tab.equals("tasks") || tab.equals("files") || tab.equals("grades"));
+        if (queryClause != null && !isQueryableTab) {
+            LOGGER.severe(QUERY_UNAVAILABLE);
+            throw new InputException(QUERY_UNAVAILABLE);
+        }
+        if (isPaged && (queryClause != null || !page.equals("modules") || tab == null)) {
+            LOGGER.severe(PAGING_UNAVAILABLE);
+            throw new InputException(PAGING_UNAVAILABLE);
+        }
+
+        Module module = null;
+        List<String> queryOutput = null;
+        String window = null;
+        int fromIndex = 0;
+        int toIndex = 0;
+        if (page.equals("modules") && tab != null) {
+            module = moduleContainer.getModules().get(moduleCode);
+            switch (tab) {
+            case "tasks":
+            case "files":
+            case "grades":
+                queryOutput = (queryClause == null) ? null : viewWhere(module);
+                break;
+            case "notes":
+                break;
+            default:
+                LOGGER.severe(LOG_NON_EXISTENT_TAB);
+                throw new InputException(NON_EXISTENT_TAB);
+            }
+
+            int tabSize = getTabSize(module);
+            toIndex = tabSize;
+            if (isPaged) {
+                int size = (pageSize == null) ? DEFAULT_PAGE_SIZE : pageSize;
+                int number = (pageNumber == null) ? 1 : pageNumber;
+                int pageCount = Math.max(1, (tabSize + size - 1) / size);
+                if (number > pageCount) {
+                    throw new InputException(String.format(NON_EXISTENT_WINDOW, (pageCount == 1) ? "is" : "are",
+                            pageCount, (pageCount == 1) ? "" : "s", tab, size));
+                }
+                fromIndex = (number - 1) * size;
+                toIndex = (int) Math.min((long) fromIndex + size, tabSize);
+                window = String.format(WINDOW, tab, (tabSize == 0) ? 0 : fromIndex + 1, toIndex, tabSize, number,
+                        pageCount);
+                newPageTrace.addFirst(tab + " " + PAGE_KEYWORD + " " + number + " " + SIZE_KEYWORD + " " + size);
+            } else {
+                newPageTrace.addFirst(tab);
+            }
+            LOGGER.fine(LOG_ADDED_TAB);
+        }
+
+        if (page.equals("calendar") && tab != null) {
+            newPageTrace.addFirst(tab);
+            if (!tab.matches(MONTH_YEAR_REGEX)) {
+                throw new InputException(INVALID_MONTH_YEAR);
+            }
+            try {
+                String[] monthYear = tab.split("/");
+                new DateTime(monthYear[0] + "/01/" + monthYear[1] + " 00:00");
+            } catch (DateFormatException e) {
+                LOGGER.severe(LOG_INVALID_MONTH);
+                throw new InputException(INVALID_MONTH_YEAR);
+            }
+            LOGGER.fine(LOG_ADDED_MONTH);
+        }
+
+        pageTrace.clear();
+
+        StringBuilder newTrace = new StringBuilder();
+        tempPageTrace = newPageTrace.clone();
+        while (tempPageTrace.size() > 0) {
+            newTrace.append("/").append(tempPageTrace.getLast());
+            pageTrace.addFirst(tempPageTrace.getLast());
+            tempPageTrace.removeLast();
+        }
+
+        if (guiMode) {
+            sink.append(newTrace);
+            LOGGER.exiting(getClass().getName(), "execute");
+            return;
+        }
+
+        ui.beginFormatted(sink);
+        sink.line("Changed from page " + oldTrace + " to " + newTrace);
+        if (queryOutput != null) {
+            sink.lines(queryOutput);
+        } else if (module != null) {
+            if (window != null) {
+                sink.line(window);
+            }
+            writeTab(module, sink, fromIndex, toIndex);
+        }
+        ui.endFormatted(sink);
+        LOGGER.exiting(getClass().getName(), "execute");
+    }
+
+    private void writeTab(Module module, ResponseSink sink, int fromIndex, int toIndex) {
+        switch (tab) {
+        case "tasks":
+            module.getTasks().writeList(sink, fromIndex, toIndex);
+            break;
+        case "files":
+            module.getFiles().writeList(sink, fromIndex, toIndex);
+            break;
+        case "grades":
+            module.getGrades().writeList(sink, fromIndex, toIndex);
+            break;
+        default:
+            module.getNotepad().writeList(sink, fromIndex, toIndex);
+        }
+    }
+
+    @Override
+    public ModuleAccess getModuleAccess() {
+        return (page.equals("modules") && (tab != null || cursor != null)) ? ModuleAccess.readModule(moduleCode)
+                : ModuleAccess.readModule(null);
+    }
+}
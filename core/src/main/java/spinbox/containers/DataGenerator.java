@@ -0,0 +1,275 @@
+package spinbox.containers;
+
+import spinbox.DateTime;
+import spinbox.containers.lists.TaskList;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.entities.Module;
+import spinbox.entities.items.File;
+import spinbox.entities.items.GradedComponent;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.TaskType;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Generates modules full of tasks, files, graded components and notes, to reproduce large amounts of data for
+ * benchmarks and soak tests. The same seed and settings always generate the same modules and items.
+ * Items are created from generated storage strings, as when loading them, and added to their lists in bulk.
+ * Writes to storage are deferred while generating, so each file is written once at the end.
+ */
+public class DataGenerator {
+    private static final Logger LOGGER = Logger.getLogger(DataGenerator.class.getName());
+    private static final String LOG_GENERATED = "Generated modules: ";
+    private static final String MODULE_CODE = "%s%04d";
+    private static final String MODULE_NAME = "Generated Module %d";
+    private static final String MODULE_EXISTS = "Module %s already exists. Please remove it or choose another "
+            + "module code prefix.";
+    private static final String STORE_DELIMITER = " | ";
+    private static final String TAG_PREFIX = "#";
+    private static final String DONE = "1";
+    private static final String NOT_DONE = "0";
+    private static final int SLOTS_PER_DAY = 48;
+    private static final long MILLISECONDS_PER_SLOT = 30 * 60 * 1000;
+    private static final int MAX_EVENT_SLOTS = 6;
+    private static final String[] FILE_EXTENSIONS = {".pdf", ".pptx", ".docx", ".xlsx", ".zip"};
+    private static final String[] TAGS = {"urgent", "graded", "group", "optional", "revision"};
+    private static final String[] DEFAULT_VOCABULARY = {"lecture", "tutorial", "lab", "report", "project",
+        "quiz", "assignment", "reading", "slides", "notes", "demo", "review", "design", "meeting", "proposal",
+        "summary", "exercise", "draft", "presentation", "revision"};
+    private static final Map<TaskType, String> STORE_TYPES = new EnumMap<>(Map.of(TaskType.TODO, "T",
+            TaskType.DEADLINE, "D", TaskType.EVENT, "E", TaskType.EXAM, "EXAM", TaskType.LAB, "LAB",
+            TaskType.LECTURE, "LEC", TaskType.TUTORIAL, "TUT"));
+
+    private final long seed;
+    private String moduleCodePrefix = "GEN";
+    private int moduleCount = 10;
+    private int taskCount = 100;
+    private int fileCount = 20;
+    private int gradeCount = 5;
+    private int noteCount = 5;
+    private Map<TaskType, Integer> taskTypeWeights = new EnumMap<>(Map.of(TaskType.TODO, 6, TaskType.DEADLINE, 5,
+            TaskType.EVENT, 2, TaskType.EXAM, 1, TaskType.LAB, 2, TaskType.LECTURE, 2, TaskType.TUTORIAL, 2));
+    private DateTime firstDate = new DateTime(Date.from(LocalDate.of(2030, 1, 1)
+            .atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    private int dayCount = 120;
+    private List<String> vocabulary = List.of(DEFAULT_VOCABULARY);
+
+    /**
+     * Constructor for a generator of the modules given by a seed and the default settings, which are 10 modules
+     * of 100 tasks, 20 files, 5 graded components and 5 notes each, with tasks scheduled over the 120 days
+     * from 1 January 2030.
+     * @param seed The seed the modules are generated from.
+     */
+    public DataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public void setModuleCodePrefix(String moduleCodePrefix) {
+        this.moduleCodePrefix = moduleCodePrefix.toUpperCase();
+    }
+
+    public void setModuleCount(int moduleCount) {
+        this.moduleCount = moduleCount;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setFileCount(int fileCount) {
+        this.fileCount = fileCount;
+    }
+
+    public void setGradeCount(int gradeCount) {
+        this.gradeCount = gradeCount;
+    }
+
+    public void setNoteCount(int noteCount) {
+        this.noteCount = noteCount;
+    }
+
+    /**
+     * Sets how often each type of task is generated relative to the others. Types left out are not generated.
+     * @param taskTypeWeights The relative weight of each type of task.
+     * @throws InputException If no type has a positive weight or any weight is negative.
+     */
+    public void setTaskTypeWeights(Map<TaskType, Integer> taskTypeWeights) throws InputException {
+        if (taskTypeWeights.values().stream().anyMatch(weight -> weight < 0)
+                || taskTypeWeights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new InputException("Task type weights must not be negative and at least one must be positive.");
+        }
+        this.taskTypeWeights = new EnumMap<>(taskTypeWeights);
+    }
+
+    public void setFirstDate(DateTime firstDate) {
+        this.firstDate = firstDate.getStartOfDay();
+    }
+
+    public void setDayCount(int dayCount) {
+        this.dayCount = dayCount;
+    }
+
+    /**
+     * Sets the words that the names of items and notes are made of.
+     * @param vocabulary The words.
+     */
+    public void setVocabulary(List<String> vocabulary) {
+        this.vocabulary = new ArrayList<>(vocabulary);
+    }
+
+    /**
+     * Gives the number of items each generated module holds, counting its notes.
+     * @return The number of items per module.
+     */
+    public int getItemCountPerModule() {
+        return taskCount + fileCount + gradeCount + noteCount;
+    }
+
+    /**
+     * Generates the modules and adds them to a module container.
+     * @param moduleContainer The container the modules are added to.
+     * @return The generated modules.
+     * @throws SpinBoxException If a module with a generated module code exists, or storage fails.
+     */
+    public List<Module> generate(ModuleContainer moduleContainer) throws SpinBoxException {
+        for (int i = 1; i <= moduleCount; i++) {
+            String moduleCode = getModuleCode(i);
+            if (moduleContainer.checkModuleExists(moduleCode)) {
+                throw new InputException(String.format(MODULE_EXISTS, moduleCode));
+            }
+        }
+
+        Random random = new Random(seed);
+        List<Module> modules = new ArrayList<>();
+        boolean isDeferring = Storage.deferWrites();
+        try {
+            for (int i = 1; i <= moduleCount; i++) {
+                modules.add(moduleContainer.addModule(generateModule(random, i)));
+            }
+        } finally {
+            if (isDeferring) {
+                Storage.stopDeferringWrites();
+            }
+        }
+        LOGGER.info(LOG_GENERATED + modules.size());
+        return modules;
+    }
+
+    private String getModuleCode(int number) {
+        return String.format(MODULE_CODE, moduleCodePrefix, number);
+    }
+
+    private Module generateModule(Random random, int number) throws SpinBoxException {
+        Module module = new Module(getModuleCode(number), String.format(MODULE_NAME, number));
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= taskCount; i++) {
+            tasks.add(TaskList.createFromStoredString(generateTask(random, i)));
+        }
+        module.getTasks().addAllFromStorage(tasks);
+        module.getTasks().saveData();
+
+        List<File> files = new ArrayList<>();
+        for (int i = 1; i <= fileCount; i++) {
+            File file = new File();
+            file.fromStoredString(generateFile(random, i));
+            files.add(file);
+        }
+        module.getFiles().addAllFromStorage(files);
+        module.getFiles().saveData();
+
+        List<GradedComponent> gradedComponents = new ArrayList<>();
+        for (int i = 1; i <= gradeCount; i++) {
+            GradedComponent gradedComponent = new GradedComponent();
+            gradedComponent.fromStoredString(generateGrade(random, i));
+            gradedComponents.add(gradedComponent);
+        }
+        module.getGrades().addAllFromStorage(gradedComponents);
+        module.getGrades().saveData();
+
+        for (int i = 1; i <= noteCount; i++) {
+            module.getNotepad().addLine(generateName(random, 4 + random.nextInt(8)));
+        }
+        return module;
+    }
+
+    private String generateTask(Random random, int number) {
+        TaskType taskType = pickTaskType(random);
+        StringBuilder stored = new StringBuilder(STORE_TYPES.get(taskType)).append(STORE_DELIMITER)
+                .append(generateDone(random, 3)).append(STORE_DELIMITER)
+                .append(generateName(random, 1 + random.nextInt(3))).append(' ').append(number);
+        if (taskType != TaskType.TODO) {
+            long startSlot = random.nextInt(dayCount * SLOTS_PER_DAY);
+            Date startDate = new Date(firstDate.getDateTime().getTime() + startSlot * MILLISECONDS_PER_SLOT);
+            stored.append(STORE_DELIMITER).append(new DateTime(startDate));
+            if (TaskType.taskWithBothDates().contains(taskType)) {
+                long slotCount = 1 + random.nextInt(MAX_EVENT_SLOTS);
+                Date endDate = new Date(startDate.getTime() + slotCount * MILLISECONDS_PER_SLOT);
+                stored.append(STORE_DELIMITER).append(new DateTime(endDate));
+            }
+        }
+        return appendTags(random, stored).toString();
+    }
+
+    private String generateFile(Random random, int number) {
+        StringBuilder stored = new StringBuilder(generateDone(random, 2)).append(STORE_DELIMITER)
+                .append(generateName(random, 1 + random.nextInt(2)).replace(' ', '-')).append('-').append(number)
+                .append(FILE_EXTENSIONS[random.nextInt(FILE_EXTENSIONS.length)]);
+        return appendTags(random, stored).toString();
+    }
+
+    private String generateGrade(Random random, int number) {
+        double weight = 100.0 / gradeCount;
+        boolean isScoreKnown = random.nextBoolean();
+        double score = 0.4 + 0.6 * random.nextDouble();
+        double weightedScore = isScoreKnown ? Math.round(weight * score * 100) / 100.0 : 0.0;
+        StringBuilder stored = new StringBuilder(isScoreKnown ? DONE : NOT_DONE).append(STORE_DELIMITER)
+                .append(generateName(random, 1 + random.nextInt(2))).append(' ').append(number)
+                .append(STORE_DELIMITER).append(isScoreKnown ? DONE : NOT_DONE)
+                .append(STORE_DELIMITER).append(weight)
+                .append(STORE_DELIMITER).append(weightedScore);
+        return appendTags(random, stored).toString();
+    }
+
+    private TaskType pickTaskType(Random random) {
+        int totalWeight = taskTypeWeights.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(totalWeight);
+        for (Map.Entry<TaskType, Integer> entry : taskTypeWeights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("The picked weight is less than the total weight");
+    }
+
+    private String generateDone(Random random, int oneIn) {
+        return (random.nextInt(oneIn) == 0) ? DONE : NOT_DONE;
+    }
+
+    private String generateName(Random random, int wordCount) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            String word = vocabulary.get(random.nextInt(vocabulary.size()));
+            name.append((i == 0) ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : " " + word);
+        }
+        return name.toString();
+    }
+
+    private StringBuilder appendTags(Random random, StringBuilder stored) {
+        if (random.nextInt(4) == 0) {
+            stored.append(STORE_DELIMITER).append(TAG_PREFIX).append(TAGS[random.nextInt(TAGS.length)]);
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,91 @@
+package spinbox.containers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The modules a command reads or writes, used to lock only those modules while it runs so that commands on
+ * different modules can run at the same time.
+ */
+public class ModuleAccess {
+    private static final ModuleAccess NONE = new ModuleAccess(Kind.NONE, null);
+    private static final ModuleAccess CHANGE_MODULES = new ModuleAccess(Kind.CHANGE_MODULES, null);
+
+    /**
+     * How the modules are accessed, from least to most exclusive.
+     */
+    public enum Kind {
+        NONE,
+        READ,
+        WRITE,
+        CHANGE_MODULES
+    }
+
+    private final Kind kind;
+    private final List<String> moduleCodes;
+
+    private ModuleAccess(Kind kind, List<String> moduleCodes) {
+        this.kind = kind;
+        this.moduleCodes = moduleCodes;
+    }
+
+    private static List<String> codesOf(String moduleCode) {
+        return (moduleCode == null) ? null : Collections.singletonList(moduleCode);
+    }
+
+    /**
+     * Access for commands that do not touch any module.
+     * @return The access to no module.
+     */
+    public static ModuleAccess none() {
+        return NONE;
+    }
+
+    /**
+     * Access for commands that only read the lists and notepad of a module.
+     * @param moduleCode The code of the module read, or null if every module is read.
+     * @return The read access to the module.
+     */
+    public static ModuleAccess readModule(String moduleCode) {
+        return new ModuleAccess(Kind.READ, codesOf(moduleCode));
+    }
+
+    /**
+     * Access for commands that only read the lists and notepads of some modules.
+     * @param moduleCodes The codes of the modules read, or null if every module is read.
+     * @return The read access to the modules.
+     */
+    public static ModuleAccess readModules(List<String> moduleCodes) {
+        return new ModuleAccess(Kind.READ, (moduleCodes == null) ? null : new ArrayList<>(moduleCodes));
+    }
+
+    /**
+     * Access for commands that change the lists or notepad of a module, but not which modules exist.
+     * @param moduleCode The code of the module written, or null if every module may be written.
+     * @return The write access to the module.
+     */
+    public static ModuleAccess writeModule(String moduleCode) {
+        return new ModuleAccess(Kind.WRITE, codesOf(moduleCode));
+    }
+
+    /**
+     * Access for commands that add or remove modules, or may change anything, which run alone.
+     * @return The exclusive access to every module.
+     */
+    public static ModuleAccess changeModules() {
+        return CHANGE_MODULES;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the codes of the modules accessed.
+     * @return The module codes, or null if every module is accessed.
+     */
+    public List<String> getModuleCodes() {
+        return moduleCodes;
+    }
+}
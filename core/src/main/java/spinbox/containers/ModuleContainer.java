@@ -0,0 +1,337 @@
+package spinbox.containers;
+
+import spinbox.containers.events.ModelChange.Target;
+import spinbox.containers.events.ModelChange.Type;
+import spinbox.containers.events.ModelChanges;
+import spinbox.containers.history.Change;
+import spinbox.containers.history.History;
+import spinbox.entities.Module;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.exceptions.CorruptedDataException;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.FileCreationException;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.datapersistors.storage.StorageContainer;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The modules of SpinBox. Modules may be read from any thread, and commands run through
+ * {@link #runWithAccess(ModuleAccess, ModuleAction)} lock only the modules they declare, so that commands on
+ * different modules run in parallel while commands adding or removing modules run alone.
+ * Read-only commands run on a snapshot of the modules they read instead, holding no lock while they run.
+ */
+public class ModuleContainer implements StorageContainer {
+    private static final String DIRECTORY_NAME = "SpinBoxData/";
+    private static final String MODULES_FILE_NAME = "modules.txt";
+    private static final String FILES_DIRECTORY = "/files.txt";
+    private static final String GRADES_DIRECTORY = "/grades.txt";
+    private static final String TASKS_DIRECTORY = "/tasks.txt";
+    private static final String NOTES_DIRECTORY = "/notes.txt";
+
+    private Map<String, Module> modules;
+    private Storage localStorage;
+    private History history;
+    private final ReadWriteLock registryLock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructor for a module container. Retrieves added modules, populates them and stores in program memory.
+     * @throws FileCreationException Creation of file hierarchy failed, perhaps due to permissions.
+     * @throws DataReadWriteException I/O error during file read/writes.
+     * @throws CorruptedDataException Text files have been improperly modified (unexpected formatting).
+     */
+    public ModuleContainer() throws FileCreationException, DataReadWriteException, CorruptedDataException {
+        modules = new ConcurrentHashMap<>();
+        localStorage = new Storage(DIRECTORY_NAME + MODULES_FILE_NAME);
+        history = new History(this);
+        this.loadData();
+    }
+
+    /**
+     * Constructor for a read-only snapshot of some modules, which has no storage.
+     * @param snapshotModules The snapshots of the modules, by module code.
+     */
+    private ModuleContainer(Map<String, Module> snapshotModules) {
+        modules = Collections.unmodifiableMap(snapshotModules);
+        history = new History(this);
+    }
+
+    /**
+     * Method call returns the modules contained within this moduleContainer instance.
+     * @return Map of String : Module of modules.
+     */
+    public Map<String, Module> getModules() {
+        assert modules != null;
+        return modules;
+    }
+
+    /**
+     * Returns the undo and redo history of the changes made to this container and its modules.
+     * @return History of this container.
+     */
+    public History getHistory() {
+        return history;
+    }
+
+    /**
+     * Runs an action while holding the locks for the given access. Module changing access holds the registry
+     * exclusively, while other access shares the registry and then locks the modules accessed in order of their
+     * codes, so that no two actions wait on each other's locks.
+     * Read access only holds the locks while taking a snapshot of the modules read, then runs the action on the
+     * snapshot, so that long reads such as exports never hold up commands changing the modules. Reading a module
+     * that does not exist takes a snapshot of every module instead, so that the error can list the modules there are.
+     * @param access The modules read or written by the action.
+     * @param action The action to be run, given this container, or a snapshot of it for read access.
+     * @param <T> The type of the result of the action.
+     * @return The result of the action.
+     * @throws SpinBoxException If the action fails.
+     */
+    public <T> T runWithAccess(ModuleAccess access, ModuleAction<T> action) throws SpinBoxException {
+        switch (access.getKind()) {
+        case NONE:
+            return action.run(this);
+        case READ:
+            ModuleAccess readAccess = containsAll(access.getModuleCodes()) ? access : ModuleAccess.readModule(null);
+            return action.run(withLocks(readAccess, () -> getSnapshot(readAccess.getModuleCodes())));
+        default:
+            return withLocks(access, () -> action.run(this));
+        }
+    }
+
+    private <T> T withLocks(ModuleAccess access, Locked<T> locked) throws SpinBoxException {
+        boolean isChangingModules = access.getKind() == ModuleAccess.Kind.CHANGE_MODULES;
+        Lock registry = isChangingModules ? registryLock.writeLock() : registryLock.readLock();
+        registry.lock();
+        List<Lock> moduleLocks = new ArrayList<>();
+        try {
+            if (!isChangingModules) {
+                for (Module module : lockOrder(access.getModuleCodes())) {
+                    ReadWriteLock lock = module.getLock();
+                    Lock moduleLock = (access.getKind() == ModuleAccess.Kind.WRITE) ? lock.writeLock()
+                            : lock.readLock();
+                    moduleLock.lock();
+                    moduleLocks.add(moduleLock);
+                }
+            }
+            return locked.run();
+        } finally {
+            for (int i = moduleLocks.size() - 1; i >= 0; i--) {
+                moduleLocks.get(i).unlock();
+            }
+            registry.unlock();
+        }
+    }
+
+    private boolean containsAll(List<String> moduleCodes) {
+        return moduleCodes == null || modules.keySet().containsAll(moduleCodes);
+    }
+
+    private ModuleContainer getSnapshot(List<String> moduleCodes) {
+        Map<String, Module> snapshotModules = new HashMap<>();
+        for (Module module : lockOrder(moduleCodes)) {
+            snapshotModules.put(module.getModuleCode(), module.getSnapshot());
+        }
+        return new ModuleContainer(snapshotModules);
+    }
+
+    private Collection<Module> lockOrder(List<String> moduleCodes) {
+        if (moduleCodes == null) {
+            return new TreeMap<>(modules).values();
+        }
+        Map<String, Module> ordered = new TreeMap<>();
+        for (String moduleCode : moduleCodes) {
+            if (modules.containsKey(moduleCode)) {
+                ordered.put(moduleCode, modules.get(moduleCode));
+            }
+        }
+        return ordered.values();
+    }
+
+    /**
+     * Checks whether a storage container is this module container or belongs to one of its current modules.
+     * @param container The storage container to look for.
+     * @return True if the container is held, false if it belongs to a removed module.
+     */
+    public boolean holdsContainer(StorageContainer container) {
+        if (container == this) {
+            return true;
+        }
+        for (Module module : modules.values()) {
+            if (module.getFiles() == container || module.getTasks() == container
+                    || module.getGrades() == container || module.getNotepad() == container) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Saves data using the localStorage instance to the relevant .txt file.
+     * @throws DataReadWriteException I/O error.
+     */
+    @Override
+    public void saveData() throws DataReadWriteException {
+        List<String> dataToSave = new ArrayList<>();
+        for (Map.Entry<String, Module> entry : modules.entrySet()) {
+            dataToSave.add(entry.getValue().storeString());
+        }
+        localStorage.writeData(dataToSave);
+    }
+
+    /**
+     * Adds a module to be saved to the module container.
+     * @param module Module object to be added.
+     * @return the Module object which has been stored.
+     * @throws DataReadWriteException I/O Error.
+     */
+    public Module addModule(Module module) throws DataReadWriteException {
+        Module replaced = this.getModules().put(module.getModuleCode(), module);
+        ModelChanges.publish(module.getModuleCode(), Target.MODULES, replaced == null ? Type.ADDED : Type.UPDATED,
+                module);
+        History.record(new ModuleChange(replaced, module));
+        this.saveData();
+        return module;
+    }
+
+    /**
+     * Removes a module from the module container.
+     * @param moduleCode ModuleCode of the module to be removed.
+     * @param module Module object to be removed.
+     * @throws DataReadWriteException I/O Error.
+     */
+    public void removeModule(String moduleCode, Module module) throws DataReadWriteException {
+        Module removed = this.getModules().remove(module.getModuleCode());
+        if (removed != null) {
+            ModelChanges.publish(moduleCode, Target.MODULES, Type.REMOVED, removed);
+            History.record(new ModuleChange(removed, null));
+        }
+        this.deleteModuleFiles(moduleCode);
+        this.saveData();
+    }
+
+    private void deleteModuleFiles(String moduleCode) {
+        File file1 = new File(DIRECTORY_NAME + moduleCode + FILES_DIRECTORY);
+        file1.delete();
+        File file2 = new File(DIRECTORY_NAME + moduleCode + GRADES_DIRECTORY);
+        file2.delete();
+        File file3 = new File(DIRECTORY_NAME + moduleCode + NOTES_DIRECTORY);
+        file3.delete();
+        File file4 = new File(DIRECTORY_NAME + moduleCode + TASKS_DIRECTORY);
+        file4.delete();
+        File file5 = new File(DIRECTORY_NAME + moduleCode);
+        file5.delete();
+    }
+
+    /**
+     * Check the existence of a module within SpinBox.
+     * @param moduleCode A String denoting the module code.
+     * @return True if the module already exists.
+     */
+    public boolean checkModuleExists(String moduleCode) {
+        return moduleCode != null && this.getModules().containsKey(moduleCode);
+    }
+
+    /**
+     * Gets a specific module from within the container.
+     * @param moduleCode A string containing the module code to be used as the key.
+     * @return a Module object, or null if no such module exists.
+     */
+    public Module getModule(String moduleCode) {
+        if (this.checkModuleExists(moduleCode)) {
+            return this.getModules().get(moduleCode);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Loads data using the localStorage instance from the relevant .txt file.
+     * @throws DataReadWriteException I/O error.
+     * @throws CorruptedDataException polluted data within txt files.
+     */
+    @Override
+    public void loadData() throws DataReadWriteException, CorruptedDataException {
+        List<String> savedData = localStorage.loadData();
+        StartupProfiler.begin();
+        try {
+            for (String datum : savedData) {
+                Module module = new Module();
+                module.fromStoredString(datum);
+                this.modules.put(module.getModuleCode(), module);
+            }
+        } finally {
+            StartupProfiler.end(localStorage.getPath(), Step.PARSE);
+        }
+    }
+
+    /**
+     * A module added or removed, where a null module stands for its absence.
+     * Detaching a module deletes its files, attaching one recreates them from the module in memory.
+     */
+    private class ModuleChange implements Change {
+        private Module moduleBefore;
+        private Module moduleAfter;
+
+        ModuleChange(Module moduleBefore, Module moduleAfter) {
+            this.moduleBefore = moduleBefore;
+            this.moduleAfter = moduleAfter;
+        }
+
+        @Override
+        public void revert() throws FileCreationException, DataReadWriteException {
+            replace(moduleAfter, moduleBefore);
+        }
+
+        @Override
+        public void apply() throws FileCreationException, DataReadWriteException {
+            replace(moduleBefore, moduleAfter);
+        }
+
+        private void replace(Module from, Module to) throws FileCreationException, DataReadWriteException {
+            if (to != null) {
+                modules.put(to.getModuleCode(), to);
+                to.restoreStorage();
+                ModelChanges.publish(to.getModuleCode(), Target.MODULES, from == null ? Type.ADDED : Type.UPDATED, to);
+            } else if (from != null) {
+                modules.remove(from.getModuleCode());
+                deleteModuleFiles(from.getModuleCode());
+                ModelChanges.publish(from.getModuleCode(), Target.MODULES, Type.REMOVED, from);
+            }
+        }
+
+        @Override
+        public StorageContainer getContainer() {
+            return ModuleContainer.this;
+        }
+    }
+
+    /**
+     * An action run on the modules with the access it declared.
+     * @param <T> The type of the result of the action.
+     */
+    @FunctionalInterface
+    public interface ModuleAction<T> {
+        T run(ModuleContainer moduleContainer) throws SpinBoxException;
+    }
+
+    /**
+     * Work done while holding the locks for an access.
+     */
+    @FunctionalInterface
+    private interface Locked<T> {
+        T run() throws SpinBoxException;
+    }
+}
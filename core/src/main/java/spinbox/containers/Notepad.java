@@ -1,5 +1,11 @@
 package spinbox.containers;
 
+import spinbox.ResponseSink;
+import spinbox.containers.events.ModelChange.Target;
+import spinbox.containers.events.ModelChange.Type;
+import spinbox.containers.events.ModelChanges;
+import spinbox.containers.history.Change;
+import spinbox.containers.history.History;
 import spinbox.datapersistors.storage.Storage;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.FileCreationException;
@@ -7,6 +13,7 @@ import spinbox.exceptions.InvalidIndexException;
 import spinbox.datapersistors.storage.StorageContainer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Notepad implements StorageContainer {
@@ -17,6 +24,7 @@ public class Notepad implements StorageContainer {
 
     private Storage localStorage;
     private List<String> notes;
+    private String parentCode;
 
     /**
      * Constructor for a new notepad instance.
@@ -25,9 +33,22 @@ public class Notepad implements StorageContainer {
      */
     public Notepad(String parentName) throws FileCreationException {
         notes = new ArrayList<>();
+        this.parentCode = parentName;
         localStorage = new Storage(DIRECTORY_NAME + parentName + NOTEPAD_FILE_NAME);
     }
 
+    private Notepad(List<String> notes) {
+        this.notes = notes;
+    }
+
+    /**
+     * Returns a read-only snapshot of the notepad as it is now, which later changes to the notepad do not affect.
+     * @return The snapshot of the notepad.
+     */
+    public Notepad getSnapshot() {
+        return new Notepad(Collections.unmodifiableList(new ArrayList<>(notes)));
+    }
+
     /**
      * Adds a line of text to the notepad.
      * @param line A string representing one line of entered text.
@@ -35,6 +56,8 @@ public class Notepad implements StorageContainer {
      */
     public void addLine(String line) throws DataReadWriteException {
         notes.add(line);
+        ModelChanges.publish(parentCode, Target.NOTES, Type.ADDED, line);
+        History.record(new LineChange(notes.size() - 1, null, line));
         this.saveData();
     }
 
@@ -61,7 +84,9 @@ public class Notepad implements StorageContainer {
      */
     public void updateLine(int index, String line) throws DataReadWriteException, InvalidIndexException {
         try {
-            notes.set(index, line);
+            String lineBefore = notes.set(index, line);
+            ModelChanges.publish(parentCode, Target.NOTES, Type.UPDATED, line);
+            History.record(new LineChange(index, lineBefore, line));
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidIndexException();
         }
@@ -76,7 +101,9 @@ public class Notepad implements StorageContainer {
      */
     public void removeLine(int index) throws DataReadWriteException, InvalidIndexException {
         try {
-            notes.remove(index);
+            String lineRemoved = notes.remove(index);
+            ModelChanges.publish(parentCode, Target.NOTES, Type.REMOVED, lineRemoved);
+            History.record(new LineChange(index, lineRemoved, null));
             saveData();
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidIndexException();
@@ -97,6 +124,18 @@ public class Notepad implements StorageContainer {
         return outputList;
     }
 
+    /**
+     * Writes a window of the numbered notes for CLI output without the header, one line at a time.
+     * @param sink The sink the lines are written to.
+     * @param fromIndex The index of the first note written.
+     * @param toIndex The index after the last note written.
+     */
+    public void writeList(ResponseSink sink, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            sink.line(Integer.toString(i + 1)).append(NUMERICAL_SEPARATOR).append(notes.get(i));
+        }
+    }
+
     /**
      * Gets the notes belonging to the module.
      * @return A list of Strings, each representing a single note.
@@ -105,6 +144,16 @@ public class Notepad implements StorageContainer {
         return notes;
     }
 
+    /**
+     * Recreates the storage file of this notepad and writes the current notes into it.
+     * @throws FileCreationException Error in creating the file to store data.
+     * @throws DataReadWriteException I/O error.
+     */
+    public void restoreStorage() throws FileCreationException, DataReadWriteException {
+        localStorage.createFile();
+        this.saveData();
+    }
+
     /**
      *  Loads data using the localStorage instance from the relevant .txt file.
      * @throws DataReadWriteException I/O error.
@@ -122,4 +171,47 @@ public class Notepad implements StorageContainer {
     public void saveData() throws DataReadWriteException {
         localStorage.writeData(notes);
     }
+
+    /**
+     * A line added, updated or removed at an index, where a null line stands for its absence.
+     */
+    private class LineChange implements Change {
+        private int index;
+        private String lineBefore;
+        private String lineAfter;
+
+        LineChange(int index, String lineBefore, String lineAfter) {
+            this.index = index;
+            this.lineBefore = lineBefore;
+            this.lineAfter = lineAfter;
+        }
+
+        @Override
+        public void revert() {
+            replace(lineAfter, lineBefore);
+        }
+
+        @Override
+        public void apply() {
+            replace(lineBefore, lineAfter);
+        }
+
+        private void replace(String from, String to) {
+            if (from == null) {
+                notes.add(index, to);
+                ModelChanges.publish(parentCode, Target.NOTES, Type.ADDED, to);
+            } else if (to == null) {
+                notes.remove(index);
+                ModelChanges.publish(parentCode, Target.NOTES, Type.REMOVED, from);
+            } else {
+                notes.set(index, to);
+                ModelChanges.publish(parentCode, Target.NOTES, Type.UPDATED, to);
+            }
+        }
+
+        @Override
+        public StorageContainer getContainer() {
+            return Notepad.this;
+        }
+    }
 }
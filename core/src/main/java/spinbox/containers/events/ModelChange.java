@@ -0,0 +1,69 @@
+package spinbox.containers.events;
+
+/**
+ * A change to the modules: an item added to, updated in or removed from a list or the notepad of a module, or a
+ * module added or removed, whether made by a command or by undoing or redoing one.
+ */
+public class ModelChange {
+    private static final String DESCRIPTION = "%s %s of %s";
+
+    /**
+     * What was changed: the modules themselves, or a list or the notepad of a module.
+     */
+    public enum Target {
+        MODULES,
+        TASKS,
+        FILES,
+        GRADES,
+        NOTES
+    }
+
+    /**
+     * How the item was changed.
+     */
+    public enum Type {
+        ADDED,
+        UPDATED,
+        REMOVED
+    }
+
+    private final String moduleCode;
+    private final Target target;
+    private final Type type;
+    private final Object item;
+
+    /**
+     * Constructor for a change.
+     * @param moduleCode The code of the module changed, or of the module added or removed.
+     * @param target What was changed.
+     * @param type How the item was changed.
+     * @param item The item changed, which is a module, a task, a file, a graded component or a line of notes.
+     */
+    public ModelChange(String moduleCode, Target target, Type type, Object item) {
+        this.moduleCode = moduleCode;
+        this.target = target;
+        this.type = type;
+        this.item = item;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Object getItem() {
+        return item;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(DESCRIPTION, type, target, moduleCode);
+    }
+}
@@ -0,0 +1,52 @@
+package spinbox.containers.events;
+
+import spinbox.containers.events.ModelChange.Target;
+import spinbox.containers.events.ModelChange.Type;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Publishes every change to the modules to the listeners added, so that a view can update only what changed
+ * instead of rebuilding everything after every command. Listeners are called on the thread making the change,
+ * while it holds the locks of the modules changed, so they should only note the change and act on it later.
+ * Changes made while loading the modules from storage are not published. Publishing costs a single check while
+ * no listener is added, as in the CLI.
+ */
+public class ModelChanges {
+    private static final List<Consumer<ModelChange>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Adds a listener to be called with every change from now on.
+     * @param listener The listener.
+     */
+    public static void addListener(Consumer<ModelChange> listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a listener added before.
+     * @param listener The listener.
+     */
+    public static void removeListener(Consumer<ModelChange> listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Publishes a change to every listener, if any.
+     * @param moduleCode The code of the module changed, or of the module added or removed.
+     * @param target What was changed.
+     * @param type How the item was changed.
+     * @param item The item changed.
+     */
+    public static void publish(String moduleCode, Target target, Type type, Object item) {
+        if (LISTENERS.isEmpty()) {
+            return;
+        }
+        ModelChange change = new ModelChange(moduleCode, target, type, item);
+        for (Consumer<ModelChange> listener : LISTENERS) {
+            listener.accept(change);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package spinbox.containers.history;
+
+import spinbox.datapersistors.storage.StorageContainer;
+import spinbox.exceptions.SpinBoxException;
+
+public interface Change {
+    void revert() throws SpinBoxException;
+
+    void apply() throws SpinBoxException;
+
+    StorageContainer getContainer();
+}
@@ -0,0 +1,126 @@
+package spinbox.containers.history;
+
+import spinbox.containers.ModuleContainer;
+import spinbox.datapersistors.storage.StorageContainer;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Undo and redo log of the changes made by each command.
+ * Each step stores only the inverse operations of the changes made, rather than copies of the lists involved.
+ * Changes are recorded per thread, and steps from commands running at the same time are saved in the order
+ * the commands finish.
+ */
+public class History {
+    private static final Logger LOGGER = Logger.getLogger(History.class.getName());
+    private static final ThreadLocal<List<Change>> RECORDING = new ThreadLocal<>();
+    private static final int MAX_STEPS = 50;
+    private static final String NOTHING_TO_UNDO = "There is nothing to undo.";
+    private static final String NOTHING_TO_REDO = "There is nothing to redo.";
+    private static final String LOG_STEP_SAVED = "Changes saved to history: ";
+
+    private ModuleContainer moduleContainer;
+    private Deque<List<Change>> undoSteps;
+    private Deque<List<Change>> redoSteps;
+
+    /**
+     * Constructor for the history of a module container.
+     * @param moduleContainer The container whose changes are logged, used to skip saving removed modules.
+     */
+    public History(ModuleContainer moduleContainer) {
+        this.moduleContainer = moduleContainer;
+        this.undoSteps = new ArrayDeque<>();
+        this.redoSteps = new ArrayDeque<>();
+    }
+
+    /**
+     * Records a change made by the command running on the current thread, if the command is being recorded.
+     * @param change The change made.
+     */
+    public static void record(Change change) {
+        List<Change> changes = RECORDING.get();
+        if (changes != null) {
+            changes.add(change);
+        }
+    }
+
+    /**
+     * Starts recording the changes made on the current thread as a single step.
+     */
+    public void begin() {
+        RECORDING.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops recording and saves the changes made since recording began as an undoable step, if there are any.
+     */
+    public synchronized void commit() {
+        List<Change> changes = RECORDING.get();
+        RECORDING.remove();
+        if (changes == null || changes.isEmpty()) {
+            return;
+        }
+        undoSteps.push(changes);
+        if (undoSteps.size() > MAX_STEPS) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+        LOGGER.fine(() -> LOG_STEP_SAVED + changes.size());
+    }
+
+    /**
+     * Reverts the most recent step, then saves every container it touched once.
+     * @return The number of changes reverted.
+     * @throws SpinBoxException If there is nothing to undo, or the changes cannot be saved.
+     */
+    public synchronized int undo() throws SpinBoxException {
+        if (undoSteps.isEmpty()) {
+            throw new InputException(NOTHING_TO_UNDO);
+        }
+        List<Change> changes = undoSteps.pop();
+        Set<StorageContainer> touched = new LinkedHashSet<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert();
+            touched.add(changes.get(i).getContainer());
+        }
+        persist(touched);
+        redoSteps.push(changes);
+        return changes.size();
+    }
+
+    /**
+     * Re-applies the most recently undone step, then saves every container it touched once.
+     * @return The number of changes re-applied.
+     * @throws SpinBoxException If there is nothing to redo, or the changes cannot be saved.
+     */
+    public synchronized int redo() throws SpinBoxException {
+        if (redoSteps.isEmpty()) {
+            throw new InputException(NOTHING_TO_REDO);
+        }
+        List<Change> changes = redoSteps.pop();
+        Set<StorageContainer> touched = new LinkedHashSet<>();
+        for (Change change : changes) {
+            change.apply();
+            touched.add(change.getContainer());
+        }
+        persist(touched);
+        undoSteps.push(changes);
+        return changes.size();
+    }
+
+    private void persist(Set<StorageContainer> touched) throws SpinBoxException {
+        for (StorageContainer container : touched) {
+            if (moduleContainer.holdsContainer(container)) {
+                container.saveData();
+            }
+        }
+    }
+}
@@ -1,15 +1,17 @@
 package spinbox.containers.lists;
 
+import spinbox.containers.events.ModelChange.Target;
 import spinbox.datapersistors.storage.Storage;
 import spinbox.exceptions.CorruptedDataException;
 import spinbox.exceptions.FileCreationException;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.entities.items.File;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class FileList extends SpinBoxList<File> {
@@ -30,11 +32,28 @@ public class FileList extends SpinBoxList<File> {
      */
     public FileList(String parentName) throws FileCreationException {
         super(parentName);
-        LOGGER.setLevel(Level.INFO);
-        LOGGER.setUseParentHandlers(true);
         localStorage = new Storage(DIRECTORY_NAME + this.getParentCode() + FILE_LIST_FILE_NAME);
     }
 
+    private FileList(FileList source) {
+        super(source);
+    }
+
+    @Override
+    FileList copy() {
+        return new FileList(this);
+    }
+
+    @Override
+    Target getChangeTarget() {
+        return Target.FILES;
+    }
+
+    @Override
+    public FileList getSnapshot() {
+        return (FileList) super.getSnapshot();
+    }
+
     /**
      * Order the files according to name in alphabetical order.
      */
@@ -64,11 +83,18 @@ public class FileList extends SpinBoxList<File> {
     public void loadData() throws DataReadWriteException, CorruptedDataException {
         LOGGER.entering(getClass().getName(), "loadData");
         List<String> savedData = localStorage.loadData();
-        for (String datum : savedData) {
-            File file = new File();
-            file.fromStoredString(datum);
-            this.addFromStorage(file);
+        List<File> files = new ArrayList<>();
+        StartupProfiler.begin();
+        try {
+            for (String datum : savedData) {
+                File file = new File();
+                file.fromStoredString(datum);
+                files.add(file);
+            }
+        } finally {
+            StartupProfiler.end(localStorage.getPath(), Step.PARSE);
         }
+        this.addAllFromStorage(files);
         LOGGER.fine(LOG_LOAD_DATA);
         LOGGER.exiting(getClass().getName(), "loadData");
     }
@@ -99,7 +125,7 @@ public class FileList extends SpinBoxList<File> {
         LOGGER.entering(getClass().getName(), "viewList");
         LOGGER.fine(LOG_VIEW_LIST);
         LOGGER.exiting(getClass().getName(), "viewList");
-        return outputNumberedListWithHeader(VIEW_FILE_LIST_HEADER, this.getList());
+        return viewListWithHeader(VIEW_FILE_LIST_HEADER);
     }
 
     /**
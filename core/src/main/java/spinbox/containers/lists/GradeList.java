@@ -1,5 +1,6 @@
 package spinbox.containers.lists;
 
+import spinbox.containers.events.ModelChange.Target;
 import spinbox.datapersistors.storage.Storage;
 import spinbox.exceptions.CorruptedDataException;
 import spinbox.exceptions.FileCreationException;
@@ -7,11 +8,12 @@ import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.InvalidIndexException;
 import spinbox.exceptions.InputException;
 import spinbox.entities.items.GradedComponent;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class GradeList extends SpinBoxList<GradedComponent> {
@@ -32,11 +34,28 @@ public class GradeList extends SpinBoxList<GradedComponent> {
      */
     public GradeList(String parentName) throws FileCreationException {
         super(parentName);
-        LOGGER.setLevel(Level.INFO);
-        LOGGER.setUseParentHandlers(true);
         localStorage = new Storage(DIRECTORY_NAME + this.getParentCode() + GRADE_LIST_FILE_NAME);
     }
 
+    private GradeList(GradeList source) {
+        super(source);
+    }
+
+    @Override
+    GradeList copy() {
+        return new GradeList(this);
+    }
+
+    @Override
+    Target getChangeTarget() {
+        return Target.GRADES;
+    }
+
+    @Override
+    public GradeList getSnapshot() {
+        return (GradeList) super.getSnapshot();
+    }
+
     /**
      * A comparator to sort the grade components based on descending weight.
      */
@@ -67,11 +86,18 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     public void loadData() throws DataReadWriteException, CorruptedDataException {
         LOGGER.entering(getClass().getName(), "loadData");
         List<String> savedData = localStorage.loadData();
-        for (String datum : savedData) {
-            GradedComponent gradedComponent = new GradedComponent();
-            gradedComponent.fromStoredString(datum);
-            this.addFromStorage(gradedComponent);
+        List<GradedComponent> gradedComponents = new ArrayList<>();
+        StartupProfiler.begin();
+        try {
+            for (String datum : savedData) {
+                GradedComponent gradedComponent = new GradedComponent();
+                gradedComponent.fromStoredString(datum);
+                gradedComponents.add(gradedComponent);
+            }
+        } finally {
+            StartupProfiler.end(localStorage.getPath(), Step.PARSE);
         }
+        this.addAllFromStorage(gradedComponents);
         LOGGER.fine(LOG_LOAD_DATA);
         LOGGER.exiting(getClass().getName(), "loadData");
     }
@@ -101,7 +127,7 @@ public class GradeList extends SpinBoxList<GradedComponent> {
         LOGGER.entering(getClass().getName(), "viewList");
         LOGGER.fine(LOG_VIEW_LIST);
         LOGGER.exiting(getClass().getName(), "viewList");
-        return outputNumberedListWithHeader(VIEW_GRADE_LIST_HEADER, this.getList());
+        return viewListWithHeader(VIEW_GRADE_LIST_HEADER);
     }
 
     /**
@@ -137,7 +163,10 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     public void updateGradeWeightedScore(int index, double yourScore, double maximumScore) throws InputException,
             DataReadWriteException {
         LOGGER.entering(getClass().getName(), "updateGradeWeightedScore");
-        this.get(index).updateWeightedScore(yourScore, maximumScore);
+        GradedComponent gradedComponent = this.get(index);
+        String storedBefore = gradedComponent.storeString();
+        gradedComponent.updateWeightedScore(yourScore, maximumScore);
+        recordEdit(gradedComponent, storedBefore);
         this.saveData();
         LOGGER.exiting(getClass().getName(), "updateGradeWeightedScore");
     }
@@ -152,7 +181,10 @@ public class GradeList extends SpinBoxList<GradedComponent> {
     public void updateGradeWeightedScore(int index, double weightedScore) throws DataReadWriteException,
             InvalidIndexException {
         LOGGER.entering(getClass().getName(), "updateGradeWeightedScore");
-        this.get(index).updateWeightedScore(weightedScore);
+        GradedComponent gradedComponent = this.get(index);
+        String storedBefore = gradedComponent.storeString();
+        gradedComponent.updateWeightedScore(weightedScore);
+        recordEdit(gradedComponent, storedBefore);
         this.saveData();
         LOGGER.exiting(getClass().getName(), "updateGradeWeightedScore");
     }
@@ -20,8 +20,12 @@ public class HelpList {
             + "\t9. help / export : To export a current snapshot of a module's tasks/grades/files or all deadlines "
             + "across modules\n"
             + "\t10. help / score : To score a graded component and mark it as complete\n"
-            + "\t11. help / populate : To load SpinBox with sample data for trying it out \n"
+            + "\t11. help / populate : To load SpinBox with sample data for trying it out, or with generated data \n"
             + "\t12. help / find : To search a list for items containing keyword \n"
+            + "\t13. help / undo : To undo the changes made by the last command\n"
+            + "\t14. help / redo : To redo the changes of the last undone command\n"
+            + "\t15. help / tag : To add tags to or remove tags from a task/grade/file component\n"
+            + "\t16. help / stats : To show how long each type of command takes and the files it reads and writes\n"
             + horizontalLine);
 
     public final String view = helpOutput.concat(horizontalLine + "\n" + "Command: view\n"
@@ -36,7 +40,18 @@ public class HelpList {
             + "\t5. View the list of grade components under module CG1111: view / modules cg1111 grades\n"
             + "\t6. View the list of notes under module CG1111: view / modules cg1111 notes\n"
             + "\t7. View the list of tasks under module CG1111: view / modules cg1111 tasks\n"
-            + "\t6. View the specify month and year under calendar: view / calendar 01/2020\n" + horizontalLine);
+            + "\t6. View the specify month and year under calendar: view / calendar 01/2020\n\n"
+            + "\t* Viewing only the tasks/files/grades matching a query *\n"
+            + "\tFormat: view / <module code> <tab> where <conditions> [order <name/date> [desc]] [limit <number>]\n"
+            + "\t   -Conditions are the same as for remove-*, and may be negated with 'not' and combined with 'or'\n"
+            + "\t7. View the next 10 labs not done under CG1111: view / cg1111 tasks where type=LAB done=false "
+            + "order date limit 10\n\n"
+            + "\t* Viewing a long list of tasks/files/grades/notes one page at a time *\n"
+            + "\tFormat: view / <module code> <tab> page <number> [size <number>]\n"
+            + "\t   -Items keep their numbers in the full list, and pages have 50 items unless a size is given\n"
+            + "\t8. View the third page of 50 tasks under CG1111: view / cg1111 tasks page 3 size 50\n"
+            + "\t9. View the next or previous page of the current tab: view / next, view / prev\n"
+            + horizontalLine);
 
     public final String add = helpOutput.concat(horizontalLine + "\n" + "Command: add\n"
             + "Function: To add a module/task/grade/file/note component\n"
@@ -81,7 +96,13 @@ public class HelpList {
             + "\t1. Remove the first 2 files under module CG1111: remove-* CG1111 / file 1,2\n"
             + "\t2. Remove the first 2 grade components under CG1111: remove-* CG1111 / grade 1,2\n"
             + "\t3. Remove the first 2 notes under CG1111: remove-* CG1111 / note 1,2\n"
-            + "\t4. Remove the first 2 tasks under module CG1111: remove-* CG1111 / task 1,2\n" + horizontalLine);
+            + "\t4. Remove the first 2 tasks under module CG1111: remove-* CG1111 / task 1,2\n\n"
+            + "\t* Removing tasks/files matching conditions (omit module code to remove from all modules) *\n"
+            + "\tFormat: remove-* <module code> / <item type> where <conditions>\n"
+            + "\t   -Conditions include: done=<true/false>, name=<keyword>, and for tasks only:\n"
+            + "\t    type=<task types separated by ','>, before: <MM/DD/YYYY HH:MM>, after: <MM/DD/YYYY HH:MM>\n"
+            + "\t5. Remove all done labs across all modules: remove-* / task where type=LAB done=true\n"
+            + horizontalLine);
 
     public final String setDate = helpOutput.concat(horizontalLine + "\n" + "Command: set-date\n"
             + "Function: To set deadline/event/exam/lab/lecture/tutorial date to a new date\n"
@@ -123,18 +144,28 @@ public class HelpList {
             + "Example:\n"
             + "\t* Note: omit module code if current page is the specific module *\n"
             + "\t1. Update the first 2 files under module CG1111: update-* CG1111 / file 1,2 done\n"
-            + "\t2. Update the first 2 tasks under module CG1111: update-* CG1111 / task 1,2 done\n"
+            + "\t2. Update the first 2 tasks under module CG1111: update-* CG1111 / task 1,2 done\n\n"
+            + "\t* Updating tasks/files matching conditions (omit module code to update all modules) *\n"
+            + "\tFormat: update-* <module code> / <item type> where <conditions> set <done status>\n"
+            + "\t   -Conditions are the same as for remove-*\n"
+            + "\t3. Mark tasks under CG1111 starting before 1 Dec 2019 as done: update-* CG1111 / task where "
+            + "done=false before: 12/01/2019 00:00 set done\n"
             + horizontalLine);
 
     public final String score =  helpOutput.concat(horizontalLine + "\n" + "Command: score\n"
             + "Function: To update a grade within a module with achieved marks\n"
             + "Format 1 (Absolute percentage): score <module code> / <index> marks: <percentage>%\n"
             + "Format 2 (Relative grading): score <module code> / <index> marks: <your score>/<maximum score>\n"
+            + "Format 3 (Projection): score <module code> / projection target: <target>% [trials: <number>] "
+            + "[dist: <index> <mean>% <spread>%, ...]\n"
             + "Example:\n"
             + "\t* Note: omit module code if current page is the specific module *\n"
             + "\t* Note: has the side effect of marking the grade item as done *\n"
             + "\t1. Score the 1st grade item under CG1111 with absolute score: score CG1111 / 1 marks: 12.5%\n"
             + "\t2. Score the 2nd grade item under CG1111 with relative score: score CG1111 / 2 marks: 26/30\n"
+            + "\t3. Project the chance of reaching 80% in CG1111, expecting 70% with a spread of 10% for the 3rd "
+            + "grade item: score CG1111 / projection target: 80% dist: 3 70% 10%\n"
+            + "\t   * Unscored grade items without a distribution are projected from the scored ones *\n"
             + horizontalLine);
 
     public final String export = helpOutput.concat(horizontalLine + "\n" + "Command: export\n"
@@ -148,8 +179,15 @@ public class HelpList {
             + horizontalLine);
 
     public final String populate = helpOutput.concat(horizontalLine + "\n" + "Command: populate\n"
-        + "Function: To load SpinBox with sample data if no data is currently available.\n"
-        + "Example: populate\n"
+        + "Function: To load SpinBox with sample data if no data is currently available, or to generate modules\n"
+        + "of items from a seed, generating the same items for the same seed and options.\n"
+        + "Format: populate / [modules <n>] [tasks <n>] [files <n>] [grades <n>] [notes <n>] [seed <n>]\n"
+        + "\t[prefix <module code prefix>] [from <MM/dd/yyyy>] [days <n>] [mix <type>:<weight>,...]\n"
+        + "\t[words <word>,...]\n"
+        + "Example:\n"
+        + "\t1. Load the sample data: populate\n"
+        + "\t2. Generate 100 modules GEN0001 to GEN0100 of 1000 tasks each: populate / modules 100 tasks 1000\n"
+        + "\t3. Generate modules of deadlines and lectures only: populate / seed 7 mix deadline:3,lecture:1\n"
         + horizontalLine);
 
     public final String find = helpOutput.concat(horizontalLine + "\n" + "Command: find\n"
@@ -160,6 +198,47 @@ public class HelpList {
             + "\t1. Find tasks containing 'a' in name in CG1111: find CG1111 / task a\n"
             + "\t2. Find files containing 'a' in name in CG1111: find CG1111 / file a\n"
             + "\t3. Find graded components containing 'a' in name in CG1111: "
-            + "find CG1111 / grade a \n"
+            + "find CG1111 / grade a \n\n"
+            + "\t* Finding items matching a query, in the modules given by module= or all modules if not on a "
+            + "module page *\n"
+            + "\tFormat: find <module code> / <item type> where <conditions> [module=<module codes separated by ','>] "
+            + "[order <name/date> [desc]] [limit <number>]\n"
+            + "\t   -Conditions are the same as for view. Use module=all to search all modules from a module page\n"
+            + "\t4. Find the first 5 exams or tutorials across all modules: find / task where type=EXAM or "
+            + "type=TUTORIAL order date limit 5\n"
+            + "\t5. Find tasks tagged urgent but not optional across all modules: find / task where tag=urgent "
+            + "not tag=optional\n"
+            + horizontalLine);
+
+    public final String undo = helpOutput.concat(horizontalLine + "\n" + "Command: undo\n"
+            + "Function: To undo the changes made by the last command, up to the last 50 commands.\n"
+            + "Example: undo\n"
+            + horizontalLine);
+
+    public final String redo = helpOutput.concat(horizontalLine + "\n" + "Command: redo\n"
+            + "Function: To redo the changes of the last undone command, until a new change is made.\n"
+            + "Example: redo\n"
+            + horizontalLine);
+
+    public final String stats = helpOutput.concat(horizontalLine + "\n" + "Command: stats\n"
+            + "Function: To show the 50th and 99th percentile and the maximum time taken by each type of command, "
+            + "split into parsing, executing, saving (persist) and displaying (render) it, the files read and "
+            + "written so far, or the estimated memory used by each module\n"
+            + "Format: stats [/ io [log on|off] | memory]\n"
+            + "Example:\n"
+            + "\t1. Show the time taken by each type of command: stats\n"
+            + "\t2. Show the number of loads and writes of each file, with the lines and bytes written: stats / io\n"
+            + "\t3. Log the loads and writes of every command from now on: stats / io log on\n"
+            + "\t4. Show the bytes used by the tasks, files, grades and notes of each module: stats / memory\n"
+            + horizontalLine);
+
+    public final String tag = helpOutput.concat(horizontalLine + "\n" + "Command: tag/untag\n"
+            + "Function: To add tags to or remove tags from a task/grade/file component\n"
+            + "Format: tag <module code> / <item type> <item index> <tags separated by spaces>\n"
+            + "Example:\n"
+            + "\t* Note: omit module code if current page is the specific module *\n"
+            + "\t1. Tag task 1 of CG1111 as urgent and lab: tag CG1111 / task 1 urgent lab\n"
+            + "\t2. Remove the tag lab from task 1 of CG1111: untag CG1111 / task 1 lab\n"
+            + "\t3. View the tasks of CG1111 tagged urgent or lab: view / cg1111 tasks where tag=urgent or tag=lab\n"
             + horizontalLine);
-}
\ No newline at end of file
+}
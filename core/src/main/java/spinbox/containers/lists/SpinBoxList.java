@@ -0,0 +1,640 @@
+package spinbox.containers.lists;
+
+import spinbox.ResponseSink;
+import spinbox.containers.events.ModelChange.Target;
+import spinbox.containers.events.ModelChange.Type;
+import spinbox.containers.events.ModelChanges;
+import spinbox.containers.history.Change;
+import spinbox.containers.history.History;
+import spinbox.entities.ItemFilter;
+import spinbox.exceptions.DateFormatException;
+import spinbox.datapersistors.storage.Storage;
+
+import spinbox.exceptions.CorruptedDataException;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.FileCreationException;
+import spinbox.exceptions.InvalidIndexException;
+import spinbox.entities.items.Item;
+import spinbox.datapersistors.storage.StorageContainer;
+import spinbox.stats.CommandStats;
+import spinbox.stats.CommandStats.Phase;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.logging.Logger;
+
+public abstract class SpinBoxList<T extends Item> implements StorageContainer {
+    private static final Logger LOGGER = Logger.getLogger(SpinBoxList.class.getName());
+    private static final String LOG_GET_LIST = "Returned copy of list.";
+    private static final String LOG_ADD_ELEMENT = "Added element into list.";
+    private static final String LOG_ADD_FROM_STORAGE = "Added element from storage and sorted list.";
+    private static final String LOG_ADD_ALL_FROM_STORAGE = "Added elements from storage and sorted list: ";
+    private static final String LOG_REMOVE_ELEMENT = "Removed element and stored list.";
+    private static final String LOG_INVALID_INDEX = "Index inputted is invalid.";
+    private static final String LOG_UPDATE = "Updated element in list.";
+    private static final String LOG_TAG = "Updated tags of element and stored list.";
+    private static final String LOG_REMOVE_MATCHING = "Removed matching elements and stored list: ";
+    private static final String LOG_UPDATE_MATCHING = "Updated matching elements and stored list: ";
+    private static final String LOG_OUTPUT_NUMBERED_LIST = "Returned numbered list with header.";
+    private static final String NUMBERING_SEPARATOR = ". ";
+    static final String DIRECTORY_NAME = "SpinBoxData/";
+    protected List<T> list;
+    private String parentCode;
+    private int modificationCount;
+    private int tagIndexModificationCount = -1;
+    private TagIndex tagIndex;
+    private SpinBoxList<T> snapshot;
+    private String[] renderedLines = new String[0];
+    private String[] renderedDisplayStrings = new String[0];
+    private int renderedModificationCount = -1;
+    Storage localStorage;
+
+    /**
+     * Constructor for list that creates a private list and stores the parent code.
+     */
+    SpinBoxList(String parentCode) {
+        LOGGER.entering(getClass().getName(), "Constructor");
+        this.list = new ArrayList<>();
+        this.parentCode = parentCode;
+        LOGGER.exiting(getClass().getName(), "Constructor");
+    }
+
+    /**
+     * Constructor for a read-only snapshot of a list, holding the published versions of its elements, see
+     * {@link Item#getPublishedVersion()}, and no storage. Only the elements changed since the last snapshot are
+     * copied, the others share their copy with earlier snapshots.
+     * @param source The list to be copied.
+     */
+    @SuppressWarnings("unchecked")
+    SpinBoxList(SpinBoxList<T> source) {
+        List<T> versions = new ArrayList<>(source.list.size());
+        for (T element : source.list) {
+            versions.add((T) element.getPublishedVersion());
+        }
+        this.list = Collections.unmodifiableList(versions);
+        this.parentCode = source.parentCode;
+        this.modificationCount = source.modificationCount;
+    }
+
+    /**
+     * Makes a read-only snapshot of the list, see {@link #getSnapshot()}.
+     * @return The snapshot.
+     */
+    abstract SpinBoxList<T> copy();
+
+    /**
+     * Returns a read-only snapshot of the list as it is now, which later changes to the list do not affect.
+     * The snapshot is only made again after the list is modified, copying the order of the elements and the
+     * elements changed since, and earlier snapshots are reclaimed once no reader holds them. Must be called while no
+     * command is changing the list.
+     * @return The snapshot of the list.
+     */
+    public synchronized SpinBoxList<T> getSnapshot() {
+        if (snapshot == null || snapshot.modificationCount != modificationCount) {
+            snapshot = copy();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a copy of the list.
+     * @return Returns copy of the list.
+     */
+    public List<T> getList() {
+        LOGGER.entering(getClass().getName(), "getList");
+        List<T> listCopy = new ArrayList<>(list);
+        LOGGER.fine(LOG_GET_LIST);
+        LOGGER.exiting(getClass().getName(), "getList");
+        return listCopy;
+    }
+
+    /**
+     * Returns the size of the list.
+     * @return Returns the size of the list.
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns a read-only view of the list, for reading through the list without copying it.
+     * @return Returns an unmodifiable view of the list.
+     */
+    public List<T> getListView() {
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns the number of modifications made to the list, which changes whenever an element is added, removed
+     * or modified through the list.
+     * @return Returns the modification count of the list.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Marks the list as modified, invalidating anything derived from its contents.
+     */
+    void markModified() {
+        modificationCount++;
+    }
+
+    /**
+     * Gives what changes to this list are published as, see {@link ModelChanges}.
+     * @return The target of the changes.
+     */
+    abstract Target getChangeTarget();
+
+    private void publishChange(Type type, T element) {
+        ModelChanges.publish(parentCode, getChangeTarget(), type, element);
+    }
+
+    /**
+     * Gets the module code of the module containing an instance of this list.
+     * @return Returns the module code as a String.
+     */
+    String getParentCode() {
+        return parentCode;
+    }
+
+    /**
+     * Adds element into list.
+     * @param element The element to be added.
+     * @return The element that was added.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    public T add(T element) throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "add");
+        list.add(element);
+        this.markModified();
+        this.publishChange(Type.ADDED, element);
+        History.record(new ElementAdded(element));
+        this.sortAndSaveData();
+        LOGGER.fine(LOG_ADD_ELEMENT);
+        LOGGER.exiting(getClass().getName(), "add");
+        return element;
+    }
+
+    /**
+     * Add element into list, without an intermediate save step.
+     * @param element The element to be added from storage.
+     * @return The element that was added.
+     */
+    public T addFromStorage(T element) {
+        LOGGER.entering(getClass().getName(), "addFromStorage");
+        list.add(element);
+        this.markModified();
+        this.sort();
+        LOGGER.fine(LOG_ADD_FROM_STORAGE);
+        LOGGER.exiting(getClass().getName(), "addFromStorage");
+        return element;
+    }
+
+    /**
+     * Adds elements into list, without an intermediate save step, sorting the list once after adding all of them.
+     * @param elements The elements to be added from storage.
+     */
+    public void addAllFromStorage(List<? extends T> elements) {
+        LOGGER.entering(getClass().getName(), "addAllFromStorage");
+        StartupProfiler.begin();
+        try {
+            list.addAll(elements);
+            this.markModified();
+            this.sort();
+        } finally {
+            StartupProfiler.end(localStorage.getPath(), Step.SORT);
+        }
+        LOGGER.fine(() -> LOG_ADD_ALL_FROM_STORAGE + elements.size());
+        LOGGER.exiting(getClass().getName(), "addAllFromStorage");
+    }
+
+    /**
+     * Removes element at index from list.
+     * @param index The index of element to be removed.
+     * @return The element that was removed.
+     * @throws InvalidIndexException Provided Index is out range.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    public T remove(int index) throws DataReadWriteException, InvalidIndexException {
+        LOGGER.entering(getClass().getName(), "remove");
+        try {
+            T removedItem = list.remove(index);
+            this.markModified();
+            this.publishChange(Type.REMOVED, removedItem);
+            History.record(new ElementRemoved(removedItem));
+            this.saveData();
+            LOGGER.fine(LOG_REMOVE_ELEMENT);
+            LOGGER.exiting(getClass().getName(), "remove");
+            return removedItem;
+        } catch (IndexOutOfBoundsException e) {
+            LOGGER.warning(LOG_INVALID_INDEX);
+            throw new InvalidIndexException();
+        }
+    }
+
+    /**
+     * Returns element at index.
+     * @param index The index of element to be returned.
+     * @return The element at the index.
+     * @throws InvalidIndexException provided Index is out range.
+     */
+    public T get(int index) throws InvalidIndexException {
+        LOGGER.entering(getClass().getName(), "get");
+        try {
+            LOGGER.exiting(getClass().getName(), "get");
+            return list.get(index);
+        } catch (IndexOutOfBoundsException e) {
+            LOGGER.warning(LOG_INVALID_INDEX);
+            throw new InvalidIndexException();
+        }
+    }
+
+    /**
+     * Updates an item to value.
+     * @param index The index of element to be updated.
+     * @param value The value the element is to be updated to.
+     * @return The updated element with updated value.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     * @throws InvalidIndexException Provided Index is out range.
+     */
+    public T update(int index, boolean value) throws DataReadWriteException, InvalidIndexException {
+        LOGGER.entering(getClass().getName(), "update");
+        try {
+            T updatedItem = this.get(index);
+            String storedBefore = updatedItem.storeString();
+            updatedItem.updateDone(value);
+            recordEdit(updatedItem, storedBefore);
+            assert updatedItem.getDone() == value : "Updated value is incorrect";
+            this.sortAndSaveData();
+            LOGGER.fine(LOG_UPDATE);
+            LOGGER.exiting(getClass().getName(), "update");
+            return updatedItem;
+        } catch (IndexOutOfBoundsException e) {
+            LOGGER.warning(LOG_INVALID_INDEX);
+            throw new InvalidIndexException();
+        }
+    }
+
+    /**
+     * Adds tags to or removes tags from an element. The list is saved only if the tags of the element changed.
+     * @param index The index of the element to be tagged.
+     * @param tags The tags to be added or removed.
+     * @param isAdding Whether the tags are to be added rather than removed.
+     * @return The tagged element.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     * @throws InvalidIndexException Provided Index is out range.
+     */
+    public T tag(int index, List<String> tags, boolean isAdding) throws DataReadWriteException,
+            InvalidIndexException {
+        LOGGER.entering(getClass().getName(), "tag");
+        T taggedItem = this.get(index);
+        String storedBefore = taggedItem.storeString();
+        for (String tag : tags) {
+            if (isAdding) {
+                taggedItem.addTag(tag);
+            } else {
+                taggedItem.removeTag(tag);
+            }
+        }
+        if (!storedBefore.equals(taggedItem.storeString())) {
+            recordEdit(taggedItem, storedBefore);
+            this.saveData();
+            LOGGER.fine(LOG_TAG);
+        }
+        LOGGER.exiting(getClass().getName(), "tag");
+        return taggedItem;
+    }
+
+    /**
+     * Removes every element matching the filter in a single pass over the list.
+     * The list is saved once, and only if an element was removed.
+     * @param filter The condition an element must satisfy to be removed.
+     * @return The removed elements, in list order.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    public List<T> removeIf(Predicate<? super T> filter) throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "removeIf");
+        List<T> removedItems = new ArrayList<>();
+        list.removeIf(element -> filter.test(element) && removedItems.add(element));
+        if (!removedItems.isEmpty()) {
+            this.markModified();
+            for (T removedItem : removedItems) {
+                this.publishChange(Type.REMOVED, removedItem);
+                History.record(new ElementRemoved(removedItem));
+            }
+            this.saveData();
+            LOGGER.fine(() -> LOG_REMOVE_MATCHING + removedItems.size());
+        }
+        LOGGER.exiting(getClass().getName(), "removeIf");
+        return removedItems;
+    }
+
+    /**
+     * Updates the done status of every element matching the filter in a single pass over the list.
+     * Elements that already have the status are left untouched. The list is sorted and saved once,
+     * and only if an element was updated.
+     * @param filter The condition an element must satisfy to be updated.
+     * @param value The new done status.
+     * @return The updated elements, in their order before the update.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    public List<T> updateIf(Predicate<? super T> filter, boolean value) throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "updateIf");
+        List<T> updatedItems = new ArrayList<>();
+        for (T element : list) {
+            if (element.getDone() != value && filter.test(element)) {
+                String storedBefore = element.storeString();
+                element.updateDone(value);
+                recordEdit(element, storedBefore);
+                updatedItems.add(element);
+            }
+        }
+        if (!updatedItems.isEmpty()) {
+            this.sortAndSaveData();
+            LOGGER.fine(() -> LOG_UPDATE_MATCHING + updatedItems.size());
+        }
+        LOGGER.exiting(getClass().getName(), "updateIf");
+        return updatedItems;
+    }
+
+    /**
+     * Returns the bitmaps of the tags of the list, rebuilding them if the list has been modified since they were
+     * last built. Synchronized as commands reading the same list may run at the same time.
+     * @return The tag index of the list.
+     */
+    public synchronized TagIndex getTagIndex() {
+        if (tagIndexModificationCount != modificationCount) {
+            tagIndex = new TagIndex(list);
+            tagIndexModificationCount = modificationCount;
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Lazily streams the indexes of the elements matching the filter, in list order.
+     * A filter of only tag conditions is evaluated on the tag bitmaps alone, and a filter requiring tags only checks
+     * the elements having them. Otherwise the whole list is scanned, subclasses with indexes may narrow down the
+     * elements to be checked.
+     * @param filter The conditions to match, or null to match every element.
+     * @return The indexes of the matching elements.
+     */
+    public IntStream findPositions(ItemFilter filter) {
+        if (filter == null) {
+            return IntStream.range(0, list.size());
+        } else if (filter.isOnlyTags()) {
+            return filter.matchTags(getTagIndex()).stream();
+        } else if (filter.getTagBound() != null) {
+            return getTagIndex().getAll(filter.getTagBound()).stream().filter(i -> filter.test(list.get(i)));
+        }
+        return IntStream.range(0, list.size()).filter(i -> filter.test(list.get(i)));
+    }
+
+    /**
+     * Records an in-place modification of an element, so that it can be undone.
+     * @param element The element that was modified.
+     * @param storedBefore The storage string of the element before it was modified.
+     */
+    void recordEdit(T element, String storedBefore) {
+        this.markModified();
+        this.publishChange(Type.UPDATED, element);
+        History.record(new ElementEdited(element, storedBefore, element.storeString()));
+    }
+
+    /**
+     * Recreates the storage file of this list and writes the current list into it.
+     * @throws FileCreationException Error in creating the file to store data.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    public void restoreStorage() throws FileCreationException, DataReadWriteException {
+        localStorage.createFile();
+        this.saveData();
+    }
+
+    /**
+     * Sorts the list and saves it, used when the list has been modified.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    public void sortAndSaveData() throws DataReadWriteException {
+        this.sort();
+        Phase previous = CommandStats.enter(Phase.PERSIST);
+        try {
+            this.saveData();
+        } finally {
+            CommandStats.exit(previous);
+        }
+    }
+
+    /**
+     * Makes a list with the header as the first element, and the inputList elements numbered in string format.
+     * @param header A string that describes the inputList and will be shown in the output.
+     * @param inputList A list of elements that are to be converted to strings and numbered.
+     * @return A list with the header as first element, and the elements of input list numbered and in string format.
+     */
+    public List<String> outputNumberedListWithHeader(String header, List<T> inputList) {
+        LOGGER.entering(getClass().getName(), "outputNumberedListWithHeader");
+        List<String> output = new ArrayList<>();
+        output.add(header);
+        for (int i = 0; i < inputList.size(); i++) {
+            output.add((i + 1) + NUMBERING_SEPARATOR + inputList.get(i).getDisplayString());
+        }
+        LOGGER.fine(LOG_OUTPUT_NUMBERED_LIST);
+        LOGGER.exiting(getClass().getName(), "outputNumberedListWithHeader");
+        return output;
+    }
+
+    /**
+     * Makes a list with the header as the first element, and the elements of this list numbered in string format,
+     * reusing the lines rendered for an earlier view, see {@link #renderLines(int, int)}.
+     * @param header A string that describes the list and will be shown in the output.
+     * @return A list with the header as first element, and the elements of this list numbered and in string format.
+     */
+    protected List<String> viewListWithHeader(String header) {
+        String[] lines = renderLines(0, list.size());
+        List<String> output = new ArrayList<>(lines.length + 1);
+        output.add(header);
+        Collections.addAll(output, lines);
+        return output;
+    }
+
+    /**
+     * Writes a window of the list in string format as given by {@link #viewList()}, without the header, one line
+     * at a time, numbered by their index in the whole list.
+     * @param sink The sink the lines are written to.
+     * @param fromIndex The index of the first element written.
+     * @param toIndex The index after the last element written.
+     */
+    public void writeList(ResponseSink sink, int fromIndex, int toIndex) {
+        for (String line : renderLines(fromIndex, toIndex)) {
+            sink.line(line);
+        }
+    }
+
+    /**
+     * Gives the numbered lines of a window of the list. Lines rendered before are kept until the list is modified,
+     * and are reused as long as their element still gives the same display string, which elements only format
+     * again after they change. Repeated views of an unchanged list therefore format nothing.
+     * @param fromIndex The index of the first element rendered.
+     * @param toIndex The index after the last element rendered.
+     * @return The numbered lines of the elements in the window.
+     */
+    private synchronized String[] renderLines(int fromIndex, int toIndex) {
+        Phase previous = CommandStats.enter(Phase.RENDER);
+        try {
+            return renderCachedLines(fromIndex, toIndex);
+        } finally {
+            CommandStats.exit(previous);
+        }
+    }
+
+    private String[] renderCachedLines(int fromIndex, int toIndex) {
+        if (renderedModificationCount != modificationCount || renderedLines.length != list.size()) {
+            renderedLines = new String[list.size()];
+            renderedDisplayStrings = new String[list.size()];
+            renderedModificationCount = modificationCount;
+        }
+        String[] window = new String[toIndex - fromIndex];
+        for (int i = fromIndex; i < toIndex; i++) {
+            String displayString = list.get(i).getDisplayString();
+            // The display string of an unchanged element is the same instance, so identity suffices.
+            if (renderedDisplayStrings[i] != displayString) {
+                renderedLines[i] = (i + 1) + NUMBERING_SEPARATOR + displayString;
+                renderedDisplayStrings[i] = displayString;
+            }
+            window[i - fromIndex] = renderedLines[i];
+        }
+        return window;
+    }
+
+    /**
+     * Clears the list.
+     */
+    public void clear() {
+        this.list.clear();
+        this.markModified();
+    }
+
+    /**
+     * Sorts the list according to custom comparator given in child class.
+     */
+    public abstract void sort();
+
+    /**
+     * Populates data into this list from the list's localStorage.
+     */
+    @Override
+    public abstract void loadData() throws DataReadWriteException, CorruptedDataException, DateFormatException;
+
+    /**
+     * Saves the current list data into the list's localStorage.
+     */
+    @Override
+    public abstract void saveData() throws DataReadWriteException;
+
+    /**
+     * View the list of items in string format for output.
+     */
+    public abstract List<String> viewList();
+
+
+    /**
+     * Checks the list of items with names that contain keyword.
+     * @param keyword The keyword to be searched.
+     * @return The list of string of items that contain keyword in their name.
+     */
+    public abstract List<String> containsKeyword(String keyword);
+
+    private class ElementAdded implements Change {
+        private T element;
+
+        ElementAdded(T element) {
+            this.element = element;
+        }
+
+        @Override
+        public void revert() {
+            list.remove(element);
+            markModified();
+            publishChange(Type.REMOVED, element);
+        }
+
+        @Override
+        public void apply() {
+            list.add(element);
+            markModified();
+            sort();
+            publishChange(Type.ADDED, element);
+        }
+
+        @Override
+        public StorageContainer getContainer() {
+            return SpinBoxList.this;
+        }
+    }
+
+    private class ElementRemoved implements Change {
+        private T element;
+
+        ElementRemoved(T element) {
+            this.element = element;
+        }
+
+        @Override
+        public void revert() {
+            list.add(element);
+            markModified();
+            sort();
+            publishChange(Type.ADDED, element);
+        }
+
+        @Override
+        public void apply() {
+            list.remove(element);
+            markModified();
+            publishChange(Type.REMOVED, element);
+        }
+
+        @Override
+        public StorageContainer getContainer() {
+            return SpinBoxList.this;
+        }
+    }
+
+    private class ElementEdited implements Change {
+        private T element;
+        private String storedBefore;
+        private String storedAfter;
+
+        ElementEdited(T element, String storedBefore, String storedAfter) {
+            this.element = element;
+            this.storedBefore = storedBefore;
+            this.storedAfter = storedAfter;
+        }
+
+        @Override
+        public void revert() throws CorruptedDataException, DateFormatException {
+            element.fromStoredString(storedBefore);
+            markModified();
+            sort();
+            publishChange(Type.UPDATED, element);
+        }
+
+        @Override
+        public void apply() throws CorruptedDataException, DateFormatException {
+            element.fromStoredString(storedAfter);
+            markModified();
+            sort();
+            publishChange(Type.UPDATED, element);
+        }
+
+        @Override
+        public StorageContainer getContainer() {
+            return SpinBoxList.this;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package spinbox.containers.lists;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable set of the ordinals of items in a list of a given size. Like the containers of a roaring bitmap,
+ * a set with few ordinals is kept as a sorted array of them and a set with many as a bitset, whichever is smaller,
+ * so that the bitmap of a rare tag over tens of thousands of items takes only a few bytes.
+ * Sets are combined with bitwise operations, without looking at the items themselves.
+ */
+public final class TagBitmap {
+    private static final int BITS_PER_ORDINAL = Integer.SIZE;
+
+    private final int size;
+    private final int[] ordinals;
+    private final BitSet bits;
+
+    private TagBitmap(int size, int[] ordinals, BitSet bits) {
+        this.size = size;
+        this.ordinals = ordinals;
+        this.bits = bits;
+    }
+
+    /**
+     * Makes a bitmap of ordinals, choosing the smaller of the two representations.
+     * @param size The size of the list, every ordinal being less than it.
+     * @param sortedOrdinals The ordinals in ascending order, only the first count of which are used.
+     * @param count The number of ordinals.
+     * @return The bitmap of the ordinals.
+     */
+    static TagBitmap of(int size, int[] sortedOrdinals, int count) {
+        if (isSparse(size, count)) {
+            return new TagBitmap(size, Arrays.copyOf(sortedOrdinals, count), null);
+        }
+        BitSet bits = new BitSet(size);
+        for (int i = 0; i < count; i++) {
+            bits.set(sortedOrdinals[i]);
+        }
+        return new TagBitmap(size, null, bits);
+    }
+
+    static TagBitmap empty(int size) {
+        return new TagBitmap(size, new int[0], null);
+    }
+
+    static TagBitmap full(int size) {
+        BitSet bits = new BitSet(size);
+        bits.set(0, size);
+        return new TagBitmap(size, null, bits);
+    }
+
+    private static boolean isSparse(int size, int count) {
+        return (long) count * BITS_PER_ORDINAL < size;
+    }
+
+    private static TagBitmap fromBits(int size, BitSet bits) {
+        int count = bits.cardinality();
+        if (isSparse(size, count)) {
+            return new TagBitmap(size, bits.stream().toArray(), null);
+        }
+        return new TagBitmap(size, null, bits);
+    }
+
+    private BitSet toBits() {
+        if (bits != null) {
+            return (BitSet) bits.clone();
+        }
+        BitSet ordinalBits = new BitSet(size);
+        for (int ordinal : ordinals) {
+            ordinalBits.set(ordinal);
+        }
+        return ordinalBits;
+    }
+
+    /**
+     * Checks whether the bitmap is kept as a sorted array of ordinals rather than a bitset.
+     * @return True if the bitmap is kept as a sorted array.
+     */
+    public boolean isSparse() {
+        return ordinals != null;
+    }
+
+    public boolean contains(int ordinal) {
+        return isSparse() ? Arrays.binarySearch(ordinals, ordinal) >= 0 : bits.get(ordinal);
+    }
+
+    public int getCardinality() {
+        return isSparse() ? ordinals.length : bits.cardinality();
+    }
+
+    /**
+     * Gives the ordinals in the bitmap.
+     * @return The ordinals in ascending order.
+     */
+    public IntStream stream() {
+        return isSparse() ? IntStream.of(ordinals) : bits.stream();
+    }
+
+    /**
+     * Intersects this bitmap with another. A sorted array is intersected by looking up each of its ordinals in
+     * the other bitmap, and two bitsets word by word.
+     * @param other A bitmap over the same list.
+     * @return The ordinals in both bitmaps.
+     */
+    public TagBitmap and(TagBitmap other) {
+        assert size == other.size : "Bitmaps are over lists of different sizes";
+        if (!isSparse() && other.isSparse()) {
+            return other.and(this);
+        } else if (isSparse()) {
+            int[] common = stream().filter(other::contains).toArray();
+            return of(size, common, common.length);
+        }
+        BitSet result = toBits();
+        result.and(other.bits);
+        return fromBits(size, result);
+    }
+
+    /**
+     * Unites this bitmap with another. Two sorted arrays are merged, anything else is united word by word.
+     * @param other A bitmap over the same list.
+     * @return The ordinals in either bitmap.
+     */
+    public TagBitmap or(TagBitmap other) {
+        assert size == other.size : "Bitmaps are over lists of different sizes";
+        if (isSparse() && other.isSparse()) {
+            int[] merged = new int[ordinals.length + other.ordinals.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < ordinals.length || j < other.ordinals.length) {
+                if (j == other.ordinals.length || (i < ordinals.length && ordinals[i] < other.ordinals[j])) {
+                    merged[count++] = ordinals[i++];
+                } else if (i == ordinals.length || other.ordinals[j] < ordinals[i]) {
+                    merged[count++] = other.ordinals[j++];
+                } else {
+                    merged[count++] = ordinals[i++];
+                    j++;
+                }
+            }
+            return of(size, merged, count);
+        }
+        BitSet result = toBits();
+        result.or(other.toBits());
+        return fromBits(size, result);
+    }
+
+    /**
+     * Removes the ordinals of another bitmap from this bitmap.
+     * @param other A bitmap over the same list.
+     * @return The ordinals in this bitmap but not in the other.
+     */
+    public TagBitmap andNot(TagBitmap other) {
+        assert size == other.size : "Bitmaps are over lists of different sizes";
+        if (isSparse()) {
+            int[] remaining = stream().filter(ordinal -> !other.contains(ordinal)).toArray();
+            return of(size, remaining, remaining.length);
+        }
+        BitSet result = toBits();
+        result.andNot(other.toBits());
+        return fromBits(size, result);
+    }
+
+    /**
+     * Complements this bitmap within its list.
+     * @return The ordinals of the list that are not in this bitmap.
+     */
+    public TagBitmap not() {
+        return full(size).andNot(this);
+    }
+}
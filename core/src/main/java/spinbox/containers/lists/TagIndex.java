@@ -0,0 +1,84 @@
+package spinbox.containers.lists;
+
+import spinbox.entities.items.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The bitmaps of the item ordinals having each tag in a list, built in a single pass over the list.
+ * Ordinals are positions in the list, so an index is only valid until the list is next modified.
+ */
+public class TagIndex {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int size;
+    private final Map<String, TagBitmap> bitmaps = new HashMap<>();
+
+    /**
+     * Builds the bitmaps of every tag used in the list.
+     * @param items The items of the list, in list order.
+     */
+    TagIndex(List<? extends Item> items) {
+        size = items.size();
+        Map<String, int[]> ordinalsOfTag = new HashMap<>();
+        Map<String, Integer> countOfTag = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            for (String tag : items.get(i).getTags()) {
+                int count = countOfTag.getOrDefault(tag, 0);
+                int[] ordinals = ordinalsOfTag.computeIfAbsent(tag, key -> new int[INITIAL_CAPACITY]);
+                if (count == ordinals.length) {
+                    ordinals = Arrays.copyOf(ordinals, count * 2);
+                    ordinalsOfTag.put(tag, ordinals);
+                }
+                ordinals[count] = i;
+                countOfTag.put(tag, count + 1);
+            }
+        }
+        for (Map.Entry<String, int[]> entry : ordinalsOfTag.entrySet()) {
+            String tag = entry.getKey();
+            bitmaps.put(tag, TagBitmap.of(size, entry.getValue(), countOfTag.get(tag)));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the bitmap of the items having a tag.
+     * @param tag The tag.
+     * @return The bitmap of the items having the tag, which is empty if no item has it.
+     */
+    public TagBitmap get(String tag) {
+        TagBitmap bitmap = bitmaps.get(tag);
+        return (bitmap == null) ? TagBitmap.empty(size) : bitmap;
+    }
+
+    /**
+     * Gets the bitmap of every item in the list.
+     * @return The bitmap of every ordinal of the list.
+     */
+    public TagBitmap all() {
+        return TagBitmap.full(size);
+    }
+
+    /**
+     * Intersects the bitmaps of tags, starting from the rarest tag so that intermediate results stay small.
+     * @param tags The tags every item must have.
+     * @return The bitmap of the items having every one of the tags.
+     */
+    public TagBitmap getAll(List<String> tags) {
+        List<String> rarestFirst = new ArrayList<>(tags);
+        rarestFirst.sort(Comparator.comparingInt(tag -> get(tag).getCardinality()));
+        TagBitmap result = null;
+        for (String tag : rarestFirst) {
+            result = (result == null) ? get(tag) : result.and(get(tag));
+        }
+        return (result == null) ? all() : result;
+    }
+}
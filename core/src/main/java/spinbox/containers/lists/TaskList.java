@@ -0,0 +1,422 @@
+package spinbox.containers.lists;
+
+import spinbox.containers.events.ModelChange.Target;
+import spinbox.DateTime;
+import spinbox.exceptions.CorruptedDataException;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.FileCreationException;
+import spinbox.entities.ItemFilter;
+import spinbox.entities.items.tasks.Deadline;
+import spinbox.entities.items.tasks.Event;
+import spinbox.entities.items.tasks.Exam;
+import spinbox.entities.items.tasks.Lab;
+import spinbox.entities.items.tasks.Lecture;
+import spinbox.entities.items.tasks.Schedulable;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.TaskType;
+import spinbox.entities.items.tasks.Todo;
+import spinbox.entities.items.tasks.Tutorial;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.logging.Logger;
+
+public class TaskList extends SpinBoxList<Task> {
+    private static final Logger LOGGER = Logger.getLogger(SpinBoxList.class.getName());
+    private static final String LOG_LOAD_DATA = "Load data from local storage.";
+    private static final String LOG_SAVE_DATA = "Saved data into local storage.";
+    private static final String LOG_SORT_LIST = "Sorted list.";
+    private static final String LOG_VIEW_LIST = "View list.";
+    private static final String LOG_CONTAINS_KEYWORD = "Found list of items that contain keyword.";
+    private static final String LOG_CORRUPTED = "Corrupted task";
+    private static final String TASK_LIST_FILE_NAME = "/tasks.txt";
+    private static final String DELIMITER_FILTER = " \\| ";
+    private static final String VIEW_TASK_LIST_HEADER = "Here are the tasks in your module:";
+    private static final String TASKS_CONTAIN = "Here are the tasks that contain ";
+    private static final String LOG_ACCESS_PATH = "Access path chosen: ";
+
+    /**
+     * Ways of narrowing down the tasks to be checked against a filter, making use of the sorted order of the
+     * list, an index of positions by task type and the bitmaps of tags.
+     */
+    public enum AccessPath {
+        FULL_SCAN,
+        DONE_SEGMENT,
+        DATE_RANGE,
+        TYPE_BUCKET,
+        TAG_BITMAP
+    }
+
+    private int indexedModificationCount = -1;
+    private int firstDone;
+    private int undoneSchedulableEnd;
+    private int doneSchedulableEnd;
+    private EnumMap<TaskType, int[]> typeBuckets;
+
+    /**
+     * Constructor for TaskList.
+     * @param parentName The module code of the list.
+     * @throws FileCreationException Error in creating the file to store data.
+     */
+    public TaskList(String parentName) throws FileCreationException {
+        super(parentName);
+        localStorage = new Storage(DIRECTORY_NAME + this.getParentCode() + TASK_LIST_FILE_NAME);
+    }
+
+    private TaskList(TaskList source) {
+        super(source);
+    }
+
+    @Override
+    TaskList copy() {
+        return new TaskList(this);
+    }
+
+    @Override
+    Target getChangeTarget() {
+        return Target.TASKS;
+    }
+
+    @Override
+    public TaskList getSnapshot() {
+        return (TaskList) super.getSnapshot();
+    }
+
+    /**
+     * Comparator that sorts tasks by:
+     * 1. Not yet done tasks before done tasks.
+     * 2. Schedulable tasks before non-schedulable tasks.
+     * 2a. For schedulable tasks: Earlier start date before later start date.
+     * 2b. For non-schedulable tasks: Alphabetical order.
+     */
+    public static class TaskComparator implements Comparator<Task> {
+        @Override
+        public int compare(Task a, Task b) {
+            DateTime startDateA = null;
+            DateTime startDateB = null;
+
+            if (!a.getDone() && b.getDone()) {
+                return -1;
+            } else if (a.getDone() && !b.getDone()) {
+                return 1;
+            }
+
+            if (a.isSchedulable()) {
+                startDateA = ((Schedulable)a).getStartDate();
+            }
+            if (b.isSchedulable()) {
+                startDateB = ((Schedulable)b).getStartDate();
+            }
+
+            if (startDateA == null && startDateB == null) {
+                return a.getName().compareToIgnoreCase(b.getName());
+            } else if (startDateA == null) {
+                return 1;
+            } else if (startDateB == null) {
+                return -1;
+            } else {
+                return startDateA.compareTo(startDateB);
+            }
+        }
+    }
+
+    /**
+     * Method that will sort the list according to comparator.
+     */
+    public void sort() {
+        LOGGER.entering(getClass().getName(), "sort");
+        list.sort(new TaskComparator());
+        LOGGER.fine(LOG_SORT_LIST);
+        LOGGER.exiting(getClass().getName(), "sort");
+    }
+
+    /**
+     * Rebuilds the index of the list if the list has been modified since it was last built.
+     * As the list is sorted, not done tasks come before done tasks, and within each of these segments,
+     * schedulable tasks come first ordered by start date.
+     */
+    private synchronized void refreshIndex() {
+        if (indexedModificationCount == getModificationCount()) {
+            return;
+        }
+        int size = list.size();
+        firstDone = size;
+        undoneSchedulableEnd = 0;
+        doneSchedulableEnd = size;
+        int[] typeCounts = new int[TaskType.values().length];
+        for (int i = 0; i < size; i++) {
+            Task task = list.get(i);
+            if (task.getDone() && firstDone == size) {
+                firstDone = i;
+                doneSchedulableEnd = i;
+            }
+            if (task.isSchedulable()) {
+                if (task.getDone()) {
+                    doneSchedulableEnd = i + 1;
+                } else {
+                    undoneSchedulableEnd = i + 1;
+                }
+            }
+            typeCounts[task.getTaskType().ordinal()]++;
+        }
+
+        EnumMap<TaskType, int[]> buckets = new EnumMap<>(TaskType.class);
+        for (TaskType taskType : TaskType.values()) {
+            buckets.put(taskType, new int[typeCounts[taskType.ordinal()]]);
+            typeCounts[taskType.ordinal()] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            TaskType taskType = list.get(i).getTaskType();
+            buckets.get(taskType)[typeCounts[taskType.ordinal()]++] = i;
+        }
+        typeBuckets = buckets;
+        indexedModificationCount = getModificationCount();
+    }
+
+    /**
+     * Chooses the access path that leaves the fewest tasks to be checked against the filter.
+     * @param filter The conditions to be matched.
+     * @return The cheapest access path for the filter.
+     */
+    public AccessPath planAccessPath(ItemFilter filter) {
+        refreshIndex();
+        AccessPath accessPath = AccessPath.FULL_SCAN;
+        int cost = list.size();
+        if (filter.getDoneBound() != null) {
+            int segmentCost = filter.getDoneBound() ? list.size() - firstDone : firstDone;
+            if (segmentCost < cost) {
+                accessPath = AccessPath.DONE_SEGMENT;
+                cost = segmentCost;
+            }
+        }
+        if (filter.getBeforeBound() != null || filter.getAfterBound() != null) {
+            int[] ranges = getDateRanges(filter);
+            int rangeCost = (ranges[1] - ranges[0]) + (ranges[3] - ranges[2]);
+            if (rangeCost < cost) {
+                accessPath = AccessPath.DATE_RANGE;
+                cost = rangeCost;
+            }
+        }
+        if (filter.getTaskTypeBound() != null) {
+            int bucketCost = 0;
+            for (TaskType taskType : filter.getTaskTypeBound()) {
+                bucketCost += typeBuckets.get(taskType).length;
+            }
+            if (bucketCost < cost) {
+                accessPath = AccessPath.TYPE_BUCKET;
+                cost = bucketCost;
+            }
+        }
+        if (filter.getTagBound() != null) {
+            int tagCost = getTagIndex().getAll(filter.getTagBound()).getCardinality();
+            if (tagCost < cost) {
+                accessPath = AccessPath.TAG_BITMAP;
+            }
+        }
+        AccessPath chosenPath = accessPath;
+        LOGGER.fine(() -> LOG_ACCESS_PATH + chosenPath);
+        return chosenPath;
+    }
+
+    /**
+     * Lazily streams the indexes of the tasks matching the filter, in list order.
+     * Only the tasks on the cheapest access path are checked against the filter.
+     * @param filter The conditions to match, or null to match every task.
+     * @return The indexes of the matching tasks.
+     */
+    @Override
+    public IntStream findPositions(ItemFilter filter) {
+        if (filter == null || filter.isOnlyTags()) {
+            return super.findPositions(filter);
+        }
+        IntStream candidates;
+        switch (planAccessPath(filter)) {
+        case DONE_SEGMENT:
+            candidates = filter.getDoneBound() ? IntStream.range(firstDone, list.size())
+                    : IntStream.range(0, firstDone);
+            break;
+        case DATE_RANGE:
+            int[] ranges = getDateRanges(filter);
+            candidates = IntStream.concat(IntStream.range(ranges[0], ranges[1]), IntStream.range(ranges[2], ranges[3]));
+            break;
+        case TYPE_BUCKET:
+            EnumSet<TaskType> taskTypes = filter.getTaskTypeBound();
+            candidates = taskTypes.stream().flatMapToInt(taskType -> IntStream.of(typeBuckets.get(taskType)));
+            if (taskTypes.size() > 1) {
+                candidates = candidates.sorted();
+            }
+            break;
+        case TAG_BITMAP:
+            candidates = getTagIndex().getAll(filter.getTagBound()).stream();
+            break;
+        default:
+            candidates = IntStream.range(0, list.size());
+        }
+        return candidates.filter(i -> filter.test(list.get(i)));
+    }
+
+    /**
+     * Finds the ranges of schedulable tasks that start within the date bounds of the filter, by binary search
+     * over the not done and done segments, leaving out a segment excluded by the done bound of the filter.
+     * @return The start and end of the range in the not done segment, followed by those in the done segment.
+     */
+    private int[] getDateRanges(ItemFilter filter) {
+        int[] ranges = {0, 0, firstDone, firstDone};
+        if (filter.getDoneBound() == null || !filter.getDoneBound()) {
+            setDateRange(ranges, 0, 0, undoneSchedulableEnd, filter);
+        }
+        if (filter.getDoneBound() == null || filter.getDoneBound()) {
+            setDateRange(ranges, 2, firstDone, doneSchedulableEnd, filter);
+        }
+        return ranges;
+    }
+
+    private void setDateRange(int[] ranges, int offset, int from, int to, ItemFilter filter) {
+        DateTime after = filter.getAfterBound();
+        DateTime before = filter.getBeforeBound();
+        int start = (after == null) ? from : findFirstStarting(from, to, startDate -> startDate.after(after));
+        int end = (before == null) ? to : findFirstStarting(start, to, startDate -> !startDate.before(before));
+        ranges[offset] = start;
+        ranges[offset + 1] = Math.max(start, end);
+    }
+
+    private int findFirstStarting(int from, int to, Predicate<DateTime> condition) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (condition.test(((Schedulable) list.get(middle)).getStartDate())) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Creates a task of the type given by the first component of its storage string.
+     * @param datum The storage string of the task.
+     * @return The task.
+     * @throws CorruptedDataException Thrown when the storage string is not that of a task.
+     */
+    public static Task createFromStoredString(String datum) throws CorruptedDataException {
+        String[] arguments = datum.split(DELIMITER_FILTER);
+        switch (arguments[0]) {
+        case "T":
+            Todo todo = new Todo();
+            todo.fromStoredString(datum);
+            return todo;
+        case "D":
+            Deadline deadline = new Deadline();
+            deadline.fromStoredString(datum);
+            return deadline;
+        case "E":
+            Event event = new Event();
+            event.fromStoredString(datum);
+            return event;
+        case "EXAM":
+            Exam exam = new Exam();
+            exam.fromStoredString(datum);
+            return exam;
+        case "LAB":
+            Lab lab = new Lab();
+            lab.fromStoredString(datum);
+            return lab;
+        case "LEC":
+            Lecture lecture = new Lecture();
+            lecture.fromStoredString(datum);
+            return lecture;
+        case "TUT":
+            Tutorial tutorial = new Tutorial();
+            tutorial.fromStoredString(datum);
+            return tutorial;
+        default:
+            LOGGER.severe(LOG_CORRUPTED);
+            throw new CorruptedDataException();
+        }
+    }
+
+    /**
+     * Populates data into the task list from the list's localStorage.
+     * @throws DataReadWriteException loadData fail due to I/O Error..
+     * @throws CorruptedDataException Thrown when a user manually edits the .txt file incorrectly.
+     */
+    @Override
+    public void loadData() throws DataReadWriteException, CorruptedDataException {
+        LOGGER.entering(getClass().getName(), "loadData");
+
+        List<String> savedData = localStorage.loadData();
+        List<Task> tasks = new ArrayList<>();
+        StartupProfiler.begin();
+        try {
+            for (String datum : savedData) {
+                tasks.add(createFromStoredString(datum));
+            }
+        } finally {
+            StartupProfiler.end(localStorage.getPath(), Step.PARSE);
+        }
+        this.addAllFromStorage(tasks);
+
+        LOGGER.fine(LOG_LOAD_DATA);
+        LOGGER.exiting(getClass().getName(), "loadData");
+    }
+
+    /**
+     * Saves the current task list data into the list's localStorage.
+     * @throws DataReadWriteException saveData fail due to I/O Error.
+     */
+    @Override
+    public void saveData() throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "saveData");
+        List<String> dataToSave = new ArrayList<>();
+        for (Task task: this.getList()) {
+            dataToSave.add(task.storeString());
+        }
+        localStorage.writeData(dataToSave);
+        LOGGER.fine(LOG_SAVE_DATA);
+        LOGGER.exiting(getClass().getName(), "saveData");
+    }
+
+    /**
+     * Gives the list of tasks in string format.
+     * @return Returns list of tasks that have been converted to string format.
+     */
+    @Override
+    public List<String> viewList() {
+        LOGGER.entering(getClass().getName(), "viewList");
+        LOGGER.fine(LOG_VIEW_LIST);
+        LOGGER.exiting(getClass().getName(), "viewList");
+        return viewListWithHeader(VIEW_TASK_LIST_HEADER);
+    }
+
+    /**
+     * Check the list for tasks with names that contain keyword.
+     * @param keyword Keyword to be searched.
+     * @return  A list of strings containing the the string form of tasks that contain keyword.
+     */
+    @Override
+    public List<String> containsKeyword(String keyword) {
+        LOGGER.entering(getClass().getName(), "containsKeyword");
+        List<Task> contains = new ArrayList<>();
+        for (Task task : this.getList()) {
+            if (task.getName().toLowerCase().contains(keyword.toLowerCase())) {
+                contains.add(task);
+            }
+        }
+
+        contains.sort(new TaskComparator());
+
+        LOGGER.fine(LOG_CONTAINS_KEYWORD);
+        LOGGER.exiting(getClass().getName(), "containsKeyword");
+        return outputNumberedListWithHeader(TASKS_CONTAIN + keyword, contains);
+    }
+}
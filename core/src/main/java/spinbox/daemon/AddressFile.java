@@ -0,0 +1,84 @@
+package spinbox.daemon;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * The file a local server advertises itself by, holding its port and a random token that clients must present.
+ * The file is readable only by its owner, so that only processes of the same user can talk to the server.
+ * Kept free of other SpinBox classes so that clients load nothing but this and the JDK.
+ */
+public class AddressFile {
+    private static final String OWNER_ONLY = "rw-------";
+    private static final int TOKEN_BYTES = 16;
+
+    private AddressFile() {
+    }
+
+    /**
+     * Makes a random token, new for each start of a server.
+     * @return The token in hexadecimal.
+     */
+    public static String makeToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Checks a token presented by a client in constant time.
+     * @param token The token of the server.
+     * @param presented The token presented, or null if none was.
+     * @return True if the tokens are equal.
+     */
+    public static boolean isValidToken(String token, String presented) {
+        return presented != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the port and token to the file, readable only by its owner, replacing the file at once so that
+     * clients never read it half written.
+     * @param addressFile The file written.
+     * @param port The port of the server.
+     * @param token The token of the server.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path addressFile, int port, String token) throws IOException {
+        Path temporary = addressFile.resolveSibling(addressFile.getFileName() + ".tmp");
+        Files.deleteIfExists(temporary);
+        Files.createFile(temporary);
+        try {
+            Files.setPosixFilePermissions(temporary, PosixFilePermissions.fromString(OWNER_ONLY));
+        } catch (UnsupportedOperationException e) {
+            temporary.toFile().setReadable(false, false);
+            temporary.toFile().setReadable(true, true);
+        }
+        Files.write(temporary, (port + " " + token).getBytes(StandardCharsets.UTF_8));
+        Files.move(temporary, addressFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the port and token written by a server.
+     * @param addressFile The file read.
+     * @return The port followed by the token.
+     * @throws IOException If the file cannot be read or is malformed.
+     */
+    public static String[] read(Path addressFile) throws IOException {
+        String[] address = new String(Files.readAllBytes(addressFile), StandardCharsets.UTF_8).trim().split(" ");
+        if (address.length != 2) {
+            throw new IOException("Malformed address file: " + addressFile);
+        }
+        return address;
+    }
+}
@@ -0,0 +1,225 @@
+package spinbox.daemon;
+
+import spinbox.SpinBox;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.exceptions.StorageException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the modules loaded in a resident process and runs the commands sent by {@link DaemonClient}, so that
+ * scripts do not pay for starting the JVM and loading the stored data on every command.
+ * The daemon listens on the loopback address, and writes its port with a random token to an address file
+ * readable only by its owner. Clients must send the token before any command. Each connection is a session
+ * with its own page trace, and sessions run in parallel.
+ */
+public class Daemon {
+    public static final String DAEMON_FLAG = "--daemon";
+    private static final Logger LOGGER = Logger.getLogger(Daemon.class.getName());
+    private static final String USAGE = "Usage: " + DAEMON_FLAG + " [port]";
+    private static final String LISTENING = "SpinBox daemon listening on %s:%d";
+    private static final String INVALID_TOKEN = "Invalid token.";
+    private static final String UNKNOWN_FRAME = "Unknown request.";
+    private static final String STOPPED = "SpinBox daemon stopped.";
+    private static final String LOG_SESSION_FAILED = "Daemon session ended with an error";
+    private static final String LOG_WARM_UP_FAILED = "Warm up command failed: ";
+    private static final String LOG_SESSIONS_UNFINISHED = "Sessions still running after stopping for %d seconds";
+    private static final String WARM_UP_COMMAND = "view / calendar";
+    private static final String MAIN_PAGE = "main";
+    private static final long SESSIONS_STOP_SECONDS = 30;
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_USAGE = 2;
+
+    private final SpinBox spinBox;
+    private final ServerSocket serverSocket;
+    private final Path addressFile;
+    private final String token;
+    private final ExecutorService sessions = Executors.newCachedThreadPool();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private volatile boolean isStopping;
+
+    /**
+     * Constructor for a daemon of a SpinBox, listening on the loopback address and advertised by an address file.
+     * @param spinBox The SpinBox whose modules are kept loaded.
+     * @param port The port to listen on, or 0 for any free port.
+     * @param addressFile The file the port and token are written to.
+     * @throws IOException If the port cannot be bound or the address file cannot be written.
+     */
+    public Daemon(SpinBox spinBox, int port, Path addressFile) throws IOException {
+        this.spinBox = spinBox;
+        this.addressFile = addressFile;
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        this.token = AddressFile.makeToken();
+        AddressFile.write(addressFile, getPort(), token);
+    }
+
+    /**
+     * Runs a daemon until it is stopped by a client.
+     * @param args The program arguments, starting with '--daemon' and optionally followed by a port.
+     * @return The exit status, 2 for invalid arguments.
+     * @throws StorageException If the stored data cannot be loaded.
+     */
+    public static int runFromArguments(String[] args) throws StorageException {
+        int port = 0;
+        try {
+            if (args.length > 2) {
+                throw new IllegalArgumentException(args[2]);
+            } else if (args.length == 2) {
+                port = Integer.parseInt(args[1]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+
+        SpinBox spinBox = new SpinBox();
+        warmUp(spinBox);
+        try {
+            Daemon daemon = new Daemon(spinBox, port, Paths.get(DaemonProtocol.ADDRESS_FILE));
+            System.out.println(String.format(LISTENING, InetAddress.getLoopbackAddress().getHostAddress(),
+                    daemon.getPort()));
+            daemon.serve();
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            return EXIT_USAGE;
+        }
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Runs a read only command once, so that the parsing of dates and the calendar are loaded before the first
+     * client connects.
+     */
+    private static void warmUp(SpinBox spinBox) {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add(MAIN_PAGE);
+        try {
+            spinBox.execute(WARM_UP_COMMAND, pageTrace, false);
+        } catch (SpinBoxException e) {
+            LOGGER.warning(LOG_WARM_UP_FAILED + e.getMessage());
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts sessions until the daemon is stopped, then waits for the commands already running to finish, for a
+     * while at most, and removes the address file. Sessions waiting for a command are ended.
+     * @throws IOException If accepting a connection fails before the daemon is stopped.
+     */
+    public void serve() throws IOException {
+        try {
+            while (!isStopping) {
+                Socket socket = serverSocket.accept();
+                sessions.execute(() -> runSession(socket));
+            }
+        } catch (IOException e) {
+            if (!isStopping) {
+                throw e;
+            }
+        } finally {
+            isStopping = true;
+            sessions.shutdown();
+            endSessions();
+            Files.deleteIfExists(addressFile);
+        }
+    }
+
+    private void endSessions() {
+        for (Socket socket : openSockets) {
+            try {
+                socket.shutdownInput();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, LOG_SESSION_FAILED, e);
+            }
+        }
+        try {
+            if (!sessions.awaitTermination(SESSIONS_STOP_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warning(String.format(LOG_SESSIONS_UNFINISHED, SESSIONS_STOP_SECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops accepting sessions, letting commands already running finish.
+     */
+    public void stop() {
+        isStopping = true;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, e.getMessage(), e);
+        }
+    }
+
+    private void runSession(Socket socket) {
+        openSockets.add(socket);
+        try (socket) {
+            if (isStopping) {
+                return;
+            }
+            socket.setTcpNoDelay(true);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (DaemonProtocol.readKind(input) != DaemonProtocol.TOKEN
+                    || !AddressFile.isValidToken(token, DaemonProtocol.readText(input))) {
+                DaemonProtocol.write(output, DaemonProtocol.ERROR, INVALID_TOKEN);
+                return;
+            }
+
+            ArrayDeque<String> pageTrace = new ArrayDeque<>();
+            pageTrace.add(MAIN_PAGE);
+            int kind;
+            while ((kind = DaemonProtocol.readKind(input)) >= 0) {
+                String text = DaemonProtocol.readText(input);
+                if (kind == DaemonProtocol.COMMAND) {
+                    runCommand(text, pageTrace, output);
+                } else if (kind == DaemonProtocol.STOP) {
+                    DaemonProtocol.write(output, DaemonProtocol.RESPONSE, STOPPED);
+                    stop();
+                    return;
+                } else {
+                    DaemonProtocol.write(output, DaemonProtocol.ERROR, UNKNOWN_FRAME);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, LOG_SESSION_FAILED, e);
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    private void runCommand(String input, ArrayDeque<String> pageTrace, DataOutputStream output)
+            throws IOException {
+        try {
+            DaemonProtocol.write(output, DaemonProtocol.RESPONSE, spinBox.execute(input, pageTrace, false));
+        } catch (SpinBoxException e) {
+            DaemonProtocol.write(output, DaemonProtocol.ERROR, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package spinbox.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Forwards commands to a running {@link Daemon} and prints its responses, loading nothing of SpinBox but the
+ * protocol. Run with 'java -cp [classpath] spinbox.daemon.DaemonClient add CS2113T / todo Revise' to run
+ * a single command, without arguments to run one command per line of standard input in a single session,
+ * or with '--stop' to stop the daemon.
+ * The exit status is 0 if every command succeeded, 1 if a command failed and 3 if no daemon could be reached.
+ */
+public class DaemonClient {
+    private static final String STOP_FLAG = "--stop";
+    private static final String NO_DAEMON = "No SpinBox daemon is running here. Start one with '"
+            + Daemon.DAEMON_FLAG + "'.";
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_COMMAND_FAILED = 1;
+    private static final int EXIT_NO_DAEMON = 3;
+
+    private DaemonClient() {
+    }
+
+    /**
+     * Sends the commands given as arguments or on standard input to the daemon.
+     * @param args The words of a single command, '--stop', or nothing to read commands from standard input.
+     * @throws IOException If standard input cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        List<String> commands = new ArrayList<>();
+        boolean isStopping = args.length == 1 && args[0].equals(STOP_FLAG);
+        if (args.length > 0 && !isStopping) {
+            commands.add(String.join(" ", args));
+        } else if (!isStopping) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    commands.add(line);
+                }
+            }
+        }
+        System.exit(run(Paths.get(DaemonProtocol.ADDRESS_FILE), commands, isStopping, System.out, System.err));
+    }
+
+    /**
+     * Sends commands to the daemon advertised by an address file in a single session.
+     * @param addressFile The address file written by the daemon.
+     * @param commands The commands to be run, in order.
+     * @param isStopping Whether to stop the daemon after the commands.
+     * @param out Receives the responses.
+     * @param err Receives the errors.
+     * @return The exit status.
+     */
+    public static int run(Path addressFile, List<String> commands, boolean isStopping, PrintStream out,
+                          PrintStream err) {
+        String[] address;
+        try {
+            address = AddressFile.read(addressFile);
+        } catch (IOException e) {
+            err.println(NO_DAEMON);
+            return EXIT_NO_DAEMON;
+        }
+
+        int status = EXIT_SUCCESS;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(address[0]))) {
+            socket.setTcpNoDelay(true);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DaemonProtocol.write(output, DaemonProtocol.TOKEN, address[1]);
+            for (String command : commands) {
+                DaemonProtocol.write(output, DaemonProtocol.COMMAND, command);
+                if (!printReply(input, out, err)) {
+                    status = EXIT_COMMAND_FAILED;
+                }
+            }
+            if (isStopping) {
+                DaemonProtocol.write(output, DaemonProtocol.STOP, "");
+                printReply(input, out, err);
+            }
+        } catch (IOException | RuntimeException e) {
+            err.println(NO_DAEMON);
+            return EXIT_NO_DAEMON;
+        }
+        return status;
+    }
+
+    private static boolean printReply(DataInputStream input, PrintStream out, PrintStream err) throws IOException {
+        int kind = DaemonProtocol.readKind(input);
+        if (kind < 0) {
+            throw new IOException(NO_DAEMON);
+        }
+        String text = DaemonProtocol.readText(input);
+        if (kind == DaemonProtocol.ERROR) {
+            err.println(text);
+            return false;
+        }
+        out.println(text);
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+package spinbox.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The frames exchanged between the daemon and its clients. Every frame is a kind byte followed by a length
+ * prefixed UTF-8 string. The client first sends its token, then commands, and the daemon answers each command
+ * with a response or an error.
+ * Kept free of other SpinBox classes so that the client loads nothing but this and the JDK.
+ */
+public class DaemonProtocol {
+    public static final byte TOKEN = 'T';
+    public static final byte COMMAND = 'C';
+    public static final byte STOP = 'S';
+    public static final byte RESPONSE = 'R';
+    public static final byte ERROR = 'E';
+    public static final String ADDRESS_FILE = "SpinBoxData/daemon.address";
+    private static final int MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+    private static final String FRAME_TOO_LONG = "Frame too long: ";
+
+    private DaemonProtocol() {
+    }
+
+    /**
+     * Writes a frame and flushes it.
+     * @param output The stream written to.
+     * @param kind The kind of the frame.
+     * @param text The text of the frame.
+     * @throws IOException If the stream cannot be written.
+     */
+    public static void write(DataOutputStream output, byte kind, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        output.writeByte(kind);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+        output.flush();
+    }
+
+    /**
+     * Reads the kind byte of the next frame.
+     * @param input The stream read from.
+     * @return The kind of the frame, or -1 if the stream has ended.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static int readKind(DataInputStream input) throws IOException {
+        return input.read();
+    }
+
+    /**
+     * Reads the text of a frame whose kind has been read.
+     * @param input The stream read from.
+     * @return The text of the frame.
+     * @throws IOException If the stream cannot be read or the frame is malformed.
+     */
+    public static String readText(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_FRAME_LENGTH) {
+            throw new IOException(FRAME_TOO_LONG + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -2,11 +2,14 @@ package spinbox.datapersistors;
 
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.FileCreationException;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
+import spinbox.stats.StorageStats;
+import spinbox.stats.StorageStats.Operation;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public abstract class FileDataWriter {
@@ -23,19 +26,41 @@ public abstract class FileDataWriter {
      */
     public FileDataWriter(String fileLocation) throws FileCreationException {
         LOGGER.entering(getClass().getName(), "Constructor");
-        LOGGER.setLevel(Level.WARNING);
+        spinBoxFile = new File(fileLocation);
+        StartupProfiler.begin();
+        try {
+            this.createFile();
+        } finally {
+            StartupProfiler.end(fileLocation, Step.CREATE_FILES);
+        }
+        LOGGER.exiting(getClass().getName(), "Constructor");
+    }
+
+    /**
+     * Creates the file and/or folder as needed, such as when they have been deleted while this writer is in use.
+     * @throws FileCreationException An exception is thrown for file creation errors.
+     */
+    public void createFile() throws FileCreationException {
+        long startTime = System.nanoTime();
         try {
-            spinBoxFile = new File(fileLocation);
             boolean directoryMade = spinBoxFile.getParentFile().mkdir();
             boolean fileCreated = spinBoxFile.createNewFile();
-            LOGGER.info(LOG_DIRECTORY_FILE_BOOLEAN + directoryMade + " " + fileCreated + " " + fileLocation);
+            if (fileCreated) {
+                StorageStats.record(spinBoxFile.getPath(), Operation.CREATE, 0, 0, System.nanoTime() - startTime);
+            }
+            LOGGER.info(() -> LOG_DIRECTORY_FILE_BOOLEAN + directoryMade + " " + fileCreated + " "
+                    + spinBoxFile.getPath());
         } catch (IOException e) {
-            LOGGER.warning(LOG_ERROR_IO_CREATION + fileLocation);
+            StorageStats.recordFailure(spinBoxFile.getPath(), Operation.CREATE, System.nanoTime() - startTime);
+            LOGGER.warning(LOG_ERROR_IO_CREATION + spinBoxFile.getPath());
             throw new FileCreationException(e.getMessage());
         }
         assert spinBoxFile.exists();
         assert spinBoxFile.isFile();
-        LOGGER.exiting(getClass().getName(), "Constructor");
+    }
+
+    public String getPath() {
+        return spinBoxFile.getPath();
     }
 
     public abstract void writeData(List<String> items) throws DataReadWriteException;
@@ -2,7 +2,6 @@ package spinbox.datapersistors.exporter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ExportConverter {
@@ -17,14 +16,12 @@ public class ExportConverter {
      * @return A list of the same objects converted to Strings to be sent for export.
      */
     public static List<String> convertForExport(List<? extends Exportable> originalList) {
-        LOGGER.setUseParentHandlers(true);
-        LOGGER.setLevel(Level.INFO);
         LOGGER.info(CONVERSION_START);
         List<String> returnList = new ArrayList<>();
 
         for (int index = 0; index < originalList.size(); index++) {
             Exportable currentElement = originalList.get(index);
-            LOGGER.fine(INDIVIDUAL_CONVERSION + currentElement.exportString());
+            LOGGER.fine(() -> INDIVIDUAL_CONVERSION + currentElement.exportString());
             returnList.add(currentElement.exportString());
         }
 
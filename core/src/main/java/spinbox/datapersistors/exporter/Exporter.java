@@ -4,13 +4,14 @@ import spinbox.DateTime;
 import spinbox.datapersistors.FileDataWriter;
 import spinbox.exceptions.DataReadWriteException;
 import spinbox.exceptions.FileCreationException;
+import spinbox.stats.StorageStats;
+import spinbox.stats.StorageStats.Operation;
 
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Date;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class Exporter extends FileDataWriter {
@@ -34,11 +35,9 @@ public class Exporter extends FileDataWriter {
      */
     public Exporter(String fileLocation, String titleLine) throws FileCreationException {
         super(fileLocation);
-        LOGGER.setLevel(Level.INFO);
-        LOGGER.setUseParentHandlers(true);
         LOGGER.entering(getClass().getName(), "Constructor");
         this.titleLine = titleLine;
-        LOGGER.fine(LOG_TITLE_FILEPATH + titleLine + ", " + fileLocation);
+        LOGGER.fine(() -> LOG_TITLE_FILEPATH + titleLine + ", " + fileLocation);
         LOGGER.exiting(getClass().getName(), "Constructor");
     }
 
@@ -51,6 +50,7 @@ public class Exporter extends FileDataWriter {
     public void writeData(List<String> exportables) throws DataReadWriteException {
         LOGGER.entering(getClass().getName(), "writeData");
         assert spinBoxFile.exists();
+        long startTime = System.nanoTime();
         try {
             BufferedWriter outputStream = new BufferedWriter(new FileWriter(spinBoxFile));
             writeTitle(outputStream);
@@ -59,7 +59,10 @@ public class Exporter extends FileDataWriter {
                 writeExportChunk(lineNumber, exportables.get(lineNumber), outputStream);
             }
             outputStream.close();
+            StorageStats.record(spinBoxFile.getPath(), Operation.EXPORT, exportables.size(), spinBoxFile.length(),
+                    System.nanoTime() - startTime);
         } catch (IOException e) {
+            StorageStats.recordFailure(spinBoxFile.getPath(), Operation.EXPORT, System.nanoTime() - startTime);
             LOGGER.warning(LOG_ERROR_IO_READ_WRITE + spinBoxFile.getPath());
             throw new DataReadWriteException();
         }
@@ -71,7 +74,7 @@ public class Exporter extends FileDataWriter {
         outputStream.write(titleLine);
         outputStream.write(TIMESTAMP);
         String currentTimeString = currentTime.toString();
-        LOGGER.info(EXPORT_TIME + TIMESTAMP + currentTimeString + ", " + spinBoxFile.getPath());
+        LOGGER.info(() -> EXPORT_TIME + TIMESTAMP + currentTimeString + ", " + spinBoxFile.getPath());
         outputStream.write(currentTimeString);
         outputStream.newLine();
         outputStream.newLine();
@@ -81,7 +84,7 @@ public class Exporter extends FileDataWriter {
     private void writeExportChunk(int lineNumber, String exportString, BufferedWriter outputStream)
             throws IOException {
         LOGGER.entering(getClass().getName(), "writeExportChunk");
-        LOGGER.fine(LOG_WRITE + spinBoxFile.getPath() + " : " + exportString);
+        LOGGER.fine(() -> LOG_WRITE + spinBoxFile.getPath() + " : " + exportString);
         outputStream.write(Integer.toString(lineNumber + 1));
         outputStream.write(". ");
         outputStream.write(exportString);
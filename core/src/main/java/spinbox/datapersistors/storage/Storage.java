@@ -0,0 +1,247 @@
+package spinbox.datapersistors.storage;
+
+import spinbox.datapersistors.FileDataWriter;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.FileCreationException;
+import spinbox.stats.CommandStats;
+import spinbox.stats.CommandStats.Phase;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
+import spinbox.stats.StorageStats;
+import spinbox.stats.StorageStats.Operation;
+import spinbox.stats.events.StorageEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+public class Storage extends FileDataWriter {
+    private static final Logger LOGGER = Logger.getLogger(Storage.class.getName());
+    private static final String LOG_ERROR_IO_READ_WRITE = "Error R/W file, storage error propagated "
+            + "upwards. Filepath: ";
+    private static final String LOG_READ = "Reading from : ";
+    private static final String LOG_LINES = " lines";
+    private static final String LOG_WRITE = "Writing to : ";
+    private static final String LOG_DEFERRED = "Deferred writing to : ";
+    private static final String LOG_FLUSHED = "Flushed deferred writes to files: ";
+    private static final String LOG_UNFLUSHED = "Kept unflushed writes to files: ";
+
+    private static final ThreadLocal<Map<String, List<String>>> DEFERRED_WRITES = new ThreadLocal<>();
+    private static final Map<String, List<String>> UNFLUSHED_WRITES = new LinkedHashMap<>();
+
+    /**
+     * This constructor takes in a path, creating the file and/or folder as needed.
+     * @param fileLocation relative path of the text file to store data in.
+     * @throws FileCreationException An exception is thrown for file creation errors.
+     */
+    public Storage(String fileLocation) throws FileCreationException {
+        super(fileLocation);
+        LOGGER.entering(getClass().getName(), "Constructor");
+        LOGGER.exiting(getClass().getName(), "Constructor");
+    }
+
+    /**
+     * Retrieves lines of text from within the text file.
+     * @return A list containing Strings of data retrieved from the text file.
+     * @throws DataReadWriteException An exception is thrown for I/O errors.
+     */
+    public List<String> loadData() throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "loadData");
+        assert spinBoxFile.exists();
+        Map<String, List<String>> deferredWrites = DEFERRED_WRITES.get();
+        if (deferredWrites != null && deferredWrites.containsKey(spinBoxFile.getPath())) {
+            LOGGER.exiting(getClass().getName(), "loadData");
+            return new ArrayList<>(deferredWrites.get(spinBoxFile.getPath()));
+        }
+        synchronized (Storage.class) {
+            if (UNFLUSHED_WRITES.containsKey(spinBoxFile.getPath())) {
+                LOGGER.exiting(getClass().getName(), "loadData");
+                return new ArrayList<>(UNFLUSHED_WRITES.get(spinBoxFile.getPath()));
+            }
+        }
+        ArrayList<String> lines = new ArrayList<>();
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        StartupProfiler.begin();
+        long startTime = System.nanoTime();
+        try {
+            String currentLine;
+            BufferedReader inputStream = new BufferedReader(new FileReader(spinBoxFile));
+            while ((currentLine = inputStream.readLine()) != null) {
+                lines.add(currentLine);
+            }
+            inputStream.close();
+            LOGGER.fine(() -> LOG_READ + spinBoxFile.getPath() + " : " + lines.size() + LOG_LINES);
+        } catch (IOException e) {
+            StorageStats.recordFailure(spinBoxFile.getPath(), Operation.LOAD, System.nanoTime() - startTime);
+            commitEvent(event, Operation.LOAD, spinBoxFile, 0, 0, true);
+            LOGGER.warning(LOG_ERROR_IO_READ_WRITE + spinBoxFile.getPath());
+            throw new DataReadWriteException();
+        } finally {
+            StartupProfiler.end(spinBoxFile.getPath(), Step.READ);
+        }
+        long bytes = spinBoxFile.length();
+        StorageStats.record(spinBoxFile.getPath(), Operation.LOAD, lines.size(), bytes,
+                System.nanoTime() - startTime);
+        commitEvent(event, Operation.LOAD, spinBoxFile, lines.size(), bytes, false);
+        LOGGER.exiting(getClass().getName(), "loadData");
+        return lines;
+    }
+
+    /**
+     * Saves lines of text to a text file at the path specified. While the current thread defers writes, the lines
+     * are only kept in memory until its next flush, replacing any lines kept earlier for the same file.
+     * @param lines List of Strings to be saved line by line to the text file.
+     * @throws DataReadWriteException An exception is thrown for I/O errors.
+     */
+    @Override
+    public void writeData(List<String> lines) throws DataReadWriteException {
+        LOGGER.entering(getClass().getName(), "saveData");
+        assert spinBoxFile.exists();
+        Map<String, List<String>> deferredWrites = DEFERRED_WRITES.get();
+        if (deferredWrites != null) {
+            deferredWrites.put(spinBoxFile.getPath(), new ArrayList<>(lines));
+            LOGGER.fine(() -> LOG_DEFERRED + spinBoxFile.getPath());
+            LOGGER.exiting(getClass().getName(), "saveData");
+            return;
+        }
+        synchronized (Storage.class) {
+            UNFLUSHED_WRITES.remove(spinBoxFile.getPath());
+        }
+        writeLines(spinBoxFile, lines);
+        LOGGER.exiting(getClass().getName(), "saveData");
+    }
+
+    private static void writeLines(File file, List<String> lines) throws DataReadWriteException {
+        Phase previous = CommandStats.enter(Phase.PERSIST);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        try {
+            BufferedWriter outputStream = new BufferedWriter(new FileWriter(file));
+            for (String line : lines) {
+                writeStorageLine(file, line, outputStream);
+            }
+            outputStream.close();
+            long bytes = file.length();
+            StorageStats.record(file.getPath(), Operation.WRITE, lines.size(), bytes, System.nanoTime() - startTime);
+            commitEvent(event, Operation.WRITE, file, lines.size(), bytes, false);
+        } catch (IOException e) {
+            StorageStats.recordFailure(file.getPath(), Operation.WRITE, System.nanoTime() - startTime);
+            commitEvent(event, Operation.WRITE, file, 0, 0, true);
+            LOGGER.warning(LOG_ERROR_IO_READ_WRITE + file.getPath());
+            throw new DataReadWriteException();
+        } finally {
+            CommandStats.exit(previous);
+        }
+    }
+
+    private static void commitEvent(StorageEvent event, Operation operation, File file, int lines, long bytes,
+            boolean isFailed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.toString();
+            event.path = file.getPath();
+            event.lines = lines;
+            event.bytes = bytes;
+            event.isFailed = isFailed;
+            event.commit();
+        }
+    }
+
+    private static void writeStorageLine(File file, String line, BufferedWriter outputStream)
+            throws IOException {
+        LOGGER.entering(Storage.class.getName(), "writeStorageLine");
+        LOGGER.fine(() -> LOG_WRITE + file.getPath() + " : " + line);
+        outputStream.write(line);
+        outputStream.newLine();
+        LOGGER.exiting(Storage.class.getName(), "writeStorageLine");
+    }
+
+    /**
+     * Starts deferring the writes made by the current thread, so that a file saved many times by a batch of
+     * commands is written only once per flush. Writes made by other threads, such as other sessions of a server,
+     * still go straight to their files.
+     * @return True if this call started deferring writes, false if the current thread was already deferring
+     *         writes, in which case the caller should leave stopping to whoever started.
+     */
+    public static boolean deferWrites() {
+        if (DEFERRED_WRITES.get() != null) {
+            return false;
+        }
+        DEFERRED_WRITES.set(new LinkedHashMap<>());
+        return true;
+    }
+
+    /**
+     * Writes the latest lines saved to each file by the current thread since its last flush, while continuing to
+     * defer writes. Files deleted since their lines were saved, such as those of a removed module, are not written.
+     * Lines that could not be written are kept and written again by the next flush, and lines kept by a failed
+     * stop are written again by any flush until the file is saved again.
+     * @return The number of files written.
+     * @throws DataReadWriteException If any file could not be written.
+     */
+    public static synchronized int flushDeferredWrites() throws DataReadWriteException {
+        int filesWritten = writeEntries(UNFLUSHED_WRITES);
+        Map<String, List<String>> deferredWrites = DEFERRED_WRITES.get();
+        if (deferredWrites != null) {
+            filesWritten += writeEntries(deferredWrites);
+        }
+        LOGGER.info(LOG_FLUSHED + filesWritten);
+        if (!UNFLUSHED_WRITES.isEmpty() || (deferredWrites != null && !deferredWrites.isEmpty())) {
+            throw new DataReadWriteException();
+        }
+        return filesWritten;
+    }
+
+    /**
+     * Flushes the deferred writes of the current thread and stops deferring them, so that its later writes go
+     * straight to their files. If the flush fails, the lines not written are kept and written by a later flush,
+     * or dropped once their file is saved again.
+     * @return The number of files written by the flush.
+     * @throws DataReadWriteException If any file could not be written.
+     */
+    public static synchronized int stopDeferringWrites() throws DataReadWriteException {
+        try {
+            return flushDeferredWrites();
+        } finally {
+            Map<String, List<String>> deferredWrites = DEFERRED_WRITES.get();
+            DEFERRED_WRITES.remove();
+            if (deferredWrites != null && !deferredWrites.isEmpty()) {
+                UNFLUSHED_WRITES.putAll(deferredWrites);
+                LOGGER.warning(LOG_UNFLUSHED + deferredWrites.keySet());
+            }
+        }
+    }
+
+    /**
+     * Writes the lines of each file, removing the entries written and keeping those that failed.
+     */
+    private static int writeEntries(Map<String, List<String>> entries) {
+        int filesWritten = 0;
+        Iterator<Map.Entry<String, List<String>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<String>> entry = iterator.next();
+            File file = new File(entry.getKey());
+            try {
+                if (file.exists()) {
+                    writeLines(file, entry.getValue());
+                    filesWritten++;
+                }
+                iterator.remove();
+            } catch (DataReadWriteException e) {
+                LOGGER.fine(() -> LOG_UNFLUSHED + file.getPath());
+            }
+        }
+        return filesWritten;
+    }
+}
@@ -1,18 +1,16 @@
 package spinbox.entities;
 
-import javafx.util.Pair;
 import spinbox.DateTime;
 import spinbox.entities.items.tasks.Schedulable;
 import spinbox.entities.items.tasks.Task;
 import spinbox.exceptions.DateFormatException;
-import spinbox.gui.MainWindow;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
 public class Calendar {
-    private static final Logger LOGGER = Logger.getLogger(MainWindow.class.getName());
+    private static final Logger LOGGER = Logger.getLogger(Calendar.class.getName());
     private static final String LOG_CORRUPTED = "Calendar fail to initialise";
     private static final String MIDNIGHT = " 00:00";
     private static final String BEFORE_MIDNIGHT = " 23:59";
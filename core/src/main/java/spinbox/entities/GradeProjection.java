@@ -0,0 +1,200 @@
+package spinbox.entities;
+
+import spinbox.entities.items.GradedComponent;
+import spinbox.exceptions.InputException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public class GradeProjection {
+    private static final String NO_DISTRIBUTION = "Please provide a score distribution for graded component ";
+    private static final String NO_HISTORY = " as there are no scored components to project from.";
+    private static final String ALREADY_SCORED = "This graded component has already been scored: ";
+    private static final String NOTHING_TO_PROJECT = "All graded components have been scored, "
+            + "there is nothing to project.";
+    private static final int BUCKETS_PER_PERCENT = 10;
+    private static final int HISTOGRAM_SIZE = 100 * BUCKETS_PER_PERCENT + 1;
+    private static final int TRIALS_PER_CHUNK = 1 << 16;
+    private static final int MAX_CHUNKS = 256;
+    private static final double MAX_PERCENTAGE = 100.0;
+    private static final double EMPIRICAL = -1.0;
+
+    private double knownScore;
+    private double[] weights;
+    private double[] means;
+    private double[] spreads;
+    private double[] history;
+
+    /**
+     * Prepares a projection over the unscored components of a module.
+     * Unscored components without a provided distribution are sampled from the histogram of percentages
+     * attained for the components that have already been scored.
+     * @param components The graded components of the module, in the order shown to the user.
+     * @param distributions Index of component mapped to {mean, spread}, both as percentages.
+     * @throws InputException If a distribution is given for a scored component, or no distribution can be found.
+     */
+    public GradeProjection(List<GradedComponent> components, Map<Integer, double[]> distributions)
+            throws InputException {
+        List<Double> pastPercentages = new ArrayList<>();
+        List<Integer> unscored = new ArrayList<>();
+        for (int i = 0; i < components.size(); i++) {
+            GradedComponent component = components.get(i);
+            if (component.isScoreKnown()) {
+                knownScore += component.getWeightedScore();
+                if (component.getWeight() > 0) {
+                    pastPercentages.add(component.getWeightedScore() / component.getWeight() * MAX_PERCENTAGE);
+                }
+                if (distributions.containsKey(i)) {
+                    throw new InputException(ALREADY_SCORED + (i + 1));
+                }
+            } else {
+                unscored.add(i);
+            }
+        }
+        if (unscored.isEmpty()) {
+            throw new InputException(NOTHING_TO_PROJECT);
+        }
+
+        history = pastPercentages.stream().mapToDouble(Double::doubleValue).toArray();
+        weights = new double[unscored.size()];
+        means = new double[unscored.size()];
+        spreads = new double[unscored.size()];
+        for (int c = 0; c < unscored.size(); c++) {
+            int index = unscored.get(c);
+            weights[c] = components.get(index).getWeight();
+            double[] distribution = distributions.get(index);
+            if (distribution != null) {
+                means[c] = distribution[0];
+                spreads[c] = Math.abs(distribution[1]);
+            } else if (history.length > 0) {
+                spreads[c] = EMPIRICAL;
+            } else {
+                throw new InputException(NO_DISTRIBUTION + (index + 1) + NO_HISTORY);
+            }
+        }
+    }
+
+    /**
+     * Simulates the final module score across all available cores.
+     * Each chunk of trials owns a split of the seeded generator, so results depend only on the seed.
+     * @param trials Number of outcomes to simulate.
+     * @param target The final score, out of 100, to compute the probability of reaching.
+     * @param seed Seed of the root generator.
+     * @return The distribution of the simulated final scores.
+     */
+    public Result simulate(long trials, double target, long seed) {
+        assert trials > 0;
+        int chunks = (int) Math.min(MAX_CHUNKS, (trials + TRIALS_PER_CHUNK - 1) / TRIALS_PER_CHUNK);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] generators = new SplittableRandom[chunks];
+        long[] chunkTrials = new long[chunks];
+        for (int i = 0; i < chunks; i++) {
+            generators[i] = root.split();
+            chunkTrials[i] = trials / chunks + ((i < trials % chunks) ? 1 : 0);
+        }
+
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(i -> runChunk(generators[i], chunkTrials[i], target))
+                .reduce(Result::merge)
+                .orElseThrow();
+    }
+
+    private Result runChunk(SplittableRandom random, long trials, double target) {
+        Result result = new Result();
+        long[] histogram = result.histogram;
+        int componentCount = weights.length;
+        for (long t = 0; t < trials; t++) {
+            double total = knownScore;
+            for (int c = 0; c < componentCount; c++) {
+                double percentage;
+                if (spreads[c] == EMPIRICAL) {
+                    percentage = history[random.nextInt(history.length)];
+                } else {
+                    percentage = means[c] + spreads[c] * nextGaussian(random);
+                }
+                percentage = Math.max(0.0, Math.min(MAX_PERCENTAGE, percentage));
+                total += weights[c] * percentage / MAX_PERCENTAGE;
+            }
+            int bucket = (int) (total * BUCKETS_PER_PERCENT);
+            histogram[Math.max(0, Math.min(HISTOGRAM_SIZE - 1, bucket))]++;
+            if (total >= target) {
+                result.hits++;
+            }
+            result.sum += total;
+            result.min = Math.min(result.min, total);
+            result.max = Math.max(result.max, total);
+        }
+        result.trials = trials;
+        return result;
+    }
+
+    /**
+     * Box-Muller transform, keeping the inner loop free of allocations.
+     */
+    private static double nextGaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    public static class Result {
+        private long[] histogram = new long[HISTOGRAM_SIZE];
+        private long trials;
+        private long hits;
+        private double sum;
+        private double min = Double.MAX_VALUE;
+        private double max = -Double.MAX_VALUE;
+
+        private Result merge(Result other) {
+            for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                histogram[i] += other.histogram[i];
+            }
+            trials += other.trials;
+            hits += other.hits;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            return this;
+        }
+
+        public long getTrials() {
+            return trials;
+        }
+
+        public double getMean() {
+            return sum / trials;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        public double getProbabilityOfTarget() {
+            return (double) hits / trials;
+        }
+
+        /**
+         * Reads a percentile of the final score off the histogram, to a resolution of 0.1 marks.
+         * @param percentile A value between 0 and 100.
+         * @return The final score below which the given percentage of the simulated outcomes fall.
+         */
+        public double getPercentile(double percentile) {
+            long rank = (long) Math.ceil(percentile / MAX_PERCENTAGE * trials);
+            long seen = 0;
+            for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                seen += histogram[i];
+                if (seen >= rank && seen > 0) {
+                    return (double) i / BUCKETS_PER_PERCENT;
+                }
+            }
+            return (double) (HISTOGRAM_SIZE - 1) / BUCKETS_PER_PERCENT;
+        }
+    }
+}
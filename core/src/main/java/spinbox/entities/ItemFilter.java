@@ -0,0 +1,288 @@
+package spinbox.entities;
+
+import spinbox.DateTime;
+import spinbox.containers.lists.TagBitmap;
+import spinbox.containers.lists.TagIndex;
+import spinbox.entities.items.Item;
+import spinbox.entities.items.tasks.Schedulable;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.TaskType;
+import spinbox.exceptions.DateFormatException;
+import spinbox.exceptions.InputException;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Conditions given after the 'where' keyword, such as "done=false type=LAB before: 12/01/2019 00:00".
+ * Conditions are combined with 'and' unless separated by 'or', and may be negated with 'not'.
+ * The conditions are compiled once into a tree of predicates that every item is then checked against.
+ */
+public class ItemFilter implements Predicate<Item> {
+    public static final String WHERE = "where";
+    private static final String DONE_KEY = "done=";
+    private static final String TYPE_KEY = "type=";
+    private static final String NAME_KEY = "name=";
+    private static final String TAG_KEY = "tag=";
+    private static final String BEFORE_KEY = "before:";
+    private static final String AFTER_KEY = "after:";
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String TYPE_SEPARATOR = ",";
+    private static final String NO_CONDITIONS = "Please provide at least one condition after 'where'.";
+    private static final String INVALID_CONDITION = "Please use valid conditions after 'where':\n"
+            + "done=<true/false> name=<keyword> tag=<tag> type=<task types separated by ','> "
+            + "before: <MM/DD/YYYY HH:MM> after: <MM/DD/YYYY HH:MM>\n"
+            + "Conditions may be negated with 'not' and combined with 'or'.\n"
+            + "Note: type, before and after are only available for tasks.";
+    private static final String INVALID_DONE_VALUE = "Please use done=true or done=false.";
+    private static final String INVALID_TYPE = "Please use a valid task type: ";
+    private static final String INVALID_TAG = "Tags may only contain letters, digits, '-' and '_': ";
+
+    private Predicate<Item> predicate;
+    private Boolean doneBound;
+    private EnumSet<TaskType> taskTypeBound;
+    private DateTime beforeBound;
+    private DateTime afterBound;
+    private List<String> tagBound;
+    private List<TagTerm> tagTerms = new ArrayList<>();
+    private boolean isOnlyTags = true;
+
+    /**
+     * Parses and compiles the conditions following the 'where' keyword.
+     * @param conditions The conditions following the 'where' keyword.
+     * @param isForTasks Whether task only conditions (type, before and after) are allowed.
+     * @throws InputException If a condition is invalid or there are no conditions.
+     * @throws DateFormatException If the date of a before or after condition is invalid.
+     */
+    public ItemFilter(String conditions, boolean isForTasks) throws InputException, DateFormatException {
+        String[] tokens = conditions.trim().split("\\s+");
+        List<Predicate<Item>> alternatives = new ArrayList<>();
+        Predicate<Item> conjunction = null;
+        TagTerm tagTerm = new TagTerm();
+        boolean isNegated = false;
+        int i = 0;
+        while (i < tokens.length && !tokens[i].isEmpty()) {
+            String token = tokens[i];
+            String lowerToken = token.toLowerCase();
+            i++;
+            if (lowerToken.equals(NOT)) {
+                isNegated = !isNegated;
+                continue;
+            } else if (lowerToken.equals(AND) || lowerToken.equals(OR)) {
+                if (conjunction == null || isNegated) {
+                    throw new InputException(INVALID_CONDITION);
+                }
+                if (lowerToken.equals(OR)) {
+                    alternatives.add(conjunction);
+                    conjunction = null;
+                    tagTerms.add(tagTerm);
+                    tagTerm = new TagTerm();
+                }
+                continue;
+            }
+
+            Predicate<Item> condition;
+            isOnlyTags = isOnlyTags && lowerToken.startsWith(TAG_KEY);
+            if (lowerToken.startsWith(TAG_KEY)) {
+                String tag = lowerToken.substring(TAG_KEY.length());
+                if (!Item.isValidTag(tag)) {
+                    throw new InputException(INVALID_TAG + tag);
+                }
+                condition = item -> item.hasTag(tag);
+                (isNegated ? tagTerm.excluded : tagTerm.included).add(tag);
+            } else if (lowerToken.startsWith(DONE_KEY)) {
+                Boolean isDone = parseDone(lowerToken.substring(DONE_KEY.length()));
+                condition = item -> isDone.equals(item.getDone());
+                if (!isNegated) {
+                    doneBound = isDone;
+                }
+            } else if (lowerToken.startsWith(NAME_KEY) && token.length() > NAME_KEY.length()) {
+                String keyword = lowerToken.substring(NAME_KEY.length());
+                condition = item -> item.getName().toLowerCase().contains(keyword);
+            } else if (isForTasks && lowerToken.startsWith(TYPE_KEY)) {
+                EnumSet<TaskType> taskTypes = parseTaskTypes(token.substring(TYPE_KEY.length()));
+                condition = item -> item instanceof Task && taskTypes.contains(((Task) item).getTaskType());
+                if (!isNegated) {
+                    taskTypeBound = taskTypes;
+                }
+            } else if (isForTasks && (lowerToken.equals(BEFORE_KEY) || lowerToken.equals(AFTER_KEY))) {
+                StringBuilder date = new StringBuilder();
+                while (i < tokens.length && !isKeyword(tokens[i].toLowerCase())) {
+                    date.append(date.length() == 0 ? "" : " ").append(tokens[i]);
+                    i++;
+                }
+                if (date.length() == 0) {
+                    throw new InputException(INVALID_CONDITION);
+                }
+                DateTime dateTime = new DateTime(date.toString());
+                if (lowerToken.equals(BEFORE_KEY)) {
+                    condition = item -> getStartDate(item) != null && getStartDate(item).before(dateTime);
+                    beforeBound = isNegated ? beforeBound : dateTime;
+                } else {
+                    condition = item -> getStartDate(item) != null && getStartDate(item).after(dateTime);
+                    afterBound = isNegated ? afterBound : dateTime;
+                }
+            } else {
+                throw new InputException(INVALID_CONDITION);
+            }
+
+            if (isNegated) {
+                condition = condition.negate();
+                isNegated = false;
+            }
+            conjunction = (conjunction == null) ? condition : conjunction.and(condition);
+        }
+
+        if (conjunction == null && alternatives.isEmpty()) {
+            throw new InputException(NO_CONDITIONS);
+        } else if (conjunction == null || isNegated) {
+            throw new InputException(INVALID_CONDITION);
+        }
+        alternatives.add(conjunction);
+        tagTerms.add(tagTerm);
+        if (!tagTerm.included.isEmpty()) {
+            tagBound = tagTerm.included;
+        }
+        predicate = alternatives.get(0);
+        for (int j = 1; j < alternatives.size(); j++) {
+            predicate = predicate.or(alternatives.get(j));
+        }
+        if (alternatives.size() > 1) {
+            clearBounds();
+        }
+    }
+
+    private static boolean isKeyword(String token) {
+        return token.startsWith(DONE_KEY) || token.startsWith(NAME_KEY) || token.startsWith(TYPE_KEY)
+                || token.startsWith(TAG_KEY)
+                || token.equals(BEFORE_KEY) || token.equals(AFTER_KEY)
+                || token.equals(AND) || token.equals(OR) || token.equals(NOT);
+    }
+
+    private static Boolean parseDone(String value) throws InputException {
+        switch (value) {
+        case "true":
+            return true;
+        case "false":
+            return false;
+        default:
+            throw new InputException(INVALID_DONE_VALUE);
+        }
+    }
+
+    private static EnumSet<TaskType> parseTaskTypes(String value) throws InputException {
+        EnumSet<TaskType> types = EnumSet.noneOf(TaskType.class);
+        for (String type : value.split(TYPE_SEPARATOR)) {
+            try {
+                types.add(TaskType.valueOf(type.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InputException(INVALID_TYPE + type);
+            }
+        }
+        return types;
+    }
+
+    private static DateTime getStartDate(Item item) {
+        if (item instanceof Task && ((Task) item).isSchedulable()) {
+            return ((Schedulable) item).getStartDate();
+        }
+        return null;
+    }
+
+    private void clearBounds() {
+        doneBound = null;
+        taskTypeBound = null;
+        beforeBound = null;
+        afterBound = null;
+        tagBound = null;
+    }
+
+    /**
+     * Checks an item against the conditions. Tasks that are not schedulable never satisfy a date condition.
+     * @param item The item to check.
+     * @return True if the item satisfies the conditions.
+     */
+    @Override
+    public boolean test(Item item) {
+        return predicate.test(item);
+    }
+
+    /**
+     * Returns the done status that every matching item must have, if the conditions require one.
+     * @return The required done status, or null if there is none.
+     */
+    public Boolean getDoneBound() {
+        return doneBound;
+    }
+
+    /**
+     * Returns the task types that every matching item must be one of, if the conditions require them.
+     * @return The allowed task types, or null if there are none.
+     */
+    public EnumSet<TaskType> getTaskTypeBound() {
+        return taskTypeBound;
+    }
+
+    /**
+     * Returns the date that every matching item must start before, if the conditions require one.
+     * @return The exclusive upper bound of the start date, or null if there is none.
+     */
+    public DateTime getBeforeBound() {
+        return beforeBound;
+    }
+
+    /**
+     * Returns the date that every matching item must start after, if the conditions require one.
+     * @return The exclusive lower bound of the start date, or null if there is none.
+     */
+    public DateTime getAfterBound() {
+        return afterBound;
+    }
+
+    /**
+     * Returns the tags that every matching item must have, if the conditions require them.
+     * @return The required tags, or null if there are none.
+     */
+    public List<String> getTagBound() {
+        return tagBound;
+    }
+
+    /**
+     * Checks whether every condition is a tag condition, so that the filter can be evaluated on tag bitmaps alone.
+     * @return True if there are only tag conditions.
+     */
+    public boolean isOnlyTags() {
+        return isOnlyTags;
+    }
+
+    /**
+     * Evaluates the tag conditions as bitwise operations on the bitmaps of a list, intersecting the bitmaps of the
+     * required tags, removing those of the negated tags, and uniting the alternatives.
+     * Only items satisfying the whole filter are found if {@link #isOnlyTags()} is true.
+     * @param tagIndex The bitmaps of the tags of the list.
+     * @return The bitmap of the items satisfying the tag conditions.
+     */
+    public TagBitmap matchTags(TagIndex tagIndex) {
+        TagBitmap matches = null;
+        for (TagTerm tagTerm : tagTerms) {
+            TagBitmap termMatches = tagIndex.getAll(tagTerm.included);
+            for (String tag : tagTerm.excluded) {
+                termMatches = termMatches.andNot(tagIndex.get(tag));
+            }
+            matches = (matches == null) ? termMatches : matches.or(termMatches);
+        }
+        return matches;
+    }
+
+    /**
+     * The required and negated tags of one alternative of the conditions.
+     */
+    private static class TagTerm {
+        private List<String> included = new ArrayList<>();
+        private List<String> excluded = new ArrayList<>();
+    }
+}
@@ -10,6 +10,9 @@ import spinbox.containers.lists.GradeList;
 import spinbox.containers.lists.TaskList;
 import spinbox.datapersistors.storage.Storable;
 
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
 public class Module implements Storable {
     private static final String STORE_DELIMITER = " | ";
     private static final String DELIMITER_FILTER = " \\| ";
@@ -20,6 +23,7 @@ public class Module implements Storable {
     private TaskList tasks;
     private GradeList grades;
     private Notepad notepad;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     /**
      * Constructor for module.
@@ -42,6 +46,24 @@ public class Module implements Storable {
 
     }
 
+    private Module(Module source) {
+        this.moduleCode = source.moduleCode;
+        this.moduleName = source.moduleName;
+        this.files = source.files.getSnapshot();
+        this.tasks = source.tasks.getSnapshot();
+        this.grades = source.grades.getSnapshot();
+        this.notepad = source.notepad.getSnapshot();
+    }
+
+    /**
+     * Returns a read-only snapshot of the module and its lists as they are now, for reading without holding
+     * the lock of the module. Must be called while holding at least the read lock of the module.
+     * @return The snapshot of the module.
+     */
+    public Module getSnapshot() {
+        return new Module(this);
+    }
+
     /**
      * Returns a human readable String of module information.
      * @return String containing code and name.
@@ -130,6 +152,14 @@ public class Module implements Storable {
         return notepad;
     }
 
+    /**
+     * Gets the lock guarding the lists and notepad of this module, held by commands while they run.
+     * @return The read/write lock of this module.
+     */
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
     /**
      * To be used upon once Module object has been constructed to populate pre-existing data.
      * @throws DataReadWriteException I/O error.
@@ -142,6 +172,19 @@ public class Module implements Storable {
         this.notepad.loadData();
     }
 
+    /**
+     * Recreates the storage files of this module and writes its current data into them.
+     * Used when a removed module is restored.
+     * @throws FileCreationException Error in creating the files to store data.
+     * @throws DataReadWriteException I/O error.
+     */
+    public void restoreStorage() throws FileCreationException, DataReadWriteException {
+        this.files.restoreStorage();
+        this.tasks.restoreStorage();
+        this.grades.restoreStorage();
+        this.notepad.restoreStorage();
+    }
+
     private void setModuleCode(String moduleCode) {
         this.moduleCode = moduleCode;
     }
@@ -0,0 +1,29 @@
+package spinbox.entities;
+
+/**
+ * An immutable pair of a key and a value, kept in the entities so that they do not depend on JavaFX.
+ * @param <K> The type of the key.
+ * @param <V> The type of the value.
+ */
+public class Pair<K, V> {
+    private final K key;
+    private final V value;
+
+    public Pair(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    public V getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + value;
+    }
+}
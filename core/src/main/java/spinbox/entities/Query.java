@@ -0,0 +1,243 @@
+package spinbox.entities;
+
+import spinbox.DateTime;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.SpinBoxList;
+import spinbox.entities.items.Item;
+import spinbox.entities.items.tasks.Schedulable;
+import spinbox.entities.items.tasks.Task;
+import spinbox.exceptions.DateFormatException;
+import spinbox.exceptions.InputException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A query over the items of one or more modules, made up of the conditions of an {@link ItemFilter} followed by
+ * optional 'module=', 'order' and 'limit' clauses, such as
+ * "type=LAB done=false module=CG1111,CS2113T order date limit 10".
+ * Matching items are streamed lazily, so a query with a limit and no order stops at the first matches found.
+ */
+public class Query {
+    private static final String LIMIT = "limit";
+    private static final String ORDER = "order";
+    private static final String DESCENDING = "desc";
+    private static final String ORDER_BY_NAME = "name";
+    private static final String ORDER_BY_DATE = "date";
+    private static final String MODULE_KEY = "module=";
+    private static final String ALL_MODULES = "ALL";
+    private static final String MODULE_SEPARATOR = ",";
+    private static final String MODULE_CODE_SEPARATOR = ": ";
+    private static final String INDEX_SEPARATOR = ". ";
+    private static final String INVALID_LIMIT = "Please provide a positive number after 'limit'.";
+    private static final String INVALID_ORDER = "Please use 'order name' or 'order date', followed by 'desc' "
+            + "for descending order.\nNote: ordering by date is only available for tasks.";
+    private static final String NON_EXISTENT_MODULE = "This module does not exist: ";
+
+    private ItemFilter filter;
+    private List<String> moduleCodes;
+    private Comparator<Match> order;
+    private int limit = Integer.MAX_VALUE;
+
+    /**
+     * Parses a query once, compiling its conditions into a filter.
+     * @param clause The query following the 'where' keyword.
+     * @param isForTasks Whether the query is over tasks, allowing task only conditions and ordering by date.
+     * @throws InputException If a condition or clause is invalid.
+     * @throws DateFormatException If the date of a before or after condition is invalid.
+     */
+    public Query(String clause, boolean isForTasks) throws InputException, DateFormatException {
+        String[] tokens = clause.trim().split("\\s+");
+        StringBuilder conditions = new StringBuilder();
+        int i = 0;
+        while (i < tokens.length) {
+            String token = tokens[i].toLowerCase();
+            i++;
+            if (token.equals(LIMIT)) {
+                limit = parseLimit((i < tokens.length) ? tokens[i] : "");
+                i++;
+            } else if (token.equals(ORDER)) {
+                order = parseOrder((i < tokens.length) ? tokens[i].toLowerCase() : "", isForTasks);
+                i++;
+                if (i < tokens.length && tokens[i].equalsIgnoreCase(DESCENDING)) {
+                    order = order.reversed();
+                    i++;
+                }
+            } else if (token.startsWith(MODULE_KEY)) {
+                moduleCodes = new ArrayList<>();
+                for (String moduleCode : token.substring(MODULE_KEY.length()).split(MODULE_SEPARATOR)) {
+                    moduleCodes.add(moduleCode.toUpperCase());
+                }
+            } else {
+                conditions.append(tokens[i - 1]).append(" ");
+            }
+        }
+        if (conditions.toString().trim().length() > 0) {
+            filter = new ItemFilter(conditions.toString(), isForTasks);
+        }
+        if (order != null) {
+            order = order.thenComparing(match -> match.moduleCode).thenComparingInt(match -> match.index);
+        }
+    }
+
+    private static int parseLimit(String value) throws InputException {
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit <= 0) {
+                throw new InputException(INVALID_LIMIT);
+            }
+            return limit;
+        } catch (NumberFormatException e) {
+            throw new InputException(INVALID_LIMIT);
+        }
+    }
+
+    private static Comparator<Match> parseOrder(String value, boolean isForTasks) throws InputException {
+        if (value.equals(ORDER_BY_NAME)) {
+            return Comparator.comparing(match -> match.item.getName(), String.CASE_INSENSITIVE_ORDER);
+        } else if (value.equals(ORDER_BY_DATE) && isForTasks) {
+            return Comparator.comparing(match -> getStartDate(match.item),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+        }
+        throw new InputException(INVALID_ORDER);
+    }
+
+    private static DateTime getStartDate(Item item) {
+        if (item instanceof Task && ((Task) item).isSchedulable()) {
+            return ((Schedulable) item).getStartDate();
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the query names the modules to be searched.
+     * @return True if the query has a 'module=' clause.
+     */
+    public boolean hasModuleScope() {
+        return moduleCodes != null;
+    }
+
+    /**
+     * Gets the codes of the modules named by the query.
+     * @return The module codes, or null if the query does not name any or names all modules.
+     */
+    public List<String> getModuleCodes() {
+        return (moduleCodes == null || moduleCodes.contains(ALL_MODULES)) ? null
+                : Collections.unmodifiableList(moduleCodes);
+    }
+
+    /**
+     * Gets the modules to be searched, ordered by module code. These are the modules named by the query if any,
+     * otherwise the module of the current page, otherwise all modules.
+     * @param moduleContainer The container of all modules.
+     * @param pageModuleCode The module code of the current page, or null if not on a module page.
+     * @return The modules to be searched.
+     * @throws InputException If a module to be searched does not exist.
+     */
+    public List<Module> getModules(ModuleContainer moduleContainer, String pageModuleCode) throws InputException {
+        List<String> codes = moduleCodes;
+        if (codes == null && pageModuleCode != null) {
+            codes = Collections.singletonList(pageModuleCode);
+        }
+        if (codes == null || codes.contains(ALL_MODULES)) {
+            codes = new ArrayList<>(moduleContainer.getModules().keySet());
+        }
+        List<Module> modules = new ArrayList<>();
+        for (String code : codes) {
+            if (!moduleContainer.checkModuleExists(code)) {
+                throw new InputException(NON_EXISTENT_MODULE + code);
+            }
+            modules.add(moduleContainer.getModule(code));
+        }
+        modules.sort(Comparator.comparing(Module::getModuleCode));
+        return modules;
+    }
+
+    /**
+     * Runs the query over a list of each module, numbering each match by its index in the full list so that it
+     * can be used in other commands. Matches are prefixed by module code when more than one module is searched.
+     * @param modules The modules to be searched.
+     * @param listOfModule Gets the list to be searched from a module.
+     * @return The matches in string format.
+     */
+    public List<String> run(List<Module> modules,
+                            Function<Module, ? extends SpinBoxList<? extends Item>> listOfModule) {
+        boolean isShowingModuleCode = modules.size() > 1;
+        return match(modules, listOfModule).stream()
+                .map(match -> (isShowingModuleCode ? match.moduleCode + MODULE_CODE_SEPARATOR : "")
+                        + (match.index + 1) + INDEX_SEPARATOR + match.item.getDisplayString())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs the query over a list of each module, keeping the module and index of each match for callers that
+     * format matches themselves.
+     * @param modules The modules to be searched.
+     * @param listOfModule Gets the list to be searched from a module.
+     * @return The matches, in order and within the limit of the query.
+     */
+    public List<Match> match(List<Module> modules,
+                             Function<Module, ? extends SpinBoxList<? extends Item>> listOfModule) {
+        Stream<Match> matches = modules.stream().flatMap(module -> {
+            SpinBoxList<? extends Item> list = listOfModule.apply(module);
+            List<? extends Item> items = list.getListView();
+            return list.findPositions(filter).mapToObj(i -> new Match(module.getModuleCode(), i, items.get(i)));
+        });
+
+        if (order != null && limit != Integer.MAX_VALUE) {
+            matches = selectFirst(matches);
+        } else if (order != null) {
+            matches = matches.sorted(order);
+        }
+        return matches.limit(limit).collect(Collectors.toList());
+    }
+
+    /**
+     * Keeps only the first matches in order using a bounded heap, instead of sorting every match.
+     */
+    private Stream<Match> selectFirst(Stream<Match> matches) {
+        PriorityQueue<Match> heap = new PriorityQueue<>(order.reversed());
+        matches.forEach(match -> {
+            heap.add(match);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<Match> selected = new ArrayList<>(heap);
+        selected.sort(order);
+        return selected.stream();
+    }
+
+    /**
+     * An item matching the query, with the module it belongs to and its index in the full list.
+     */
+    public static class Match {
+        private String moduleCode;
+        private int index;
+        private Item item;
+
+        Match(String moduleCode, int index, Item item) {
+            this.moduleCode = moduleCode;
+            this.index = index;
+            this.item = item;
+        }
+
+        public String getModuleCode() {
+            return moduleCode;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Item getItem() {
+            return item;
+        }
+    }
+}
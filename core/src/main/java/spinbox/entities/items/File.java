@@ -8,6 +8,7 @@ public class File extends Item {
     private static final String DELIMITER_FILTER = " \\| ";
     private static final String DOWNLOADED = "DOWNLOADED";
     private static final String NOT_DOWNLOADED = "NOT DOWNLOADED";
+    private static final int FILE_COMPONENT_COUNT = 2;
 
     /**
      * This constructor is used for recreation of SpinBox.Tasks.FileTask from storage.
@@ -38,13 +39,13 @@ public class File extends Item {
 
     @Override
     public String storeString() {
-        return super.storeString();
+        return super.storeString() + this.storeTags();
     }
 
     @Override
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         try {
-            String[] components = fromStorage.split(DELIMITER_FILTER);
+            String[] components = readTags(fromStorage, FILE_COMPONENT_COUNT).split(DELIMITER_FILTER);
             this.updateDone(Integer.parseInt(components[0]) == 1);
             this.setName(components[1]);
         } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
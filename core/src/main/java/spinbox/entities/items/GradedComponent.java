@@ -4,7 +4,6 @@ import spinbox.exceptions.CorruptedDataException;
 import spinbox.exceptions.InputException;
 
 import java.text.DecimalFormat;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class GradedComponent extends Item {
@@ -22,6 +21,7 @@ public class GradedComponent extends Item {
     private static final String BRACKET_CLOSE = "] ";
     private static final String COMPLETED = "COMPLETED";
     private static final String NOT_COMPLETED = "NOT COMPLETED";
+    private static final int GRADE_COMPONENT_COUNT = 5;
 
     private double weight;
     private boolean scoreKnown;
@@ -34,8 +34,6 @@ public class GradedComponent extends Item {
      */
     public GradedComponent(String name, double weight) {
         super(name);
-        LOGGER.setLevel(Level.INFO);
-        LOGGER.setUseParentHandlers(true);
         LOGGER.entering(getClass().getName(), "Constructor");
         this.weight = weight;
         this.scoreKnown = false;
@@ -76,10 +74,11 @@ public class GradedComponent extends Item {
     @Override
     public String storeString() {
         LOGGER.entering(getClass().getName(), "storeString");
-        LOGGER.fine(LOG_TO_STORAGE + this.toString());
+        LOGGER.fine(() -> LOG_TO_STORAGE + this.toString());
         LOGGER.exiting(getClass().getName(), "storeString");
         return super.storeString() + STORE_DELIMITER + (this.isScoreKnown() ? 1 : 0)
-            + STORE_DELIMITER + Double.toString(this.weight) + STORE_DELIMITER + Double.toString(this.weightedScore);
+            + STORE_DELIMITER + Double.toString(this.weight) + STORE_DELIMITER + Double.toString(this.weightedScore)
+            + this.storeTags();
     }
 
     /**
@@ -91,13 +90,13 @@ public class GradedComponent extends Item {
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         LOGGER.entering(getClass().getName(), "fromStoredString");
         try {
-            String[] components = fromStorage.split(DELIMITER_FILTER);
+            String[] components = readTags(fromStorage, GRADE_COMPONENT_COUNT).split(DELIMITER_FILTER);
             this.updateDone(Integer.parseInt(components[0]) == 1);
             this.setName(components[1]);
             this.setScoreKnown(Integer.parseInt(components[2]) == 1);
             this.setWeight(Double.parseDouble(components[3]));
             this.setWeightedScore(Double.parseDouble(components[4]));
-            LOGGER.fine(LOG_FROM_STORAGE + this.toString());
+            LOGGER.fine(() -> LOG_FROM_STORAGE + this.toString());
         } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
             LOGGER.severe(LOG_CORRUPTED + fromStorage);
             throw new CorruptedDataException();
@@ -172,16 +171,30 @@ public class GradedComponent extends Item {
 
     private void setScoreKnownAsTrue() {
         this.scoreKnown = true;
+        markChanged();
     }
 
     private void setScoreKnown(boolean scoreKnown) {
         this.scoreKnown = scoreKnown;
+        markChanged();
     }
 
-    private boolean isScoreKnown() {
+    /**
+     * Returns whether a score has been entered for this graded component.
+     * @return true if the weighted score is known, false otherwise.
+     */
+    public boolean isScoreKnown() {
         return this.scoreKnown;
     }
 
+    /**
+     * Returns the weighted score achieved for this graded component, out of its weight.
+     * @return a double, stating the weighted score, which is 0.0 if the score is not yet known.
+     */
+    public double getWeightedScore() {
+        return weightedScore;
+    }
+
     private void setComplete() {
         this.markDone();
         this.setScoreKnownAsTrue();
@@ -189,10 +202,12 @@ public class GradedComponent extends Item {
 
     private void setWeight(double weight) {
         this.weight = weight;
+        markChanged();
     }
 
     private void setWeightedScore(double weightedScore) {
         this.weightedScore = weightedScore;
+        markChanged();
     }
 
     private double calculateWeightedScore(double yourScore, double maximumScore) {
@@ -0,0 +1,226 @@
+package spinbox.entities.items;
+
+import spinbox.datapersistors.exporter.Exportable;
+import spinbox.datapersistors.storage.Storable;
+import spinbox.exceptions.CorruptedDataException;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+public abstract class Item implements Exportable, Storable, Cloneable {
+    private static final String STORE_DELIMITER = " | ";
+    private static final String BRACKET_OPEN = "[";
+    private static final String BRACKET_CLOSE = "] ";
+    private static final String DONE = "DONE";
+    private static final String NOT_DONE = "NOT DONE";
+    private static final String DELIMITER_FILTER = " \\| ";
+    private static final String TAG_PREFIX = "#";
+    private static final String TAG_SEPARATOR = " ";
+    private static final Pattern VALID_TAG = Pattern.compile("[a-z0-9_-]+");
+
+    private String name;
+    private Boolean isDone;
+    private TreeSet<String> tags = new TreeSet<>();
+    private String renderedString;
+    private String displayString;
+    private Item publishedVersion;
+
+    protected Item(String name) {
+        this.name = name;
+        this.isDone = false;
+    }
+
+    protected Item() {
+
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    protected void setName(String name) {
+        this.name = name;
+        markChanged();
+    }
+
+    public Boolean getDone() {
+        return isDone;
+    }
+
+    protected String getStatusText() {
+        return (this.getDone() ? DONE : NOT_DONE);
+    }
+
+    public String toString() {
+        return BRACKET_OPEN + this.getStatusText() + BRACKET_CLOSE + this.getName();
+    }
+
+    @Override
+    public String exportString() {
+        return this.getRenderedString();
+    }
+
+    /**
+     * Gives the item in string format as toString does, formatting it only once until the item changes.
+     * @return The string format of the item.
+     */
+    public String getRenderedString() {
+        String rendered = renderedString;
+        if (rendered == null) {
+            rendered = this.toString();
+            renderedString = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * Gives the item in string format followed by its tags, as shown in lists, formatting it only once until the
+     * item changes. The same string is returned until then, so callers may compare them by identity.
+     * @return The string format of the item with its tags.
+     */
+    public String getDisplayString() {
+        String display = displayString;
+        if (display == null) {
+            display = this.getRenderedString() + this.getTagsString();
+            displayString = display;
+        }
+        return display;
+    }
+
+    /**
+     * Discards the strings formatted for the item and its published version, to be called whenever anything shown
+     * by them changes.
+     */
+    protected void markChanged() {
+        renderedString = null;
+        displayString = null;
+        publishedVersion = null;
+    }
+
+    /**
+     * Gives a copy of the item as it is now for read-only snapshots, copying the item only once until it changes,
+     * so that snapshots taken in between share the copy. Must not be called while the item is being changed.
+     * @return The copy of the item, which must not be changed.
+     */
+    public Item getPublishedVersion() {
+        Item version = publishedVersion;
+        if (version == null) {
+            version = copy();
+            publishedVersion = version;
+        }
+        return version;
+    }
+
+    public String storeString() {
+        return (this.getDone() ? 1 : 0) + STORE_DELIMITER + this.getName();
+    }
+
+    /**
+     * Copies the item, so that later edits of either do not change the other.
+     * @return The copy of the item.
+     */
+    public Item copy() {
+        try {
+            Item copy = (Item) super.clone();
+            copy.tags = new TreeSet<>(tags);
+            copy.publishedVersion = null;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Checks whether a tag is made up of only lowercase letters, digits, '-' and '_'.
+     * @param tag The tag to be checked.
+     * @return True if the tag is valid.
+     */
+    public static boolean isValidTag(String tag) {
+        return VALID_TAG.matcher(tag).matches();
+    }
+
+    public Set<String> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    public boolean hasTag(String tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * Adds a tag to the item.
+     * @param tag The tag to be added, in any case.
+     * @return True if the item did not have the tag.
+     */
+    public boolean addTag(String tag) {
+        markChanged();
+        return tags.add(tag.toLowerCase());
+    }
+
+    /**
+     * Removes a tag from the item.
+     * @param tag The tag to be removed, in any case.
+     * @return True if the item had the tag.
+     */
+    public boolean removeTag(String tag) {
+        markChanged();
+        return tags.remove(tag.toLowerCase());
+    }
+
+    /**
+     * Gives the tags of the item for output, each preceded by '#'.
+     * @return The tags separated by spaces with a leading space, or an empty string if there are none.
+     */
+    public String getTagsString() {
+        StringBuilder tagsString = new StringBuilder();
+        for (String tag : tags) {
+            tagsString.append(TAG_SEPARATOR).append(TAG_PREFIX).append(tag);
+        }
+        return tagsString.toString();
+    }
+
+    /**
+     * Gives the tags of the item as the last component of its storage string.
+     * @return The tags component with its leading delimiter, or an empty string if there are no tags,
+     *         so that the storage string of an untagged item is the same as before tags were introduced.
+     */
+    protected String storeTags() {
+        return tags.isEmpty() ? "" : STORE_DELIMITER + getTagsString().trim();
+    }
+
+    /**
+     * Reads the tags of the item from its storage string, which has an extra last component only if the item
+     * was saved with tags. Any tags the item already had are replaced.
+     * @param fromStorage The storage string of the item.
+     * @param componentCount The number of components the storage string has without tags.
+     * @return The storage string without the tags component.
+     * @throws CorruptedDataException If the tags component is invalid.
+     */
+    protected String readTags(String fromStorage, int componentCount) throws CorruptedDataException {
+        tags.clear();
+        markChanged();
+        String[] components = fromStorage.split(DELIMITER_FILTER);
+        if (components.length <= componentCount) {
+            return fromStorage;
+        }
+        String tagsComponent = components[components.length - 1];
+        for (String tag : tagsComponent.split(TAG_SEPARATOR)) {
+            if (!tag.startsWith(TAG_PREFIX) || !isValidTag(tag.substring(TAG_PREFIX.length()))) {
+                throw new CorruptedDataException();
+            }
+            tags.add(tag.substring(TAG_PREFIX.length()));
+        }
+        return fromStorage.substring(0, fromStorage.length() - tagsComponent.length() - STORE_DELIMITER.length());
+    }
+
+    public void updateDone(Boolean done) {
+        isDone = done;
+        markChanged();
+    }
+
+    public void markDone() {
+        this.updateDone(true);
+    }
+}
@@ -38,7 +38,7 @@ public class Deadline extends Schedulable {
 
     @Override
     public String storeString() {
-        return "D | " + super.storeString() + " | " + this.getStartDateString();
+        return "D | " + super.storeString() + " | " + this.getStartDateString() + this.storeTags();
     }
 
     @Override
@@ -45,7 +45,8 @@ public class Event extends Schedulable {
 
     @Override
     public String storeString() {
-        return "E | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+        return "E | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString()
+                + this.storeTags();
     }
 
     @Override
@@ -45,7 +45,8 @@ public class Exam extends Schedulable {
 
     @Override
     public String storeString() {
-        return "EXAM | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+        return "EXAM | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString()
+                + this.storeTags();
     }
 
     @Override
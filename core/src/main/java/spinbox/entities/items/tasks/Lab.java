@@ -45,7 +45,8 @@ public class Lab extends Schedulable {
 
     @Override
     public String storeString() {
-        return "LAB | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+        return "LAB | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString()
+                + this.storeTags();
     }
 
     @Override
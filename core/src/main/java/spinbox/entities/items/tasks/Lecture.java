@@ -45,7 +45,8 @@ public class Lecture extends Schedulable {
 
     @Override
     public String storeString() {
-        return "LEC | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+        return "LEC | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString()
+                + this.storeTags();
     }
 
     @Override
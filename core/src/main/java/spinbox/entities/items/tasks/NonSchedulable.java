@@ -3,6 +3,7 @@ package spinbox.entities.items.tasks;
 import spinbox.exceptions.CorruptedDataException;
 
 public abstract class NonSchedulable extends Task {
+    private static final int NON_SCHEDULABLE_COMPONENT_COUNT = 3;
 
     /**
      * Constructor to initialize default values of any instances of children of Task.
@@ -20,7 +21,7 @@ public abstract class NonSchedulable extends Task {
     @Override
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         try {
-            String[] arguments = fromStorage.split(DELIMITER_FILTER);
+            String[] arguments = readTags(fromStorage, NON_SCHEDULABLE_COMPONENT_COUNT).split(DELIMITER_FILTER);
             int done = Integer.parseInt(arguments[1]);
             String taskName = arguments[2];
             this.updateDone(done == 1);
@@ -11,6 +11,8 @@ public abstract class Schedulable extends Task {
     private static final String EXCEPTION_MESSAGE_START_DATE_TIME =
             "Start Date cannot be earlier than the current date and time.";
     private static final String TODAY_STRING = "today";
+    private static final int DEADLINE_COMPONENT_COUNT = 4;
+    private static final int EVENT_COMPONENT_COUNT = 5;
 
     DateTime startDate;
     DateTime endDate;
@@ -54,7 +56,8 @@ public abstract class Schedulable extends Task {
     @Override
     public void fromStoredString(String fromStorage) throws CorruptedDataException {
         try {
-            String[] arguments = fromStorage.split(DELIMITER_FILTER);
+            int componentCount = (taskType == TaskType.DEADLINE) ? DEADLINE_COMPONENT_COUNT : EVENT_COMPONENT_COUNT;
+            String[] arguments = readTags(fromStorage, componentCount).split(DELIMITER_FILTER);
             this.setStartDate(new DateTime(arguments[3]));
             if (arguments.length == 5) {
                 this.setEndDate(new DateTime(arguments[4]));
@@ -77,10 +80,12 @@ public abstract class Schedulable extends Task {
 
     public void setStartDate(DateTime startDate) {
         this.startDate = startDate;
+        markChanged();
     }
 
     public void setEndDate(DateTime endDate) {
         this.endDate = endDate;
+        markChanged();
     }
 
     abstract String getStartDateString();
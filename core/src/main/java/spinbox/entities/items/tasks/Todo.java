@@ -31,6 +31,6 @@ public class Todo extends NonSchedulable {
 
     @Override
     public String storeString() {
-        return "T | " + super.storeString();
+        return "T | " + super.storeString() + this.storeTags();
     }
 }
@@ -48,7 +48,8 @@ public class Tutorial extends Schedulable {
 
     @Override
     public String storeString() {
-        return "TUT | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString();
+        return "TUT | " + super.storeString() + " | " + this.getStartDateString() + " | " + this.getEndDateString()
+                + this.storeTags();
     }
 
     @Override
@@ -0,0 +1,106 @@
+package spinbox.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler that publishes log records to another handler on a background thread, so that the thread logging
+ * never waits for a file or the console. Records wait in a bounded ring buffer; when it is full, new records are
+ * dropped rather than blocking, and a warning with the number dropped is published once there is room again.
+ */
+public class AsyncHandler extends Handler {
+    private static final String THREAD_NAME = "spinbox-log-writer";
+    private static final String DROPPED = "%d log records were dropped because logging fell behind.";
+
+    private final Handler target;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructor for a handler publishing to another handler, which starts the background thread.
+     * @param target The handler the records are published to, which formats and writes them.
+     * @param capacity The number of records the ring buffer holds.
+     */
+    public AsyncHandler(Handler target, int capacity) {
+        this.target = target;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::writeRecords, THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a record to be published on the background thread, or drops it if the buffer is full.
+     * The class and method that logged the record are found now, since they can only be found on the thread
+     * that logged it.
+     * @param record The log record.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        record.getSourceClassName();
+        if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private void writeRecords() {
+        try {
+            while (!isClosed) {
+                publishToTarget(buffer.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publishToTarget(LogRecord record) {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            target.publish(new LogRecord(Level.WARNING, String.format(DROPPED, dropped)));
+        }
+        target.publish(record);
+    }
+
+    /**
+     * Flushes the target handler. Records still in the buffer are not waited for.
+     */
+    @Override
+    public void flush() {
+        target.flush();
+    }
+
+    /**
+     * Stops the background thread, publishes the records left in the buffer on the calling thread, and closes the
+     * target handler.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<LogRecord> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        for (LogRecord record : remaining) {
+            publishToTarget(record);
+        }
+        target.close();
+    }
+}
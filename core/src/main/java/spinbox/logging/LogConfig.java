@@ -0,0 +1,115 @@
+package spinbox.logging;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Configures the loggers of SpinBox once, in one place, instead of each class setting the level of its logger.
+ * Everything under the spinbox logger is logged at WARNING and above by default, to a log file written on a
+ * background thread by an {@link AsyncHandler}, so that messages below the level cost a single level check and
+ * messages at or above it never wait for the file.
+ * The default can be changed with the system properties spinbox.logging.level, for the level of every SpinBox
+ * logger, and spinbox.logging.config, for a properties file of logger levels such as
+ * "spinbox.containers.level = FINE", the log file as "file = ..." and the size of the buffer as "capacity = ...".
+ */
+public class LogConfig {
+    public static final String ROOT_LOGGER = "spinbox";
+    public static final String LEVEL_PROPERTY = "spinbox.logging.level";
+    public static final String CONFIG_PROPERTY = "spinbox.logging.config";
+
+    private static final String DEFAULT_LEVEL = "WARNING";
+    private static final String DEFAULT_FILE = "SpinBoxData/spinBox-log.txt";
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final String LEVEL_SUFFIX = ".level";
+    private static final String FILE_KEY = "file";
+    private static final String CAPACITY_KEY = "capacity";
+    private static final String LOG_CONFIG_UNREADABLE = "Logging configuration could not be read: ";
+    private static final String LOG_FILE_UNAVAILABLE = "Log file could not be opened, logging to the console: ";
+    private static final String LOG_INVALID = "Invalid logging configuration: ";
+
+    private static final List<Logger> CONFIGURED_LOGGERS = new ArrayList<>();
+    private static boolean isConfigured = false;
+
+    /**
+     * Configures the loggers of SpinBox, unless they have been configured already.
+     */
+    public static synchronized void configure() {
+        if (isConfigured) {
+            return;
+        }
+        isConfigured = true;
+        Logger root = Logger.getLogger(ROOT_LOGGER);
+        CONFIGURED_LOGGERS.add(root);
+        Properties config = readConfig(root);
+
+        String level = System.getProperty(LEVEL_PROPERTY, config.getProperty(ROOT_LOGGER + LEVEL_SUFFIX,
+                DEFAULT_LEVEL));
+        setLevel(root, ROOT_LOGGER, level);
+        for (String key : config.stringPropertyNames()) {
+            if (key.endsWith(LEVEL_SUFFIX) && !key.equals(ROOT_LOGGER + LEVEL_SUFFIX)) {
+                String name = key.substring(0, key.length() - LEVEL_SUFFIX.length());
+                Logger logger = Logger.getLogger(name);
+                CONFIGURED_LOGGERS.add(logger);
+                setLevel(logger, name, config.getProperty(key));
+            }
+        }
+
+        int capacity = DEFAULT_CAPACITY;
+        try {
+            capacity = Integer.parseInt(config.getProperty(CAPACITY_KEY, Integer.toString(DEFAULT_CAPACITY)).trim());
+        } catch (NumberFormatException e) {
+            root.warning(LOG_INVALID + CAPACITY_KEY);
+        }
+        Handler output = openOutput(root, config.getProperty(FILE_KEY, DEFAULT_FILE));
+        output.setLevel(Level.ALL);
+        root.setUseParentHandlers(false);
+        root.addHandler(new AsyncHandler(output, Math.max(1, capacity)));
+    }
+
+    private static Properties readConfig(Logger root) {
+        Properties config = new Properties();
+        String configFile = System.getProperty(CONFIG_PROPERTY);
+        if (configFile != null) {
+            try (InputStream input = new FileInputStream(configFile)) {
+                config.load(input);
+            } catch (IOException e) {
+                root.warning(LOG_CONFIG_UNREADABLE + configFile);
+            }
+        }
+        return config;
+    }
+
+    private static void setLevel(Logger logger, String name, String level) {
+        try {
+            logger.setLevel(Level.parse(level.trim()));
+        } catch (IllegalArgumentException e) {
+            logger.warning(LOG_INVALID + name + LEVEL_SUFFIX);
+        }
+    }
+
+    private static Handler openOutput(Logger root, String fileLocation) {
+        try {
+            File file = new File(fileLocation);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            FileHandler fileHandler = new FileHandler(fileLocation, true);
+            fileHandler.setFormatter(new SimpleFormatter());
+            return fileHandler;
+        } catch (IOException | SecurityException e) {
+            root.warning(LOG_FILE_UNAVAILABLE + fileLocation);
+            return new ConsoleHandler();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package spinbox.soak;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * The performance budgets of a soak test, read from a properties file such as "p99.ms = 20". Budgets left out
+ * are not checked. The budgets are the 50th and 99th percentile and the maximum latency of a command in
+ * milliseconds, the minimum throughput in commands per second, the growth of the heap in megabytes and of the
+ * data folder in kilobytes from the first sample to the last, and the number of failed commands.
+ */
+public class Budgets {
+    public static final String P50_MILLIS = "p50.ms";
+    public static final String P99_MILLIS = "p99.ms";
+    public static final String MAX_MILLIS = "max.ms";
+    public static final String MIN_THROUGHPUT = "throughput.min";
+    public static final String HEAP_GROWTH_MEGABYTES = "heap.growth.mb";
+    public static final String FILES_GROWTH_KILOBYTES = "files.growth.kb";
+    public static final String MAX_FAILURES = "failures.max";
+
+    private static final List<String> UPPER_LIMITS = List.of(P50_MILLIS, P99_MILLIS, MAX_MILLIS,
+            HEAP_GROWTH_MEGABYTES, FILES_GROWTH_KILOBYTES, MAX_FAILURES);
+    private static final String UNKNOWN_BUDGET = "Unknown budget: ";
+    private static final String INVALID_BUDGET = "Invalid budget: ";
+    private static final String WITHIN = "Within budget %s: %.3f, limit %.3f";
+    private static final String EXCEEDED = "Exceeded budget %s: %.3f, limit %.3f";
+
+    private final Map<String, Double> limits = new LinkedHashMap<>();
+
+    /**
+     * Reads budgets from a properties file.
+     * @param file The file.
+     * @return The budgets.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If a budget is unknown or not a number.
+     */
+    public static Budgets read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+        }
+        Budgets budgets = new Budgets();
+        for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+            try {
+                budgets.set(name, Double.parseDouble(properties.getProperty(name).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(INVALID_BUDGET + name);
+            }
+        }
+        return budgets;
+    }
+
+    /**
+     * Sets a budget.
+     * @param name The name of the budget, such as {@link #P99_MILLIS}.
+     * @param limit The limit of the budget.
+     * @throws IllegalArgumentException If the budget is unknown.
+     */
+    public void set(String name, double limit) {
+        if (!UPPER_LIMITS.contains(name) && !name.equals(MIN_THROUGHPUT)) {
+            throw new IllegalArgumentException(UNKNOWN_BUDGET + name);
+        }
+        limits.put(name, limit);
+    }
+
+    /**
+     * Checks the result of a soak test against the budgets.
+     * @param result The result.
+     * @param lines Receives a line for every budget checked.
+     * @return True if every budget was kept.
+     */
+    public boolean check(SoakRunner.Result result, List<String> lines) {
+        boolean isKept = true;
+        for (Map.Entry<String, Double> limit : limits.entrySet()) {
+            double value = measure(result, limit.getKey());
+            boolean isWithin = limit.getKey().equals(MIN_THROUGHPUT) ? value >= limit.getValue()
+                    : value <= limit.getValue();
+            lines.add(String.format(isWithin ? WITHIN : EXCEEDED, limit.getKey(), value, limit.getValue()));
+            isKept &= isWithin;
+        }
+        return isKept;
+    }
+
+    private static double measure(SoakRunner.Result result, String name) {
+        switch (name) {
+        case P50_MILLIS:
+            return result.getPercentileMillis(50);
+        case P99_MILLIS:
+            return result.getPercentileMillis(99);
+        case MAX_MILLIS:
+            return result.getPercentileMillis(100);
+        case MIN_THROUGHPUT:
+            return result.getThroughput();
+        case HEAP_GROWTH_MEGABYTES:
+            return result.getHeapGrowthBytes() / SoakRunner.BYTES_PER_MEGABYTE;
+        case FILES_GROWTH_KILOBYTES:
+            return result.getFilesGrowthBytes() / SoakRunner.BYTES_PER_KILOBYTE;
+        default:
+            return result.getFailed();
+        }
+    }
+}
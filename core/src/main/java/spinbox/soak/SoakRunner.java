@@ -0,0 +1,349 @@
+package spinbox.soak;
+
+import spinbox.SpinBox;
+import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.exceptions.StorageException;
+import spinbox.stats.LatencyHistogram;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Soak tests SpinBox by running the commands of a {@link Workload} one after another for a while, through the
+ * same path as the commands of the CLI and the GUI, against the data folder of the working directory.
+ * The throughput and latency of the commands, the heap used and the size of the data folder are sampled at a
+ * fixed interval, so that a slow leak or a growing file shows as a trend, and the whole run can be checked
+ * against {@link Budgets}. The heap is collected before every sample, so that it shows the memory retained
+ * rather than the garbage, and the time taken sampling is not counted in the throughput.
+ */
+public class SoakRunner {
+    public static final String SOAK_FLAG = "--soak";
+    static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+    static final double BYTES_PER_KILOBYTE = 1024;
+    static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(SoakRunner.class.getName());
+    private static final String DURATION_FLAG = "--duration";
+    private static final String INTERVAL_FLAG = "--interval";
+    private static final String BUDGETS_FLAG = "--budgets";
+    private static final String SEED_FLAG = "--seed";
+    private static final String USAGE = "Usage: " + SOAK_FLAG + " <command file|" + Workload.GENERATED + "> ["
+            + DURATION_FLAG + " <seconds>] [" + INTERVAL_FLAG + " <seconds>] [" + BUDGETS_FLAG
+            + " <properties file>] [" + SEED_FLAG + " <n>]";
+    private static final String UNREADABLE_FILE = "The file could not be read: ";
+    private static final String NO_COMMANDS = "The command file has no commands: ";
+    private static final String MODULE_CODE = "SOAK";
+    private static final String DATA_DIRECTORY = "SpinBoxData";
+    private static final String LOG_COMMAND_FAILED = "Soak command failed: %s%n%s";
+    private static final String LOG_SIZE_FAILED = "Size of the data folder could not be read: ";
+    private static final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+    private static final int DEFAULT_DURATION_SECONDS = 60;
+    private static final int DEFAULT_INTERVAL_SECONDS = 10;
+    private static final long DEFAULT_SEED = 42;
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_BUDGET_EXCEEDED = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private final SpinBox spinBox;
+    private final Workload workload;
+    private final long durationNanos;
+    private final long intervalNanos;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * Constructor for a soak test.
+     * @param spinBox The SpinBox the commands are run on.
+     * @param workload The commands.
+     * @param durationNanos How long to run commands for, in nanoseconds.
+     * @param intervalNanos The time between samples, in nanoseconds.
+     */
+    public SoakRunner(SpinBox spinBox, Workload workload, long durationNanos, long intervalNanos) {
+        this.spinBox = spinBox;
+        this.workload = workload;
+        this.durationNanos = durationNanos;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Runs the soak test given by '--soak' arguments, printing every sample as it is taken, then the report and
+     * the budgets checked.
+     * @param args The program arguments, starting with '--soak'.
+     * @return The exit status: 0 if every budget was kept, 1 if a budget was exceeded, 2 for invalid arguments.
+     * @throws StorageException If the stored data cannot be loaded.
+     */
+    public static int runFromArguments(String[] args) throws StorageException {
+        String commandFile = null;
+        long durationSeconds = DEFAULT_DURATION_SECONDS;
+        long intervalSeconds = DEFAULT_INTERVAL_SECONDS;
+        String budgetsFile = null;
+        long seed = DEFAULT_SEED;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case SOAK_FLAG:
+                    commandFile = args[++i];
+                    break;
+                case DURATION_FLAG:
+                    durationSeconds = Long.parseLong(args[++i]);
+                    break;
+                case INTERVAL_FLAG:
+                    intervalSeconds = Long.parseLong(args[++i]);
+                    break;
+                case BUDGETS_FLAG:
+                    budgetsFile = args[++i];
+                    break;
+                case SEED_FLAG:
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        if (commandFile == null || durationSeconds <= 0 || intervalSeconds <= 0) {
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+
+        Budgets budgets = new Budgets();
+        List<String> lines = null;
+        String fileRead = budgetsFile;
+        try {
+            if (budgetsFile != null) {
+                budgets = Budgets.read(Paths.get(budgetsFile));
+            }
+            if (!commandFile.equals(Workload.GENERATED)) {
+                fileRead = commandFile;
+                lines = Files.readAllLines(Paths.get(commandFile), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            System.err.println(UNREADABLE_FILE + fileRead);
+            return EXIT_USAGE;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return EXIT_USAGE;
+        }
+
+        SpinBox spinBox = new SpinBox();
+        Workload workload;
+        try {
+            workload = (lines == null) ? Workload.generated(findFreeModuleCode(spinBox.getModuleContainer()), seed)
+                    : Workload.recorded(lines);
+        } catch (IllegalArgumentException e) {
+            System.err.println(NO_COMMANDS + commandFile);
+            return EXIT_USAGE;
+        }
+        Result result = new SoakRunner(spinBox, workload, durationSeconds * NANOSECONDS_PER_SECOND,
+                intervalSeconds * NANOSECONDS_PER_SECOND).run(System.out::println);
+        result.report().forEach(System.out::println);
+        List<String> checked = new ArrayList<>();
+        boolean isKept = budgets.check(result, checked);
+        checked.forEach(System.out::println);
+        return isKept ? EXIT_SUCCESS : EXIT_BUDGET_EXCEEDED;
+    }
+
+    private static String findFreeModuleCode(ModuleContainer moduleContainer) {
+        String moduleCode = MODULE_CODE;
+        for (int i = 1; moduleContainer.checkModuleExists(moduleCode); i++) {
+            moduleCode = MODULE_CODE + i;
+        }
+        return moduleCode;
+    }
+
+    /**
+     * Runs the setup of the workload, then its commands until the duration is up or an exit command is run, then
+     * its teardown. Failed commands are counted and the run carries on.
+     * @param sampleOutput Receives a line for every sample taken.
+     * @return The result of the run.
+     */
+    public Result run(Consumer<String> sampleOutput) {
+        Result result = new Result();
+        for (String command : workload.getSetup()) {
+            runCommand(command, result);
+        }
+        result.first = sample(0, 0, new LatencyHistogram());
+        sampleOutput.accept(Sample.HEADER);
+
+        LatencyHistogram interval = new LatencyHistogram();
+        long intervalStart = System.nanoTime();
+        long intervalCommands = 0;
+        long runNanos = 0;
+        while (runNanos < durationNanos && !spinBox.isShutdown()) {
+            long startTime = System.nanoTime();
+            runCommand(workload.next(), result);
+            long latency = System.nanoTime() - startTime;
+            result.latencies.record(latency);
+            interval.record(latency);
+            intervalCommands++;
+            long intervalNanosSoFar = System.nanoTime() - intervalStart;
+            if (intervalNanosSoFar >= intervalNanos || runNanos + intervalNanosSoFar >= durationNanos) {
+                runNanos += intervalNanosSoFar;
+                Sample sample = sample(runNanos, intervalCommands / ((double) intervalNanosSoFar
+                        / NANOSECONDS_PER_SECOND), interval);
+                result.samples.add(sample);
+                sampleOutput.accept(sample.toString());
+                interval = new LatencyHistogram();
+                intervalCommands = 0;
+                intervalStart = System.nanoTime();
+            }
+        }
+        result.elapsedNanos = runNanos;
+
+        for (String command : workload.getTeardown()) {
+            runCommand(command, result);
+        }
+        return result;
+    }
+
+    private void runCommand(String command, Result result) {
+        result.commandsRun++;
+        try {
+            spinBox.execute(command, false);
+        } catch (SpinBoxException e) {
+            result.failed++;
+            LOGGER.fine(() -> String.format(LOG_COMMAND_FAILED, command, e.getMessage()));
+        }
+    }
+
+    private Sample sample(long runNanos, double throughput, LatencyHistogram interval) {
+        memory.gc();
+        return new Sample(runNanos, throughput, interval, memory.getHeapMemoryUsage().getUsed(),
+                getDataSize());
+    }
+
+    private static long getDataSize() {
+        Path directory = Paths.get(DATA_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        } catch (IOException e) {
+            LOGGER.warning(LOG_SIZE_FAILED + directory);
+            return 0;
+        }
+    }
+
+    /**
+     * The throughput and latencies of the commands run since the previous sample, with the heap used after a
+     * collection and the size of the data folder when sampled.
+     */
+    public static class Sample {
+        static final String HEADER = String.format("%8s %10s %9s %9s %9s %10s %12s", "seconds", "commands/s",
+                "p50 ms", "p99 ms", "max ms", "heap MB", "data KB");
+        private static final String LINE = "%8.1f %10.1f %9.3f %9.3f %9.3f %10.2f %12.1f";
+
+        private final long runNanos;
+        private final double throughput;
+        private final LatencyHistogram latencies;
+        private final long heapBytes;
+        private final long dataBytes;
+
+        Sample(long runNanos, double throughput, LatencyHistogram latencies, long heapBytes, long dataBytes) {
+            this.runNanos = runNanos;
+            this.throughput = throughput;
+            this.latencies = latencies;
+            this.heapBytes = heapBytes;
+            this.dataBytes = dataBytes;
+        }
+
+        public long getHeapBytes() {
+            return heapBytes;
+        }
+
+        public long getDataBytes() {
+            return dataBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(LINE, (double) runNanos / NANOSECONDS_PER_SECOND, throughput,
+                    latencies.getPercentileNanos(50) / NANOSECONDS_PER_MILLISECOND,
+                    latencies.getPercentileNanos(99) / NANOSECONDS_PER_MILLISECOND,
+                    latencies.getMaxNanos() / NANOSECONDS_PER_MILLISECOND, heapBytes / BYTES_PER_MEGABYTE,
+                    dataBytes / BYTES_PER_KILOBYTE);
+        }
+    }
+
+    /**
+     * The commands run and failed in a soak test, the latencies of the commands of the workload, and the samples
+     * taken, starting with one taken after the setup of the workload and before its first command.
+     */
+    public static class Result {
+        private static final String SUMMARY = "Ran %d commands (%d failed) in %.1f s, %.1f commands/s.";
+        private static final String LATENCIES = "Latency of the workload in ms: p50 %.3f, p99 %.3f, max %.3f.";
+        private static final String GROWTH = "Heap grew by %.2f MB and the data folder by %.1f KB over %d samples.";
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final List<Sample> samples = new ArrayList<>();
+        private Sample first;
+        private int commandsRun;
+        private int failed;
+        private long elapsedNanos;
+
+        public int getCommandsRun() {
+            return commandsRun;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public List<Sample> getSamples() {
+            return Collections.unmodifiableList(samples);
+        }
+
+        public double getThroughput() {
+            return (elapsedNanos == 0) ? 0 : latencies.getCount() / ((double) elapsedNanos / NANOSECONDS_PER_SECOND);
+        }
+
+        /**
+         * Gets a percentile of the latencies of the commands of the workload, excluding its setup and teardown.
+         * @param percentile The percentile, from 0 to 100.
+         * @return The latency in milliseconds.
+         */
+        public double getPercentileMillis(double percentile) {
+            long nanos = (percentile >= 100) ? latencies.getMaxNanos() : latencies.getPercentileNanos(percentile);
+            return nanos / NANOSECONDS_PER_MILLISECOND;
+        }
+
+        public long getHeapGrowthBytes() {
+            return samples.isEmpty() ? 0 : samples.get(samples.size() - 1).getHeapBytes() - first.getHeapBytes();
+        }
+
+        public long getFilesGrowthBytes() {
+            return samples.isEmpty() ? 0 : samples.get(samples.size() - 1).getDataBytes() - first.getDataBytes();
+        }
+
+        /**
+         * Reports the number of commands run, the throughput, the latency percentiles and the growth of the heap
+         * and the data folder.
+         * @return The lines of the report.
+         */
+        public List<String> report() {
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format(SUMMARY, commandsRun, failed, (double) elapsedNanos / NANOSECONDS_PER_SECOND,
+                    getThroughput()));
+            lines.add(String.format(LATENCIES, getPercentileMillis(50), getPercentileMillis(99),
+                    getPercentileMillis(100)));
+            lines.add(String.format(GROWTH, getHeapGrowthBytes() / BYTES_PER_MEGABYTE,
+                    getFilesGrowthBytes() / BYTES_PER_KILOBYTE, samples.size()));
+            return lines;
+        }
+    }
+}
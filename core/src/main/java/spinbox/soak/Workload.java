@@ -0,0 +1,185 @@
+package spinbox.soak;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A stream of commands for a soak test, which never runs out. A recorded workload replays the commands of a file
+ * in order over and over, so its commands should leave the data as they found it, such as adding a module and
+ * removing it again, and its teardown finishes the cycle the run stopped in. A generated workload adds, updates, tags, finds and removes tasks of its own module in a mix
+ * given by a seed, keeping the number of tasks bounded, so that the data stops growing once warmed up.
+ */
+public abstract class Workload {
+    public static final String GENERATED = "generated";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    /**
+     * Gives the commands to run once before the first command of the stream.
+     * @return The commands.
+     */
+    public abstract List<String> getSetup();
+
+    /**
+     * Gives the next command of the stream.
+     * @return The command.
+     */
+    public abstract String next();
+
+    /**
+     * Gives the commands to run once after the last command taken from the stream, to remove what the stream added.
+     * @return The commands.
+     */
+    public abstract List<String> getTeardown();
+
+    /**
+     * Makes a workload replaying the commands of a file. Blank lines and lines starting with '#' are skipped.
+     * @param lines The lines of the file.
+     * @return The workload.
+     * @throws IllegalArgumentException If the file has no commands.
+     */
+    public static Workload recorded(List<String> lines) {
+        List<String> commands = new ArrayList<>();
+        for (String line : lines) {
+            if (!line.trim().isEmpty() && !line.trim().startsWith(COMMENT_PREFIX)) {
+                commands.add(line.trim());
+            }
+        }
+        if (commands.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        return new Recorded(commands);
+    }
+
+    /**
+     * Makes a workload generating commands on a module of its own.
+     * @param moduleCode The code of the module, which must not exist yet.
+     * @param seed The seed of the mix of commands.
+     * @return The workload.
+     */
+    public static Workload generated(String moduleCode, long seed) {
+        return new Generated(moduleCode, seed);
+    }
+
+    private static class Recorded extends Workload {
+        private final List<String> commands;
+        private int next;
+
+        Recorded(List<String> commands) {
+            this.commands = commands;
+        }
+
+        @Override
+        public List<String> getSetup() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String next() {
+            String command = commands.get(next);
+            next = (next + 1) % commands.size();
+            return command;
+        }
+
+        @Override
+        public List<String> getTeardown() {
+            if (next == 0) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(commands.subList(next, commands.size()));
+        }
+    }
+
+    private static class Generated extends Workload {
+        private static final String ADD_MODULE = "add / module %s Soak Test";
+        private static final String REMOVE_MODULE = "remove / module %s";
+        private static final String ADD_TODO = "add %s / todo Soak %d";
+        private static final String ADD_DEADLINE = "add %s / deadline Soak %d by: %s";
+        private static final String UPDATE = "update %s / task %d done";
+        private static final String TAG = "tag %s / task %d soak";
+        private static final String FIND = "find %s / task Soak %d";
+        private static final String VIEW_TASKS = "view / %s tasks";
+        private static final String VIEW_CALENDAR = "view / calendar";
+        private static final String REMOVE = "remove %s / task %d";
+        private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm");
+        private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2030, 1, 1, 9, 0);
+        private static final int DAY_COUNT = 120;
+        private static final int MAX_TASKS = 200;
+        private static final int[] WEIGHTS = {25, 10, 10, 5, 15, 10, 5, 20};
+
+        private final String moduleCode;
+        private final Random random;
+        private int taskCount;
+        private int added;
+
+        Generated(String moduleCode, long seed) {
+            this.moduleCode = moduleCode;
+            this.random = new Random(seed);
+        }
+
+        @Override
+        public List<String> getSetup() {
+            return List.of(String.format(ADD_MODULE, moduleCode));
+        }
+
+        @Override
+        public String next() {
+            int choice = choose();
+            if (taskCount == 0 && choice != 1) {
+                choice = 0;
+            } else if (taskCount >= MAX_TASKS && choice <= 1) {
+                choice = WEIGHTS.length - 1;
+            }
+            switch (choice) {
+            case 0:
+                taskCount++;
+                return String.format(ADD_TODO, moduleCode, ++added);
+            case 1:
+                taskCount++;
+                String date = FIRST_DATE.plusDays(random.nextInt(DAY_COUNT)).format(DATE_FORMAT);
+                return String.format(ADD_DEADLINE, moduleCode, ++added, date);
+            case 2:
+                return String.format(UPDATE, moduleCode, randomTask());
+            case 3:
+                return String.format(TAG, moduleCode, randomTask());
+            case 4:
+                return String.format(FIND, moduleCode, random.nextInt(added) + 1);
+            case 5:
+                return String.format(VIEW_TASKS, moduleCode);
+            case 6:
+                return VIEW_CALENDAR;
+            default:
+                int task = randomTask();
+                taskCount--;
+                return String.format(REMOVE, moduleCode, task);
+            }
+        }
+
+        private int choose() {
+            int total = 0;
+            for (int weight : WEIGHTS) {
+                total += weight;
+            }
+            int pick = random.nextInt(total);
+            int choice = 0;
+            while (pick >= WEIGHTS[choice]) {
+                pick -= WEIGHTS[choice];
+                choice++;
+            }
+            return choice;
+        }
+
+        private int randomTask() {
+            return random.nextInt(taskCount) + 1;
+        }
+
+        @Override
+        public List<String> getTeardown() {
+            return List.of(String.format(REMOVE_MODULE, moduleCode));
+        }
+    }
+}
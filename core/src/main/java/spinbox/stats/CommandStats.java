@@ -0,0 +1,188 @@
+package spinbox.stats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Logger;
+
+/**
+ * Times every command in phases and keeps a latency histogram of each phase for each type of command.
+ * A command is timed on the thread running it, from the start of parsing to the end of executing it. Time spent
+ * persisting data or rendering the response while executing is counted in those phases instead.
+ */
+public class CommandStats {
+    public static final String UNPARSED = "Unparsed";
+
+    private static final Logger LOGGER = Logger.getLogger(CommandStats.class.getName());
+    private static final String HEADER = "Command latencies in ms as p50 / p99 / max, by command and phase:";
+    private static final String NO_COMMANDS = "No commands have been timed yet.";
+    private static final String COMMAND_LINE = "%s, %d runs";
+    private static final String PHASE_LINE = "    %-8s %s / %s / %s";
+    private static final String MILLIS = "%.3f";
+    private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+    private static final String LOG_DUMP_FAILED = "Command latencies could not be written to: ";
+
+    private static final Map<String, Map<Phase, LatencyHistogram>> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static final ThreadLocal<PhaseTimer> TIMER = new ThreadLocal<>();
+    private static boolean isDumpingOnExit = false;
+
+    /**
+     * The phases of running a command.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        PERSIST,
+        RENDER;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * Starts timing a command on the current thread, in the parse phase.
+     * @return True if the command is timed, or false if a command is already being timed on this thread.
+     */
+    public static boolean begin() {
+        if (TIMER.get() != null) {
+            return false;
+        }
+        TIMER.set(new PhaseTimer());
+        return true;
+    }
+
+    /**
+     * Switches the command timed on the current thread to a phase, if a command is being timed.
+     * @param phase The phase the command enters.
+     * @return The phase the command was in, to be passed to {@link #exit(Phase)}, or null if no command is timed.
+     */
+    public static Phase enter(Phase phase) {
+        PhaseTimer timer = TIMER.get();
+        return (timer == null) ? null : timer.switchTo(phase);
+    }
+
+    /**
+     * Switches the command timed on the current thread back to the phase it was in before entering another.
+     * @param previous The phase returned by {@link #enter(Phase)}.
+     */
+    public static void exit(Phase previous) {
+        PhaseTimer timer = TIMER.get();
+        if (timer != null && previous != null) {
+            timer.switchTo(previous);
+        }
+    }
+
+    /**
+     * Stops timing the command on the current thread and records the time it spent in each phase.
+     * @param commandType The type of the command, or {@link #UNPARSED} if it could not be parsed.
+     */
+    public static void end(String commandType) {
+        PhaseTimer timer = TIMER.get();
+        TIMER.remove();
+        if (timer == null) {
+            return;
+        }
+        timer.switchTo(Phase.EXECUTE);
+        Map<Phase, LatencyHistogram> histograms = HISTOGRAMS.computeIfAbsent(commandType, type -> {
+            Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                phases.put(phase, new LatencyHistogram());
+            }
+            return phases;
+        });
+        for (Phase phase : Phase.values()) {
+            histograms.get(phase).record(timer.getNanos(phase));
+        }
+    }
+
+    /**
+     * Reports the 50th and 99th percentile and the maximum latency of each phase of each type of command.
+     * @return The lines of the report.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        if (HISTOGRAMS.isEmpty()) {
+            lines.add(NO_COMMANDS);
+            return lines;
+        }
+        lines.add(HEADER);
+        for (Map.Entry<String, Map<Phase, LatencyHistogram>> entry : HISTOGRAMS.entrySet()) {
+            Map<Phase, LatencyHistogram> histograms = entry.getValue();
+            lines.add(String.format(COMMAND_LINE, entry.getKey(), histograms.get(Phase.PARSE).getCount()));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = histograms.get(phase);
+                lines.add(String.format(PHASE_LINE, phase, toMillis(histogram.getPercentileNanos(50)),
+                        toMillis(histogram.getPercentileNanos(99)), toMillis(histogram.getMaxNanos())));
+            }
+        }
+        return lines;
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(MILLIS, nanos / NANOSECONDS_PER_MILLISECOND);
+    }
+
+    /**
+     * Discards every latency recorded so far.
+     */
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Writes the report to a file when the program exits, replacing the file. Only the first call has an effect.
+     * @param fileLocation The path of the file.
+     */
+    public static synchronized void dumpOnExit(String fileLocation) {
+        if (isDumpingOnExit) {
+            return;
+        }
+        isDumpingOnExit = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(Paths.get(fileLocation))));
+    }
+
+    private static void dump(Path path) {
+        if (HISTOGRAMS.isEmpty()) {
+            return;
+        }
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, report(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warning(LOG_DUMP_FAILED + path);
+        }
+    }
+
+    /**
+     * The time a command has spent in each phase so far, and the phase it is in now.
+     */
+    private static class PhaseTimer {
+        private final long[] nanos = new long[Phase.values().length];
+        private Phase current = Phase.PARSE;
+        private long currentStart = System.nanoTime();
+
+        Phase switchTo(Phase phase) {
+            long now = System.nanoTime();
+            nanos[current.ordinal()] += now - currentStart;
+            Phase previous = current;
+            current = phase;
+            currentStart = now;
+            return previous;
+        }
+
+        long getNanos(Phase phase) {
+            return nanos[phase.ordinal()];
+        }
+    }
+}
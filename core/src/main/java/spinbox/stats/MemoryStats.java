@@ -0,0 +1,312 @@
+package spinbox.stats;
+
+import spinbox.DateTime;
+import spinbox.entities.Module;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the memory retained by each module and each of its lists, by walking every object reachable from
+ * them and adding up a shallow-size model of a 64-bit JVM with compressed references: 12 byte object headers,
+ * 16 byte array headers, 4 byte references and sizes rounded up to 8 bytes. Objects of SpinBox are measured
+ * field by field, while strings, boxes, dates and collections of the JDK are sized from their contents, and other
+ * objects of the JDK only count their header. An object reachable from several lists is only counted in the first
+ * measured, so that the sizes add up to the total.
+ * Strings with the same contents held by different objects are counted as duplicates, along with the number of
+ * {@link DateTime} objects reachable from each module.
+ */
+public class MemoryStats {
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int STRING_SIZE = 24;
+    private static final int BOX_SIZE = 16;
+    private static final int DATE_SIZE = 24;
+    private static final int WRAPPER_SIZE = 16;
+    private static final int LIST_SIZE = 24;
+    private static final int ENUM_MAP_SIZE = 32;
+    private static final int TREE_MAP_SIZE = 48;
+    private static final int TREE_ENTRY_SIZE = 40;
+    private static final int HASH_MAP_SIZE = 48;
+    private static final int HASH_NODE_SIZE = 32;
+    private static final int MIN_HASH_TABLE = 16;
+    private static final double HASH_LOAD_FACTOR = 0.75;
+    private static final int LATIN_1_LIMIT = 256;
+    private static final String OWN_PACKAGE = "spinbox.";
+
+    private static final String HEADER = "Estimated memory retained in bytes, by module and list:";
+    private static final String NO_MODULES = "No modules have been added yet.";
+    private static final String MODULE_LINE = "%s: %d bytes, %d DateTimes";
+    private static final String LIST_LINE = "    %-7s %6d items %10d bytes";
+    private static final String OVERHEAD_LINE = "    %-7s %23d bytes";
+    private static final String[] LIST_NAMES = {"tasks", "files", "grades", "notes"};
+    private static final String MODULE = "module";
+    private static final String TOTAL = "All modules: %d bytes, %d DateTimes holding %d Dates";
+    private static final String STRINGS = "Strings: %d using %d bytes, of which %d are duplicates using %d bytes";
+    private static final String BOXES = "Boxed values: %d, of which %d are shared constants";
+    private static final String MOST_DUPLICATED = "Most duplicated strings, by bytes used by the duplicates:";
+    private static final String DUPLICATE_LINE = "    \"%s\" %d copies, %d bytes";
+    private static final int DUPLICATES_SHOWN = 5;
+    private static final int DUPLICATE_LENGTH_SHOWN = 40;
+    private static final String ELLIPSIS = "...";
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+    private final Map<String, Integer> stringCopies = new HashMap<>();
+    private int dateTimes;
+    private int dates;
+    private int strings;
+    private long stringBytes;
+    private int boxes;
+    private int sharedBoxes;
+
+    private MemoryStats() {
+    }
+
+    /**
+     * Estimates the memory retained by each module, split into its tasks, files, grades and notes and the rest of
+     * the module, followed by the totals, the strings duplicated and the boxed values.
+     * Must be called while no command is changing the modules.
+     * @param modules The modules, by module code.
+     * @return The lines of the report.
+     */
+    public static List<String> report(Map<String, Module> modules) {
+        List<String> lines = new ArrayList<>();
+        if (modules.isEmpty()) {
+            lines.add(NO_MODULES);
+            return lines;
+        }
+        lines.add(HEADER);
+        MemoryStats stats = new MemoryStats();
+        long totalBytes = 0;
+        for (Module module : new TreeMap<>(modules).values()) {
+            totalBytes += stats.addModuleLines(lines, module);
+        }
+        lines.add(String.format(TOTAL, totalBytes, stats.dateTimes, stats.dates));
+        stats.addStringLines(lines);
+        lines.add(String.format(BOXES, stats.boxes, stats.sharedBoxes));
+        return lines;
+    }
+
+    private long addModuleLines(List<String> lines, Module module) {
+        int dateTimesBefore = dateTimes;
+        Object[] lists = {module.getTasks(), module.getFiles(), module.getGrades(), module.getNotepad()};
+        int[] items = {module.getTasks().size(), module.getFiles().size(), module.getGrades().size(),
+            module.getNotepad().getNotes().size()};
+        List<String> listLines = new ArrayList<>();
+        long moduleBytes = 0;
+        for (int i = 0; i < lists.length; i++) {
+            long listBytes = measure(lists[i]);
+            listLines.add(String.format(LIST_LINE, LIST_NAMES[i], items[i], listBytes));
+            moduleBytes += listBytes;
+        }
+        long overheadBytes = measure(module);
+        listLines.add(String.format(OVERHEAD_LINE, MODULE, overheadBytes));
+        moduleBytes += overheadBytes;
+        lines.add(String.format(MODULE_LINE, module, moduleBytes, dateTimes - dateTimesBefore));
+        lines.addAll(listLines);
+        return moduleBytes;
+    }
+
+    private void addStringLines(List<String> lines) {
+        int duplicates = 0;
+        long duplicateBytes = 0;
+        List<Map.Entry<String, Integer>> duplicated = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : stringCopies.entrySet()) {
+            if (entry.getValue() > 1) {
+                duplicates += entry.getValue() - 1;
+                duplicateBytes += (entry.getValue() - 1) * sizeOfString(entry.getKey());
+                duplicated.add(entry);
+            }
+        }
+        lines.add(String.format(STRINGS, strings, stringBytes, duplicates, duplicateBytes));
+        if (duplicated.isEmpty()) {
+            return;
+        }
+        duplicated.sort((first, second) -> Long.compare(wastedBytes(second), wastedBytes(first)));
+        lines.add(MOST_DUPLICATED);
+        for (Map.Entry<String, Integer> entry : duplicated.subList(0, Math.min(DUPLICATES_SHOWN,
+                duplicated.size()))) {
+            String shown = entry.getKey().length() <= DUPLICATE_LENGTH_SHOWN ? entry.getKey()
+                    : entry.getKey().substring(0, DUPLICATE_LENGTH_SHOWN) + ELLIPSIS;
+            lines.add(String.format(DUPLICATE_LINE, shown, entry.getValue(), wastedBytes(entry)));
+        }
+    }
+
+    private static long wastedBytes(Map.Entry<String, Integer> duplicated) {
+        return (duplicated.getValue() - 1) * sizeOfString(duplicated.getKey());
+    }
+
+    /**
+     * Measures the objects reachable from an object that have not been measured already.
+     */
+    private long measure(Object root) {
+        long bytes = 0;
+        Deque<Object> pending = new ArrayDeque<>();
+        visit(pending, root);
+        while (!pending.isEmpty()) {
+            bytes += sizeOf(pending.pop(), pending);
+        }
+        return bytes;
+    }
+
+    private void visit(Deque<Object> pending, Object object) {
+        if (object != null && visited.put(object, Boolean.TRUE) == null) {
+            pending.push(object);
+        }
+    }
+
+    private long sizeOf(Object object, Deque<Object> pending) {
+        Class<?> type = object.getClass();
+        if (object instanceof String) {
+            String string = (String) object;
+            strings++;
+            stringCopies.merge(string, 1, Integer::sum);
+            stringBytes += sizeOfString(string);
+            return sizeOfString(string);
+        } else if (type.isArray()) {
+            return sizeOfArray(object, pending);
+        } else if (object instanceof Enum || object instanceof Class) {
+            return 0;
+        } else if (object instanceof Boolean || object instanceof Number || object instanceof Character) {
+            boxes++;
+            if (object == Boolean.TRUE || object == Boolean.FALSE) {
+                sharedBoxes++;
+                return 0;
+            }
+            return BOX_SIZE;
+        } else if (object instanceof Date) {
+            dates++;
+            return DATE_SIZE;
+        } else if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            for (Object element : collection) {
+                visit(pending, element);
+            }
+            return sizeOfCollection(collection);
+        } else if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                visit(pending, entry.getKey());
+                visit(pending, entry.getValue());
+            }
+            return sizeOfMap(map);
+        } else if (type.getName().startsWith(OWN_PACKAGE)) {
+            if (object instanceof DateTime) {
+                dateTimes++;
+            }
+            return sizeOfFields(object, pending);
+        }
+        return align(OBJECT_HEADER);
+    }
+
+    private static long sizeOfString(String string) {
+        boolean isLatin1 = string.chars().allMatch(character -> character < LATIN_1_LIMIT);
+        return STRING_SIZE + align(ARRAY_HEADER + (long) string.length() * (isLatin1 ? 1 : 2));
+    }
+
+    private long sizeOfArray(Object array, Deque<Object> pending) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) length * sizeOfPrimitive(componentType));
+        }
+        for (Object element : (Object[]) array) {
+            visit(pending, element);
+        }
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    private static long sizeOfCollection(Collection<?> collection) {
+        int size = collection.size();
+        if (collection instanceof TreeSet) {
+            return WRAPPER_SIZE + TREE_MAP_SIZE + (long) size * TREE_ENTRY_SIZE;
+        } else if (collection instanceof HashSet) {
+            return WRAPPER_SIZE + sizeOfHashMap(size);
+        }
+        return LIST_SIZE + align(ARRAY_HEADER + (long) size * REFERENCE);
+    }
+
+    private static long sizeOfMap(Map<?, ?> map) {
+        int size = map.size();
+        if (map instanceof TreeMap) {
+            return TREE_MAP_SIZE + (long) size * TREE_ENTRY_SIZE;
+        } else if (map instanceof EnumMap) {
+            return ENUM_MAP_SIZE + align(ARRAY_HEADER + (long) size * REFERENCE);
+        }
+        return sizeOfHashMap(size);
+    }
+
+    private static long sizeOfHashMap(int size) {
+        int table = MIN_HASH_TABLE;
+        while (table * HASH_LOAD_FACTOR < size) {
+            table *= 2;
+        }
+        return HASH_MAP_SIZE + align(ARRAY_HEADER + (long) table * REFERENCE) + (long) size * HASH_NODE_SIZE;
+    }
+
+    private long sizeOfFields(Object object, Deque<Object> pending) {
+        long size = OBJECT_HEADER;
+        for (Field field : fieldsOf(object.getClass())) {
+            if (field.getType().isPrimitive()) {
+                size += sizeOfPrimitive(field.getType());
+                continue;
+            }
+            size += REFERENCE;
+            try {
+                visit(pending, field.get(object));
+            } catch (IllegalAccessException e) {
+                // The field cannot be read, so only its reference is counted.
+            }
+        }
+        return align(size);
+    }
+
+    private static List<Field> fieldsOf(Class<?> type) {
+        return FIELDS.computeIfAbsent(type, key -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = key; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.trySetAccessible();
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+
+    private static int sizeOfPrimitive(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
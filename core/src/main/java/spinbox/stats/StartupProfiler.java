@@ -0,0 +1,250 @@
+package spinbox.stats;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Profiles starting up, when enabled by the {@link #PROFILE_FLAG} flag, by timing each step of loading the data
+ * of each storage file and of starting the GUI. Steps may be nested, such as loading the modules while loading
+ * the main window, and each step is only counted the time not spent in the steps nested in it, so that the
+ * steps add up to the time to the prompt.
+ * When finished, the breakdown is reported, saved, and compared with the previous run. Profiling is off
+ * otherwise and after finishing, when timing a step costs a single check.
+ */
+public class StartupProfiler {
+    public static final String PROFILE_FLAG = "--profile-startup";
+
+    private static final Logger LOGGER = Logger.getLogger(StartupProfiler.class.getName());
+    private static final String BREAKDOWN_FILE = "startup-profile.txt";
+    private static final String HISTORY_FILE = "startup-history.txt";
+    private static final String HISTORY_DELIMITER = " | ";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String HEADER = "Startup took %.1f ms to the prompt, %.1f ms of it before profiling began "
+            + "(starting the JVM).";
+    private static final String STEP_LINE = "    %-12s %10.1f ms";
+    private static final String BY_STEP = "By step:";
+    private static final String OTHER = "other";
+    private static final String SLOWEST = "Slowest %d of %d files and windows, with the time of each step in ms:";
+    private static final String ALL_SCOPES = "Each file and window in the order first begun, with the time of each "
+            + "step in ms:";
+    private static final String SCOPE_LINE = "    %-40s %8.1f ms at +%.1f ms:%s";
+    private static final String SCOPE_STEP = " %s %.1f";
+    private static final String PREVIOUS = "Previous run at %s took %s ms to the prompt (%+.1f ms now).";
+    private static final String NO_PREVIOUS = "No previous run has been profiled to compare with.";
+    private static final String SAVED = "Breakdown saved to %s, history to %s.";
+    private static final String LOG_SAVE_FAILED = "Startup profile could not be saved to: ";
+    private static final int SLOWEST_SHOWN = 10;
+    private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+
+    private static volatile boolean isEnabled = false;
+    private static long startNanos;
+    private static final Map<String, Scope> SCOPES = new LinkedHashMap<>();
+    private static final ThreadLocal<Deque<long[]>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * A step of starting up.
+     */
+    public enum Step {
+        CREATE_FILES,
+        READ,
+        PARSE,
+        SORT,
+        LOAD_WINDOW,
+        SHOW_WINDOW;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase().replace('_', ' ');
+        }
+    }
+
+    /**
+     * The time spent in each step for one storage file or part of the GUI, and when its first step began.
+     */
+    private static class Scope {
+        private final long firstNanos;
+        private final Map<Step, Long> stepNanos = new EnumMap<>(Step.class);
+
+        Scope(long firstNanos) {
+            this.firstNanos = firstNanos;
+        }
+
+        long getTotalNanos() {
+            return stepNanos.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /**
+     * Checks if the arguments of a program ask for startup to be profiled, and if so starts profiling.
+     * @param args The arguments of the program.
+     * @return The arguments without the flag.
+     */
+    public static String[] enableIfFlagged(String[] args) {
+        if (!Arrays.asList(args).contains(PROFILE_FLAG)) {
+            return args;
+        }
+        enable();
+        return Arrays.stream(args).filter(arg -> !arg.equals(PROFILE_FLAG)).toArray(String[]::new);
+    }
+
+    /**
+     * Starts profiling, discarding anything profiled before.
+     */
+    public static synchronized void enable() {
+        SCOPES.clear();
+        startNanos = System.nanoTime();
+        isEnabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Begins timing a step on the current thread, to be ended by {@link #end(String, Step)}.
+     */
+    public static void begin() {
+        if (isEnabled) {
+            FRAMES.get().push(new long[] {System.nanoTime(), 0});
+        }
+    }
+
+    /**
+     * Ends timing the last step begun on the current thread, counting the time not spent in steps nested in it.
+     * @param scope The storage file or part of the GUI the step is for.
+     * @param step The step.
+     */
+    public static void end(String scope, Step step) {
+        if (!isEnabled) {
+            return;
+        }
+        Deque<long[]> frames = FRAMES.get();
+        long[] frame = frames.poll();
+        if (frame == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - frame[0];
+        if (!frames.isEmpty()) {
+            frames.peek()[1] += elapsedNanos;
+        }
+        synchronized (StartupProfiler.class) {
+            Scope entry = SCOPES.computeIfAbsent(scope, key -> new Scope(frame[0] - startNanos));
+            entry.stepNanos.merge(step, elapsedNanos - frame[1], Long::sum);
+        }
+    }
+
+    /**
+     * Stops profiling, then reports the breakdown of starting up, saves it to a folder, and compares it with the
+     * previous run saved in the folder.
+     * @param directory The folder the breakdown and the history of runs are saved to.
+     * @return The lines of the report.
+     */
+    public static synchronized List<String> finish(String directory) {
+        if (!isEnabled) {
+            return Collections.emptyList();
+        }
+        isEnabled = false;
+        FRAMES.remove();
+        double uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        double profiledMillis = toMillis(System.nanoTime() - startNanos);
+        double beforeMillis = Math.max(0, uptimeMillis - profiledMillis);
+        double promptMillis = beforeMillis + profiledMillis;
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(HEADER, promptMillis, beforeMillis));
+        lines.add(BY_STEP);
+        Map<Step, Long> stepTotals = getStepTotals();
+        long stepsNanos = 0;
+        for (Map.Entry<Step, Long> entry : stepTotals.entrySet()) {
+            lines.add(String.format(STEP_LINE, entry.getKey(), toMillis(entry.getValue())));
+            stepsNanos += entry.getValue();
+        }
+        lines.add(String.format(STEP_LINE, OTHER, Math.max(0, profiledMillis - toMillis(stepsNanos))));
+
+        List<Map.Entry<String, Scope>> scopes = new ArrayList<>(SCOPES.entrySet());
+        List<String> breakdown = new ArrayList<>(lines);
+        breakdown.add(ALL_SCOPES);
+        addScopeLines(breakdown, scopes);
+        scopes.sort((first, second) -> Long.compare(second.getValue().getTotalNanos(),
+                first.getValue().getTotalNanos()));
+        lines.add(String.format(SLOWEST, Math.min(SLOWEST_SHOWN, scopes.size()), scopes.size()));
+        addScopeLines(lines, scopes.subList(0, Math.min(SLOWEST_SHOWN, scopes.size())));
+
+        Path breakdownFile = Paths.get(directory, BREAKDOWN_FILE);
+        Path historyFile = Paths.get(directory, HISTORY_FILE);
+        lines.add(compareWithPrevious(historyFile, promptMillis));
+        String run = String.join(HISTORY_DELIMITER, LocalDateTime.now().format(TIMESTAMP),
+                Double.toString(Math.round(promptMillis * 10) / 10.0), Integer.toString(SCOPES.size()));
+        try {
+            Files.createDirectories(breakdownFile.getParent());
+            Files.write(breakdownFile, breakdown, StandardCharsets.UTF_8);
+            Files.write(historyFile, Collections.singletonList(run), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            lines.add(String.format(SAVED, breakdownFile, historyFile));
+        } catch (IOException e) {
+            LOGGER.warning(LOG_SAVE_FAILED + directory);
+        }
+        SCOPES.clear();
+        return lines;
+    }
+
+    private static Map<Step, Long> getStepTotals() {
+        Map<Step, Long> stepTotals = new EnumMap<>(Step.class);
+        for (Scope scope : SCOPES.values()) {
+            for (Map.Entry<Step, Long> entry : scope.stepNanos.entrySet()) {
+                stepTotals.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+        }
+        return stepTotals;
+    }
+
+    private static void addScopeLines(List<String> lines, List<Map.Entry<String, Scope>> scopes) {
+        for (Map.Entry<String, Scope> entry : scopes) {
+            Scope scope = entry.getValue();
+            StringBuilder steps = new StringBuilder();
+            for (Map.Entry<Step, Long> step : scope.stepNanos.entrySet()) {
+                steps.append(String.format(SCOPE_STEP, step.getKey(), toMillis(step.getValue())));
+            }
+            lines.add(String.format(SCOPE_LINE, entry.getKey(), toMillis(scope.getTotalNanos()),
+                    toMillis(scope.firstNanos), steps));
+        }
+    }
+
+    private static String compareWithPrevious(Path historyFile, double promptMillis) {
+        try {
+            if (!Files.exists(historyFile)) {
+                return NO_PREVIOUS;
+            }
+            List<String> runs = Files.readAllLines(historyFile, StandardCharsets.UTF_8);
+            if (runs.isEmpty()) {
+                return NO_PREVIOUS;
+            }
+            String[] previous = runs.get(runs.size() - 1).split(" \\| ");
+            return String.format(PREVIOUS, previous[0], previous[1],
+                    promptMillis - Double.parseDouble(previous[1]));
+        } catch (IOException | ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            return NO_PREVIOUS;
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOSECONDS_PER_MILLISECOND;
+    }
+}
@@ -0,0 +1,273 @@
+package spinbox.stats;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Counts and times every file operation of the data persistors, by file path and operation, so that the cost of
+ * rewriting whole files on every change can be seen. Counters are updated without locking and may be read at
+ * any time. The operations of the command running on a thread can also be totalled and logged when it ends.
+ */
+public class StorageStats {
+    private static final Logger LOGGER = Logger.getLogger(StorageStats.class.getName());
+    private static final String HEADER = "Storage I/O by file and operation as operations (failed), lines, bytes, "
+            + "total ms / max ms:";
+    private static final String NO_OPERATIONS = "No storage operations have been recorded yet.";
+    private static final String TOTAL = "All files";
+    private static final String OPERATION_LINE = "    %-7s %d (%d), %d lines, %d bytes, %.3f / %.3f";
+    private static final String LOG_COMMAND = "%s: %d loads, %d writes of %d lines and %d bytes, %d failed, "
+            + "%.3f ms of I/O";
+    private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+
+    private static final Map<String, Map<Operation, Counter>> COUNTERS = new ConcurrentSkipListMap<>();
+    private static final ThreadLocal<CommandTotals> COMMAND_TOTALS = new ThreadLocal<>();
+    private static volatile boolean isLoggingCommands = false;
+
+    /**
+     * The operations on files.
+     */
+    public enum Operation {
+        CREATE,
+        LOAD,
+        WRITE,
+        EXPORT;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * Records an operation on a file that succeeded.
+     * @param path The path of the file.
+     * @param operation The operation.
+     * @param lines The number of lines read or written.
+     * @param bytes The number of bytes read or written.
+     * @param nanos The time the operation took in nanoseconds.
+     */
+    public static void record(String path, Operation operation, long lines, long bytes, long nanos) {
+        counterOf(path, operation).add(lines, bytes, nanos);
+        CommandTotals totals = COMMAND_TOTALS.get();
+        if (totals != null) {
+            totals.add(operation, lines, bytes, nanos);
+        }
+    }
+
+    /**
+     * Records an operation on a file that failed.
+     * @param path The path of the file.
+     * @param operation The operation.
+     * @param nanos The time taken until the operation failed in nanoseconds.
+     */
+    public static void recordFailure(String path, Operation operation, long nanos) {
+        counterOf(path, operation).addFailure(nanos);
+        CommandTotals totals = COMMAND_TOTALS.get();
+        if (totals != null) {
+            totals.addFailure(nanos);
+        }
+    }
+
+    private static Counter counterOf(String path, Operation operation) {
+        return COUNTERS.computeIfAbsent(path, file -> {
+            Map<Operation, Counter> operations = new EnumMap<>(Operation.class);
+            for (Operation each : Operation.values()) {
+                operations.put(each, new Counter());
+            }
+            return operations;
+        }).get(operation);
+    }
+
+    /**
+     * Gives the counter of an operation on a file.
+     * @param path The path of the file.
+     * @param operation The operation.
+     * @return The counter, or null if nothing has been recorded for the file.
+     */
+    public static Counter getCounter(String path, Operation operation) {
+        Map<Operation, Counter> operations = COUNTERS.get(path);
+        return (operations == null) ? null : operations.get(operation);
+    }
+
+    /**
+     * Starts totalling the operations of the command running on the current thread, if commands are logged.
+     */
+    public static void beginCommand() {
+        if (isLoggingCommands) {
+            COMMAND_TOTALS.set(new CommandTotals());
+        }
+    }
+
+    /**
+     * Stops totalling the operations of the command running on the current thread, and logs the totals if it
+     * did any file operations.
+     * @param commandType The type of the command.
+     */
+    public static void endCommand(String commandType) {
+        CommandTotals totals = COMMAND_TOTALS.get();
+        COMMAND_TOTALS.remove();
+        if (totals != null && totals.hasOperations()) {
+            LOGGER.info(String.format(LOG_COMMAND, commandType, totals.loads, totals.writes, totals.lines,
+                    totals.bytes, totals.failures, totals.nanos / NANOSECONDS_PER_MILLISECOND));
+        }
+    }
+
+    /**
+     * Switches logging the file operations of each command on or off. They are logged at INFO, so the level of
+     * the logger of this class is lowered to INFO while they are logged, whatever the configured level.
+     * @param isLoggingCommands True if the file operations of each command are to be logged.
+     */
+    public static void setLoggingCommands(boolean isLoggingCommands) {
+        StorageStats.isLoggingCommands = isLoggingCommands;
+        LOGGER.setLevel(isLoggingCommands ? Level.INFO : null);
+    }
+
+    public static boolean isLoggingCommands() {
+        return isLoggingCommands;
+    }
+
+    /**
+     * Reports the operations on all files together, followed by the operations on each file.
+     * Operations that have never happened are left out.
+     * @return The lines of the report.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        if (COUNTERS.isEmpty()) {
+            lines.add(NO_OPERATIONS);
+            return lines;
+        }
+        lines.add(HEADER);
+        Map<Operation, Counter> totals = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            Counter total = new Counter();
+            for (Map<Operation, Counter> operations : COUNTERS.values()) {
+                total.addAll(operations.get(operation));
+            }
+            totals.put(operation, total);
+        }
+        addReportLines(lines, TOTAL, totals);
+        for (Map.Entry<String, Map<Operation, Counter>> entry : COUNTERS.entrySet()) {
+            addReportLines(lines, entry.getKey(), entry.getValue());
+        }
+        return lines;
+    }
+
+    private static void addReportLines(List<String> lines, String name, Map<Operation, Counter> operations) {
+        lines.add(name);
+        for (Map.Entry<Operation, Counter> entry : operations.entrySet()) {
+            Counter counter = entry.getValue();
+            if (counter.getCount() + counter.getFailures() > 0) {
+                lines.add(String.format(OPERATION_LINE, entry.getKey(), counter.getCount() + counter.getFailures(),
+                        counter.getFailures(), counter.getLines(), counter.getBytes(),
+                        counter.getNanos() / NANOSECONDS_PER_MILLISECOND,
+                        counter.getMaxNanos() / NANOSECONDS_PER_MILLISECOND));
+            }
+        }
+    }
+
+    /**
+     * Discards every operation recorded so far.
+     */
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    /**
+     * The number, size and duration of the operations of one kind on one file.
+     */
+    public static class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder lines = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long lines, long bytes, long nanos) {
+            count.increment();
+            this.lines.add(lines);
+            this.bytes.add(bytes);
+            this.nanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private void addFailure(long nanos) {
+            failures.increment();
+            this.nanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private void addAll(Counter other) {
+            count.add(other.getCount());
+            failures.add(other.getFailures());
+            lines.add(other.getLines());
+            bytes.add(other.getBytes());
+            nanos.add(other.getNanos());
+            maxNanos.accumulate(other.getMaxNanos());
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getLines() {
+            return lines.sum();
+        }
+
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+    }
+
+    /**
+     * The operations of the command running on a thread.
+     */
+    private static class CommandTotals {
+        private int loads;
+        private int writes;
+        private int failures;
+        private long lines;
+        private long bytes;
+        private long nanos;
+
+        void add(Operation operation, long lines, long bytes, long nanos) {
+            if (operation == Operation.LOAD) {
+                loads++;
+            } else if (operation == Operation.WRITE || operation == Operation.EXPORT) {
+                writes++;
+                this.lines += lines;
+                this.bytes += bytes;
+            }
+            this.nanos += nanos;
+        }
+
+        void addFailure(long nanos) {
+            failures++;
+            this.nanos += nanos;
+        }
+
+        boolean hasOperations() {
+            return loads + writes + failures > 0;
+        }
+    }
+}
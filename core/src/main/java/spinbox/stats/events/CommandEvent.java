@@ -0,0 +1,31 @@
+package spinbox.stats.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for parsing and executing a command, disabled unless a recording enables it, such as
+ * one started with the settings in config/jfr/spinbox.jfc.
+ */
+@Name("spinbox.Command")
+@Label("Command")
+@Description("Parsing and executing a command")
+@Category({"SpinBox", "Commands"})
+@Enabled(false)
+@StackTrace(false)
+public class CommandEvent extends Event {
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Modules")
+    @Description("The codes of the modules the command may change or read, or all if it may access every module")
+    public String modules;
+
+    @Label("Failed")
+    public boolean isFailed;
+}
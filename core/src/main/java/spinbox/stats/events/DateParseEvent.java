@@ -0,0 +1,24 @@
+package spinbox.stats.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for parsing a date and time with natty, disabled unless a recording enables it.
+ * Dates in the stored format are parsed without natty and have no event.
+ */
+@Name("spinbox.DateParse")
+@Label("Date Parse")
+@Description("Parsing a date and time entered by the user with natty")
+@Category({"SpinBox", "Dates"})
+@Enabled(false)
+@StackTrace(false)
+public class DateParseEvent extends Event {
+    @Label("Input Length")
+    public int inputLength;
+}
@@ -0,0 +1,25 @@
+package spinbox.stats.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for refreshing the views of the GUI after a command, disabled unless a recording
+ * enables it. It is kept in the core with the other events so that they are all found in one place.
+ */
+@Name("spinbox.GuiRefresh")
+@Label("GUI Refresh")
+@Description("Refreshing the views of the GUI after a command")
+@Category({"SpinBox", "GUI"})
+@Enabled(false)
+@StackTrace(false)
+public class GuiRefreshEvent extends Event {
+    @Label("Views")
+    @Description("The views refreshed: main, calendar, modules or all")
+    public String views;
+}
@@ -0,0 +1,37 @@
+package spinbox.stats.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for loading or writing a storage file, disabled unless a recording enables it.
+ */
+@Name("spinbox.Storage")
+@Label("Storage")
+@Description("Loading or writing a storage file")
+@Category({"SpinBox", "Storage"})
+@Enabled(false)
+@StackTrace(false)
+public class StorageEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Lines")
+    public int lines;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Failed")
+    public boolean isFailed;
+}
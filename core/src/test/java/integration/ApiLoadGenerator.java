@@ -0,0 +1,177 @@
+package integration;
+
+import spinbox.api.ApiServer;
+import spinbox.api.LatencyRecorder;
+import spinbox.daemon.AddressFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads a running {@link ApiServer} with concurrent clients sending a mix of queries and commands, each client
+ * working on its own module, and reports the latency percentiles of the queries and commands seen by the clients.
+ * Run with the test classes on the classpath, 'java -cp [classpath] integration.ApiLoadGenerator [--clients n]
+ * [--requests n] [--read-ratio r]', where requests is the number per client and read-ratio is the fraction of
+ * queries. The port and token of the server are read from its address file.
+ */
+public class ApiLoadGenerator {
+    private static final String CLIENTS_FLAG = "--clients";
+    private static final String REQUESTS_FLAG = "--requests";
+    private static final String READ_RATIO_FLAG = "--read-ratio";
+    private static final String USAGE = "Usage: [" + CLIENTS_FLAG + " n] [" + REQUESTS_FLAG + " n] ["
+            + READ_RATIO_FLAG + " 0..1]";
+    private static final String BASE_URL = "http://127.0.0.1:%d";
+    private static final String MODULE_CODE = "LOADGEN%d";
+    private static final String ADD_MODULE = "add / module %s Load Generator";
+    private static final String REMOVE_MODULE = "remove / module %s";
+    private static final String ADD_TODO = "add %s / todo Load %d";
+    private static final String QUERY = "type=task&where=";
+    private static final String QUERY_CLAUSE = "module=%s done=false order name limit 20";
+    private static final String UNEXPECTED_STATUS = "Unexpected status %d: %s";
+    private static final String REPORT = "%d clients x %d requests%nqueries:  %s%ncommands: %s";
+    private static final int STATUS_OK = 200;
+    private static final long SEED = 42;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final String baseUrl;
+    private final String authorization;
+    private final LatencyRecorder queryLatencies = new LatencyRecorder();
+    private final LatencyRecorder commandLatencies = new LatencyRecorder();
+
+    /**
+     * Constructor for a load generator of the server on a port of the loopback address.
+     * @param port The port of the server.
+     * @param token The token of the server.
+     */
+    public ApiLoadGenerator(int port, String token) {
+        this.baseUrl = String.format(BASE_URL, port);
+        this.authorization = ApiServer.BEARER + token;
+    }
+
+    /**
+     * Runs the load generator against a running server and prints the latency percentiles.
+     * @param args The program arguments.
+     * @throws Exception If the server cannot be reached or fails a request.
+     */
+    public static void main(String[] args) throws Exception {
+        int clients = 8;
+        int requests = 200;
+        double readRatio = 0.8;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case CLIENTS_FLAG:
+                    clients = Integer.parseInt(args[++i]);
+                    break;
+                case REQUESTS_FLAG:
+                    requests = Integer.parseInt(args[++i]);
+                    break;
+                case READ_RATIO_FLAG:
+                    readRatio = Double.parseDouble(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        String[] address = AddressFile.read(Paths.get(ApiServer.ADDRESS_FILE));
+        ApiLoadGenerator generator = new ApiLoadGenerator(Integer.parseInt(address[0]), address[1]);
+        generator.run(clients, requests, readRatio);
+        System.out.println(generator.getReport(clients, requests));
+    }
+
+    /**
+     * Runs the clients to completion. Each client adds its own module, sends its requests, then removes the module.
+     * @param clients The number of concurrent clients.
+     * @param requestsPerClient The number of requests sent by each client, excluding adding and removing modules.
+     * @param readRatio The fraction of requests which are queries rather than commands adding todos.
+     * @throws IOException If a request fails.
+     * @throws InterruptedException If interrupted while waiting for the clients.
+     */
+    public void run(int clients, int requestsPerClient, double readRatio) throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<Void>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            results.add(executor.submit(makeClient(String.format(MODULE_CODE, i), requestsPerClient, readRatio,
+                    new Random(SEED + i))));
+        }
+        try {
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Callable<Void> makeClient(String moduleCode, int requests, double readRatio, Random random) {
+        return () -> {
+            sendCommand(String.format(ADD_MODULE, moduleCode));
+            String query = QUERY + URLEncoder.encode(String.format(QUERY_CLAUSE, moduleCode), StandardCharsets.UTF_8);
+            for (int i = 0; i < requests; i++) {
+                if (random.nextDouble() < readRatio) {
+                    long startTime = System.nanoTime();
+                    send(HttpRequest.newBuilder(URI.create(baseUrl + ApiServer.QUERY_PATH + "?" + query))
+                            .header(ApiServer.AUTHORIZATION, authorization).GET().build());
+                    queryLatencies.record(System.nanoTime() - startTime);
+                } else {
+                    long startTime = System.nanoTime();
+                    sendCommand(String.format(ADD_TODO, moduleCode, i));
+                    commandLatencies.record(System.nanoTime() - startTime);
+                }
+            }
+            sendCommand(String.format(REMOVE_MODULE, moduleCode));
+            return null;
+        };
+    }
+
+    private void sendCommand(String command) throws IOException, InterruptedException {
+        send(HttpRequest.newBuilder(URI.create(baseUrl + ApiServer.COMMAND_PATH))
+                .header(ApiServer.AUTHORIZATION, authorization)
+                .POST(HttpRequest.BodyPublishers.ofString(command, StandardCharsets.UTF_8)).build());
+    }
+
+    private void send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != STATUS_OK) {
+            throw new IOException(String.format(UNEXPECTED_STATUS, response.statusCode(), response.body()));
+        }
+    }
+
+    public LatencyRecorder getQueryLatencies() {
+        return queryLatencies;
+    }
+
+    public LatencyRecorder getCommandLatencies() {
+        return commandLatencies;
+    }
+
+    /**
+     * Reports the latency percentiles of the queries and commands sent.
+     * @param clients The number of clients run.
+     * @param requestsPerClient The number of requests sent by each client.
+     * @return The report.
+     */
+    public String getReport(int clients, int requestsPerClient) {
+        return String.format(REPORT, clients, requestsPerClient, queryLatencies, commandLatencies);
+    }
+}
@@ -0,0 +1,138 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.api.ApiServer;
+import spinbox.exceptions.SpinBoxException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiServerIntegrationTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpRequest.Builder request(ApiServer server, String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery))
+                .header(ApiServer.AUTHORIZATION, ApiServer.BEARER + server.getToken());
+    }
+
+    private HttpResponse<String> post(ApiServer server, String command) throws IOException, InterruptedException {
+        return client.send(request(server, ApiServer.COMMAND_PATH).POST(HttpRequest.BodyPublishers.ofString(command))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(ApiServer server, String pathAndQuery) throws IOException,
+            InterruptedException {
+        return client.send(request(server, pathAndQuery).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private ApiServer startServer() throws SpinBoxException, IOException {
+        ApiServer server = new ApiServer(new SpinBox(), 0, Files.createTempFile("spinbox", ".address"));
+        server.start();
+        return server;
+    }
+
+    private String sendRaw(ApiServer server, String request) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(request.getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                    .readLine();
+        }
+    }
+
+    @Test
+    public void requests_commandsAndQueries_jsonReturned() throws SpinBoxException, IOException,
+            InterruptedException {
+        ApiServer server = startServer();
+        try {
+            assertEquals(200, post(server, "add / module APIMOD Api Module").statusCode());
+            assertEquals(200, post(server, "add APIMOD / todo Write \"quoted\" report").statusCode());
+            post(server, "tag APIMOD / task 1 urgent");
+
+            HttpResponse<String> query = get(server, ApiServer.QUERY_PATH + "?type=task&where="
+                    + URLEncoder.encode("module=APIMOD tag=urgent", StandardCharsets.UTF_8));
+            assertEquals(200, query.statusCode());
+            assertTrue(query.body().contains("\"module\":\"APIMOD\",\"index\":1,"
+                    + "\"name\":\"Write \\\"quoted\\\" report\",\"done\":false,\"tags\":[\"urgent\"]"));
+
+            HttpResponse<String> invalid = post(server, "add APIMOD / todo");
+            assertEquals(400, invalid.statusCode());
+            assertTrue(invalid.body().startsWith("{\"error\":"));
+            assertEquals(405, get(server, ApiServer.COMMAND_PATH).statusCode());
+            assertTrue(get(server, ApiServer.STATS_PATH).body().contains("\"/query\":{\"count\":1,"));
+        } finally {
+            post(server, "remove / module APIMOD");
+            server.stop();
+        }
+    }
+
+    @Test
+    public void run_concurrentClients_latenciesRecorded() throws SpinBoxException, IOException,
+            InterruptedException {
+        ApiServer server = startServer();
+        try {
+            ApiLoadGenerator generator = new ApiLoadGenerator(server.getPort(), server.getToken());
+            generator.run(4, 50, 0.5);
+            assertEquals(200, generator.getQueryLatencies().getCount()
+                    + generator.getCommandLatencies().getCount());
+            assertTrue(generator.getQueryLatencies().getPercentileMillis(50)
+                    <= generator.getQueryLatencies().getPercentileMillis(99));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void requests_withoutTokenOrFromWebPagesOrOtherHosts_refused() throws SpinBoxException, IOException,
+            InterruptedException {
+        Path addressFile = Files.createTempFile("spinbox", ".address");
+        ApiServer server = new ApiServer(new SpinBox(), 0, addressFile);
+        server.start();
+        try {
+            assertEquals(server.getPort() + " " + server.getToken(), Files.readString(addressFile));
+
+            URI commandUri = URI.create("http://127.0.0.1:" + server.getPort() + ApiServer.COMMAND_PATH);
+            assertEquals(401, client.send(HttpRequest.newBuilder(commandUri)
+                    .POST(HttpRequest.BodyPublishers.ofString("remove / module APIMOD")).build(),
+                    HttpResponse.BodyHandlers.ofString()).statusCode());
+            assertEquals(401, client.send(HttpRequest.newBuilder(commandUri)
+                    .header(ApiServer.AUTHORIZATION, ApiServer.BEARER + server.getToken() + "0")
+                    .GET().build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+            assertEquals(403, client.send(request(server, ApiServer.STATS_PATH).header("Origin", "http://example.com")
+                    .GET().build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+            assertEquals(200, get(server, ApiServer.STATS_PATH).statusCode());
+
+            String rebound = sendRaw(server, "GET " + ApiServer.STATS_PATH + " HTTP/1.1\r\n"
+                    + "Host: attacker.example:" + server.getPort() + "\r\n"
+                    + ApiServer.AUTHORIZATION + ": " + ApiServer.BEARER + server.getToken() + "\r\n"
+                    + "Connection: close\r\n\r\n");
+            assertTrue(rebound.contains(" 403"), rebound);
+            String local = sendRaw(server, "GET " + ApiServer.STATS_PATH + " HTTP/1.1\r\n"
+                    + "Host: localhost:" + server.getPort() + "\r\n"
+                    + ApiServer.AUTHORIZATION + ": " + ApiServer.BEARER + server.getToken() + "\r\n"
+                    + "Connection: close\r\n\r\n");
+            assertTrue(local.contains(" 200"), local);
+        } finally {
+            server.stop();
+        }
+        assertFalse(Files.exists(addressFile));
+    }
+}
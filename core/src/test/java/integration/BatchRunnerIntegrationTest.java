@@ -0,0 +1,78 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.BatchRunner;
+import spinbox.SpinBox;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.TaskList;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class BatchRunnerIntegrationTest {
+
+    /**
+     * Makes batch commands that add a module with a number of todos, with an invalid command after the first todo.
+     * @param moduleCode The module code of the module to be added.
+     * @param todoCount The number of todos to be added.
+     * @return The lines of commands.
+     */
+    private List<String> makeCommands(String moduleCode, int todoCount) {
+        List<String> lines = new ArrayList<>();
+        lines.add("# seed a module");
+        lines.add("add / module " + moduleCode + " Batch Module");
+        lines.add("");
+        for (int i = 1; i <= todoCount; i++) {
+            lines.add("add " + moduleCode + " / todo Todo " + i);
+            if (i == 1) {
+                lines.add("update " + moduleCode + " / task 99 done");
+            }
+        }
+        return lines;
+    }
+
+    private void removeModule(SpinBox spinBox, String moduleCode) throws SpinBoxException {
+        spinBox.execute("remove / module " + moduleCode, false);
+    }
+
+    @Test
+    public void run_continueOnError_allValidCommandsRunWithOneFlush() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        List<String> errors = new ArrayList<>();
+
+        BatchRunner.Summary summary = new BatchRunner(spinBox, true, 0)
+                .run(makeCommands("BATCHMOD", 200), errors::add);
+
+        assertEquals(202, summary.getCommandsRun());
+        assertEquals(1, summary.getFailed());
+        assertEquals(1, errors.size());
+        assertEquals(1, summary.getFlushes());
+
+        TaskList storedTasks = new ModuleContainer().getModule("BATCHMOD").getTasks();
+        assertEquals(200, storedTasks.size());
+        removeModule(spinBox, "BATCHMOD");
+    }
+
+    @Test
+    public void run_stopOnErrorWithCheckpoints_commandsBeforeErrorSaved() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        List<String> errors = new ArrayList<>();
+
+        BatchRunner.Summary summary = new BatchRunner(spinBox, false, 1)
+                .run(makeCommands("BATCHSTOP", 50), errors::add);
+
+        assertEquals(3, summary.getCommandsRun());
+        assertEquals(1, summary.getFailed());
+        assertEquals(2, errors.size());
+        assertEquals(3, summary.getFlushes());
+
+        ModuleContainer storedModules = new ModuleContainer();
+        assertEquals(1, storedModules.getModule("BATCHSTOP").getTasks().size());
+        removeModule(spinBox, "BATCHSTOP");
+        assertFalse(new ModuleContainer().checkModuleExists("BATCHSTOP"));
+    }
+}
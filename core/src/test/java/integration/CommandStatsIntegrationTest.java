@@ -0,0 +1,69 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.stats.CommandStats;
+import spinbox.stats.StorageStats;
+import spinbox.stats.StorageStats.Counter;
+import spinbox.stats.StorageStats.Operation;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandStatsIntegrationTest {
+
+    @Test
+    public void stats_afterCommands_latenciesReportedByCommandAndPhase() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        CommandStats.reset();
+        assertTrue(spinBox.execute("stats", pageTrace, false).contains("No commands have been timed yet."));
+
+        spinBox.execute("add / module STATS1 Latency", pageTrace, false);
+        spinBox.execute("add STATS1 / todo Measure", pageTrace, false);
+        spinBox.execute("remove / module STATS1", pageTrace, false);
+        assertThrows(InputException.class, () -> spinBox.execute("nonsense / here", pageTrace, false));
+
+        String response = spinBox.execute("stats", pageTrace, false);
+        assertTrue(response.contains("AddCommand, 2 runs"));
+        assertTrue(response.contains("RemoveCommand, 1 runs"));
+        assertTrue(response.contains("Unparsed, 1 runs"));
+        for (String phase : new String[] {"parse", "execute", "persist", "render"}) {
+            assertTrue(response.contains(phase), phase + " missing");
+        }
+        assertThrows(InputException.class, () -> spinBox.execute("stats / everything", pageTrace, false));
+    }
+
+    @Test
+    public void statsIo_afterCommands_writesCountedByFile() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        spinBox.execute("add / module STATS2 Storage", pageTrace, false);
+        StorageStats.reset();
+        spinBox.execute("stats / io log on", pageTrace, false);
+        assertTrue(StorageStats.isLoggingCommands());
+
+        spinBox.execute("add STATS2 / todo First", pageTrace, false);
+        spinBox.execute("add STATS2 / todo Second", pageTrace, false);
+        Counter writes = StorageStats.getCounter("SpinBoxData/STATS2/tasks.txt", Operation.WRITE);
+        assertEquals(2, writes.getCount());
+        assertEquals(3, writes.getLines());
+        assertTrue(writes.getBytes() > 0);
+        assertEquals(0, writes.getFailures());
+        String response = spinBox.execute("stats / IO", pageTrace, false);
+        assertTrue(response.contains("All files"));
+        assertTrue(response.contains("SpinBoxData/STATS2/tasks.txt"));
+
+        spinBox.execute("stats / io log off", pageTrace, false);
+        assertFalse(StorageStats.isLoggingCommands());
+        spinBox.execute("remove / module STATS2", pageTrace, false);
+    }
+}
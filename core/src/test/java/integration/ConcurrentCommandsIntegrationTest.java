@@ -0,0 +1,132 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.containers.ModuleAccess;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.TaskList;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentCommandsIntegrationTest {
+    private static final int THREADS = 4;
+    private static final int TODOS_PER_THREAD = 50;
+    private static final String SHARED_MODULE = "SHAREDMOD";
+
+    private ArrayDeque<String> newPageTrace() {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        return pageTrace;
+    }
+
+    /**
+     * Makes a session adding todos to both its own module and a module shared with every other session,
+     * reading its own module in between.
+     * @param spinBox The SpinBox the commands are run on.
+     * @param moduleCode The module code of the module of the session.
+     * @return The session.
+     */
+    private Callable<Void> makeSession(SpinBox spinBox, String moduleCode) {
+        return () -> {
+            ArrayDeque<String> pageTrace = newPageTrace();
+            for (int i = 1; i <= TODOS_PER_THREAD; i++) {
+                spinBox.execute("add " + moduleCode + " / todo Own " + i, pageTrace, false);
+                spinBox.execute("add " + SHARED_MODULE + " / todo " + moduleCode + " " + i, pageTrace, false);
+                spinBox.execute("view / " + moduleCode + " tasks", pageTrace, false);
+            }
+            return null;
+        };
+    }
+
+    @Test
+    public void execute_sessionsOnDifferentAndSharedModules_noUpdatesLost() throws SpinBoxException,
+            InterruptedException, ExecutionException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> setupTrace = newPageTrace();
+        List<String> moduleCodes = new ArrayList<>();
+        spinBox.execute("add / module " + SHARED_MODULE + " Shared Module", setupTrace, false);
+        for (int i = 0; i < THREADS; i++) {
+            moduleCodes.add("CONCMOD" + i);
+            spinBox.execute("add / module CONCMOD" + i + " Concurrent Module", setupTrace, false);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Void>> sessions = new ArrayList<>();
+        for (String moduleCode : moduleCodes) {
+            sessions.add(executor.submit(makeSession(spinBox, moduleCode)));
+        }
+        for (Future<Void> session : sessions) {
+            session.get();
+        }
+        executor.shutdown();
+
+        ModuleContainer modules = spinBox.getModuleContainer();
+        ModuleContainer storedModules = new ModuleContainer();
+        assertEquals(THREADS * TODOS_PER_THREAD, modules.getModule(SHARED_MODULE).getTasks().size());
+        assertEquals(THREADS * TODOS_PER_THREAD, storedModules.getModule(SHARED_MODULE).getTasks().size());
+        for (String moduleCode : moduleCodes) {
+            assertEquals(TODOS_PER_THREAD, modules.getModule(moduleCode).getTasks().size());
+            assertEquals(TODOS_PER_THREAD, storedModules.getModule(moduleCode).getTasks().size());
+            spinBox.execute("remove / module " + moduleCode, setupTrace, false);
+        }
+        spinBox.execute("remove / module " + SHARED_MODULE, setupTrace, false);
+    }
+
+    @Test
+    public void runWithAccess_writeDuringRead_writerNotBlockedAndSnapshotUnchanged() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = newPageTrace();
+        spinBox.execute("add / module SNAPMOD Snapshot Module", pageTrace, false);
+        spinBox.execute("add SNAPMOD / todo Before", pageTrace, false);
+        ModuleContainer modules = spinBox.getModuleContainer();
+
+        TaskList snapshotTasks = modules.runWithAccess(ModuleAccess.readModule("SNAPMOD"), snapshot -> {
+            Thread writer = new Thread(() -> {
+                try {
+                    spinBox.execute("add SNAPMOD / todo During", newPageTrace(), false);
+                    spinBox.execute("update SNAPMOD / task 1 done", newPageTrace(), false);
+                } catch (SpinBoxException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            writer.start();
+            try {
+                writer.join(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertFalse(writer.isAlive());
+            return snapshot.getModule("SNAPMOD").getTasks();
+        });
+
+        assertEquals(1, snapshotTasks.size());
+        assertFalse(snapshotTasks.getListView().get(0).getDone());
+        assertEquals(2, modules.getModule("SNAPMOD").getTasks().size());
+        spinBox.execute("remove / module SNAPMOD", pageTrace, false);
+    }
+
+    @Test
+    public void execute_viewMissingModuleFromSnapshot_existingModulesListed() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = newPageTrace();
+        spinBox.execute("add / module LISTEDMOD Listed Module", pageTrace, false);
+
+        SpinBoxException error = assertThrows(SpinBoxException.class, () -> spinBox.execute("view / MISSINGMOD",
+                pageTrace, false));
+        assertTrue(error.getMessage().contains("LISTEDMOD"));
+        spinBox.execute("remove / module LISTEDMOD", pageTrace, false);
+    }
+}
@@ -0,0 +1,91 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.daemon.Daemon;
+import spinbox.daemon.DaemonClient;
+import spinbox.daemon.DaemonProtocol;
+import spinbox.exceptions.SpinBoxException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DaemonIntegrationTest {
+
+    @Test
+    public void run_commandsInOneSession_pageTraceKeptAndDaemonStopped() throws SpinBoxException, IOException,
+            InterruptedException {
+        Path addressFile = Files.createTempFile("spinbox", ".address");
+        Daemon daemon = new Daemon(new SpinBox(), 0, addressFile);
+        Thread serving = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        serving.start();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        List<String> commands = List.of("add / module DAEMONMOD Daemon Module", "view / DAEMONMOD tasks",
+                "add / todo Kept page", "add DAEMONMOD / todo", "remove / module DAEMONMOD");
+        int status = DaemonClient.run(addressFile, commands, true, new PrintStream(out, true, "UTF-8"),
+                new PrintStream(err, true, "UTF-8"));
+        serving.join();
+
+        assertEquals(1, status);
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("Kept page"));
+        assertFalse(err.toString(StandardCharsets.UTF_8).isEmpty());
+        assertFalse(Files.exists(addressFile));
+        assertEquals(3, DaemonClient.run(addressFile, Collections.emptyList(), false, System.out, System.err));
+    }
+
+    @Test
+    public void stop_otherSessionOpen_runningCommandAnsweredAndSessionEnded() throws SpinBoxException, IOException,
+            InterruptedException {
+        Path addressFile = Files.createTempFile("spinbox", ".address");
+        Daemon daemon = new Daemon(new SpinBox(), 0, addressFile);
+        Thread serving = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        serving.start();
+
+        String[] address = Files.readString(addressFile).split(" ");
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(address[0]))) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DaemonProtocol.write(output, DaemonProtocol.TOKEN, address[1]);
+            DaemonProtocol.write(output, DaemonProtocol.COMMAND, "view / calendar");
+            assertEquals(DaemonProtocol.RESPONSE, DaemonProtocol.readKind(input));
+            DaemonProtocol.readText(input);
+
+            assertEquals(0, DaemonClient.run(addressFile, Collections.emptyList(), true, System.out, System.err));
+            serving.join(10_000);
+
+            assertFalse(serving.isAlive());
+            assertEquals(-1, DaemonProtocol.readKind(input));
+            assertFalse(Files.exists(addressFile));
+        }
+    }
+}
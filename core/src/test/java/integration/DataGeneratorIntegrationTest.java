@@ -0,0 +1,64 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.containers.ModuleContainer;
+import spinbox.entities.Module;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataGeneratorIntegrationTest {
+    private static final String GENERATE = "populate / modules 2 tasks 300 files 10 grades 4 notes 3 seed 7 "
+            + "mix todo:1,deadline:1,lecture:1 prefix ";
+
+    private ArrayDeque<String> newPageTrace() {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        return pageTrace;
+    }
+
+    @Test
+    public void populate_sameSeedDifferentPrefixes_sameItemsGeneratedSavedAndLoaded() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = newPageTrace();
+        String response = spinBox.execute(GENERATE + "GENA", pageTrace, false);
+        assertTrue(response.contains("Generated 2 modules of 317 items each, 634 items in total"));
+        spinBox.execute(GENERATE + "GENB", pageTrace, false);
+
+        ModuleContainer storedModules = new ModuleContainer();
+        for (String moduleNumber : new String[] {"0001", "0002"}) {
+            Module first = storedModules.getModule("GENA" + moduleNumber);
+            Module second = storedModules.getModule("GENB" + moduleNumber);
+            assertEquals(300, first.getTasks().size());
+            assertEquals(10, first.getFiles().size());
+            assertEquals(4, first.getGrades().size());
+            assertEquals(3, first.getNotepad().getNotes().size());
+            assertEquals(first.getTasks().viewList(), second.getTasks().viewList());
+            assertEquals(first.getFiles().viewList(), second.getFiles().viewList());
+            assertEquals(first.getGrades().viewList(), second.getGrades().viewList());
+            assertEquals(first.getNotepad().getNotes(), second.getNotepad().getNotes());
+            assertEquals(first.getTasks().viewList(), spinBox.getModuleContainer().getModule("GENA" + moduleNumber)
+                    .getTasks().viewList());
+            assertTrue(first.getTasks().getListView().stream().allMatch(task -> task.getTaskType().name()
+                    .matches("TODO|DEADLINE|LECTURE")));
+            spinBox.execute("remove / module GENA" + moduleNumber, pageTrace, false);
+            spinBox.execute("remove / module GENB" + moduleNumber, pageTrace, false);
+        }
+    }
+
+    @Test
+    public void populate_invalidOptions_exceptionThrown() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = newPageTrace();
+        assertThrows(InputException.class, () -> spinBox.execute("populate / modules", pageTrace, false));
+        assertThrows(InputException.class, () -> spinBox.execute("populate / modules -1", pageTrace, false));
+        assertThrows(InputException.class, () -> spinBox.execute("populate / mix todo:0", pageTrace, false));
+        assertThrows(InputException.class, () -> spinBox.execute("populate / words a|b", pageTrace, false));
+    }
+}
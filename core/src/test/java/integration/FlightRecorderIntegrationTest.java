@@ -0,0 +1,59 @@
+package integration;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.exceptions.SpinBoxException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderIntegrationTest {
+
+    private List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void recording_spinBoxEventsEnabled_commandsStorageAndDatesRecorded()
+            throws SpinBoxException, IOException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        Path file = Files.createTempFile("spinbox", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("spinbox.Command");
+            recording.enable("spinbox.Storage");
+            recording.enable("spinbox.DateParse");
+            recording.start();
+            spinBox.execute("add / module JFR1 Recorded", pageTrace, false);
+            spinBox.execute("add JFR1 / deadline Report by: tomorrow", pageTrace, false);
+            spinBox.execute("remove / module JFR1", pageTrace, false);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        List<RecordedEvent> commands = eventsNamed(events, "spinbox.Command");
+        assertEquals(3, commands.size());
+        assertEquals("AddCommand", commands.get(1).getString("commandType"));
+        assertEquals("JFR1", commands.get(1).getString("modules"));
+        assertTrue(eventsNamed(events, "spinbox.Storage").stream()
+                .anyMatch(event -> event.getString("path").endsWith("tasks.txt") && event.getInt("lines") == 1
+                        && event.getString("operation").equals("write")));
+        assertTrue(eventsNamed(events, "spinbox.DateParse").size() >= 1);
+    }
+}
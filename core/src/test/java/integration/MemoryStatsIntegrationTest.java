@@ -0,0 +1,46 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryStatsIntegrationTest {
+
+    @Test
+    public void statsMemory_afterAddingItems_bytesReportedByModuleAndList() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        spinBox.execute("add / module MEM1 Footprint", pageTrace, false);
+        spinBox.execute("add MEM1 / deadline Report by: 12/30/2099 10:00", pageTrace, false);
+        spinBox.execute("add MEM1 / deadline Report by: 12/31/2099 10:00", pageTrace, false);
+        spinBox.execute("add MEM1 / note Remember the report", pageTrace, false);
+
+        String response = spinBox.execute("stats / memory", pageTrace, false);
+        List<String> lines = Arrays.asList(response.split("\n"));
+        int moduleLine = -1;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).contains("MEM1 Footprint: ")) {
+                moduleLine = i;
+            }
+        }
+        assertTrue(moduleLine >= 0, response);
+        assertTrue(lines.get(moduleLine).endsWith(" bytes, 2 DateTimes"), lines.get(moduleLine));
+        assertTrue(lines.get(moduleLine + 1).matches(".*tasks +2 items +[1-9]\\d* bytes"));
+        assertTrue(lines.get(moduleLine + 2).matches(".*files +0 items +[1-9]\\d* bytes"));
+        assertTrue(lines.get(moduleLine + 4).matches(".*notes +1 items +[1-9]\\d* bytes"));
+        assertTrue(lines.get(moduleLine + 5).matches(".*module +[1-9]\\d* bytes"));
+        assertTrue(response.contains("All modules: "));
+        assertTrue(response.contains("\"Report\""), response);
+
+        spinBox.execute("remove / module MEM1", pageTrace, false);
+        assertEquals(-1, spinBox.execute("stats / memory", pageTrace, false).indexOf("MEM1"));
+    }
+}
@@ -0,0 +1,76 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.containers.events.ModelChange;
+import spinbox.containers.events.ModelChange.Target;
+import spinbox.containers.events.ModelChange.Type;
+import spinbox.containers.events.ModelChanges;
+import spinbox.entities.items.tasks.Task;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModelChangesIntegrationTest {
+    private static final String MODULE_CODE = "EVENTS";
+
+    @Test
+    public void execute_commandsChangingModules_changesPublishedOnlyForWhatChanged() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        List<ModelChange> changes = new ArrayList<>();
+        Consumer<ModelChange> listener = change -> {
+            if (change.getModuleCode().equals(MODULE_CODE)) {
+                changes.add(change);
+            }
+        };
+        ModelChanges.addListener(listener);
+        try {
+            spinBox.execute("add / module EVENTS Model Changes", pageTrace, false);
+            assertChange(changes, 0, Target.MODULES, Type.ADDED);
+
+            spinBox.execute("add EVENTS / todo Publish changes", pageTrace, false);
+            assertChange(changes, 1, Target.TASKS, Type.ADDED);
+            Task task = (Task) changes.get(1).getItem();
+            assertEquals("Publish changes", task.getName());
+
+            spinBox.execute("update EVENTS / task 1 done", pageTrace, false);
+            assertChange(changes, 2, Target.TASKS, Type.UPDATED);
+            assertSame(task, changes.get(2).getItem());
+
+            spinBox.execute("view / EVENTS tasks", pageTrace, false);
+            spinBox.execute("find EVENTS / task Publish", pageTrace, false);
+            assertEquals(3, changes.size());
+
+            spinBox.execute("add EVENTS / note Only what changed", pageTrace, false);
+            assertChange(changes, 3, Target.NOTES, Type.ADDED);
+            assertEquals("Only what changed", changes.get(3).getItem());
+
+            spinBox.execute("remove EVENTS / task 1", pageTrace, false);
+            assertChange(changes, 4, Target.TASKS, Type.REMOVED);
+            spinBox.execute("undo", pageTrace, false);
+            assertChange(changes, 5, Target.TASKS, Type.ADDED);
+            assertSame(task, changes.get(5).getItem());
+
+            spinBox.execute("remove / module EVENTS", pageTrace, false);
+            assertChange(changes, 6, Target.MODULES, Type.REMOVED);
+            assertEquals(7, changes.size());
+        } finally {
+            ModelChanges.removeListener(listener);
+        }
+    }
+
+    private void assertChange(List<ModelChange> changes, int index, Target target, Type type) {
+        assertTrue(changes.size() > index, changes.toString());
+        assertEquals(target, changes.get(index).getTarget(), changes.toString());
+        assertEquals(type, changes.get(index).getType(), changes.toString());
+    }
+}
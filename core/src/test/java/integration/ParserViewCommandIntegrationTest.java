@@ -8,11 +8,16 @@ import spinbox.commands.ViewCommand;
 
 import spinbox.containers.ModuleContainer;
 import spinbox.entities.Module;
+import spinbox.entities.items.tasks.Todo;
+import spinbox.exceptions.InputException;
 import spinbox.exceptions.SpinBoxException;
 
 import java.util.ArrayDeque;
 import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ParserViewCommandIntegrationTest {
@@ -205,4 +210,47 @@ public class ParserViewCommandIntegrationTest {
         assertTrue(Arrays.equals(checkTrace.toArray(), pageTrace.toArray()));
         testContainer.removeModule(testModule.getModuleCode(),testModule);
     }
+
+    @Test
+    void testParser_viewCommand_pagedModuleTasks() throws SpinBoxException {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+
+        ModuleContainer testContainer = new ModuleContainer();
+        Module testModule = new Module("PAGEMOD", "Paged Module");
+        testContainer.addModule(testModule);
+        for (int i = 1; i <= 5; i++) {
+            testModule.getTasks().add(new Todo("Paged task " + i));
+        }
+        Ui ui = new Ui(true);
+
+        pageTrace.add("main");
+
+        Parser.setPageTrace(pageTrace);
+        Command command = Parser.parse("view / PAGEMOD tasks page 2 size 2");
+        String response = command.execute(testContainer, pageTrace, ui, false);
+
+        assertEquals("tasks page 2 size 2", pageTrace.getFirst());
+        assertTrue(response.contains("3. [T][NOT DONE] Paged task 3"));
+        assertTrue(response.contains("4. [T][NOT DONE] Paged task 4"));
+        assertFalse(response.contains("Paged task 2"));
+
+        Parser.setPageTrace(pageTrace);
+        command = Parser.parse("view / next");
+        response = command.execute(testContainer, pageTrace, ui, false);
+
+        assertEquals("tasks page 3 size 2", pageTrace.getFirst());
+        assertTrue(response.contains("5. [T][NOT DONE] Paged task 5"));
+        assertFalse(response.contains("Paged task 4"));
+
+        Parser.setPageTrace(pageTrace);
+        Command nextCommand = Parser.parse("view / next");
+        assertThrows(InputException.class, () -> nextCommand.execute(testContainer, pageTrace, ui, false));
+
+        Parser.setPageTrace(pageTrace);
+        command = Parser.parse("view / prev");
+        command.execute(testContainer, pageTrace, ui, false);
+
+        assertEquals("tasks page 2 size 2", pageTrace.getFirst());
+        testContainer.removeModule(testModule.getModuleCode(), testModule);
+    }
 }
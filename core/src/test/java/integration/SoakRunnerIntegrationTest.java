@@ -0,0 +1,75 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.SpinBox;
+import spinbox.containers.ModuleContainer;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.soak.Budgets;
+import spinbox.soak.SoakRunner;
+import spinbox.soak.Workload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SoakRunnerIntegrationTest {
+    private static final long MILLISECOND = 1_000_000L;
+
+    @Test
+    public void run_generatedWorkload_sampledWithoutFailuresAndModuleRemoved() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        List<String> output = new ArrayList<>();
+
+        SoakRunner.Result result = new SoakRunner(spinBox, Workload.generated("SOAKTEST", 7), 600 * MILLISECOND,
+                200 * MILLISECOND).run(output::add);
+
+        assertEquals(0, result.getFailed());
+        assertTrue(result.getCommandsRun() > 2);
+        assertTrue(result.getSamples().size() >= 3);
+        assertEquals(result.getSamples().size() + 1, output.size());
+        assertTrue(result.getThroughput() > 0);
+        assertTrue(result.getPercentileMillis(99) <= result.getPercentileMillis(100));
+        assertTrue(result.report().get(0).startsWith("Ran " + result.getCommandsRun() + " commands (0 failed)"));
+        assertFalse(new ModuleContainer().checkModuleExists("SOAKTEST"));
+    }
+
+    @Test
+    public void recorded_stoppedWithinCycle_teardownFinishesCycle() {
+        Workload workload = Workload.recorded(List.of("add / module SOAKCYC Cycle", "add SOAKCYC / todo Once",
+                "remove / module SOAKCYC"));
+        assertTrue(workload.getTeardown().isEmpty());
+        assertEquals("add / module SOAKCYC Cycle", workload.next());
+        assertEquals(List.of("add SOAKCYC / todo Once", "remove / module SOAKCYC"), workload.getTeardown());
+        workload.next();
+        workload.next();
+        assertTrue(workload.getTeardown().isEmpty());
+    }
+
+    @Test
+    public void check_budgets_exceededOnlyWhenOverLimit() throws SpinBoxException {
+        SpinBox spinBox = new SpinBox();
+        List<String> recorded = List.of("# one cycle", "add / module SOAKREC Recorded", "", "add SOAKREC / todo Once",
+                "remove / module SOAKREC");
+        SoakRunner.Result result = new SoakRunner(spinBox, Workload.recorded(recorded), 300 * MILLISECOND,
+                100 * MILLISECOND).run(line -> { });
+
+        Budgets generous = new Budgets();
+        generous.set(Budgets.MAX_FAILURES, 0);
+        generous.set(Budgets.P99_MILLIS, 60_000);
+        generous.set(Budgets.MIN_THROUGHPUT, 0);
+        List<String> lines = new ArrayList<>();
+        assertTrue(generous.check(result, lines));
+        assertEquals(3, lines.size());
+
+        Budgets strict = new Budgets();
+        strict.set(Budgets.MAX_MILLIS, 0);
+        strict.set(Budgets.MIN_THROUGHPUT, Double.MAX_VALUE);
+        lines.clear();
+        assertFalse(strict.check(result, lines));
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("Exceeded budget")));
+        assertFalse(new ModuleContainer().checkModuleExists("SOAKREC"));
+    }
+}
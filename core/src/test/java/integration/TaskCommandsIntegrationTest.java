@@ -453,4 +453,74 @@ public class TaskCommandsIntegrationTest {
                     + "<done status>", e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void removeTasksWhere_labsDone_onlyMatchingTasksRemoved() throws SpinBoxException {
+        initializeSetUp();
+
+        taskList = testModule.getTasks();
+        clearTaskList();
+        Task testTask1 = new Lab("Test 1", new DateTime("01/02/2029 10:00"),
+                new DateTime("01/02/2029 12:00"));
+        Task testTask2 = new Lab("Test 2", new DateTime("01/03/2029 10:00"),
+                new DateTime("01/03/2029 12:00"));
+        Task testTask3 = new Todo("Test 3");
+        testTask1.markDone();
+        testTask3.markDone();
+
+        taskList.add(testTask1);
+        taskList.add(testTask2);
+        taskList.add(testTask3);
+
+        executeCommand("remove-* TESTMOD / task where type=LAB done=true");
+
+        assertEquals(2, taskList.size());
+        assertEquals("[LAB][NOT DONE] Test 2 (at: 01/03/2029 10:00 to 01/03/2029 12:00)",
+                taskList.get(0).toString());
+        assertEquals("[T][DONE] Test 3", taskList.get(1).toString());
+        taskList.clear();
+        taskList.loadData();
+        assertEquals(2, taskList.size());
+        testContainer.removeModule(testModule.getModuleCode(), testModule);
+    }
+
+    @Test
+    public void updateTasksWhere_notDoneBeforeDate_onlyMatchingTasksUpdated() throws SpinBoxException {
+        initializeSetUp();
+
+        taskList = testModule.getTasks();
+        clearTaskList();
+        Task testTask1 = new Deadline("Test 1", new DateTime("01/01/2029 10:00"));
+        Task testTask2 = new Event("Test 2", new DateTime("01/02/2029 10:00"),
+                new DateTime("01/02/2029 12:00"));
+        Task testTask3 = new Todo("Test 3");
+
+        taskList.add(testTask1);
+        taskList.add(testTask2);
+        taskList.add(testTask3);
+
+        executeCommand("update-* TESTMOD / task where done=false before: 01/01/2029 23:00 set done");
+
+        assertEquals("[E][NOT DONE] Test 2 (at: 01/02/2029 10:00 to 01/02/2029 12:00)", taskList.get(0).toString());
+        assertEquals("[T][NOT DONE] Test 3", taskList.get(1).toString());
+        assertEquals("[D][DONE] Test 1 (by: 01/01/2029 10:00)", taskList.get(2).toString());
+        testContainer.removeModule(testModule.getModuleCode(), testModule);
+    }
+
+    @Test
+    public void updateTasksWhere_missingDoneStatus_exceptionThrown() throws SpinBoxException {
+        initializeSetUp();
+
+        try {
+            executeCommand("update-* TESTMOD / task where done=false");
+            fail();
+        } catch (InputException e) {
+            testContainer.removeModule(testModule.getModuleCode(), testModule);
+            assertEquals("Invalid Input\n\nPlease use valid conditional update format:\n"
+                    + "update-* <pageContent> / <type> where <conditions> set <done status>\n"
+                    + "E.g. update-* CG1111 / task where done=false before: 12/01/2019 00:00 set done\n"
+                    + "Note: omit the module code to update all modules. "
+                    + "Conditional update is only available for the file/task tab.", e.getMessage());
+        }
+    }
+}
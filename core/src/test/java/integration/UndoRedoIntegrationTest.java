@@ -0,0 +1,134 @@
+package integration;
+
+import org.junit.jupiter.api.Test;
+import spinbox.Parser;
+import spinbox.Ui;
+import spinbox.commands.Command;
+import spinbox.containers.ModuleContainer;
+import spinbox.containers.lists.TaskList;
+import spinbox.entities.Module;
+import spinbox.entities.items.tasks.Todo;
+
+import spinbox.exceptions.CorruptedDataException;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.DateFormatException;
+import spinbox.exceptions.FileCreationException;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.InvalidIndexException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UndoRedoIntegrationTest {
+    private ModuleContainer testContainer;
+    private Module testModule;
+    private TaskList taskList;
+    private ArrayDeque<String> pageTrace;
+    private Ui ui;
+
+    /**
+     * Initialize the set up which creates a test module with three tasks and adds it into the module container.
+     * @throws FileCreationException If there is an error when creating new files.
+     * @throws DataReadWriteException If there is an error reading/writing to the files.
+     * @throws CorruptedDataException If the data within the files have been corrupted.
+     * @throws DateFormatException If an invalid date format is provided.
+     * @throws InvalidIndexException If an invalid index is entered.
+     */
+    private void initializeSetUp() throws FileCreationException, DataReadWriteException, CorruptedDataException,
+            DateFormatException, InvalidIndexException {
+        testContainer = new ModuleContainer();
+        testModule = new Module("UNDOMOD", "Undo Module");
+        testContainer.addModule(testModule);
+        taskList = testModule.getTasks();
+        while (taskList.size() > 0) {
+            taskList.remove(0);
+        }
+        taskList.add(new Todo("Test 1"));
+        taskList.add(new Todo("Test 2"));
+        taskList.add(new Todo("Test 3"));
+        pageTrace = new ArrayDeque<>();
+        ui = new Ui(true);
+    }
+
+    /**
+     * Executes the command that is provided to the Parser as a single undoable step.
+     * @param userInput The String input provided to the test.
+     * @throws SpinBoxException If there are storage errors or input errors.
+     */
+    private void executeCommand(String userInput) throws SpinBoxException {
+        testContainer.getHistory().begin();
+        try {
+            Parser.setPageTrace(pageTrace);
+            Command command = Parser.parse(userInput);
+            command.execute(testContainer, pageTrace, ui, false);
+        } finally {
+            testContainer.getHistory().commit();
+        }
+    }
+
+    @Test
+    public void undoRemoveMultiple_threeTasksRemoved_tasksRestoredInMemoryAndStorage() throws SpinBoxException {
+        initializeSetUp();
+
+        executeCommand("remove-* UNDOMOD / task 1,2,3");
+        assertEquals(0, taskList.size());
+
+        executeCommand("undo");
+        assertEquals(3, taskList.size());
+        assertEquals("[T][NOT DONE] Test 1", taskList.get(0).toString());
+
+        taskList.clear();
+        taskList.loadData();
+        assertEquals(3, taskList.size());
+        assertEquals("[T][NOT DONE] Test 3", taskList.get(2).toString());
+    }
+
+    @Test
+    public void redoUpdate_taskMarkedDoneThenUndone_taskDoneAgain() throws SpinBoxException {
+        initializeSetUp();
+
+        executeCommand("update UNDOMOD / task 1 done");
+        assertTrue(taskList.get(2).getDone());
+
+        executeCommand("undo");
+        for (int i = 0; i < taskList.size(); i++) {
+            assertFalse(taskList.get(i).getDone());
+        }
+
+        executeCommand("redo");
+        assertTrue(taskList.get(2).getDone());
+        assertEquals("[T][DONE] Test 1", taskList.get(2).toString());
+    }
+
+    @Test
+    public void undoRemoveModule_moduleRemoved_moduleAndItsTasksRestored() throws SpinBoxException {
+        initializeSetUp();
+        pageTrace.add("main");
+
+        executeCommand("remove / module UNDOMOD");
+        assertFalse(testContainer.checkModuleExists("UNDOMOD"));
+
+        executeCommand("undo");
+        assertTrue(testContainer.checkModuleExists("UNDOMOD"));
+        TaskList restoredTasks = testContainer.getModule("UNDOMOD").getTasks();
+        restoredTasks.clear();
+        restoredTasks.loadData();
+        assertEquals(3, restoredTasks.size());
+    }
+
+    @Test
+    public void redo_newChangeAfterUndo_exceptionThrown() throws SpinBoxException {
+        initializeSetUp();
+
+        executeCommand("remove UNDOMOD / task 1");
+        executeCommand("undo");
+        executeCommand("add UNDOMOD / todo Test 4");
+
+        assertThrows(InputException.class, () -> executeCommand("redo"));
+    }
+}
@@ -0,0 +1,64 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.logging.AsyncHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AsyncHandlerTest {
+
+    /**
+     * A handler keeping the messages published to it, which blocks on the first record until released, so that
+     * the buffer of the asynchronous handler fills up meanwhile.
+     */
+    private static class BlockingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final List<String> threads = new ArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            entered.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    public void publish_bufferFull_laterRecordsDroppedAndCountReported() throws InterruptedException {
+        BlockingHandler target = new BlockingHandler();
+        AsyncHandler handler = new AsyncHandler(target, 2);
+        handler.publish(new LogRecord(Level.INFO, "record 0"));
+        target.entered.await();
+        for (int i = 1; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        target.released.countDown();
+        handler.close();
+
+        assertEquals(List.of("record 0", "7 log records were dropped because logging fell behind.", "record 1",
+                "record 2"), target.messages);
+        assertEquals("spinbox-log-writer", target.threads.get(0));
+    }
+}
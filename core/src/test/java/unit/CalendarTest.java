@@ -1,9 +1,9 @@
 package unit;
 
-import javafx.util.Pair;
 import org.junit.jupiter.api.Test;
 import spinbox.DateTime;
 import spinbox.entities.Calendar;
+import spinbox.entities.Pair;
 import spinbox.entities.items.tasks.Lecture;
 import spinbox.entities.items.tasks.Task;
 import spinbox.exceptions.DateFormatException;
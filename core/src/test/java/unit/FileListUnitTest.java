@@ -11,6 +11,9 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileListUnitTest {
@@ -104,4 +107,25 @@ public class FileListUnitTest {
         assertEquals(checkList.toString(), fileList.getList().toString());
     }
 
+    @Test
+    void getSnapshot_afterEdits_onlyEditedFilesCopiedAgain() throws SpinBoxException {
+        FileList fileList = new FileList("testFileList");
+        fileList.add(new File(0, "file1"));
+        fileList.add(new File(0, "file2"));
+        fileList.add(new File(0, "file3"));
+        FileList before = fileList.getSnapshot();
+        assertNotSame(fileList.get(0), before.get(0));
+
+        fileList.update(1, true);
+        fileList.tag(2, List.of("urgent"), true);
+        FileList after = fileList.getSnapshot();
+
+        assertSame(before.get(0), after.get(0));
+        assertNotSame(before.get(1), after.get(1));
+        assertNotSame(before.get(2), after.get(2));
+        assertFalse(before.get(1).getDone());
+        assertTrue(after.get(1).getDone());
+        assertTrue(before.get(2).getTags().isEmpty());
+        assertEquals(List.of("urgent"), new ArrayList<>(after.get(2).getTags()));
+    }
 }
@@ -0,0 +1,64 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.entities.GradeProjection;
+import spinbox.entities.items.GradedComponent;
+import spinbox.exceptions.InputException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GradeProjectionTest {
+
+    @Test
+    public void simulate_oneScoredOneDistribution_meanMatchesExpectedScore() throws InputException {
+        GradedComponent midterm = new GradedComponent("Midterm", 30);
+        midterm.updateWeightedScore(24);
+        GradedComponent finals = new GradedComponent("Finals", 70);
+        List<GradedComponent> components = new ArrayList<>();
+        components.add(midterm);
+        components.add(finals);
+
+        Map<Integer, double[]> distributions = new HashMap<>();
+        distributions.put(1, new double[]{60, 10});
+
+        GradeProjection.Result result = new GradeProjection(components, distributions).simulate(200000, 66, 1);
+
+        assertEquals(200000, result.getTrials());
+        assertEquals(66.0, result.getMean(), 0.2);
+        assertEquals(66.0, result.getPercentile(50), 0.3);
+        assertEquals(0.5, result.getProbabilityOfTarget(), 0.02);
+        assertTrue(result.getMin() >= 24 && result.getMax() <= 94);
+    }
+
+    @Test
+    public void simulate_sameSeed_identicalResults() throws InputException {
+        GradedComponent quiz = new GradedComponent("Quiz", 20);
+        quiz.updateWeightedScore(15);
+        List<GradedComponent> components = new ArrayList<>();
+        components.add(quiz);
+        components.add(new GradedComponent("Project", 80));
+
+        GradeProjection projection = new GradeProjection(components, new HashMap<>());
+        GradeProjection.Result first = projection.simulate(100000, 80, 42);
+        GradeProjection.Result second = projection.simulate(100000, 80, 42);
+
+        assertEquals(first.getMean(), second.getMean());
+        assertEquals(first.getProbabilityOfTarget(), second.getProbabilityOfTarget());
+        assertEquals(75.0, first.getMean(), 0.001);
+    }
+
+    @Test
+    public void createProjection_noDistributionNoHistory_exceptionThrown() {
+        List<GradedComponent> components = new ArrayList<>();
+        components.add(new GradedComponent("Essay", 50));
+
+        assertThrows(InputException.class, () -> new GradeProjection(components, new HashMap<>()));
+    }
+}
@@ -0,0 +1,32 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.stats.LatencyHistogram;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentileNanos_uniformLatencies_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1000; nanos <= 100000; nanos += 1000) {
+            histogram.record(nanos);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100000, histogram.getMaxNanos());
+        long median = histogram.getPercentileNanos(50);
+        long tail = histogram.getPercentileNanos(99);
+        assertTrue(median >= 50000 && median <= 50000 + 50000 / 32, "median was " + median);
+        assertTrue(tail >= 99000 && tail <= 99000 + 99000 / 32, "p99 was " + tail);
+    }
+
+    @Test
+    public void getPercentileNanos_noLatencies_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+}
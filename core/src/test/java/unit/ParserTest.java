@@ -0,0 +1,128 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.CommandArguments;
+import spinbox.CommandDescriptor;
+import spinbox.Parser;
+import spinbox.containers.ModuleAccess;
+import spinbox.commands.Command;
+import spinbox.commands.HelpCommand;
+import spinbox.commands.ScoreCommand;
+import spinbox.commands.SetNameCommand;
+import spinbox.commands.ViewCommand;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ParserTest {
+
+    @Test
+    void testParser_passValidCommands_parserReturnsValidCommandAfterBuildingCommand() throws SpinBoxException {
+        try {
+            String userInput1 = "random";
+            Command command = Parser.parse(userInput1);
+            fail();
+        } catch (InputException e) {
+            assertEquals("Invalid Input\n\nPlease provide a valid command:\n"
+                    + "'<action> <page> / <content>' or 'bye'", e.getMessage());
+        }
+    }
+
+    @Test
+    void lex_actionWordInModuleCode_moduleCodeKeptWhole() {
+        CommandDescriptor descriptor = CommandDescriptor.lex("add  ADDMOD / todo Add / remove notes ");
+
+        assertEquals("add", descriptor.getAction());
+        assertEquals(List.of("addmod"), descriptor.getPageComponents());
+        assertEquals("todo Add / remove notes", descriptor.getContent());
+        assertTrue(descriptor.hasSeparator());
+    }
+
+    @Test
+    void lex_noSeparator_onlyActionAndPage() {
+        CommandDescriptor descriptor = CommandDescriptor.lex("  Undo ");
+
+        assertEquals("undo", descriptor.getAction());
+        assertTrue(descriptor.getPageComponents().isEmpty());
+        assertEquals("", descriptor.getContent());
+        assertFalse(descriptor.hasSeparator());
+        assertFalse(CommandDescriptor.lex("view /main").hasSeparator());
+    }
+
+    @Test
+    void parse_upperCaseActionsAndStandaloneActions_commandsCreated() throws SpinBoxException {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+        Parser.setPageTrace(pageTrace);
+
+        assertTrue(Parser.parse("VIEW / main") instanceof ViewCommand);
+        assertTrue(Parser.parse("help") instanceof HelpCommand);
+        assertTrue(Parser.parse("help / view") instanceof HelpCommand);
+        assertThrows(InputException.class, () -> Parser.parse("view"));
+        assertThrows(InputException.class, () -> Parser.parse("undo twice"));
+        assertThrows(InputException.class, () -> Parser.parse("view a b c / main"));
+    }
+
+    @Test
+    void getArguments_setNameContent_indexAndNameTyped() {
+        CommandArguments arguments = CommandDescriptor.lex("set-name CS2113T / Task  3 to:  Read to: the notes ")
+                .getArguments(SetNameCommand.KEYWORDS);
+
+        assertEquals("task", arguments.getType());
+        assertEquals(2, arguments.getIndex(1));
+        assertTrue(arguments.hasClause(SetNameCommand.NAME_KEYWORD));
+        assertEquals("Read", arguments.getClause(SetNameCommand.NAME_KEYWORD));
+    }
+
+    @Test
+    void getArguments_scoreContent_keywordsWithoutSpacesTyped() {
+        CommandArguments marks = CommandArguments.parse("2 marks:45.5%", ScoreCommand.KEYWORDS);
+        assertEquals(1, marks.getIndex(0));
+        assertEquals(45.5, marks.getNumber(ScoreCommand.MARKS));
+
+        CommandArguments fraction = CommandArguments.parse("1 marks: 40/50", ScoreCommand.KEYWORDS);
+        assertArrayEquals(new double[]{40, 50}, fraction.getFraction(ScoreCommand.MARKS));
+
+        CommandArguments projection = CommandArguments.parse(
+                "projection target: 80% extra trials: 1000 dist: 1 70% 10%, 2 60% 5%", ScoreCommand.KEYWORDS);
+        assertEquals("projection", projection.getType());
+        assertEquals(80, projection.getNumber(ScoreCommand.TARGET));
+        assertEquals(1000, projection.getWholeNumber(ScoreCommand.TRIALS));
+        assertEquals("1 70% 10%, 2 60% 5%", projection.getClause(ScoreCommand.DISTRIBUTION));
+    }
+
+    @Test
+    void getArguments_missingOrMalformedArguments_exceptionsThrown() {
+        CommandArguments arguments = CommandDescriptor.lex("update CS2113T / task one").getArguments();
+
+        assertThrows(NumberFormatException.class, () -> arguments.getIndex(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> arguments.getWord(2));
+        assertFalse(arguments.hasClause(SetNameCommand.NAME_KEYWORD));
+        assertThrows(IndexOutOfBoundsException.class, () -> arguments.getClause(SetNameCommand.NAME_KEYWORD));
+        assertThrows(NumberFormatException.class, () -> CommandArguments.parse("1 marks: 40",
+                ScoreCommand.KEYWORDS).getFraction(ScoreCommand.MARKS));
+        assertEquals("", CommandArguments.parse("").getType());
+    }
+
+    @Test
+    void parse_scoreProjection_onlyReadsModule() throws SpinBoxException {
+        ArrayDeque<String> pageTrace = new ArrayDeque<>();
+        pageTrace.add("main");
+
+        ModuleAccess projection = Parser.parse("score CS2113T / projection target: 80%", pageTrace)
+                .getModuleAccess();
+        assertEquals(ModuleAccess.Kind.READ, projection.getKind());
+        assertEquals(List.of("CS2113T"), projection.getModuleCodes());
+        assertEquals(ModuleAccess.Kind.WRITE, Parser.parse("score CS2113T / 1 marks:50%", pageTrace)
+                .getModuleAccess().getKind());
+    }
+}
@@ -0,0 +1,100 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.DateTime;
+import spinbox.containers.lists.TaskList;
+import spinbox.entities.ItemFilter;
+import spinbox.entities.Module;
+import spinbox.entities.Query;
+import spinbox.entities.items.tasks.Deadline;
+import spinbox.entities.items.tasks.Lab;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.Todo;
+import spinbox.exceptions.InputException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QueryTest {
+
+    /**
+     * Makes a task list of 20 undone deadlines, one on each day from 01/01/2029, 5 done labs and 5 todos.
+     * @return The task list.
+     * @throws SpinBoxException If a date is invalid.
+     */
+    private TaskList makeTaskList() throws SpinBoxException {
+        TaskList taskList = new TaskList("testQueryList");
+        for (int i = 1; i <= 20; i++) {
+            taskList.addFromStorage(new Deadline("Deadline " + i,
+                    new DateTime(String.format("01/%02d/2029 10:00", i))));
+        }
+        for (int i = 1; i <= 5; i++) {
+            Task lab = new Lab("Lab " + i, new DateTime(String.format("02/%02d/2029 10:00", i)),
+                    new DateTime(String.format("02/%02d/2029 12:00", i)));
+            lab.markDone();
+            taskList.addFromStorage(lab);
+            taskList.addFromStorage(new Todo("Todo " + i));
+        }
+        return taskList;
+    }
+
+    @Test
+    public void planAccessPath_differentConditions_cheapestAccessPathChosen() throws SpinBoxException {
+        TaskList taskList = makeTaskList();
+
+        assertEquals(TaskList.AccessPath.FULL_SCAN,
+                taskList.planAccessPath(new ItemFilter("name=deadline", true)));
+        assertEquals(TaskList.AccessPath.DONE_SEGMENT,
+                taskList.planAccessPath(new ItemFilter("done=true", true)));
+        assertEquals(TaskList.AccessPath.DATE_RANGE,
+                taskList.planAccessPath(new ItemFilter("after: 01/17/2029 00:00 type=DEADLINE", true)));
+        assertEquals(TaskList.AccessPath.TYPE_BUCKET,
+                taskList.planAccessPath(new ItemFilter("type=TODO", true)));
+        assertEquals(TaskList.AccessPath.FULL_SCAN,
+                taskList.planAccessPath(new ItemFilter("done=true or type=TODO", true)));
+    }
+
+    @Test
+    public void findPositions_dateRange_indexesOfMatchingTasksInListOrder() throws SpinBoxException {
+        TaskList taskList = makeTaskList();
+        ItemFilter filter = new ItemFilter("after: 01/03/2029 00:00 before: 01/06/2029 00:00", true);
+
+        List<Integer> positions = taskList.findPositions(filter).boxed().collect(Collectors.toList());
+
+        assertEquals(List.of(2, 3, 4), positions);
+    }
+
+    @Test
+    public void findPositions_negatedAndAlternativeConditions_matchesFullScan() throws SpinBoxException {
+        TaskList taskList = makeTaskList();
+        ItemFilter filter = new ItemFilter("not type=DEADLINE name=2 or done=true name=5", true);
+
+        List<Integer> positions = taskList.findPositions(filter).boxed().collect(Collectors.toList());
+
+        assertEquals(List.of(21, 26, 29), positions);
+    }
+
+    @Test
+    public void run_orderAndLimit_firstMatchesInOrderWithListIndexes() throws SpinBoxException {
+        Module module = new Module();
+        TaskList taskList = makeTaskList();
+        Query query = new Query("type=DEADLINE order date desc limit 2", true);
+
+        List<String> matches = query.run(Collections.singletonList(module), m -> taskList);
+
+        assertEquals(2, matches.size());
+        assertEquals("20. [D][NOT DONE] Deadline 20 (by: 01/20/2029 10:00)", matches.get(0));
+        assertEquals("19. [D][NOT DONE] Deadline 19 (by: 01/19/2029 10:00)", matches.get(1));
+    }
+
+    @Test
+    public void createQuery_orderByDateForFiles_exceptionThrown() {
+        assertThrows(InputException.class, () -> new Query("done=true order date", false));
+        assertThrows(InputException.class, () -> new Query("done=true limit 0", true));
+    }
+}
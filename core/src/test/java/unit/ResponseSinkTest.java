@@ -0,0 +1,35 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.ResponseSink;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseSinkTest {
+
+    @Test
+    public void line_severalLines_joinedWithoutTrailingLineBreak() {
+        StringBuilder response = new StringBuilder();
+        ResponseSink sink = new ResponseSink(response);
+        sink.line("first").append(" part");
+        sink.lines(List.of("second", "third"));
+        sink.finish();
+        assertEquals("first part\nsecond\nthird", response.toString());
+        assertFalse(sink.isTruncated());
+    }
+
+    @Test
+    public void append_moreLinesThanLimit_extraLinesCountedInNote() {
+        StringBuilder response = new StringBuilder();
+        ResponseSink sink = new ResponseSink(response, 2);
+        sink.append("one\ntwo\nthree\nfour");
+        sink.line("five");
+        sink.finish();
+        assertEquals("one\ntwo\n... 3 more lines not shown.\n", response.toString());
+        assertTrue(sink.isTruncated());
+    }
+}
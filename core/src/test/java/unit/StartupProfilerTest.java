@@ -0,0 +1,70 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.containers.lists.FileList;
+import spinbox.exceptions.CorruptedDataException;
+import spinbox.exceptions.SpinBoxException;
+import spinbox.stats.StartupProfiler;
+import spinbox.stats.StartupProfiler.Step;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupProfilerTest {
+
+    private double getStepMillis(List<String> report, String scope, String step) {
+        String line = report.stream().filter(each -> each.trim().startsWith(scope)).findFirst().orElseThrow();
+        List<String> words = List.of(line.trim().split("\\s+"));
+        return Double.parseDouble(words.get(words.indexOf(step) + 1));
+    }
+
+    @Test
+    public void finish_nestedSteps_nestedTimeCountedOnceAndRunsCompared() throws InterruptedException, IOException {
+        Path directory = Files.createTempDirectory("startup");
+        assertEquals(List.of("--batch", "a.txt"), List.of(StartupProfiler.enableIfFlagged(
+                new String[] {"--batch", StartupProfiler.PROFILE_FLAG, "a.txt"})));
+        assertTrue(StartupProfiler.isEnabled());
+        StartupProfiler.begin();
+        StartupProfiler.begin();
+        Thread.sleep(50);
+        StartupProfiler.end("inner.txt", Step.READ);
+        StartupProfiler.end("outer.txt", Step.PARSE);
+        List<String> report = StartupProfiler.finish(directory.toString());
+
+        assertFalse(StartupProfiler.isEnabled());
+        assertTrue(getStepMillis(report, "inner.txt", "read") >= 50);
+        assertTrue(getStepMillis(report, "outer.txt", "parse") < 50);
+        assertTrue(report.stream().anyMatch(line -> line.startsWith("No previous run")));
+
+        StartupProfiler.enable();
+        List<String> secondReport = StartupProfiler.finish(directory.toString());
+        assertTrue(secondReport.stream().anyMatch(line -> line.startsWith("Previous run at")));
+        assertEquals(2, Files.readAllLines(directory.resolve("startup-history.txt")).size());
+        assertTrue(Files.exists(directory.resolve("startup-profile.txt")));
+    }
+
+    @Test
+    public void finish_stepFailedWhileNested_enclosingStepStillTimed() throws InterruptedException, IOException,
+            SpinBoxException {
+        Path directory = Files.createTempDirectory("startup");
+        FileList fileList = new FileList("PROFILECORRUPT");
+        Files.write(Paths.get("SpinBoxData/PROFILECORRUPT/files.txt"), List.of("not a file"));
+        StartupProfiler.enable();
+        StartupProfiler.begin();
+        Thread.sleep(50);
+        assertThrows(CorruptedDataException.class, fileList::loadData);
+        StartupProfiler.end("enclosing.txt", Step.PARSE);
+        List<String> report = StartupProfiler.finish(directory.toString());
+
+        assertTrue(getStepMillis(report, "enclosing.txt", "parse") >= 50);
+        Files.deleteIfExists(Paths.get("SpinBoxData/PROFILECORRUPT/files.txt"));
+    }
+}
@@ -0,0 +1,88 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.datapersistors.storage.Storage;
+import spinbox.exceptions.DataReadWriteException;
+import spinbox.exceptions.StorageException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageTest {
+
+    @Test
+    public void createDataAndReadData_varietyOfStrings_successfulCreatesAndReads() throws StorageException {
+        File file = new File("SpinBox/storageTest.txt");
+        file.delete();
+        ArrayList<String> testStrings = new ArrayList<>();
+
+        testStrings.add("Houston we have a problem");
+        testStrings.add("Houston we have a merge conflict");
+        testStrings.add("Houston we have a pull request");
+        testStrings.add("Houston we have a user story");
+        testStrings.add("Houston pls");
+
+        Storage test = new Storage("SpinBoxData/storageTest.txt");
+        test.writeData(testStrings);
+        List<String> loadedStrings = test.loadData();
+
+        for (int i = 0; i < loadedStrings.size(); i++) {
+            assertEquals(loadedStrings.get(i), testStrings.get(i));
+        }
+    }
+
+    @Test
+    public void deferWrites_writesFromAnotherThread_onlyCurrentThreadDeferred() throws StorageException, IOException,
+            InterruptedException {
+        Storage deferred = new Storage("SpinBoxData/storageDeferTest.txt");
+        Storage direct = new Storage("SpinBoxData/storageDirectTest.txt");
+        deferred.writeData(List.of("before"));
+
+        assertTrue(Storage.deferWrites());
+        try {
+            deferred.writeData(List.of("deferred"));
+            Thread other = new Thread(() -> {
+                try {
+                    direct.writeData(List.of("direct"));
+                } catch (DataReadWriteException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            other.start();
+            other.join();
+
+            assertEquals(List.of("direct"), Files.readAllLines(new File(direct.getPath()).toPath()));
+            assertEquals(List.of("before"), Files.readAllLines(new File(deferred.getPath()).toPath()));
+            assertEquals(List.of("deferred"), deferred.loadData());
+        } finally {
+            assertEquals(1, Storage.stopDeferringWrites());
+        }
+        assertEquals(List.of("deferred"), Files.readAllLines(new File(deferred.getPath()).toPath()));
+    }
+
+    @Test
+    public void stopDeferringWrites_fileCannotBeWritten_linesKeptForNextFlush() throws StorageException,
+            IOException {
+        Storage storage = new Storage("SpinBoxData/storageFlushTest.txt");
+        File file = new File(storage.getPath());
+        assertTrue(Storage.deferWrites());
+        storage.writeData(List.of("kept"));
+        assertTrue(file.delete() && file.mkdir());
+
+        assertThrows(DataReadWriteException.class, Storage::stopDeferringWrites);
+        assertEquals(List.of("kept"), storage.loadData());
+
+        assertTrue(file.delete() && file.createNewFile());
+        assertEquals(1, Storage.flushDeferredWrites());
+        assertEquals(List.of("kept"), Files.readAllLines(file.toPath()));
+        storage.writeData(List.of("direct"));
+        assertEquals(List.of("direct"), Files.readAllLines(file.toPath()));
+    }
+}
@@ -0,0 +1,121 @@
+package unit;
+
+import org.junit.jupiter.api.Test;
+import spinbox.containers.lists.TagBitmap;
+import spinbox.containers.lists.TaskList;
+import spinbox.entities.ItemFilter;
+import spinbox.entities.items.File;
+import spinbox.entities.items.tasks.Deadline;
+import spinbox.entities.items.tasks.Event;
+import spinbox.entities.items.tasks.Task;
+import spinbox.entities.items.tasks.Todo;
+import spinbox.exceptions.CorruptedDataException;
+import spinbox.exceptions.SpinBoxException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TagIndexTest {
+
+    /**
+     * Makes a task list of 1000 todos, where every 2nd todo is tagged even, every 3rd todo is tagged three,
+     * and only the first todo is tagged first.
+     * @return The task list.
+     */
+    private TaskList makeTaskList() throws SpinBoxException {
+        TaskList taskList = new TaskList("testTagList");
+        for (int i = 0; i < 1000; i++) {
+            Task todo = new Todo(String.format("Todo %04d", i));
+            if (i % 2 == 0) {
+                todo.addTag("even");
+            }
+            if (i % 3 == 0) {
+                todo.addTag("three");
+            }
+            if (i == 0) {
+                todo.addTag("first");
+            }
+            taskList.addFromStorage(todo);
+        }
+        return taskList;
+    }
+
+    private List<Integer> fullScan(TaskList taskList, ItemFilter filter) {
+        return IntStream.range(0, taskList.size()).filter(i -> filter.test(taskList.getListView().get(i)))
+                .boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void getTagIndex_rareAndCommonTags_smallerRepresentationChosen() throws SpinBoxException {
+        TaskList taskList = makeTaskList();
+
+        TagBitmap first = taskList.getTagIndex().get("first");
+        TagBitmap even = taskList.getTagIndex().get("even");
+
+        assertTrue(first.isSparse());
+        assertEquals(1, first.getCardinality());
+        assertFalse(even.isSparse());
+        assertEquals(500, even.getCardinality());
+        assertEquals(0, taskList.getTagIndex().get("missing").getCardinality());
+    }
+
+    @Test
+    public void findPositions_tagConditions_sameAsFullScan() throws SpinBoxException {
+        TaskList taskList = makeTaskList();
+        String[] conditions = {"tag=even tag=three", "tag=even not tag=three", "not tag=even or tag=first",
+            "tag=first or tag=three not tag=even", "not tag=even not tag=three", "tag=three name=00"};
+
+        for (String condition : conditions) {
+            ItemFilter filter = new ItemFilter(condition, true);
+            List<Integer> positions = taskList.findPositions(filter).boxed().collect(Collectors.toList());
+            assertEquals(fullScan(taskList, filter), positions, condition);
+        }
+        assertEquals(TaskList.AccessPath.TAG_BITMAP,
+                taskList.planAccessPath(new ItemFilter("tag=first done=false", true)));
+    }
+
+    @Test
+    public void findPositions_tagAddedAfterIndexBuilt_indexRebuilt() throws SpinBoxException {
+        TaskList taskList = makeTaskList();
+        ItemFilter filter = new ItemFilter("tag=first", true);
+        assertEquals(1, taskList.findPositions(filter).count());
+
+        taskList.tag(1, List.of("first"), true);
+
+        assertEquals(List.of(0, 1), taskList.findPositions(filter).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void fromStoredString_savedWithAndWithoutTags_tagsRestored() throws SpinBoxException {
+        Deadline deadline = new Deadline();
+        deadline.fromStoredString("D | 0 | Report | 01/01/2030 10:00");
+        assertTrue(deadline.getTags().isEmpty());
+
+        deadline.addTag("urgent");
+        deadline.addTag("cs");
+        String stored = deadline.storeString();
+        assertEquals("D | 0 | Report | 01/01/2030 10:00 | #cs #urgent", stored);
+        Deadline restored = new Deadline();
+        restored.fromStoredString(stored);
+        assertEquals(Set.of("cs", "urgent"), restored.getTags());
+        assertEquals("Report", restored.getName());
+
+        Event event = new Event();
+        event.fromStoredString("E | 1 | Talk | 01/01/2030 10:00 | 01/01/2030 12:00 | #talk");
+        assertEquals(Set.of("talk"), event.getTags());
+        assertTrue(event.getDone());
+
+        File file = new File();
+        file.fromStoredString("0 | #1 notes");
+        assertEquals("#1 notes", file.getName());
+        assertTrue(file.getTags().isEmpty());
+        assertThrows(CorruptedDataException.class, () -> new File().fromStoredString("0 | notes | urgent"));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TaskListUnitTest {
@@ -108,4 +109,23 @@ public class TaskListUnitTest {
         assertEquals(checkList.toString(), taskList.getList().toString());
     }
 
+    @Test
+    void viewList_unchangedAndChangedTasks_unchangedLinesReusedChangedLinesRendered() throws SpinBoxException {
+        TaskList taskList = new TaskList("testTaskList");
+        taskList.add(new Todo("task1"));
+        taskList.add(new Todo("task2"));
+
+        List<String> firstView = taskList.viewList();
+        List<String> secondView = taskList.viewList();
+        assertSame(firstView.get(1), secondView.get(1));
+        assertSame(firstView.get(2), secondView.get(2));
+
+        taskList.get(1).addTag("urgent");
+        List<String> thirdView = taskList.viewList();
+        assertSame(firstView.get(1), thirdView.get(1));
+        assertEquals("2. [T][NOT DONE] task2 #urgent", thirdView.get(2));
+
+        taskList.update(0, true);
+        assertTrue(taskList.viewList().stream().anyMatch(line -> line.endsWith(". [T][DONE] task1")));
+    }
 }
@@ -15,8 +15,8 @@ import javafx.scene.layout.CornerRadii;
 
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.util.Pair;
 import spinbox.entities.Calendar;
+import spinbox.entities.Pair;
 import spinbox.entities.items.tasks.Task;
 import spinbox.exceptions.DateFormatException;
 
@@ -0,0 +1,15 @@
+package spinbox.gui;
+
+import spinbox.Main;
+import javafx.application.Application;
+import spinbox.stats.StartupProfiler;
+
+public class Launcher {
+    /**
+     * Launches the GUI. With '--profile-startup', prints and saves a breakdown of starting up once the window is
+     * shown, see {@link StartupProfiler}.
+     */
+    public static void main(String[] args) {
+        Application.launch(Main.class, StartupProfiler.enableIfFlagged(args));
+    }
+}
@@ -26,14 +26,17 @@ import javafx.stage.Screen;
 import javafx.fxml.FXML;
 import javafx.scene.layout.VBox;
 
-import javafx.util.Pair;
 import spinbox.DateTime;
 import spinbox.SpinBox;
 import spinbox.containers.ModuleContainer;
+import spinbox.containers.events.ModelChange;
+import spinbox.containers.events.ModelChange.Target;
+import spinbox.containers.events.ModelChanges;
 import spinbox.containers.lists.FileList;
 import spinbox.containers.lists.GradeList;
 import spinbox.containers.lists.TaskList;
 import spinbox.entities.Module;
+import spinbox.entities.Pair;
 import spinbox.entities.items.File;
 import spinbox.entities.items.GradedComponent;
 import spinbox.entities.items.tasks.Exam;
@@ -45,12 +48,15 @@ import spinbox.exceptions.SpinBoxException;
 import spinbox.gui.boxes.FileBox;
 import spinbox.gui.boxes.GradedComponentBox;
 import spinbox.gui.boxes.ModuleBox;
+import spinbox.stats.events.GuiRefreshEvent;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.logging.Level;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 /**
@@ -59,8 +65,12 @@ import java.util.logging.Logger;
 public class MainWindow extends GridPane {
     private static final Logger LOGGER = Logger.getLogger(MainWindow.class.getName());
     private static final String LOG_CORRUPTED = "Corrupted storage item: ";
+    private static final String ALL_VIEWS = "all";
+    private static final List<String> REFRESHED_VIEWS = List.of("main", "calendar", "modules");
     private static final String LOG_NORMAL_TERMINATION = "Graceful exit by user";
     private static final String WHITESPACE = "    ";
+    private static final String TODAY = "today";
+    private static final String LIST_STYLE = "-fx-background-color: #25274D";
     private static final String TASKS = "Tasks";
     private static final String FILES = "Files";
     private static final String GRADES = "Grades";
@@ -93,14 +103,25 @@ public class MainWindow extends GridPane {
     private ArrayList<String> commandHistory = new ArrayList<>();
     private int commandCount = 0;
     private List<Pair<String, Task>> allTasks;
+    private String calendarDate = TODAY;
+    private final Queue<ModelChange> pendingChanges = new ConcurrentLinkedQueue<>();
+    private NodeRows<Pair<String, Task>, TaskBox> urgentTaskRows;
+    private NodeRows<Pair<String, Task>, TaskBox> examRows;
+    private ScrollPane modulesListPane;
+    private NodeRows<Module, ModuleBox> moduleRows;
+    private ScrollPane moduleTasksPane;
+    private NodeRows<Task, TaskBox> moduleTaskRows;
+    private ScrollPane moduleFilesPane;
+    private NodeRows<File, FileBox> moduleFileRows;
+    private ScrollPane moduleGradesPane;
+    private NodeRows<GradedComponent, GradedComponentBox> moduleGradeRows;
+    private TextFlow notesFlow;
 
     /**
      * FXML method that is used as a post-constructor function to initialize variables and tabbed views.
      */
     @FXML
     public void initialize() {
-        LOGGER.setUseParentHandlers(true);
-        LOGGER.setLevel(Level.INFO);
         LOGGER.entering(getClass().getName(), "initialize");
         try {
             this.spinBox = new SpinBox();
@@ -113,6 +134,8 @@ public class MainWindow extends GridPane {
 
         this.specificModuleCode = null;
         this.subTab = null;
+        ModelChanges.addListener(pendingChanges::add);
+        createRows();
 
         tabPane.getSelectionModel().selectedIndexProperty().addListener(new ChangeListener<Number>() {
             @Override
@@ -122,7 +145,7 @@ public class MainWindow extends GridPane {
                     updateMain();
                     break;
                 case 1:
-                    updateCalendar("today");
+                    updateCalendar(TODAY);
                     break;
                 default:
                     updateModules();
@@ -183,6 +206,9 @@ public class MainWindow extends GridPane {
             comparator = response;
         }
 
+        GuiRefreshEvent event = new GuiRefreshEvent();
+        event.begin();
+        applyChanges();
         switch (comparator) {
         case "main":
             tabPane.getSelectionModel().select(0);
@@ -192,7 +218,7 @@ public class MainWindow extends GridPane {
             if (responseFragments.length == 4) {
                 updateCalendar(responseFragments[2] + "/01/" + responseFragments[3]);
             } else {
-                updateCalendar("today");
+                updateCalendar(TODAY);
             }
             break;
         case "modules":
@@ -208,10 +234,10 @@ public class MainWindow extends GridPane {
             updateModules();
             break;
         default:
-            updateAll();
             getPopup(response);
             break;
         }
+        commitRefreshEvent(event, comparator);
         userInput.clear();
         suggestPopulate();
         if (spinBox.isShutdown()) {
@@ -230,10 +256,22 @@ public class MainWindow extends GridPane {
         }
         this.setPopup(popup);
         this.suggestPopulate();
+        GuiRefreshEvent event = new GuiRefreshEvent();
+        event.begin();
+        pendingChanges.clear();
         this.updateAll();
+        commitRefreshEvent(event, ALL_VIEWS);
         this.enableCommandHistory();
     }
 
+    private void commitRefreshEvent(GuiRefreshEvent event, String views) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.views = REFRESHED_VIEWS.contains(views) ? views : ALL_VIEWS;
+            event.commit();
+        }
+    }
+
     private void suggestPopulate() {
         if (spinBox.getModuleContainer().getModules().isEmpty()) {
             userInput.setPromptText(NO_DATA);
@@ -244,10 +282,98 @@ public class MainWindow extends GridPane {
         }
     }
 
+    /**
+     * Creates the lists of the views, whose rows are kept from one update to the next.
+     */
+    private void createRows() {
+        overallTasksView.getChildren().setAll(addHeader("URGENT TASKS"));
+        urgentTaskRows = new NodeRows<>(overallTasksView, 1, Pair::getValue,
+                (item, index) -> TaskBox.getTaskBox(describeTask(item.getValue()), item.getKey(),
+                        getTaskDates(item.getValue())),
+                (box, item, index) -> box.update(describeTask(item.getValue()), item.getKey(),
+                        getTaskDates(item.getValue())));
+        examsList.getChildren().setAll(addHeader("EXAM"));
+        examRows = new NodeRows<>(examsList, 1, Pair::getValue,
+                (item, index) -> TaskBox.getTaskBox(describeTask(item.getValue()), item.getKey(),
+                        getExamDates((Exam) item.getValue())),
+                (box, item, index) -> box.update(describeTask(item.getValue()), item.getKey(),
+                        getExamDates((Exam) item.getValue())));
+
+        VBox modulesList = createList();
+        modulesListPane = createScrollPane();
+        modulesListPane.setContent(modulesList);
+        moduleRows = new NodeRows<>(modulesList, 0, module -> module, (module, index) -> createModuleBox(module),
+                (box, module, index) -> box.update(module.getModuleCode(), module.getModuleName()));
+
+        VBox tasksList = createList();
+        moduleTasksPane = createScrollPane();
+        moduleTasksPane.setContent(tasksList);
+        moduleTaskRows = new NodeRows<>(tasksList, 0, task -> task,
+                (task, index) -> TaskBox.getTaskBox(describeModuleTask(task, index), "", getTaskDates(task)),
+                (box, task, index) -> box.update(describeModuleTask(task, index), "", getTaskDates(task)));
+
+        VBox filesList = createList();
+        moduleFilesPane = createScrollPane();
+        moduleFilesPane.setContent(filesList);
+        moduleFileRows = new NodeRows<>(filesList, 0, file -> file,
+                (file, index) -> FileBox.getFileBox(file, index + 1),
+                (box, file, index) -> box.update(file, index + 1));
+
+        VBox gradesList = createList();
+        moduleGradesPane = createScrollPane();
+        moduleGradesPane.setContent(gradesList);
+        moduleGradeRows = new NodeRows<>(gradesList, 0, gradedComponent -> gradedComponent,
+                (gradedComponent, index) -> GradedComponentBox.getGradedComponentsBox(gradedComponent, index + 1),
+                (box, gradedComponent, index) -> box.update(gradedComponent, index + 1));
+    }
+
+    /**
+     * Updates only the views showing what was changed since the last update, as published by the modules, so that
+     * a command changing nothing leaves every view as it is.
+     */
+    private void applyChanges() {
+        Set<Target> changed = EnumSet.noneOf(Target.class);
+        Set<Target> changedInModule = EnumSet.noneOf(Target.class);
+        for (ModelChange change = pendingChanges.poll(); change != null; change = pendingChanges.poll()) {
+            changed.add(change.getTarget());
+            if (change.getModuleCode().equals(specificModuleCode)) {
+                changedInModule.add(change.getTarget());
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        if (changed.contains(Target.TASKS) || changed.contains(Target.MODULES)) {
+            updateMain();
+            updateCalendar(calendarDate);
+        }
+
+        if (this.specificModuleCode == null || this.subTab == null) {
+            if (changed.contains(Target.MODULES)) {
+                fillModulesList();
+            }
+        } else if (changedInModule.contains(Target.MODULES)) {
+            if (spinBox.getModuleContainer().getModule(specificModuleCode) == null) {
+                this.specificModuleCode = null;
+                this.subTab = null;
+            }
+            updateModules();
+        } else {
+            Module currentModule = spinBox.getModuleContainer().getModule(specificModuleCode);
+            if (changedInModule.contains(Target.NOTES)) {
+                fillSpecificModuleNotes(currentModule);
+            }
+            if (changedInModule.contains(getListTarget(subTab))) {
+                fillSpecificModuleList(currentModule, subTab);
+            }
+        }
+    }
+
     private void updateAll() {
         updateMain();
         updateModules();
-        updateCalendar("today");
+        updateCalendar(TODAY);
     }
 
     private void updateMain() {
@@ -267,10 +393,8 @@ public class MainWindow extends GridPane {
 
     private void updateOverallTasksView() {
         allTasks = new ArrayList<>();
-        overallTasksView.getChildren().clear();
-        overallTasksView.getChildren().add(addHeader("URGENT TASKS"));
         ModuleContainer moduleContainer = spinBox.getModuleContainer();
-        HashMap<String, Module> modules = moduleContainer.getModules();
+        Map<String, Module> modules = moduleContainer.getModules();
         for (Map.Entry module : modules.entrySet()) {
             String moduleCode = (String) module.getKey();
             Module moduleObject = (Module) module.getValue();
@@ -320,49 +444,53 @@ public class MainWindow extends GridPane {
             boxes = 5;
         }
 
-        int count = 0;
+        List<Pair<String, Task>> urgentTasks = new ArrayList<>();
         int index = 0;
-        while (count < boxes && index < allTasks.size()) {
-            Task addTask = allTasks.get(index).getValue();
-            if (addTask.getTaskType() != TaskType.EXAM) {
-                String moduleCode = allTasks.get(index).getKey();
-                String description = addTask.getTaskType().name();
-                description += ": " + addTask.getName();
-                String dates = "";
-                if (addTask.isSchedulable()) {
-                    Schedulable task = ((Schedulable)addTask);
-                    dates += task.getStartDate().toString();
-                    if (TaskType.taskWithBothDates().contains(task.getTaskType())) {
-                        dates += " to " + task.getEndDate().toString();
-                        dates = "At: " + dates;
-                    } else {
-                        dates = "By: " + dates;
-                    }
-                }
-                overallTasksView.getChildren().add(TaskBox.getTaskBox(description, moduleCode, dates));
-                count += 1;
+        while (urgentTasks.size() < boxes && index < allTasks.size()) {
+            if (allTasks.get(index).getValue().getTaskType() != TaskType.EXAM) {
+                urgentTasks.add(allTasks.get(index));
             }
             index += 1;
         }
+        urgentTaskRows.show(urgentTasks);
     }
 
     private void updateExams() {
-        examsList.getChildren().clear();
-        examsList.getChildren().add(addHeader("EXAM"));
-        for (Pair item : allTasks) {
-            Task addTask = (Task) item.getValue();
-            if (addTask.getTaskType() == TaskType.EXAM) {
-                String description = addTask.getTaskType().name();
-                description += ": " + addTask.getName();
-                String dates = "";
-                Exam task = ((Exam)addTask);
-                dates += task.getStartDate().toString();
-                dates += " " + task.getEndDate().toString();
+        List<Pair<String, Task>> exams = new ArrayList<>();
+        for (Pair<String, Task> item : allTasks) {
+            if (item.getValue().getTaskType() == TaskType.EXAM) {
+                exams.add(item);
+            }
+        }
+        examRows.show(exams);
+    }
+
+    private String describeTask(Task task) {
+        return task.getTaskType().name() + ": " + task.getName();
+    }
+
+    private String describeModuleTask(Task task, int index) {
+        String doneStatus = (task.getDone()) ? "[DONE] " : "[NOT DONE] ";
+        return (index + 1) + ". " + doneStatus + describeTask(task);
+    }
+
+    private String getTaskDates(Task task) {
+        String dates = "";
+        if (task.isSchedulable()) {
+            Schedulable schedulable = ((Schedulable) task);
+            dates += schedulable.getStartDate().toString();
+            if (TaskType.taskWithBothDates().contains(task.getTaskType())) {
+                dates += " to " + schedulable.getEndDate().toString();
                 dates = "At: " + dates;
-                String moduleCode = (String) item.getKey();
-                examsList.getChildren().add(TaskBox.getTaskBox(description, moduleCode, dates));
+            } else {
+                dates = "By: " + dates;
             }
         }
+        return dates;
+    }
+
+    private String getExamDates(Exam exam) {
+        return "At: " + exam.getStartDate().toString() + " " + exam.getEndDate().toString();
     }
 
     private HBox addHeader(String label) {
@@ -377,30 +505,21 @@ public class MainWindow extends GridPane {
     }
 
     private void updateModulesList() {
-        ScrollPane scrollPane = new ScrollPane();
-        scrollPane.setFitToHeight(true);
-        scrollPane.setFitToWidth(true);
-        modulesTabContainer.add(scrollPane, 1, 0, 1, 2);
-
-        VBox modulesList = new VBox();
-        modulesList.setStyle("-fx-background-color: #25274D");
-
-        scrollPane.setContent(modulesList);
+        modulesTabContainer.add(modulesListPane, 1, 0, 1, 2);
+        fillModulesList();
+    }
 
-        ModuleContainer moduleContainer = spinBox.getModuleContainer();
-        HashMap<String, Module> modules = moduleContainer.getModules();
+    private void fillModulesList() {
+        moduleRows.show(new ArrayList<>(spinBox.getModuleContainer().getModules().values()));
+    }
 
-        for (Map.Entry module : modules.entrySet()) {
-            Module currentModule = (Module) module.getValue();
-            ModuleBox wrappedModule = ModuleBox.getModuleListBox(currentModule.getModuleCode(),
-                    currentModule.getModuleName());
-
-            wrappedModule.setOnMouseClicked(event -> {
-                userInput.setText("view / modules " + currentModule.getModuleCode() + " tasks");
-                handleUserInput();
-            });
-            modulesList.getChildren().add(wrappedModule);
-        }
+    private ModuleBox createModuleBox(Module module) {
+        ModuleBox wrappedModule = ModuleBox.getModuleListBox(module.getModuleCode(), module.getModuleName());
+        wrappedModule.setOnMouseClicked(event -> {
+            userInput.setText("view / modules " + module.getModuleCode() + " tasks");
+            handleUserInput();
+        });
+        return wrappedModule;
     }
 
     private void updateSpecificModule(String moduleCode, String subTab) {
@@ -468,113 +587,81 @@ public class MainWindow extends GridPane {
     }
 
     private void updateSpecificModuleNotes(Module currentModule) {
-        TextFlow textFlow = new TextFlow();
-        textFlow.setStyle("-fx-background-color: #AAABB8");
-        textFlow.setPadding(new Insets(5, 5, 5, 15));
-        textFlow.setLineSpacing(5.0);
-        textFlow.setTextAlignment(TextAlignment.JUSTIFY);
+        notesFlow = new TextFlow();
+        notesFlow.setStyle("-fx-background-color: #AAABB8");
+        notesFlow.setPadding(new Insets(5, 5, 5, 15));
+        notesFlow.setLineSpacing(5.0);
+        notesFlow.setTextAlignment(TextAlignment.JUSTIFY);
 
         Text header = new Text(currentModule.getModuleCode() + " Notes");
         header.setStyle("-fx-font-weight: bold; -fx-font-family: 'Roboto Light'; -fx-font-size: 20.0;");
-        textFlow.getChildren().add(header);
-        textFlow.getChildren().add(new Text(System.lineSeparator()));
+        notesFlow.getChildren().add(header);
+        notesFlow.getChildren().add(new Text(System.lineSeparator()));
+        fillSpecificModuleNotes(currentModule);
 
+        modulesTabContainer.add(notesFlow, 0, 1, 1, 1);
+    }
 
+    private void fillSpecificModuleNotes(Module currentModule) {
+        List<Text> lines = new ArrayList<>();
         List<String> notes = currentModule.getNotepad().getNotes();
         for (int i = 0; i < notes.size(); i++) {
-            textFlow.getChildren().add(new Text(Integer.toString(i + 1) + ". " + notes.get(i)));
-            textFlow.getChildren().add(new Text(System.lineSeparator()));
+            lines.add(new Text(Integer.toString(i + 1) + ". " + notes.get(i)));
+            lines.add(new Text(System.lineSeparator()));
         }
-
-        modulesTabContainer.add(textFlow, 0, 1, 1, 1);
+        notesFlow.getChildren().remove(2, notesFlow.getChildren().size());
+        notesFlow.getChildren().addAll(lines);
     }
 
     private void updateSpecificModuleList(Module currentModule, String subTab) {
         switch (subTab) {
         case "files":
-            updateSpecificModuleFileList(currentModule);
+            modulesTabContainer.add(moduleFilesPane, 1, 1, 1, 1);
             break;
 
         case "grades":
-            updateSpecificModuleGradeList(currentModule);
+            modulesTabContainer.add(moduleGradesPane, 1, 1, 1, 1);
             break;
 
         default:
-            updateSpecificModuleTaskList(currentModule);
+            modulesTabContainer.add(moduleTasksPane, 1, 1, 1, 1);
         }
+        fillSpecificModuleList(currentModule, subTab);
     }
 
-    private void updateSpecificModuleGradeList(Module currModule) {
-        GradeList gradeList = currModule.getGrades();
-        List<GradedComponent> gradedComponents = gradeList.getList();
-
-        ScrollPane scrollPane = this.createScrollPane();
-        modulesTabContainer.add(scrollPane, 1, 1, 1, 1);
-
-        VBox gradesList = new VBox();
-        for (int i = 0; i < gradedComponents.size(); i += 1) {
-            GradedComponent gradedComponent = gradedComponents.get(i);
-            GradedComponentBox wrappedGradedComponent = GradedComponentBox.getGradedComponentsBox(gradedComponent,
-                    (i + 1));
-            gradesList.getChildren().add(wrappedGradedComponent);
-        }
+    private void fillSpecificModuleList(Module currentModule, String subTab) {
+        switch (subTab) {
+        case "files":
+            FileList fileList = currentModule.getFiles();
+            moduleFileRows.show(fileList.getList());
+            break;
 
-        gradesList.setStyle("-fx-background-color: #25274D");
-        scrollPane.setContent(gradesList);
-    }
-
-    private void updateSpecificModuleTaskList(Module currModule) {
-        ScrollPane scrollPane = this.createScrollPane();
-        modulesTabContainer.add(scrollPane, 1, 1, 1, 1);
-
-        VBox tasksList = new VBox();
-        tasksList.setStyle("-fx-background-color: #25274D");
-
-        scrollPane.setContent(tasksList);
-
-        TaskList taskList = currModule.getTasks();
-        List<Task> tasks = taskList.getList();
-        for (int i = 0; i < tasks.size(); i += 1) {
-            Task task = tasks.get(i);
-            String doneStatus = (task.getDone()) ? "[DONE] " : "[NOT DONE] ";
-            String description = (i + 1) + ". " + doneStatus + task.getTaskType().name();
-            description += ": " + task.getName();
-            String dates = "";
-            if (task.isSchedulable()) {
-                Schedulable schedulable = ((Schedulable) task);
-                dates += schedulable.getStartDate().toString();
-                if (TaskType.taskWithBothDates().contains(task.getTaskType())) {
-                    dates += " to " + schedulable.getEndDate().toString();
-                    dates = "At: " + dates;
-                } else {
-                    dates = "By: " + dates;
-                }
-            }
+        case "grades":
+            GradeList gradeList = currentModule.getGrades();
+            moduleGradeRows.show(gradeList.getList());
+            break;
 
-            TaskBox wrappedTask = TaskBox.getTaskBox(description, "", dates);
-            tasksList.getChildren().add(wrappedTask);
+        default:
+            TaskList taskList = currentModule.getTasks();
+            moduleTaskRows.show(taskList.getList());
         }
     }
 
-    private void updateSpecificModuleFileList(Module currModule) {
-        ScrollPane scrollPane = this.createScrollPane();
-        modulesTabContainer.add(scrollPane, 1, 1, 1, 1);
-
-        VBox filesList = new VBox();
-        filesList.setStyle("-fx-background-color: #25274D");
+    private Target getListTarget(String subTab) {
+        switch (subTab) {
+        case "files":
+            return Target.FILES;
 
-        scrollPane.setContent(filesList);
+        case "grades":
+            return Target.GRADES;
 
-        FileList fileList = currModule.getFiles();
-        List<File> files = fileList.getList();
-        for (int i = 0; i < files.size(); i += 1) {
-            File file = files.get(i);
-            FileBox wrappedFile = FileBox.getFileBox(file, (i + 1));
-            filesList.getChildren().add(wrappedFile);
+        default:
+            return Target.TASKS;
         }
     }
 
     private void updateCalendar(String dateTime) {
+        calendarDate = dateTime;
         CalendarMonthBox monthBox = new CalendarMonthBox(dateTime, allTasks);
         calendarView.getChildren().clear();
         calendarView.getChildren().add(monthBox);
@@ -621,4 +708,10 @@ public class MainWindow extends GridPane {
         scrollPane.setFitToWidth(true);
         return scrollPane;
     }
+
+    private VBox createList() {
+        VBox list = new VBox();
+        list.setStyle(LIST_STYLE);
+        return list;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package spinbox.gui;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The rows of a pane kept in step with a list of items, one node per item after a number of fixed nodes such as a
+ * header. The node of an item still shown is kept and updated in place instead of being loaded again, nodes are
+ * moved only when out of place, and the children of the pane are left untouched when nothing moved.
+ * @param <T> The type of the items.
+ * @param <N> The type of the nodes.
+ */
+class NodeRows<T, N extends Node> {
+    /**
+     * Updates the node of an item to show the item at an index.
+     * @param <T> The type of the items.
+     * @param <N> The type of the nodes.
+     */
+    @FunctionalInterface
+    interface RowUpdater<T, N extends Node> {
+        void update(N row, T item, int index);
+    }
+
+    private final Pane pane;
+    private final int fixedCount;
+    private final Function<T, Object> keyOf;
+    private final BiFunction<T, Integer, N> creator;
+    private final RowUpdater<T, N> updater;
+    private Map<Object, N> rows = new IdentityHashMap<>();
+
+    /**
+     * Constructor for the rows of a pane.
+     * @param pane The pane.
+     * @param fixedCount The number of fixed nodes at the start of the pane.
+     * @param keyOf Gives the object an item is known by, compared by identity.
+     * @param creator Makes the node of an item at an index.
+     * @param updater Updates the node of an item.
+     */
+    NodeRows(Pane pane, int fixedCount, Function<T, Object> keyOf, BiFunction<T, Integer, N> creator,
+            RowUpdater<T, N> updater) {
+        this.pane = pane;
+        this.fixedCount = fixedCount;
+        this.keyOf = keyOf;
+        this.creator = creator;
+        this.updater = updater;
+    }
+
+    /**
+     * Shows the items, in order, after the fixed nodes of the pane.
+     * @param items The items.
+     */
+    void show(List<T> items) {
+        Map<Object, N> shown = new IdentityHashMap<>();
+        List<Node> children = pane.getChildren();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            Object key = keyOf.apply(item);
+            N row = rows.get(key);
+            if (row == null || shown.containsKey(key)) {
+                row = creator.apply(item, i);
+            } else {
+                updater.update(row, item, i);
+            }
+            shown.put(key, row);
+
+            int position = fixedCount + i;
+            if (position < children.size() && children.get(position) == row) {
+                continue;
+            }
+            children.remove(row);
+            children.add(position, row);
+        }
+        if (children.size() > fixedCount + items.size()) {
+            children.subList(fixedCount + items.size(), children.size()).clear();
+        }
+        rows = shown;
+    }
+
+    /**
+     * Forgets the nodes of the items shown, such as when the pane is cleared.
+     */
+    void reset() {
+        rows = new IdentityHashMap<>();
+    }
+}
@@ -30,11 +30,20 @@ public class TaskBox extends AnchorPane {
         this.description.setTextFill(Color.WHITE);
         this.module.setTextFill(Color.WHITE);
         this.dates.setTextFill(Color.WHITE);
+        this.dates.setAlignment(Pos.BASELINE_RIGHT);
+        update(description, module, dates);
+    }
 
+    /**
+     * Shows new details of the task in this box.
+     * @param description The description of the task.
+     * @param module The module of the task.
+     * @param dates The dates of the task.
+     */
+    public void update(String description, String module, String dates) {
         this.description.setText(description);
         this.module.setText(module);
         this.dates.setText(dates);
-        this.dates.setAlignment(Pos.BASELINE_RIGHT);
     }
 
     public static TaskBox getTaskBox(String description, String module, String dates) {
@@ -31,7 +31,15 @@ public class FileBox extends VBox {
         setMargin(this, new Insets(10, 10, 10, 10));
         this.fileDetails.setStyle("-fx-font-weight: bold");
         this.fileDetails.setTextFill(Color.WHITE);
+        update(file, index);
+    }
 
+    /**
+     * Shows new details of the file in this box.
+     * @param file The file.
+     * @param index The number of the file in its list.
+     */
+    public void update(File file, int index) {
         this.fileDetails.setText(index + ". " + file.toString());
     }
 
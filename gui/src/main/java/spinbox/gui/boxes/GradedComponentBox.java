@@ -32,6 +32,15 @@ public class GradedComponentBox extends VBox {
         setMargin(this, new Insets(10, 10, 10, 10));
         this.gradedComponentDetails.setStyle("-fx-font-weight: bold");
         this.gradedComponentDetails.setTextFill(Color.WHITE);
+        update(gradedComponent, index);
+    }
+
+    /**
+     * Shows new details of the graded component in this box.
+     * @param gradedComponent The graded component.
+     * @param index The number of the graded component in its list.
+     */
+    public void update(GradedComponent gradedComponent, int index) {
         this.gradedComponentDetails.setText(index + ". " + gradedComponent.toString());
     }
 
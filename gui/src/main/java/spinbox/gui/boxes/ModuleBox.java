@@ -33,8 +33,15 @@ public class ModuleBox extends VBox {
         setMargin(this, new Insets(10, 10, 10, 10));
         this.moduleCodeLabel.setStyle("-fx-font-weight: bold");
         this.moduleCodeLabel.setTextFill(Color.WHITE);
+        update(moduleCode, moduleName);
+    }
 
-
+    /**
+     * Shows new details of the module in this box.
+     * @param moduleCode The code of the module.
+     * @param moduleName The name of the module.
+     */
+    public void update(String moduleCode, String moduleName) {
         this.moduleCodeLabel.setText(moduleCode);
         this.moduleNameLabel.setText(moduleName);
     }
@@ -1,10 +0,0 @@
-package spinbox.gui;
-
-import spinbox.Main;
-import javafx.application.Application;
-
-public class Launcher {
-    public static void main(String[] args) {
-        Application.launch(Main.class, args);
-    }
-}
@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+
+# Soak tests the command line application: replays a workload of commands for a while against a copy of a data
+# folder, printing the throughput, latency percentiles, heap and data folder size every interval, and fails if
+# a budget in the budgets file is exceeded. The data folder given is copied, never changed.
+#
+# Usage: ./soak.sh [-w <command file>|generated] [-d <SpinBoxData folder>] [-p "<populate options>"]
+#                  [-t <seconds>] [-i <seconds>] [-b <budgets file>] [-s <seed>] [-j "<JVM options>"]
+#   -w  the commands to replay over and over, or "generated" for a generated mix (default: soak-workload.txt)
+#   -d  a data folder to start from, such as a copy of a large user's SpinBoxData
+#   -p  options of "populate /" to generate data with before starting, such as "modules 50 tasks 2000"
+#   -t  how long to run the workload for (default: 300)
+#   -i  the time between samples (default: 10)
+#   -b  the budgets to check (default: soak-budgets.properties)
+
+cd "$(dirname "$0")" || exit 1
+WORKLOAD="$PWD/soak-workload.txt"
+BUDGETS="$PWD/soak-budgets.properties"
+DATA=""
+POPULATE=""
+DURATION=300
+INTERVAL=10
+SEED=42
+JVM_OPTIONS="-Xmx512m"
+
+while getopts "w:d:p:t:i:b:s:j:" option
+do
+    case $option in
+    w) if [ "$OPTARG" = "generated" ]; then WORKLOAD="generated"; else WORKLOAD="$(realpath "$OPTARG")"; fi ;;
+    d) DATA="$(realpath "$OPTARG")" ;;
+    p) POPULATE="$OPTARG" ;;
+    t) DURATION="$OPTARG" ;;
+    i) INTERVAL="$OPTARG" ;;
+    b) BUDGETS="$(realpath "$OPTARG")" ;;
+    s) SEED="$OPTARG" ;;
+    j) JVM_OPTIONS="$OPTARG" ;;
+    *) sed -n '7,15p' "$0"; exit 2 ;;
+    esac
+done
+
+# build the command line application, terminates if error occurred
+if ! ../gradlew -q -p .. :cli:shadowJar
+then
+    echo "********** BUILD FAILURE **********"
+    exit 1
+fi
+JAR="$(ls "$PWD"/../cli/build/libs/final-cli*.jar | head -n 1)"
+
+# run in a scratch folder, so that the data of the workload never mixes with real data
+WORK="$(mktemp -d)"
+trap 'rm -rf "$WORK"' EXIT
+if [ -n "$DATA" ]
+then
+    cp -r "$DATA" "$WORK/SpinBoxData"
+fi
+cd "$WORK" || exit 1
+if [ -n "$POPULATE" ]
+then
+    echo "populate / $POPULATE" > populate.txt
+    if ! java $JVM_OPTIONS -jar "$JAR" --batch populate.txt
+    then
+        echo "********** POPULATE FAILURE **********"
+        exit 1
+    fi
+fi
+
+java $JVM_OPTIONS -jar "$JAR" --soak "$WORKLOAD" --duration "$DURATION" --interval "$INTERVAL" \
+        --budgets "$BUDGETS" --seed "$SEED"
+STATUS=$?
+if [ $STATUS -eq 0 ]
+then
+    echo "Soak test result: PASSED"
+elif [ $STATUS -eq 1 ]
+then
+    echo "Soak test result: FAILED, a budget was exceeded"
+else
+    echo "Soak test result: FAILED, the soak test could not run"
+fi
+exit $STATUS